@@ -19,6 +19,8 @@ package io.jmix.appsettings;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.appsettings")
 public class AppSettingsProperties {
     /**
@@ -26,8 +28,24 @@ public class AppSettingsProperties {
      */
     final Boolean checkPermissionsForAppSettingsEntity;
 
-    public AppSettingsProperties(@DefaultValue("false") Boolean checkPermissionsForAppSettingsEntity) {
+    /**
+     * Whether loaded settings entities are cached. The cache is not used if permissions for settings entities are
+     * checked.
+     */
+    final boolean cacheEnabled;
+
+    /**
+     * Time after which a cached settings entity is loaded again even if it has not been changed. Protects against
+     * changes made to the database directly. Non-positive value means no expiration.
+     */
+    final Duration cacheTimeToLive;
+
+    public AppSettingsProperties(@DefaultValue("false") Boolean checkPermissionsForAppSettingsEntity,
+                                 @DefaultValue("true") boolean cacheEnabled,
+                                 @DefaultValue("10m") Duration cacheTimeToLive) {
         this.checkPermissionsForAppSettingsEntity = checkPermissionsForAppSettingsEntity;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheTimeToLive = cacheTimeToLive;
     }
 
     /**
@@ -36,4 +54,18 @@ public class AppSettingsProperties {
     public Boolean isCheckPermissionsForAppSettingsEntity() {
         return checkPermissionsForAppSettingsEntity;
     }
-}
\ No newline at end of file
+
+    /**
+     * @see #cacheEnabled
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * @see #cacheTimeToLive
+     */
+    public Duration getCacheTimeToLive() {
+        return cacheTimeToLive;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.appsettings.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jmix.appsettings.AppSettingsProperties;
+import io.jmix.appsettings.entity.AppSettingsEntity;
+import io.jmix.core.cluster.ClusterApplicationEvent;
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
+import io.jmix.core.event.EntityChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Cache of settings entities loaded by {@link AppSettingsImpl} with default values applied. Entities are cached
+ * per settings class and tenant.
+ * <p>
+ * The whole cache is invalidated when any settings entity is saved or changed in the data store, and the
+ * {@link AppSettingsChangedEvent} is sent to other cluster nodes to invalidate their caches too.
+ * Cached entities expire after {@link AppSettingsProperties#getCacheTimeToLive()}.
+ * <p>
+ * Cache statistics are available in the {@link MeterRegistry} as {@code cache.*} meters with the
+ * {@value #CACHE_NAME} cache name.
+ */
+@Component("appset_AppSettingsCache")
+public class AppSettingsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AppSettingsCache.class);
+
+    public static final String CACHE_NAME = "jmix.appsettings";
+
+    protected final Cache<CacheKey, AppSettingsEntity> cache;
+    protected final ClusterApplicationEventPublisher clusterEventPublisher;
+
+    // incremented on each invalidation to avoid caching entities loaded before it
+    protected long generation;
+
+    public AppSettingsCache(AppSettingsProperties properties,
+                            ClusterApplicationEventPublisher clusterEventPublisher,
+                            MeterRegistry meterRegistry) {
+        this.clusterEventPublisher = clusterEventPublisher;
+
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+        Duration timeToLive = properties.getCacheTimeToLive();
+        if (timeToLive.isPositive()) {
+            builder.expireAfterWrite(timeToLive);
+        }
+        this.cache = GuavaCacheMetrics.monitor(meterRegistry, builder.build(), CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached entity or null if it is not cached.
+     */
+    @Nullable
+    public <T extends AppSettingsEntity> T get(Class<T> entityClass, @Nullable String tenantId) {
+        return entityClass.cast(cache.getIfPresent(new CacheKey(entityClass, tenantId)));
+    }
+
+    /**
+     * Returns the current generation of the cache. Must be obtained before loading an entity
+     * and passed to {@link #put(Class, String, AppSettingsEntity, long)}.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Caches the entity if the cache has not been invalidated since the given generation was obtained.
+     */
+    public synchronized <T extends AppSettingsEntity> void put(Class<T> entityClass, @Nullable String tenantId,
+                                                               T entity, long generation) {
+        if (this.generation == generation) {
+            cache.put(new CacheKey(entityClass, tenantId), entity);
+        }
+    }
+
+    /**
+     * Invalidates the cache in this application instance and in other instances of the cluster.
+     *
+     * @param entityClass class of the changed settings entity
+     */
+    public void invalidate(Class<? extends AppSettingsEntity> entityClass) {
+        invalidateLocally();
+        clusterEventPublisher.publish(new AppSettingsChangedEvent(this, entityClass.getName()));
+    }
+
+    /**
+     * Invalidates the cache in this application instance.
+     */
+    public synchronized void invalidateLocally() {
+        generation++;
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    protected void onAppSettingsEntityChanged(EntityChangedEvent<? extends AppSettingsEntity> event) {
+        log.debug("Settings entity {} is changed, invalidating cache", event.getEntityId());
+        invalidate(event.getEntityId().getEntityClass());
+    }
+
+    @EventListener
+    protected void onAppSettingsChanged(AppSettingsChangedEvent event) {
+        log.debug("Settings entity {} is changed in the cluster, invalidating cache", event.getEntityClassName());
+        invalidateLocally();
+    }
+
+    protected record CacheKey(Class<?> entityClass, @Nullable String tenantId) {
+    }
+
+    /**
+     * Event that is sent to all application instances of a cluster when a settings entity is changed.
+     */
+    public static class AppSettingsChangedEvent extends ClusterApplicationEvent {
+
+        protected String entityClassName;
+
+        public AppSettingsChangedEvent(Object source, String entityClassName) {
+            super(source);
+            this.entityClassName = entityClassName;
+        }
+
+        public String getEntityClassName() {
+            return entityClassName;
+        }
+
+        @Override
+        public String toString() {
+            return "AppSettingsChangedEvent{" +
+                    "entityClassName=" + entityClassName +
+                    '}';
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.jmix.appsettings.AppSettingsProperties;
 import io.jmix.appsettings.AppSettingsTools;
 import io.jmix.appsettings.entity.AppSettingsEntity;
 import io.jmix.core.DataManager;
+import io.jmix.core.MetadataTools;
 import io.jmix.core.UnconstrainedDataManager;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.datatype.DatatypeRegistry;
@@ -55,15 +56,32 @@ public class AppSettingsImpl implements AppSettings {
     @Autowired
     protected AppSettingsProperties appSettingsProperties;
 
+    @Autowired
+    protected AppSettingsCache appSettingsCache;
+
+    @Autowired
+    protected AppSettingsTenantSupport tenantSupport;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
     @Override
     public <T extends AppSettingsEntity> T load(Class<T> clazz) {
         log.debug("load application settings entity by class [{}]", clazz);
 
-        T settingsEntity = getAppSettingsEntity(clazz);
-
-        setDefaultValuesForMissingProperties(settingsEntity, getPropertyNames(clazz));
+        if (!isCacheUsed()) {
+            return loadWithDefaultValues(clazz);
+        }
 
-        return settingsEntity;
+        String tenantId = tenantSupport.getCurrentTenantId();
+        T settingsEntity = appSettingsCache.get(clazz, tenantId);
+        if (settingsEntity == null) {
+            long generation = appSettingsCache.getGeneration();
+            settingsEntity = loadWithDefaultValues(clazz);
+            appSettingsCache.put(clazz, tenantId, settingsEntity, generation);
+        }
+        // the cached instance must not be changed by the caller
+        return metadataTools.deepCopy(settingsEntity);
     }
 
     @Override
@@ -78,6 +96,26 @@ public class AppSettingsImpl implements AppSettings {
         updatePropertyValues(settingsEntityToSave, settingsEntity, getPropertyNames(clazz));
 
         saveAppSettingsEntity(settingsEntity);
+
+        if (isCacheUsed()) {
+            appSettingsCache.invalidate(clazz);
+        }
+    }
+
+    protected <T extends AppSettingsEntity> T loadWithDefaultValues(Class<T> clazz) {
+        T settingsEntity = getAppSettingsEntity(clazz);
+
+        setDefaultValuesForMissingProperties(settingsEntity, getPropertyNames(clazz));
+
+        return settingsEntity;
+    }
+
+    /**
+     * Whether loaded entities are cached. Entities are not cached if permissions are checked on loading,
+     * because the result depends on the current user.
+     */
+    protected boolean isCacheUsed() {
+        return appSettingsProperties.isCacheEnabled() && !appSettingsProperties.isCheckPermissionsForAppSettingsEntity();
     }
 
     protected <T extends AppSettingsEntity> T getAppSettingsEntity(Class<T> clazz) {
@@ -17,6 +17,7 @@
 package io.jmix.appsettings;
 
 
+import io.jmix.appsettings.impl.AppSettingsCache;
 import io.jmix.appsettings.test_entity.TestAppSettingsEntity;
 import io.jmix.appsettings.test_support.entity.TenantTestUser;
 import io.jmix.core.Metadata;
@@ -50,6 +51,9 @@ class AppSettingsTest {
     @Autowired
     private Metadata metadata;
 
+    @Autowired
+    private AppSettingsCache appSettingsCache;
+
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
@@ -238,6 +242,42 @@ class AppSettingsTest {
         Assertions.assertNotNull(loadIgnoringSoftDeletion.getDeletedDate());
     }
 
+    @Test
+    void testLoadedSettingsAreCachedUntilChanged() {
+        TestAppSettingsEntity settingsEntity = appSettings.load(TestAppSettingsEntity.class);
+        settingsEntity.setTestIntegerValue(410);
+        appSettings.save(settingsEntity);
+
+        long hitCount = appSettingsCache.getHitCount();
+        TestAppSettingsEntity firstLoad = appSettings.load(TestAppSettingsEntity.class);
+        TestAppSettingsEntity secondLoad = appSettings.load(TestAppSettingsEntity.class);
+        Assertions.assertEquals(hitCount + 1, appSettingsCache.getHitCount());
+        Assertions.assertEquals(410, secondLoad.getTestIntegerValue());
+        Assertions.assertEquals("defVal", secondLoad.getTestStringValue());
+
+        //ensure changes of a loaded instance don't affect the cached one
+        firstLoad.setTestIntegerValue(500);
+        Assertions.assertEquals(410, appSettings.load(TestAppSettingsEntity.class).getTestIntegerValue());
+
+        //ensure changes made through DataManager invalidate the cache
+        TestAppSettingsEntity storedEntity = loadStoredTestAppSettingsEntity();
+        storedEntity.setTestIntegerValue(600);
+        dataManager.save(storedEntity);
+        Assertions.assertEquals(600, appSettings.load(TestAppSettingsEntity.class).getTestIntegerValue());
+
+        //ensure tenant settings are cached separately
+        TestAppSettingsEntity tenantSettings = withTenant("tenantA",
+                () -> appSettings.load(TestAppSettingsEntity.class));
+        tenantSettings.setTestIntegerValue(777);
+        withTenant("tenantA", () -> {
+            appSettings.save(tenantSettings);
+            return null;
+        });
+        Assertions.assertEquals(777, withTenant("tenantA",
+                () -> appSettings.load(TestAppSettingsEntity.class)).getTestIntegerValue());
+        Assertions.assertEquals(600, appSettings.load(TestAppSettingsEntity.class).getTestIntegerValue());
+    }
+
     @Test
     void testTenantSettingsSaveRestoresSoftDeletedRecord() {
         withTenant("tenantA", () -> {
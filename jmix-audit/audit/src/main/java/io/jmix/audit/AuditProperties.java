@@ -19,6 +19,8 @@ package io.jmix.audit;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties("jmix.audit")
 public class AuditProperties {
 
@@ -26,12 +28,42 @@ public class AuditProperties {
     //ToDo: make system user name globally configurable?
     String systemUsername;
 
+    /**
+     * Whether entity log items are written by a background writer after the business transaction is committed
+     * instead of being persisted inside it.
+     */
+    boolean entityLogAsyncEnabled;
+
+    /**
+     * Maximum number of committed entity log items waiting for the background writer.
+     */
+    int entityLogAsyncQueueCapacity;
+
+    /**
+     * Maximum number of entity log items persisted by the background writer in one transaction.
+     */
+    int entityLogAsyncBatchSize;
+
+    /**
+     * How long a committing thread waits for free space in the full queue before writing its entity log items
+     * by itself.
+     */
+    Duration entityLogAsyncOfferTimeout;
+
     public AuditProperties(
             @DefaultValue("true") boolean enabled,
-            @DefaultValue("system") String systemUsername
+            @DefaultValue("system") String systemUsername,
+            @DefaultValue("false") boolean entityLogAsyncEnabled,
+            @DefaultValue("10000") int entityLogAsyncQueueCapacity,
+            @DefaultValue("500") int entityLogAsyncBatchSize,
+            @DefaultValue("1000") Duration entityLogAsyncOfferTimeout
     ) {
         this.enabled = enabled;
         this.systemUsername = systemUsername;
+        this.entityLogAsyncEnabled = entityLogAsyncEnabled;
+        this.entityLogAsyncQueueCapacity = entityLogAsyncQueueCapacity;
+        this.entityLogAsyncBatchSize = entityLogAsyncBatchSize;
+        this.entityLogAsyncOfferTimeout = entityLogAsyncOfferTimeout;
     }
 
     public boolean isEnabled() {
@@ -41,4 +73,32 @@ public class AuditProperties {
     public String getSystemUsername() {
         return systemUsername;
     }
+
+    /**
+     * @see #entityLogAsyncEnabled
+     */
+    public boolean isEntityLogAsyncEnabled() {
+        return entityLogAsyncEnabled;
+    }
+
+    /**
+     * @see #entityLogAsyncQueueCapacity
+     */
+    public int getEntityLogAsyncQueueCapacity() {
+        return entityLogAsyncQueueCapacity;
+    }
+
+    /**
+     * @see #entityLogAsyncBatchSize
+     */
+    public int getEntityLogAsyncBatchSize() {
+        return entityLogAsyncBatchSize;
+    }
+
+    /**
+     * @see #entityLogAsyncOfferTimeout
+     */
+    public Duration getEntityLogAsyncOfferTimeout() {
+        return entityLogAsyncOfferTimeout;
+    }
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.audit.impl;
+
+import io.jmix.audit.AuditProperties;
+import io.jmix.audit.entity.EntityLogItem;
+import io.jmix.core.security.SecurityContextHelper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes committed entity log items in a background thread when {@link AuditProperties#isEntityLogAsyncEnabled()}
+ * is set.
+ * <p>
+ * Items are put into a bounded queue and persisted by the writer thread in batches. If the queue stays full longer
+ * than {@link AuditProperties#getEntityLogAsyncOfferTimeout()}, the committing thread writes its items by itself.
+ * Items remaining in the queue are written on shutdown.
+ * <p>
+ * The queue state is available in the {@link MeterRegistry} as {@code jmix.EntityLog.asyncQueue.*} meters.
+ */
+@Component("audit_EntityLogAsyncWriter")
+public class EntityLogAsyncWriter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityLogAsyncWriter.class);
+
+    private static final long POLL_TIMEOUT_MS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30000;
+
+    private static final String METER_PREFIX = "jmix.EntityLog.asyncQueue";
+
+    @Autowired
+    protected EntityLogJdbcWriter jdbcWriter;
+
+    protected TransactionTemplate transaction;
+
+    protected AuditProperties properties;
+
+    protected BlockingQueue<PendingItem> queue;
+
+    protected volatile Thread writerThread;
+    protected volatile boolean stopped;
+
+    protected final LongAdder writtenCount = new LongAdder();
+    protected final LongAdder directlyWrittenCount = new LongAdder();
+    protected final LongAdder failedCount = new LongAdder();
+
+    @Autowired
+    protected void setTransactionManager(PlatformTransactionManager transactionManager) {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Autowired
+    public void setProperties(AuditProperties properties) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getEntityLogAsyncQueueCapacity());
+    }
+
+    @Autowired
+    protected void setMeterRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder(METER_PREFIX + ".size", this, EntityLogAsyncWriter::getQueueSize)
+                .description("Number of entity log items waiting in the queue")
+                .register(meterRegistry);
+        TimeGauge.builder(METER_PREFIX + ".lag", this, TimeUnit.MILLISECONDS, writer -> writer.getLag().toMillis())
+                .description("How long the oldest entity log item has been waiting in the queue")
+                .register(meterRegistry);
+        FunctionCounter.builder(METER_PREFIX + ".written", this, EntityLogAsyncWriter::getWrittenCount)
+                .register(meterRegistry);
+        FunctionCounter.builder(METER_PREFIX + ".directlyWritten", this, EntityLogAsyncWriter::getDirectlyWrittenCount)
+                .register(meterRegistry);
+        FunctionCounter.builder(METER_PREFIX + ".failed", this, EntityLogAsyncWriter::getFailedCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Puts the given items to the queue. Must be invoked after the transaction that produced the items is committed.
+     * Authentication of the current thread is used when the items are persisted by the writer thread.
+     *
+     * @param items entity log items to write
+     */
+    public void enqueue(Collection<EntityLogItem> items) {
+        Authentication authentication = SecurityContextHelper.getAuthentication();
+        List<PendingItem> rejected = new ArrayList<>();
+
+        if (!stopped) {
+            startWriterIfNeeded();
+        }
+        for (EntityLogItem item : items) {
+            PendingItem pendingItem = new PendingItem(item, authentication, System.currentTimeMillis());
+            if (stopped || !offer(pendingItem)) {
+                rejected.add(pendingItem);
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            log.debug("Entity log queue is full or stopped, writing {} items directly", rejected.size());
+            directlyWrittenCount.add(rejected.size());
+            write(rejected);
+        }
+        if (stopped) {
+            // the writer may have already finished, don't leave items in the queue
+            drainQueue();
+        }
+    }
+
+    /**
+     * @return number of items waiting in the queue
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return how long the oldest item has been waiting in the queue
+     */
+    public Duration getLag() {
+        PendingItem head = queue.peek();
+        return head == null ? Duration.ZERO : Duration.ofMillis(System.currentTimeMillis() - head.enqueuedAt());
+    }
+
+    /**
+     * @return number of persisted items
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * @return number of items passed to committing threads for writing because the queue was full or stopped
+     */
+    public long getDirectlyWrittenCount() {
+        return directlyWrittenCount.sum();
+    }
+
+    /**
+     * @return number of items that could not be persisted
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stopped = true;
+        Thread thread = writerThread;
+        if (thread != null) {
+            thread.join(SHUTDOWN_TIMEOUT_MS);
+            if (thread.isAlive()) {
+                log.warn("Entity log writer has not finished in {} ms", SHUTDOWN_TIMEOUT_MS);
+                thread.interrupt();
+            }
+        }
+        drainQueue();
+    }
+
+    protected void startWriterIfNeeded() {
+        if (writerThread == null) {
+            synchronized (this) {
+                if (writerThread == null) {
+                    Thread thread = new Thread(this::processQueue, "EntityLogWriter");
+                    thread.setDaemon(true);
+                    thread.start();
+                    writerThread = thread;
+                }
+            }
+        }
+    }
+
+    protected boolean offer(PendingItem pendingItem) {
+        try {
+            return queue.offer(pendingItem,
+                    properties.getEntityLogAsyncOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    protected void processQueue() {
+        int batchSize = Math.max(properties.getEntityLogAsyncBatchSize(), 1);
+        List<PendingItem> batch = new ArrayList<>(batchSize);
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                PendingItem first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Error processing entity log queue", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void drainQueue() {
+        int batchSize = Math.max(properties.getEntityLogAsyncBatchSize(), 1);
+        List<PendingItem> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Inserts the batch by {@link EntityLogJdbcWriter} in a single transaction. If it fails, items are written
+     * one by one so that a single broken item does not lose the whole batch.
+     */
+    protected void write(List<PendingItem> batch) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                batch.forEach(this::setCreateInfo);
+                jdbcWriter.write(batch.stream().map(PendingItem::item).toList());
+            });
+            writtenCount.add(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Unable to write entity log item {}", batch.get(0).item(), e);
+                failedCount.increment();
+                return;
+            }
+            log.warn("Unable to write {} entity log items in one transaction, writing them one by one",
+                    batch.size(), e);
+            for (PendingItem pendingItem : batch) {
+                write(List.of(pendingItem));
+            }
+        }
+    }
+
+    protected void setCreateInfo(PendingItem pendingItem) {
+        Authentication previousAuthentication = SecurityContextHelper.getAuthentication();
+        SecurityContextHelper.setAuthentication(pendingItem.authentication());
+        try {
+            jdbcWriter.setCreateInfo(pendingItem.item());
+        } finally {
+            SecurityContextHelper.setAuthentication(previousAuthentication);
+        }
+    }
+
+    protected record PendingItem(EntityLogItem item, @Nullable Authentication authentication, long enqueuedAt) {
+    }
+}
@@ -93,6 +93,10 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     protected AttributeChangesProvider attributeChangesProvider;
     @Autowired
     protected EntityEventManager entityEventManager;
+    @Autowired
+    protected EntityLogAsyncWriter asyncWriter;
+    @Autowired
+    protected EntityLogJdbcWriter jdbcWriter;
 
     @PersistenceContext
     protected EntityManager entityManager;
@@ -168,20 +172,28 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         if (items == null || items.isEmpty())
             return;
 
-        Set<EntityLogItem> saved = new LinkedHashSet<>();
-        for (EntityLogItem item : items) {
-            List<EntityLogItem> sameEntityList = items.stream()
-                    .filter(entityLogItem -> entityLogItem.getDbGeneratedIdEntity() != null ?
-                            entityLogItem.getDbGeneratedIdEntity().equals(item.getDbGeneratedIdEntity()) :
-                            entityLogItem.getEntityRef().getObjectEntityId().equals(item.getEntityRef().getObjectEntityId()))
-                    .collect(Collectors.toList());
+        Collection<List<EntityLogItem>> itemsByEntity = groupItemsByEntity(items);
+        List<EntityLogItem> itemsToSave = new ArrayList<>(itemsByEntity.size());
+        for (List<EntityLogItem> sameEntityList : itemsByEntity) {
             EntityLogItem itemToSave = sameEntityList.get(0);
-            if (!saved.contains(itemToSave)) {
-                computeChanges(itemToSave, sameEntityList);
-                saved.add(itemToSave);
-                saveItem(itemToSave);
-            }
+            computeChanges(itemToSave, sameEntityList);
+            itemsToSave.add(itemToSave);
         }
+        saveItems(itemsToSave);
+    }
+
+    /**
+     * Groups items by the logged entity preserving the order of the first item of each entity.
+     */
+    protected Collection<List<EntityLogItem>> groupItemsByEntity(List<EntityLogItem> items) {
+        Map<Object, List<EntityLogItem>> itemsByEntity = new LinkedHashMap<>();
+        for (EntityLogItem item : items) {
+            Object key = item.getDbGeneratedIdEntity() != null ?
+                    item.getDbGeneratedIdEntity() :
+                    item.getEntityRef().getObjectEntityId();
+            itemsByEntity.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+        }
+        return itemsByEntity.values();
     }
 
     protected void computeChanges(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList) {
@@ -219,77 +231,152 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     }
 
     protected void processAttributes(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList, Set<String> attributes) {
+        Map<String, EntityLogAttr> firstItemAttributes = getAttributesByName(sameEntityList.get(0));
+        Map<String, EntityLogAttr> lastItemAttributes = getAttributesByName(sameEntityList.get(sameEntityList.size() - 1));
+        Map<String, EntityLogAttr> attributesToSave = getAttributesByName(itemToSave);
         for (String attributeName : attributes) {
             // old value from the first item
-            sameEntityList.get(0).getAttributes().stream()
-                    .filter(entityLogAttr -> entityLogAttr.getName().equals(attributeName))
-                    .findFirst()
-                    .ifPresent(entityLogAttr -> setAttributeOldValue(entityLogAttr, itemToSave));
+            EntityLogAttr firstItemAttribute = firstItemAttributes.get(attributeName);
+            if (firstItemAttribute != null) {
+                setAttributeOldValue(firstItemAttribute, itemToSave, attributesToSave);
+            }
             // new value from the last item
-            sameEntityList.get(sameEntityList.size() - 1).getAttributes().stream()
-                    .filter(entityLogAttr -> entityLogAttr.getName().equals(attributeName))
-                    .findFirst()
-                    .ifPresent(entityLogAttr -> setAttributeNewValue(entityLogAttr, itemToSave));
+            EntityLogAttr lastItemAttribute = lastItemAttributes.get(attributeName);
+            if (lastItemAttribute != null) {
+                setAttributeNewValue(lastItemAttribute, itemToSave, attributesToSave);
+            }
         }
     }
 
-    protected void setAttributeOldValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
-        EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave);
+    protected Map<String, EntityLogAttr> getAttributesByName(EntityLogItem item) {
+        Map<String, EntityLogAttr> result = new HashMap<>();
+        for (EntityLogAttr attr : item.getAttributes()) {
+            result.putIfAbsent(attr.getName(), attr);
+        }
+        return result;
+    }
+
+    protected void setAttributeOldValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave,
+                                        Map<String, EntityLogAttr> attributesToSave) {
+        EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave, attributesToSave);
         attr.setOldValue(entityLogAttr.getOldValue());
         attr.setOldValueId(entityLogAttr.getOldValueId());
     }
 
-    protected void setAttributeNewValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
-        EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave);
+    protected void setAttributeNewValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave,
+                                        Map<String, EntityLogAttr> attributesToSave) {
+        EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave, attributesToSave);
         attr.setValue(entityLogAttr.getValue());
         attr.setValueId(entityLogAttr.getValueId());
     }
 
-    protected EntityLogAttr getAttrToSave(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
-        EntityLogAttr attr = itemToSave.getAttributes().stream()
-                .filter(a -> a.getName().equals(entityLogAttr.getName()))
-                .findFirst()
-                .orElse(null);
-        if (attr == null) {
-            attr = metadata.create(EntityLogAttr.class);
-            attr.setName(entityLogAttr.getName());
+    protected EntityLogAttr getAttrToSave(EntityLogAttr entityLogAttr, EntityLogItem itemToSave,
+                                          Map<String, EntityLogAttr> attributesToSave) {
+        return attributesToSave.computeIfAbsent(entityLogAttr.getName(), name -> {
+            EntityLogAttr attr = metadata.create(EntityLogAttr.class);
+            attr.setName(name);
             itemToSave.getAttributes().add(attr);
-        }
-        return attr;
+            return attr;
+        });
     }
 
-    protected void saveItem(EntityLogItem item) {
-        String storeName = metadata.getClass(item.getEntity()).getStore().getName();
+    /**
+     * Saves items of a single flush. Items are inserted by {@link EntityLogJdbcWriter} in JDBC batches: items of the
+     * main store in the current transaction, items of additional stores in a single separate transaction, and items
+     * of entities with DB-generated ids in a separate transaction after commit. If a batch in a separate transaction
+     * fails, its items are persisted one by one. A failure in the current transaction is propagated, as the batch may
+     * be partially executed.
+     * <p>
+     * If {@link AuditProperties#isEntityLogAsyncEnabled()} is set, all items are passed to {@link EntityLogAsyncWriter}
+     * after the current transaction is committed.
+     */
+    protected void saveItems(List<EntityLogItem> items) {
+        if (properties.isEntityLogAsyncEnabled() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueueItems(items);
+            return;
+        }
+
+        List<EntityLogItem> currentTransactionItems = new ArrayList<>();
+        List<EntityLogItem> newTransactionItems = new ArrayList<>();
+        List<EntityLogItem> afterCommitItems = new ArrayList<>();
 
-        entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
-        if (item.getDbGeneratedIdEntity() == null) {
-            if (Stores.isMain(storeName)) {
-                entityManager.persist(item);
+        for (EntityLogItem item : items) {
+            entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
+            if (item.getDbGeneratedIdEntity() != null) {
+                afterCommitItems.add(item);
+            } else if (Stores.isMain(metadata.getClass(item.getEntity()).getStore().getName())) {
+                currentTransactionItems.add(item);
             } else {
                 // Create a new transaction in main DB if we are saving an entity from additional data store
-                transaction.executeWithoutResult(transactionStatus -> entityManager.persist(item));
+                newTransactionItems.add(item);
             }
-        } else {
+        }
+
+        if (!currentTransactionItems.isEmpty()) {
+            jdbcWriter.write(currentTransactionItems);
+        }
+
+        if (!newTransactionItems.isEmpty()) {
+            saveItemsInNewTransaction(newTransactionItems);
+        }
+
+        if (!afterCommitItems.isEmpty()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
                 @Override
                 public void afterCommit() {
-                    Object id = EntityValues.getId(item.getDbGeneratedIdEntity());
-                    item.getEntityRef().setObjectEntityId(id);
-                    transaction.executeWithoutResult(status -> {
-                        entityManager.persist(item);
-                    });
+                    for (EntityLogItem item : afterCommitItems) {
+                        Object id = EntityValues.getId(item.getDbGeneratedIdEntity());
+                        item.getEntityRef().setObjectEntityId(id);
+                    }
+                    saveItemsInNewTransaction(afterCommitItems);
                 }
             });
         }
     }
 
+    protected void saveItemsInNewTransaction(List<EntityLogItem> items) {
+        try {
+            transaction.executeWithoutResult(status -> jdbcWriter.write(items));
+        } catch (RuntimeException e) {
+            if (items.size() == 1) {
+                throw e;
+            }
+            log.warn("Unable to insert {} entity log items in one batch, saving them one by one", items.size(), e);
+            for (EntityLogItem item : items) {
+                transaction.executeWithoutResult(status -> entityManager.persist(item));
+            }
+        }
+    }
+
+    protected void saveItem(EntityLogItem item) {
+        saveItems(Collections.singletonList(item));
+    }
+
+    protected void enqueueItems(List<EntityLogItem> items) {
+        for (EntityLogItem item : items) {
+            entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                for (EntityLogItem item : items) {
+                    if (item.getDbGeneratedIdEntity() != null) {
+                        Object id = EntityValues.getId(item.getDbGeneratedIdEntity());
+                        item.getEntityRef().setObjectEntityId(id);
+                    }
+                }
+                asyncWriter.enqueue(items);
+            }
+        });
+    }
+
     @Override
-    public synchronized boolean isEnabled() {
+    public boolean isEnabled() {
         return enabled && isLoggingForCurrentThread();
     }
 
     @Override
-    public synchronized void setEnabled(boolean enabled) {
+    public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.audit.impl;
+
+import io.jmix.audit.entity.EntityLogItem;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.Stores;
+import io.jmix.core.TimeSource;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.data.AuditInfoProvider;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.impl.EntityAuditValues;
+import io.jmix.data.persistence.DbTypeConverter;
+import io.jmix.data.persistence.DbmsSpecifics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PersistenceContext;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts entity log items into the main data store by JDBC batches.
+ * <p>
+ * Items are inserted in the current transaction of the main data store, bypassing the persistence context, so that
+ * all items of a flush are sent to the database in one round trip. Creation audit info is set from the current
+ * authentication if it is not set yet. Items of entity classes having columns other than basic and embedded ones
+ * are persisted by the {@link EntityManager}.
+ */
+@Component("audit_EntityLogJdbcWriter")
+public class EntityLogJdbcWriter {
+
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected MetadataTools metadataTools;
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected DbmsSpecifics dbmsSpecifics;
+    @Autowired
+    protected TimeSource timeSource;
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+    @Autowired
+    protected EntityAuditValues entityAuditValues;
+
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    protected Map<MetaClass, Optional<List<ColumnProperty>>> columnProperties = new ConcurrentHashMap<>();
+
+    /**
+     * Inserts the given items in the current transaction.
+     *
+     * @param items entity log items to insert
+     * @throws org.springframework.dao.DataAccessException if the batch fails
+     */
+    public void write(Collection<EntityLogItem> items) {
+        Map<MetaClass, List<EntityLogItem>> itemsByClass = new LinkedHashMap<>();
+        for (EntityLogItem item : items) {
+            setCreateInfo(item);
+            itemsByClass.computeIfAbsent(metadata.getClass(item), metaClass -> new ArrayList<>()).add(item);
+        }
+
+        DbTypeConverter dbTypeConverter = dbmsSpecifics.getDbTypeConverter();
+        itemsByClass.forEach((metaClass, classItems) -> {
+            List<ColumnProperty> properties = getColumnProperties(metaClass);
+            if (properties == null) {
+                classItems.forEach(entityManager::persist);
+                return;
+            }
+            storeAwareLocator.getJdbcTemplate(Stores.MAIN).batchUpdate(createInsertSql(metaClass, properties),
+                    classItems, classItems.size(),
+                    (ps, item) -> setParameters(ps, item, properties, dbTypeConverter));
+        });
+    }
+
+    /**
+     * Sets creation audit info of the item from the current authentication if it is not set yet.
+     */
+    public void setCreateInfo(EntityLogItem item) {
+        if (item.getCreateTs() == null) {
+            entityAuditValues.setCreateInfo(item, timeSource.currentTimestamp(), auditInfoProvider.getCurrentUser());
+        }
+    }
+
+    /**
+     * Returns properties mapped to the columns of the entity table, or null if the entity cannot be inserted by JDBC.
+     */
+    @Nullable
+    protected List<ColumnProperty> getColumnProperties(MetaClass metaClass) {
+        return columnProperties.computeIfAbsent(metaClass, key -> Optional.ofNullable(createColumnProperties(metaClass)))
+                .orElse(null);
+    }
+
+    @Nullable
+    protected List<ColumnProperty> createColumnProperties(MetaClass metaClass) {
+        List<ColumnProperty> result = new ArrayList<>();
+        for (MetaProperty metaProperty : metaClass.getProperties()) {
+            if (!metadataTools.isJpa(metaProperty)) {
+                continue;
+            }
+            if (metaProperty.getType() == MetaProperty.Type.EMBEDDED) {
+                for (MetaProperty embeddedProperty : metaProperty.getRange().asClass().getProperties()) {
+                    if (!addColumnProperty(result, embeddedProperty, metaProperty.getName(), embeddedProperty.getName())) {
+                        return null;
+                    }
+                }
+            } else if (!addColumnProperty(result, metaProperty, metaProperty.getName())) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    protected boolean addColumnProperty(List<ColumnProperty> result, MetaProperty metaProperty, String... path) {
+        if (!metadataTools.isJpa(metaProperty)) {
+            return true;
+        }
+        String column = metadataTools.getDatabaseColumn(metaProperty);
+        if (column == null || !metaProperty.getRange().isDatatype()) {
+            return false;
+        }
+        boolean lob = metaProperty.getAnnotatedElement().isAnnotationPresent(Lob.class);
+        result.add(new ColumnProperty(column, path, lob));
+        return true;
+    }
+
+    protected String createInsertSql(MetaClass metaClass, List<ColumnProperty> properties) {
+        return "insert into " + metadataTools.getDatabaseTable(metaClass)
+                + " (" + properties.stream().map(ColumnProperty::column).collect(Collectors.joining(", "))
+                + ") values (" + properties.stream().map(property -> "?").collect(Collectors.joining(", ")) + ")";
+    }
+
+    protected void setParameters(PreparedStatement ps, EntityLogItem item, List<ColumnProperty> properties,
+                                 DbTypeConverter dbTypeConverter) throws SQLException {
+        for (int i = 0; i < properties.size(); i++) {
+            ColumnProperty property = properties.get(i);
+            Object value = EntityValues.getValueEx(item, property.path());
+            if (value == null) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, null);
+            } else if (property.lob()) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, Types.CLOB, value);
+            } else {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN,
+                        dbTypeConverter.getSqlObject(value));
+            }
+        }
+    }
+
+    /**
+     * Entity property mapped to a table column.
+     *
+     * @param column column name
+     * @param path   property path from the entity, including the embedded property
+     * @param lob    whether the column is a large object
+     */
+    protected record ColumnProperty(String column, String[] path, boolean lob) {
+    }
+}
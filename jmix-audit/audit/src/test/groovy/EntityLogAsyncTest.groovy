@@ -0,0 +1,122 @@
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogAsyncWriter
+import io.jmix.core.entity.EntityValues
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import test_support.testmodel.IdentityEntity
+
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+@TestPropertySource(properties = "jmix.audit.entity-log-async-enabled=true")
+class EntityLogAsyncTest extends AbstractEntityLogTest {
+
+    @Autowired
+    EntityLogAsyncWriter asyncWriter
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    void setup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+            saveEntityLogAutoConfFor('test$IdentityEntity', 'name')
+        }
+
+        initEntityLogAPI()
+    }
+
+    void cleanup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+    }
+
+    def "Entity log items are written by the background writer after commit"() {
+
+        given:
+
+        def identityEntity = new IdentityEntity(name: 'test1')
+
+        when:
+
+        withTransaction {
+            em.persist(identityEntity)
+        }
+
+        then:
+
+        List<EntityLogItem> logItems = waitForEntityLogItems('test$IdentityEntity', EntityValues.getId(identityEntity))
+        logItems.size() == 1
+        logItems[0].type == EntityLogItem.Type.CREATE
+        loggedValueMatches(logItems[0], 'name', 'test1')
+        asyncWriter.writtenCount > 0
+
+        cleanup:
+
+        runSqlUpdate("delete from TEST_IDENTITY where id = ${EntityValues.getId(identityEntity)}")
+    }
+
+    def "Entity log items are not written if the transaction is rolled back"() {
+
+        given:
+
+        def identityEntity = new IdentityEntity(name: 'test1')
+
+        when:
+
+        transaction.executeWithoutResult { status ->
+            em.persist(identityEntity)
+            em.flush()
+            status.setRollbackOnly()
+        }
+
+        and: "an entity is saved after the rollback"
+
+        def committedEntity = new IdentityEntity(name: 'test2')
+        withTransaction {
+            em.persist(committedEntity)
+        }
+
+        then: "items are written in order, so nothing is left for the rolled back entity when the next one is written"
+
+        waitForEntityLogItems('test$IdentityEntity', EntityValues.getId(committedEntity)).size() == 1
+        getEntityLogItems('test$IdentityEntity', EntityValues.getId(identityEntity)).isEmpty()
+
+        cleanup:
+
+        runSqlUpdate("delete from TEST_IDENTITY where id = ${EntityValues.getId(committedEntity)}")
+    }
+
+    def "Queue state is registered in the meter registry"() {
+
+        expect:
+
+        meterRegistry.get('jmix.EntityLog.asyncQueue.size').gauge().value() >= 0
+        meterRegistry.get('jmix.EntityLog.asyncQueue.lag').timeGauge() != null
+        meterRegistry.get('jmix.EntityLog.asyncQueue.written').functionCounter() != null
+    }
+
+    protected List<EntityLogItem> waitForEntityLogItems(String entityName, def entityId) {
+        List<EntityLogItem> items = getEntityLogItems(entityName, entityId)
+        for (int i = 0; i < 50 && (items.isEmpty() || asyncWriter.queueSize > 0); i++) {
+            Thread.sleep(100)
+            items = getEntityLogItems(entityName, entityId)
+        }
+        return items
+    }
+}
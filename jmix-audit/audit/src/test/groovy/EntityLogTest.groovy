@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired
 import test_support.testmodel.IdentityEntity
 import test_support.testmodel.IntIdentityEntity
 import test_support.testmodel.StringKeyEntity
+import test_support.testmodel.UuidEntity
 import test_support.testmodel.cascade.CascOrder
 import test_support.testmodel.cascade.CascOrderReview
 
@@ -53,6 +54,8 @@ class EntityLogTest extends AbstractEntityLogTest {
 
         saveEntityLogAutoConfFor('test$IdentityEntity', 'name')
 
+        saveEntityLogAutoConfFor('test_UuidEntity', 'name')
+
         saveEntityLogAutoConfFor('cascop_Order', '*')
         saveEntityLogAutoConfFor('cascop_OrderReview', '*')
 
@@ -197,6 +200,85 @@ class EntityLogTest extends AbstractEntityLogTest {
     }
 
 
+    def "Several changes of several entities in one transaction are logged with one item per entity"() {
+
+        given:
+
+        List<IdentityEntity> entities = (1..5).collect { new IdentityEntity(name: "test$it") }
+
+        and:
+
+        withTransaction {
+            entities.each { em.persist(it) }
+        }
+
+        when:
+
+        withTransaction {
+            entities.each { IdentityEntity entity ->
+                IdentityEntity e = em.find(IdentityEntity, entity.id)
+                e.name = e.name + '-1'
+                em.flush()
+                e.name = e.name + '-2'
+            }
+        }
+
+        then:
+
+        entities.each { IdentityEntity entity ->
+            List<EntityLogItem> logItems = getEntityLogItems('test$IdentityEntity', EntityValues.getId(entity))
+            EntityLogItem logItem = logItems.first()
+
+            assert logItems.size() == 2
+            assert logItem.type == EntityLogItem.Type.MODIFY
+            assert loggedValueMatches(logItem, 'name', entity.name + '-1-2')
+            assert loggedOldValueMatches(logItem, 'name', entity.name)
+        }
+
+        cleanup:
+
+        entities.each { clearEntityById(it, 'TEST_IDENTITY') }
+    }
+
+    def "Entity log items are inserted in the transaction of the logged changes"() {
+
+        given:
+
+        List<UuidEntity> rolledBackEntities = (1..3).collect { metadata.create(UuidEntity).tap { name = "batch-rolled-back$it" } }
+        List<UuidEntity> entities = (1..3).collect { metadata.create(UuidEntity).tap { name = "batch$it" } }
+
+        when:
+
+        transaction.executeWithoutResult { status ->
+            rolledBackEntities.each { em.persist(it) }
+            em.flush()
+            status.setRollbackOnly()
+        }
+
+        and:
+
+        withTransaction {
+            entities.each { em.persist(it) }
+        }
+
+        then:
+
+        rolledBackEntities.every { getEntityLogItems('test_UuidEntity', it.id).isEmpty() }
+
+        entities.each { UuidEntity entity ->
+            List<EntityLogItem> logItems = getEntityLogItems('test_UuidEntity', entity.id)
+
+            assert logItems.size() == 1
+            assert logItems[0].type == EntityLogItem.Type.CREATE
+            assert logItems[0].createTs != null
+            assert loggedValueMatches(logItems[0], 'name', entity.name)
+        }
+
+        cleanup:
+
+        runSqlUpdate("delete from TEST_UUID_ENTITY where name like 'batch%'")
+    }
+
     def "Logging is working for a creation of a MetaProperty"() {
 
         given:
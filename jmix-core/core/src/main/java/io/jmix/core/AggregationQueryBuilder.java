@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.metamodel.model.MetaClass;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Builds value queries that aggregate the whole result set of an entity query without loading entities,
+ * e.g. to show totals of a paged list. Implemented by data stores supporting JPQL.
+ */
+@NullMarked
+public interface AggregationQueryBuilder {
+
+    /**
+     * Creates a value query returning aggregates over the result set of the given entity query.
+     * The query condition and parameters are applied, paging and sorting are ignored.
+     *
+     * @param metaClass  entity loaded by the query
+     * @param query      entity query
+     * @param aggregates aggregate JPQL expressions, where {@code {E}} refers to the selected entity,
+     *                   e.g. {@code sum({E}.amount)}
+     * @return value query returning one row with the aggregates in the given order, or null if the entity query
+     * cannot be aggregated by the data store
+     */
+    @Nullable
+    ValueLoadContext.Query build(MetaClass metaClass, LoadContext.Query query, List<String> aggregates);
+}
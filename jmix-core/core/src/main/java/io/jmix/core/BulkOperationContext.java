@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Defines a set-based update or delete of entities matching a condition, executed by
+ * {@link UnconstrainedDataManager#executeBulk(BulkOperationContext)} with a single statement per affected entity
+ * instead of loading and saving each instance.
+ * <p>
+ * Entity lifecycle listeners and {@link io.jmix.core.event.EntityChangedEvent}s are not invoked for the changed
+ * instances. Instead, a single {@link io.jmix.core.event.EntityBulkChangedEvent} is published for each
+ * affected entity. Soft deletion and {@code @OnDelete}/{@code @OnDeleteInverse} policies are applied to the whole
+ * set of deleted instances.
+ */
+public class BulkOperationContext implements Serializable {
+
+    private static final long serialVersionUID = 3410591585424127803L;
+
+    /**
+     * Type of the operation.
+     */
+    public enum Type {
+        UPDATE,
+        DELETE
+    }
+
+    protected MetaClass entityMetaClass;
+    protected Type type;
+    protected Condition condition = LogicalCondition.and();
+    protected Map<String, Object> values = new LinkedHashMap<>();
+
+    protected boolean joinTransaction = true;
+    protected List<AccessConstraint<?>> accessConstraints;
+    protected Map<String, Serializable> hints;
+
+    protected BulkOperationContext(MetaClass entityMetaClass, Type type) {
+        this.entityMetaClass = entityMetaClass;
+        this.type = type;
+    }
+
+    /**
+     * Creates a context for updating attributes of entities.
+     *
+     * @param entityMetaClass metaclass of entities to update
+     */
+    public static BulkOperationContext update(MetaClass entityMetaClass) {
+        return new BulkOperationContext(entityMetaClass, Type.UPDATE);
+    }
+
+    /**
+     * Creates a context for deleting entities.
+     *
+     * @param entityMetaClass metaclass of entities to delete
+     */
+    public static BulkOperationContext delete(MetaClass entityMetaClass) {
+        return new BulkOperationContext(entityMetaClass, Type.DELETE);
+    }
+
+    /**
+     * @return metaclass of affected entities
+     */
+    public MetaClass getEntityMetaClass() {
+        return entityMetaClass;
+    }
+
+    /**
+     * @return type of the operation
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return condition selecting affected entities
+     */
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Sets the condition selecting affected entities. By default, all entities are affected.
+     * <p>
+     * Conditions with null or empty parameter values are skipped in the same way as when loading entities, which
+     * may extend the operation to more instances than expected.
+     */
+    public BulkOperationContext setCondition(Condition condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    /**
+     * @return new values of attributes for the {@link Type#UPDATE} operation
+     */
+    public Map<String, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Sets a new value of a local or reference attribute for the {@link Type#UPDATE} operation.
+     *
+     * @param property attribute name
+     * @param value    new value
+     * @return this instance for chaining
+     */
+    public BulkOperationContext setValue(String property, @Nullable Object value) {
+        if (type != Type.UPDATE) {
+            throw new IllegalStateException("Values can be set only for the update operation");
+        }
+        values.put(property, value);
+        return this;
+    }
+
+    /**
+     * @return custom hints which are used by the operation
+     */
+    public Map<String, Serializable> getHints() {
+        return hints == null ? Collections.emptyMap() : Collections.unmodifiableMap(hints);
+    }
+
+    /**
+     * Sets custom hint that should be used by the operation.
+     */
+    public BulkOperationContext setHint(String hintName, Serializable value) {
+        if (hints == null) {
+            hints = new HashMap<>();
+        }
+        hints.put(hintName, value);
+        return this;
+    }
+
+    /**
+     * Returns the list of access constraints.
+     */
+    public List<AccessConstraint<?>> getAccessConstraints() {
+        return this.accessConstraints == null ? Collections.emptyList() : this.accessConstraints;
+    }
+
+    /**
+     * Sets the list of access constraints.
+     */
+    public BulkOperationContext setAccessConstraints(List<AccessConstraint<?>> accessConstraints) {
+        this.accessConstraints = accessConstraints;
+        return this;
+    }
+
+    /**
+     * @return whether to join existing transaction or always start a new one
+     */
+    public boolean isJoinTransaction() {
+        return joinTransaction;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public BulkOperationContext setJoinTransaction(boolean joinTransaction) {
+        this.joinTransaction = joinTransaction;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationContext{" +
+                "entityMetaClass=" + entityMetaClass +
+                ", type=" + type +
+                ", condition=" + condition +
+                ", values=" + values.keySet() +
+                '}';
+    }
+}
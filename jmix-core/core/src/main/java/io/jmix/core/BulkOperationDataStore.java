@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+/**
+ * Defines the ability of a data store to update or delete entities with set-based statements.
+ *
+ * @see UnconstrainedDataManager#executeBulk(BulkOperationContext)
+ */
+public interface BulkOperationDataStore {
+
+    /**
+     * Updates or deletes entities selected by the context condition.
+     *
+     * @param context defines the operation
+     * @return number of updated or deleted instances of the context entity
+     */
+    long executeBulk(BulkOperationContext context);
+}
@@ -59,6 +59,13 @@ public class CoreProperties {
     List<Locale> availableLocales;
     int crossDataStoreReferenceLoadingBatchSize;
 
+    /**
+     * Maximum number of cross-data-store reference properties loaded concurrently. If 1, references are loaded
+     * sequentially in the calling thread. References loaded in the caller's transaction are always loaded
+     * sequentially.
+     */
+    int crossDataStoreReferenceLoadingParallelism;
+
     /**
      * Whether to generate identifiers for entities located in additional data stores.
      */
@@ -149,6 +156,12 @@ public class CoreProperties {
      */
     boolean applicationInfoFileEnabled;
 
+    /**
+     * Whether the classpath scanner uses the index of module classes generated at build time instead of reading
+     * the classes. The index is ignored if it is absent or doesn't match the classes found in the classpath.
+     */
+    boolean classpathScanIndexEnabled;
+
     public CoreProperties(
             String webHostName,
             String webPort,
@@ -158,6 +171,7 @@ public class CoreProperties {
             String dbDir,
             List<String> availableLocales,
             @DefaultValue("50") int crossDataStoreReferenceLoadingBatchSize,
+            @DefaultValue("1") int crossDataStoreReferenceLoadingParallelism,
             @DefaultValue("true") boolean idGenerationForEntitiesInAdditionalDataStoresEnabled,
             @DefaultValue("100") int dom4jMaxPoolSize,
             @DefaultValue("1000") int dom4jMaxBorrowWaitMillis,
@@ -175,7 +189,8 @@ public class CoreProperties {
             @DefaultValue("true") boolean instanceNameFallbackEnabled,
             @DefaultValue("false") boolean dataObservationEnabled,
             @DefaultValue("true") boolean useUserInfoForObservation,
-            @DefaultValue("true") boolean applicationInfoFileEnabled) {
+            @DefaultValue("true") boolean applicationInfoFileEnabled,
+            @DefaultValue("true") boolean classpathScanIndexEnabled) {
         this.webHostName = webHostName;
         this.webPort = webPort;
         this.confDir = confDir;
@@ -194,6 +209,7 @@ public class CoreProperties {
         }
 
         this.crossDataStoreReferenceLoadingBatchSize = crossDataStoreReferenceLoadingBatchSize;
+        this.crossDataStoreReferenceLoadingParallelism = crossDataStoreReferenceLoadingParallelism;
         this.idGenerationForEntitiesInAdditionalDataStoresEnabled = idGenerationForEntitiesInAdditionalDataStoresEnabled;
         this.dom4jMaxPoolSize = dom4jMaxPoolSize;
         this.dom4jMaxBorrowWaitMillis = dom4jMaxBorrowWaitMillis;
@@ -210,6 +226,7 @@ public class CoreProperties {
         this.dataObservationEnabled = dataObservationEnabled;
         this.useUserInfoForObservation = useUserInfoForObservation;
         this.applicationInfoFileEnabled = applicationInfoFileEnabled;
+        this.classpathScanIndexEnabled = classpathScanIndexEnabled;
     }
 
     public String getWebHostName() {
@@ -249,6 +266,13 @@ public class CoreProperties {
         return crossDataStoreReferenceLoadingBatchSize;
     }
 
+    /**
+     * @see #crossDataStoreReferenceLoadingParallelism
+     */
+    public int getCrossDataStoreReferenceLoadingParallelism() {
+        return crossDataStoreReferenceLoadingParallelism;
+    }
+
     /**
      * @see #idGenerationForEntitiesInAdditionalDataStoresEnabled
      */
@@ -355,4 +379,11 @@ public class CoreProperties {
     public boolean isApplicationInfoFileEnabled() {
         return applicationInfoFileEnabled;
     }
+
+    /**
+     * @see #classpathScanIndexEnabled
+     */
+    public boolean isClasspathScanIndexEnabled() {
+        return classpathScanIndexEnabled;
+    }
 }
@@ -20,6 +20,7 @@ import io.jmix.core.entity.*;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
 import io.jmix.core.impl.EntityInternals;
+import io.jmix.core.metamodel.model.MetaProperty;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Id;
 
@@ -80,6 +81,21 @@ public interface EntityEntry extends Serializable {
 
     void setAttributeValue(String name, @Nullable Object value, boolean checkEquals);
 
+    /**
+     * Returns the attribute value. Implementations may use {@link MetaProperty#getIndex()} to avoid lookup by name.
+     */
+    @Nullable
+    default <T> T getAttributeValue(MetaProperty property) {
+        return getAttributeValue(property.getName());
+    }
+
+    /**
+     * Sets the attribute value. Implementations may use {@link MetaProperty#getIndex()} to avoid lookup by name.
+     */
+    default void setAttributeValue(MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        setAttributeValue(property.getName(), value, checkEquals);
+    }
+
     default boolean isEmbeddable() {
         return false;
     }
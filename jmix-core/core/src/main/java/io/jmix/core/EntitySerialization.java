@@ -20,8 +20,13 @@ import io.jmix.core.metamodel.model.MetaClass;
 
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
+
+import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Class that is used for serialization and deserialization of entities to JSON.
@@ -66,6 +71,45 @@ public interface EntitySerialization {
                   @Nullable FetchPlan fetchPlan,
                   EntitySerializationOption... options);
 
+    /**
+     * Serializes entities to the JSON array like {@link #toJson(Collection, FetchPlan, EntitySerializationOption...)},
+     * but writes each entity to the {@code writer} as soon as it is serialized instead of building the whole JSON
+     * in memory. Use it for large collections, e.g. to write them directly to a response body.
+     * <p>
+     * The writer is flushed but not closed.
+     *
+     * @param entities  entities to be serialized
+     * @param writer    a writer to write the JSON array to
+     * @param fetchPlan a fetch plan that defines which entity properties should be added to the result JSON objects
+     * @param options   options specifying how an entity should be serialized
+     * @throws UncheckedIOException if writing fails
+     */
+    default void toJson(Iterable<?> entities,
+                        Writer writer,
+                        @Nullable FetchPlan fetchPlan,
+                        EntitySerializationOption... options) {
+        List<Object> entityList = new ArrayList<>();
+        entities.forEach(entityList::add);
+        try {
+            writer.write(toJson(entityList, fetchPlan, options));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #toJson(Iterable, Writer, FetchPlan, EntitySerializationOption...)}, but writes the JSON array
+     * to the output stream in UTF-8. The stream is flushed but not closed.
+     */
+    default void toJson(Iterable<?> entities,
+                        OutputStream outputStream,
+                        @Nullable FetchPlan fetchPlan,
+                        EntitySerializationOption... options) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        toJson(entities, writer, fetchPlan, options);
+    }
+
     /**
      * An overloaded version of the {@link #toJson(Object, FetchPlan, EntitySerializationOption...)} method with a null
      * {@code fetchPlan} parameter and with no serialization options.
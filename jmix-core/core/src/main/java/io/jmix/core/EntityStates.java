@@ -209,7 +209,7 @@ public class EntityStates {
                 FetchPlan propertyFetchPlan = property.getFetchPlan();
 
                 if (propertyFetchPlan != null && metadataTools.isJpa(metaProperty)) {
-                    Object value = EntityValues.getValue(entity, metaProperty.getName());
+                    Object value = EntityValues.getValue(entity, metaProperty);
 
                     if (value != null) {
                         if (!metaProperty.getRange().getCardinality().isMany()) {
@@ -277,7 +277,7 @@ public class EntityStates {
                 FetchPlan propertyFetchPlan = property.getFetchPlan();
 
                 if (propertyFetchPlan != null && metadataTools.isJpa(metaProperty)) {
-                    Object value = EntityValues.getValue(entity, metaProperty.getName());
+                    Object value = EntityValues.getValue(entity, metaProperty);
 
                     if (value != null) {
                         if (!metaProperty.getRange().getCardinality().isMany()) {
@@ -368,7 +368,7 @@ public class EntityStates {
             if (!isLoaded(entity, property.getName()))
                 continue;
             if (property.getRange().isClass()) {
-                Object value = EntityValues.getValue(entity, property.getName());
+                Object value = EntityValues.getValue(entity, property);
                 if (value != null) {
                     Class<?> declaredPropertyClass = property.getRange().asClass().getJavaClass();
                     FetchPlanBuilder propertyBuilder = fetchPlans.builder(declaredPropertyClass);
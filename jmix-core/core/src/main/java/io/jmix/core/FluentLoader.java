@@ -519,6 +519,7 @@ public class FluentLoader<E> {
         private int firstResult;
         private int maxResults;
         private Sort sort;
+        private String after;
         private boolean cacheable;
         private boolean distinct;
 
@@ -563,6 +564,7 @@ public class FluentLoader<E> {
             loadContext.getQuery().setFirstResult(firstResult);
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setSort(sort);
+            loadContext.getQuery().setAfter(after);
             loadContext.getQuery().setCacheable(cacheable);
             loadContext.getQuery().setDistinct(distinct);
 
@@ -722,6 +724,15 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Sets a keyset pagination token of the last row of the previous page, created by {@link KeysetTokens}
+         * with the same sort. Results start after that row instead of skipping {@code firstResult} rows.
+         */
+        public ByQuery<E> after(@Nullable String after) {
+            this.after = after;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          * By default, queries are not cached.
@@ -784,6 +795,7 @@ public class FluentLoader<E> {
         private int firstResult;
         private int maxResults;
         private Sort sort;
+        private String after;
         private boolean cacheable;
         private Condition condition;
         private boolean distinct;
@@ -802,6 +814,7 @@ public class FluentLoader<E> {
             this.firstResult = byQuery.firstResult;
             this.maxResults = byQuery.maxResults;
             this.sort = byQuery.sort;
+            this.after = byQuery.after;
             this.cacheable = byQuery.cacheable;
         }
 
@@ -826,6 +839,7 @@ public class FluentLoader<E> {
             loadContext.getQuery().setFirstResult(firstResult);
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setSort(sort);
+            loadContext.getQuery().setAfter(after);
             loadContext.getQuery().setCacheable(cacheable);
             loadContext.getQuery().setDistinct(distinct);
 
@@ -977,6 +991,15 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Sets a keyset pagination token of the last row of the previous page, created by {@link KeysetTokens}
+         * with the same sort. Results start after that row instead of skipping {@code firstResult} rows.
+         */
+        public ByCondition<E> after(@Nullable String after) {
+            this.after = after;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          * By default, queries are not cached.
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.datatype.Datatype;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.core.metamodel.model.Range;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.time.*;
+import java.time.temporal.Temporal;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Creates and parses continuation tokens for keyset (seek) pagination.
+ * <p>
+ * A token contains the values of the sort properties and the id of the last row of a page. Passed to
+ * {@link LoadContext.Query#setAfter(String)}, it makes the data store return rows following that row
+ * in the order of the query sort with the primary key appended as a tie-breaker, so the database seeks
+ * to the next page by an index instead of scanning and discarding skipped rows.
+ * <p>
+ * Tokens are opaque for clients and are valid only for the same entity and sort they were created with.
+ * Sort properties must have datatype or enumeration values and must not be null in the paginated rows.
+ * Numeric and temporal values are stored without loss of precision, so that the next page starts exactly
+ * after the last row.
+ */
+@Component("core_KeysetTokens")
+public class KeysetTokens {
+
+    protected static final String SEPARATOR = ".";
+    protected static final String NULL_VALUE = "~";
+
+    protected final Metadata metadata;
+    protected final MetadataTools metadataTools;
+
+    public KeysetTokens(Metadata metadata, MetadataTools metadataTools) {
+        this.metadata = metadata;
+        this.metadataTools = metadataTools;
+    }
+
+    /**
+     * Creates a token to continue loading after the given entity.
+     *
+     * @param entity last loaded entity
+     * @param sort   sort of the query the entity was loaded by
+     * @return continuation token
+     */
+    public String createToken(Object entity, @Nullable Sort sort) {
+        MetaClass metaClass = metadata.getClass(entity);
+        List<Sort.Order> orders = getKeyOrders(metaClass, sort);
+
+        List<String> parts = new ArrayList<>(orders.size());
+        for (Sort.Order order : orders) {
+            MetaPropertyPath propertyPath = metaClass.getPropertyPath(order.getProperty());
+            Object value = EntityValues.getValueEx(entity, order.getProperty());
+            //noinspection DataFlowIssue
+            String formatted = value == null ? null : formatValue(getDatatype(propertyPath), value);
+            parts.add(formatted == null ? NULL_VALUE : encode(formatted));
+        }
+        return String.join(SEPARATOR, parts);
+    }
+
+    /**
+     * Parses the given token to the values of the key properties returned by {@link #getKeyOrders(MetaClass, Sort)}.
+     *
+     * @param metaClass entity of the query
+     * @param sort      query sort
+     * @param token     continuation token
+     * @return values of the key properties, a value is null if the row had a null sort property value
+     * @throws IllegalArgumentException if the token doesn't correspond to the entity and sort
+     */
+    public List<Object> parseToken(MetaClass metaClass, @Nullable Sort sort, String token) {
+        List<Sort.Order> orders = getKeyOrders(metaClass, sort);
+        String[] parts = token.split("\\" + SEPARATOR, -1);
+        if (parts.length != orders.size()) {
+            throw new IllegalArgumentException("Keyset token doesn't match the sort of " + metaClass.getName());
+        }
+
+        List<Object> values = new ArrayList<>(parts.length);
+        for (int i = 0; i < parts.length; i++) {
+            if (NULL_VALUE.equals(parts[i])) {
+                values.add(null);
+                continue;
+            }
+
+            MetaPropertyPath propertyPath = metaClass.getPropertyPath(orders.get(i).getProperty());
+            try {
+                //noinspection DataFlowIssue
+                values.add(parseValue(getDatatype(propertyPath), decode(parts[i])));
+            } catch (IllegalArgumentException | ParseException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid keyset token for " + metaClass.getName(), e);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the orders defining the position of a row in keyset pagination: the given sort orders
+     * followed by the primary key in ascending order, unless the sort already ends with it.
+     *
+     * @param metaClass entity of the query
+     * @param sort      query sort
+     * @return key orders
+     * @throws IllegalArgumentException if the sort or the primary key cannot be used for keyset pagination
+     */
+    public List<Sort.Order> getKeyOrders(MetaClass metaClass, @Nullable Sort sort) {
+        MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+        if (primaryKeyProperty == null || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            throw new IllegalArgumentException(
+                    "Keyset pagination requires a simple primary key: " + metaClass.getName());
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sort != null) {
+            for (Sort.Order order : sort.getOrders()) {
+                if (order instanceof Sort.ExpressionOrder) {
+                    throw new IllegalArgumentException("Keyset pagination doesn't support sort expressions");
+                }
+                MetaPropertyPath propertyPath = metaClass.getPropertyPath(order.getProperty());
+                if (propertyPath == null || getDatatype(propertyPath) == null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Keyset pagination doesn't support sorting by %s.%s",
+                            metaClass.getName(), order.getProperty()));
+                }
+                orders.add(order);
+            }
+        }
+
+        String primaryKey = primaryKeyProperty.getName();
+        if (orders.isEmpty() || !orders.get(orders.size() - 1).getProperty().equals(primaryKey)) {
+            orders.add(Sort.Order.asc(primaryKey));
+        }
+        return orders;
+    }
+
+    /**
+     * Formats a value of a sort property. Numbers and temporal values are formatted losslessly,
+     * other values by the datatype.
+     */
+    @Nullable
+    protected String formatValue(Datatype<?> datatype, Object value) {
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.toPlainString();
+        }
+        if (value instanceof Number || value instanceof Temporal) {
+            return value.toString();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof Date date) {
+            return Instant.ofEpochMilli(date.getTime()).toString();
+        }
+        return datatype.format(value);
+    }
+
+    /**
+     * Parses a value formatted by {@link #formatValue(Datatype, Object)}.
+     */
+    @Nullable
+    protected Object parseValue(Datatype<?> datatype, String value) throws ParseException {
+        Class<?> javaClass = datatype.getJavaClass();
+        if (BigDecimal.class.equals(javaClass)) {
+            return new BigDecimal(value);
+        } else if (Double.class.equals(javaClass)) {
+            return Double.valueOf(value);
+        } else if (Float.class.equals(javaClass)) {
+            return Float.valueOf(value);
+        } else if (Long.class.equals(javaClass)) {
+            return Long.valueOf(value);
+        } else if (Integer.class.equals(javaClass)) {
+            return Integer.valueOf(value);
+        } else if (Short.class.equals(javaClass)) {
+            return Short.valueOf(value);
+        } else if (Byte.class.equals(javaClass)) {
+            return Byte.valueOf(value);
+        } else if (BigInteger.class.equals(javaClass)) {
+            return new BigInteger(value);
+        } else if (LocalDate.class.equals(javaClass)) {
+            return LocalDate.parse(value);
+        } else if (LocalDateTime.class.equals(javaClass)) {
+            return LocalDateTime.parse(value);
+        } else if (LocalTime.class.equals(javaClass)) {
+            return LocalTime.parse(value);
+        } else if (OffsetDateTime.class.equals(javaClass)) {
+            return OffsetDateTime.parse(value);
+        } else if (OffsetTime.class.equals(javaClass)) {
+            return OffsetTime.parse(value);
+        } else if (ZonedDateTime.class.equals(javaClass)) {
+            return ZonedDateTime.parse(value);
+        } else if (Instant.class.equals(javaClass)) {
+            return Instant.parse(value);
+        } else if (Date.class.isAssignableFrom(javaClass)) {
+            Instant instant = Instant.parse(value);
+            // keep sub-millisecond precision of timestamps
+            return instant.getNano() % 1_000_000 == 0 ? new Date(instant.toEpochMilli()) : Timestamp.from(instant);
+        }
+        return datatype.parse(value);
+    }
+
+    protected String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected String decode(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    @Nullable
+    protected Datatype<?> getDatatype(MetaPropertyPath propertyPath) {
+        Range range = propertyPath.getRange();
+        if (range.isDatatype()) {
+            return range.asDatatype();
+        } else if (range.isEnum()) {
+            return range.asEnumeration();
+        }
+        return null;
+    }
+}
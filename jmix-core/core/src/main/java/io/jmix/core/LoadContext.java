@@ -300,6 +300,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
         private Condition condition;
         private Sort sort;
         private boolean distinct;
+        private String after;
 
         protected Query() {
         }
@@ -419,6 +420,27 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             return this;
         }
 
+        /**
+         * @return keyset pagination token of the row to continue loading after
+         */
+        @Nullable
+        public String getAfter() {
+            return after;
+        }
+
+        /**
+         * Sets a token created by {@link KeysetTokens} for the last row of the previous page. The query returns
+         * rows following that row in the order of the query sort with the primary key appended,
+         * {@code firstResult} is counted from that row.
+         *
+         * @param after keyset pagination token or null to load from the first row
+         * @return this query instance for chaining
+         */
+        public Query setAfter(@Nullable String after) {
+            this.after = after;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          *
@@ -482,6 +504,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             query.cacheable = this.cacheable;
             query.condition = this.condition == null ? null : this.condition.copy();
             query.sort = this.sort;
+            query.after = this.after;
         }
 
         @Override
@@ -493,6 +516,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
 
             if (firstResult != query.firstResult) return false;
             if (maxResults != query.maxResults) return false;
+            if (!Objects.equals(after, query.after)) return false;
             if (!parameters.equals(query.parameters)) return false;
             return queryString.equals(query.queryString);
         }
@@ -503,6 +527,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             result = 31 * result + queryString.hashCode();
             result = 31 * result + firstResult;
             result = 31 * result + maxResults;
+            result = 31 * result + Objects.hashCode(after);
             return result;
         }
 
@@ -514,6 +539,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
                     ", sort=" + sort +
                     ", firstResult=" + firstResult +
                     ", maxResults=" + maxResults +
+                    (after != null ? ", after=" + after : "") +
                     ", distinct=" + distinct +
                     "}";
             return StringHelper.removeExtraSpaces(stringResult.replace('\n', ' '));
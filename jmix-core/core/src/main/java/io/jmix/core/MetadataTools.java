@@ -1255,7 +1255,7 @@ public class MetadataTools {
             visitor.visit(entity, property);
             if (property.getRange().isClass()) {
                 if (persistentAttributesLoadChecker.isLoaded(entity, property.getName())) {
-                    Object value = EntityValues.getValue(entity, property.getName());
+                    Object value = EntityValues.getValue(entity, property);
                     if (value != null) {
                         if (value instanceof Collection) {
                             for (Object item : ((Collection<?>) value)) {
@@ -1296,7 +1296,7 @@ public class MetadataTools {
 
             visitor.visit(entity, metaProperty);
 
-            Object value = EntityValues.getValue(entity, property.getName());
+            Object value = EntityValues.getValue(entity, metaProperty);
 
             if (value != null && propertyFetchPlan != null) {
                 if (value instanceof Collection) {
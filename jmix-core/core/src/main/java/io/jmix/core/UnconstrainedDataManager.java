@@ -134,6 +134,18 @@ public interface UnconstrainedDataManager {
      */
     <E> void remove(Id<E> entityId);
 
+    /**
+     * Updates or deletes entities selected by a condition with set-based statements, without loading them.
+     * <p>
+     * Entity lifecycle listeners and {@link io.jmix.core.event.EntityChangedEvent} are not invoked for changed
+     * instances, a single {@link io.jmix.core.event.EntityBulkChangedEvent} is sent instead.
+     *
+     * @param context defines the operation
+     * @return number of updated or deleted instances of the context entity
+     * @throws UnsupportedOperationException if the data store of the entity does not support bulk operations
+     */
+    long executeBulk(BulkOperationContext context);
+
     /**
      * Loads list of key-value pairs.
      *
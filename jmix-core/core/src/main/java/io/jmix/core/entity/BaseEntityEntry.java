@@ -24,6 +24,7 @@ import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.utils.MethodsCache;
 import io.jmix.core.metamodel.model.utils.RelatedPropertiesCache;
 
@@ -109,6 +110,49 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAttributeValue(@NonNull MetaProperty property) {
+        int index = getAttributeIndex(property);
+        if (index >= 0) {
+            return (T) ((EntityEntryIndexedAttributes) this).getAttributeValue(index);
+        }
+        return getAttributeValue(property.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setAttributeValue(@NonNull MetaProperty property, Object value, boolean checkEquals) {
+        int index = getAttributeIndex(property);
+        if (index >= 0) {
+            EntityEntryIndexedAttributes indexedAttributes = (EntityEntryIndexedAttributes) this;
+            if (checkEquals && EntityValues.propertyValueEquals(indexedAttributes.getAttributeValue(index), value)) {
+                return;
+            }
+            if (!indexedAttributes.setAttributeValue(index, value)) {
+                MethodsCache.getOrCreate(getSource().getClass()).getSetter(property.getName()).accept(getSource(), value);
+            }
+        } else {
+            setAttributeValue(property.getName(), value, checkEquals);
+        }
+    }
+
+    /**
+     * Returns the index of the attribute if its value can be accessed by index in this entry, otherwise -1.
+     */
+    protected int getAttributeIndex(MetaProperty property) {
+        if (entityValuesProviders != null || !(this instanceof EntityEntryIndexedAttributes)) {
+            return -1;
+        }
+        int index = property.getIndex();
+        // indexes of a class are kept in the entries of its subclasses, but a subclass can lose access by index
+        if (index >= 0 && property.getDomain().getJavaClass().isInstance(source)
+                && EntityAttributeIndexes.isIndexed(source.getClass(), index, property.getName())) {
+            return index;
+        }
+        return -1;
+    }
+
     @Override
     public boolean isNew() {
         return (state & NEW) == NEW;
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.entity;
+
+import io.jmix.core.EntityEntry;
+import io.jmix.core.annotation.Internal;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Resolves indexes of attributes of enhanced entity classes.
+ *
+ * @see EntityEntryIndexedAttributes
+ */
+@Internal
+public final class EntityAttributeIndexes {
+
+    private static final String[] NO_ATTRIBUTES = new String[0];
+
+    private static final ClassValue<String[]> attributeNames = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            return findAttributeNames(type);
+        }
+    };
+
+    private EntityAttributeIndexes() {
+    }
+
+    /**
+     * @param entityClass   enhanced entity class
+     * @param attributeName attribute name
+     * @return index of the attribute in the entity entries of the class and its subclasses,
+     * or -1 if the attribute can be accessed by name only
+     */
+    public static int getIndex(Class<?> entityClass, String attributeName) {
+        String[] names = attributeNames.get(entityClass);
+        for (int i = 0; i < names.length; i++) {
+            if (attributeName.equals(names[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks that the attribute can be accessed by the given index in the entity entries of the class. A subclass
+     * keeps the indexes of its superclasses, but may have no access by index to an inherited attribute, e.g. if it
+     * declares an accessor making the getter ambiguous.
+     *
+     * @param entityClass   enhanced entity class
+     * @param index         attribute index resolved for the class or one of its superclasses
+     * @param attributeName attribute name
+     * @return true if the entries of the class provide access to the attribute by the index
+     */
+    public static boolean isIndexed(Class<?> entityClass, int index, String attributeName) {
+        String[] names = attributeNames.get(entityClass);
+        return index >= 0 && index < names.length && attributeName.equals(names[index]);
+    }
+
+    private static String[] findAttributeNames(Class<?> entityClass) {
+        // instances of a class without its own entry use the entry of the nearest enhanced superclass
+        for (Class<?> current = entityClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Class<?> nestedClass : current.getDeclaredClasses()) {
+                if (!EntityEntry.class.isAssignableFrom(nestedClass)) {
+                    continue;
+                }
+                if (!EntityEntryIndexedAttributes.class.isAssignableFrom(nestedClass)) {
+                    return NO_ATTRIBUTES;
+                }
+                try {
+                    Method method = nestedClass.getMethod(EntityEntryIndexedAttributes.ATTRIBUTE_NAMES_METHOD_NAME);
+                    if (!Modifier.isStatic(method.getModifiers())) {
+                        return NO_ATTRIBUTES;
+                    }
+                    return (String[]) method.invoke(null);
+                } catch (NoSuchMethodException e) {
+                    return NO_ATTRIBUTES;
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot get attribute names of " + entityClass.getName(), e);
+                }
+            }
+        }
+        return NO_ATTRIBUTES;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.entity;
+
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaProperty;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Interface to be implemented by entity entries which provide access to attribute values by index.
+ * <p>
+ * Entries generated by the enhancing process define a public static method {@link #ATTRIBUTE_NAMES_METHOD_NAME}
+ * returning the names of attributes in the order of their indexes. Attributes declared in a superclass keep
+ * their indexes in subclasses. An element is null if the attribute can be accessed by name only.
+ *
+ * @see MetaProperty#getIndex()
+ */
+@Internal
+@NullMarked
+public interface EntityEntryIndexedAttributes {
+
+    String ATTRIBUTE_NAMES_METHOD_NAME = "_jmixAttributeNames";
+
+    /**
+     * @param index attribute index
+     * @return attribute value
+     * @throws IllegalArgumentException if there is no attribute with the given index
+     */
+    @Nullable
+    Object getAttributeValue(int index);
+
+    /**
+     * Invokes the setter of the attribute with the given index.
+     *
+     * @param index attribute index
+     * @param value attribute value
+     * @return false if the attribute has no setter for the value type and must be set by name
+     */
+    boolean setAttributeValue(int index, @Nullable Object value);
+}
@@ -18,6 +18,7 @@ package io.jmix.core.entity;
 
 import io.jmix.core.Entity;
 import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.PropertyPath;
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -100,6 +101,40 @@ public class EntityValues {
         return getEntityEntry(entity).getAttributeValue(name);
     }
 
+    /**
+     * Get an attribute value. Uses {@link MetaProperty#getIndex()} to access the attribute
+     * without lookup by name if possible.
+     *
+     * @param property attribute of the entity's meta class
+     * @return attribute value
+     */
+    public static <T> T getValue(Object entity, MetaProperty property) {
+        return getEntityEntry(entity).getAttributeValue(property);
+    }
+
+    /**
+     * Set an attribute value if it differs from the current one. Uses {@link MetaProperty#getIndex()} to access
+     * the attribute without lookup by name if possible.
+     *
+     * @param property attribute of the entity's meta class
+     * @param value    attribute value
+     */
+    public static void setValue(Object entity, MetaProperty property, @Nullable Object value) {
+        getEntityEntry(entity).setAttributeValue(property, value, true);
+    }
+
+    /**
+     * Set an attribute value. Uses {@link MetaProperty#getIndex()} to access the attribute
+     * without lookup by name if possible.
+     *
+     * @param property    attribute of the entity's meta class
+     * @param value       attribute value
+     * @param checkEquals check that the new value differs from the current one before invoking the setter
+     */
+    public static void setValue(Object entity, MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        getEntityEntry(entity).setAttributeValue(property, value, checkEquals);
+    }
+
     /**
      * Get an attribute value. Locates the attribute by the given path in object graph starting from this instance.
      * <br>
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.event;
+
+import io.jmix.core.Id;
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaClass;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A Spring application event that is sent once after a set of entities is updated or deleted by
+ * {@link io.jmix.core.UnconstrainedDataManager#executeBulk(io.jmix.core.BulkOperationContext)}.
+ * Such operations do not send {@link EntityChangedEvent} for each changed instance.
+ * <p>
+ * As with {@link EntityChangedEvent}, the handler annotated with {@code @EventListener} works inside the transaction
+ * which changed the entities, and the one annotated with {@code @TransactionalEventListener} - after commit.
+ * The event does not contain old values of the changed attributes.
+ *
+ * @param <E> entity type
+ */
+public class EntityBulkChangedEvent<E> extends ApplicationEvent implements ResolvableTypeProvider {
+
+    private List<Id<E>> entityIds;
+    private EntityChangedEvent.Type type;
+    private Collection<String> attributes;
+    private MetaClass originalMetaClass;
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public EntityBulkChangedEvent(Object source, List<Id<E>> entityIds, EntityChangedEvent.Type type,
+                                  Collection<String> attributes, MetaClass originalMetaClass) {
+        super(source);
+        this.entityIds = entityIds;
+        this.type = type;
+        this.attributes = attributes;
+        this.originalMetaClass = originalMetaClass;
+    }
+
+    /**
+     * Returns ids of the changed entities.
+     */
+    public List<Id<E>> getEntityIds() {
+        return entityIds;
+    }
+
+    /**
+     * Returns the event type: {@code UPDATED} or {@code DELETED}. Soft deletion is reported as {@code DELETED}.
+     */
+    public EntityChangedEvent.Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns names of the attributes set by the update operation. Empty for the {@code DELETED} event.
+     */
+    public Collection<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(),
+                ResolvableType.forClass(originalMetaClass.getJavaClass()));
+    }
+
+    @Override
+    public String toString() {
+        return "EntityBulkChangedEvent{" +
+                "entityIds.size=" + entityIds.size() +
+                ", type=" + type +
+                ", attributes=" + attributes +
+                '}';
+    }
+}
@@ -30,6 +30,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +58,9 @@ public class CrossDataStoreReferenceLoader {
     @Autowired
     private EntityStates entityStates;
 
+    @Autowired
+    private CrossDataStoreReferenceLoadingExecutor loadingExecutor;
+
     private MetaClass metaClass;
 
     private FetchPlan fetchPlan;
@@ -132,14 +136,35 @@ public class CrossDataStoreReferenceLoader {
                 entityCrossDataStorePropertyList.add(new EntityCrossDataStoreProperty(affectedEntity, crossDataStoreProperty));
             }
         }
-        if (entityCrossDataStorePropertyList.size() == 1) {
-            loadOne(entityCrossDataStorePropertyList.get(0));
+
+        List<CrossDataStoreBatch> batches = new ArrayList<>();
+        entityCrossDataStorePropertyList.stream()
+                .collect(Collectors.groupingBy(EntityCrossDataStoreProperty::getCrossProp, LinkedHashMap::new,
+                        Collectors.mapping(eap -> eap.entity, Collectors.toList())))
+                .forEach((crossProp, propEntities) -> {
+                    if (crossProp.needsFakeInstance()) {
+                        setFakeInstances(crossProp, propEntities);
+                    } else {
+                        addBatches(batches, crossProp, propEntities);
+                    }
+                });
+        if (batches.isEmpty())
+            return;
+
+        // Batches of different properties are independent, so they can be loaded concurrently unless they must
+        // join the transaction of the calling thread. Loaded entities are set to the owners in the calling thread.
+        List<Map<Object, Object>> results;
+        if (joinTransaction) {
+            results = batches.stream()
+                    .map(batch -> loadBatch(batch.crossProp(), batch.entities()))
+                    .toList();
         } else {
-            entityCrossDataStorePropertyList.stream()
-                    .collect(Collectors.groupingBy(EntityCrossDataStoreProperty::getCrossProp))
-                    .forEach((ap, eapList) ->
-                            loadMany(ap, eapList.stream().map(eap -> eap.entity).collect(Collectors.toList()))
-                    );
+            results = loadingExecutor.invokeAll(batches.stream()
+                    .<Callable<Map<Object, Object>>>map(batch -> () -> loadBatch(batch.crossProp(), batch.entities()))
+                    .toList());
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            setLoadedEntities(batches.get(i).crossProp(), batches.get(i).entities(), results.get(i));
         }
     }
 
@@ -182,35 +207,26 @@ public class CrossDataStoreReferenceLoader {
         return resultSet;
     }
 
-    private void loadOne(EntityCrossDataStoreProperty entityCrossDataStoreProperty) {
-        Object entity = entityCrossDataStoreProperty.entity;
-        CrossDataStoreProperty aProp = entityCrossDataStoreProperty.crossProp;
-        Object id = EntityValues.getValue(entity, aProp.relatedPropertyName);
-
-        if (aProp.needsFakeInstance()) {
-            Object fakeInstance = metadata.create(aProp.property.getRange().asClass(), id);
-            entityStates.makePatch(fakeInstance);
-            EntityValues.setValue(entity, aProp.property.getName(), fakeInstance);
+    private void setFakeInstances(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
+        MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
+        for (Object entity : entities) {
+            Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
+            if (id != null) {
+                Object fakeInstance = metadata.create(cdsrMetaClass, id);
+                entityStates.makePatch(fakeInstance);
 
-        } else {
-            LoadContext<?> loadContext = new LoadContext<>(aProp.property.getRange().asClass())
-                    .setId(id);
-            assert aProp.fetchPlanProperty != null;
-            if (aProp.fetchPlanProperty.getFetchPlan() != null)
-                loadContext.setFetchPlan(aProp.fetchPlanProperty.getFetchPlan());
-            loadContext.setJoinTransaction(joinTransaction);
-            Object relatedEntity = dataManager.load(loadContext);
-            EntityValues.setValue(entity, aProp.property.getName(), relatedEntity);
+                EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+            }
         }
-
     }
 
-    private void loadMany(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
+    private void addBatches(List<CrossDataStoreBatch> batches, CrossDataStoreProperty crossDataStoreProperty,
+                            List<Object> entities) {
         int offset = 0, limit = properties.getCrossDataStoreReferenceLoadingBatchSize();
         while (true) {
             int end = offset + limit;
             List<Object> batch = entities.subList(offset, Math.min(end, entities.size()));
-            loadBatch(crossDataStoreProperty, batch);
+            batches.add(new CrossDataStoreBatch(crossDataStoreProperty, batch));
             if (end >= entities.size())
                 break;
             else
@@ -218,7 +234,12 @@ public class CrossDataStoreReferenceLoader {
         }
     }
 
-    private void loadBatch(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
+    /**
+     * Loads entities referenced by the given owners.
+     *
+     * @return loaded entities by id
+     */
+    private Map<Object, Object> loadBatch(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
         List<Object> idList = entities.stream()
                 .map(e -> EntityValues.getValue(e, crossDataStoreProperty.relatedPropertyName))
                 .filter(Objects::nonNull)
@@ -226,79 +247,80 @@ public class CrossDataStoreReferenceLoader {
                 .collect(Collectors.toList());
 
         if (idList.isEmpty())
-            return;
+            return Collections.emptyMap();
 
         MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
-
-        if (crossDataStoreProperty.needsFakeInstance()) {
-            for (Object entity : entities) {
-                Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                if (id != null) {
-                    Object fakeInstance = metadata.create(cdsrMetaClass, id);
-                    entityStates.makePatch(fakeInstance);
-
-                    EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+        LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
+
+        if (metadataTools.isJpa(crossDataStoreProperty.property)) {
+            // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
+            // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
+            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
+            if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
+                String queryString = String.format(
+                        "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
+                loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
+            } else {
+                // composite key entity
+                StringBuilder sb = new StringBuilder("select e from ");
+                sb.append(cdsrMetaClass).append(" e where ");
+
+                MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
+                for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
+                    MetaProperty property = it.next();
+                    sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
+                    sb.append(" in :list_").append(property.getName());
+                    if (it.hasNext())
+                        sb.append(" and ");
                 }
-            }
-        } else {
-            LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
-
-            if (metadataTools.isJpa(crossDataStoreProperty.property)) {
-                // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
-                // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
-                MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
-                if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
-                    String queryString = String.format(
-                            "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
-                    loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
-                } else {
-                    // composite key entity
-                    StringBuilder sb = new StringBuilder("select e from ");
-                    sb.append(cdsrMetaClass).append(" e where ");
-
-                    MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
-                    for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
-                        MetaProperty property = it.next();
-                        sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
-                        sb.append(" in :list_").append(property.getName());
-                        if (it.hasNext())
-                            sb.append(" and ");
-                    }
-                    LoadContext.Query query = new LoadContext.Query(sb.toString());
-                    for (MetaProperty property : idMetaClass.getProperties()) {
-                        List<Object> propList = idList.stream()
-                                .map(o -> EntityValues.getValue(o, property.getName()))
-                                .collect(Collectors.toList());
-                        query.setParameter("list_" + property.getName(), propList);
-                    }
-                    loadContext.setQuery(query);
+                LoadContext.Query query = new LoadContext.Query(sb.toString());
+                for (MetaProperty property : idMetaClass.getProperties()) {
+                    List<Object> propList = idList.stream()
+                            .map(o -> EntityValues.getValue(o, property.getName()))
+                            .collect(Collectors.toList());
+                    query.setParameter("list_" + property.getName(), propList);
                 }
-            } else {
-                // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
-                loadContext.setIds(idList);
+                loadContext.setQuery(query);
             }
+        } else if (idList.size() == 1) {
+            // a single missing reference is left empty as when loading by id
+            loadContext.setId(idList.get(0));
+        } else {
+            // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
+            loadContext.setIds(idList);
+        }
+
+        assert crossDataStoreProperty.fetchPlanProperty != null;
+        loadContext.setFetchPlan(crossDataStoreProperty.fetchPlanProperty.getFetchPlan());
+        loadContext.setJoinTransaction(joinTransaction);
 
-            assert crossDataStoreProperty.fetchPlanProperty != null;
-            loadContext.setFetchPlan(crossDataStoreProperty.fetchPlanProperty.getFetchPlan());
-            loadContext.setJoinTransaction(joinTransaction);
-
-            List<?> loadedEntities = dataManager.loadList(loadContext);
-
-            for (Object entity : entities) {
-                Object relatedPropertyValue = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                loadedEntities.stream()
-                        .filter(e -> {
-                            Object id = EntityValues.getId(e);
-                            assert id != null;
-                            return id.equals(relatedPropertyValue);
-                        })
-                        .findAny()
-                        .ifPresent(e -> EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), e)
-                        );
+        List<?> loadedEntities = dataManager.loadList(loadContext);
+
+        Map<Object, Object> loadedEntitiesById = new HashMap<>(loadedEntities.size() * 2);
+        for (Object loadedEntity : loadedEntities) {
+            Object id = EntityValues.getId(loadedEntity);
+            assert id != null;
+            loadedEntitiesById.put(id, loadedEntity);
+        }
+        return loadedEntitiesById;
+    }
+
+    private void setLoadedEntities(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities,
+                                   Map<Object, Object> loadedEntitiesById) {
+        for (Object entity : entities) {
+            Object relatedPropertyValue = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
+            if (relatedPropertyValue != null) {
+                Object loadedEntity = loadedEntitiesById.get(relatedPropertyValue);
+                if (loadedEntity != null) {
+                    EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), loadedEntity);
+                }
             }
         }
     }
 
+    private record CrossDataStoreBatch(CrossDataStoreProperty crossProp, List<Object> entities) {
+    }
+
     private static class EntityCrossDataStoreProperty {
 
         private final Object entity;
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import io.jmix.core.CoreProperties;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * INTERNAL.
+ * Executes loading of cross-data-store references on a pool bounded by
+ * {@link CoreProperties#getCrossDataStoreReferenceLoadingParallelism()}.
+ */
+@Component("core_CrossDataStoreReferenceLoadingExecutor")
+public class CrossDataStoreReferenceLoadingExecutor implements DisposableBean {
+
+    @Nullable
+    private final ExecutorService executor;
+
+    // marks the pool threads to load nested references in place instead of waiting for the same pool
+    private final ThreadLocal<Boolean> poolThread = ThreadLocal.withInitial(() -> false);
+
+    public CrossDataStoreReferenceLoadingExecutor(CoreProperties properties) {
+        int parallelism = properties.getCrossDataStoreReferenceLoadingParallelism();
+        if (parallelism > 1) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jmix-cds-loading-");
+            threadFactory.setDaemon(true);
+            executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * Executes the given tasks and returns their results in the order of tasks. Tasks are executed concurrently
+     * with the security context of the calling thread if parallel loading is enabled, otherwise in the calling thread.
+     * Tasks submitted from a pool thread, e.g. when loaded entities have their own cross-data-store references,
+     * are executed in that thread.
+     * The first failed task cancels the rest and its exception is rethrown.
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        if (executor == null || tasks.size() <= 1 || poolThread.get()) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return results;
+        }
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(new DelegatingSecurityContextCallable<>(() -> {
+                    poolThread.set(true);
+                    return task.call();
+                })));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading cross-data-store references", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -249,7 +249,7 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
                 for (int i = 0; i < rec.nameProperties.length; i++) {
                     MetaProperty property = rec.nameProperties[i];
 
-                    Object value = EntityValues.getValue(instance, property.getName());
+                    Object value = EntityValues.getValue(instance, property);
                     values[i] = metadataTools.format(value, property);
                 }
 
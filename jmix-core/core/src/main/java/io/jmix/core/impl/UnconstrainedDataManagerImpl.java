@@ -179,6 +179,21 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         remove(getReference(entityId));
     }
 
+    @Override
+    public long executeBulk(BulkOperationContext context) {
+        try (MetadataGenerationScope ignored = metadataGenerationManager.enterCurrent()) {
+            MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+            DataStore store = dataStoreFactory.get(getStoreName(metaClass));
+            if (!(store instanceof BulkOperationDataStore bulkOperationDataStore)) {
+                throw new UnsupportedOperationException("Data store " + store.getName()
+                        + " does not support bulk operations");
+            }
+
+            context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+            return bulkOperationDataStore.executeBulk(context);
+        }
+    }
+
     @Override
     public EntitySet save(SaveContext context) {
         try (MetadataGenerationScope ignored = metadataGenerationManager.enterCurrent()) {
@@ -41,18 +41,26 @@ public abstract class AbstractClasspathScanner {
     protected abstract Environment getEnvironment();
 
     protected Stream<MetadataReader> scanPackage(String packageName) {
+        return readClasses(findClassResources(packageName));
+    }
+
+    /**
+     * Returns readable class resources of the given package and its subpackages located in all classpath roots.
+     */
+    protected Resource[] findClassResources(String packageName) {
         String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
                 resolveBasePackage(packageName) + '/' + DEFAULT_CLASS_RESOURCE_PATTERN;
-        ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver(getResourceLoader());
-        Resource[] resources;
         try {
-            resources = resourcePatternResolver.getResources(packageSearchPath);
+            return Arrays.stream(getResourcePatternResolver().getResources(packageSearchPath))
+                    .filter(Resource::isReadable)
+                    .toArray(Resource[]::new);
         } catch (IOException e) {
             throw new RuntimeException("Unable to scan package " + packageName, e);
         }
+    }
 
-        return Arrays.stream(resources)
-                .filter(Resource::isReadable)
+    protected Stream<MetadataReader> readClasses(Resource[] classResources) {
+        return Arrays.stream(classResources)
                 .map(resource -> {
                     try {
                         return getMetadataReaderFactory().getMetadataReader(resource);
@@ -62,6 +70,10 @@ public abstract class AbstractClasspathScanner {
                 });
     }
 
+    protected ResourcePatternResolver getResourcePatternResolver() {
+        return new PathMatchingResourcePatternResolver(getResourceLoader());
+    }
+
     protected String resolveBasePackage(String basePackage) {
         Environment environment = getEnvironment();
         return ClassUtils.convertClassNameToResourcePath(environment.resolveRequiredPlaceholders(basePackage));
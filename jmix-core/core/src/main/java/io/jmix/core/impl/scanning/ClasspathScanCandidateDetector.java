@@ -18,12 +18,29 @@ package io.jmix.core.impl.scanning;
 
 import io.jmix.core.annotation.Internal;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 
 import org.jspecify.annotations.NullMarked;
 
+import java.io.IOException;
+
 @Internal
 @NullMarked
 public interface ClasspathScanCandidateDetector {
 
     boolean isCandidate(MetadataReader metadataReader);
+
+    /**
+     * Checks whether the class described by the build-time index entry is a candidate. Used instead of
+     * {@link #isCandidate(MetadataReader)} when the classpath scan index is available.
+     * <p>
+     * The default implementation reads the class, so detectors should override it if the index facts are enough.
+     */
+    default boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        try {
+            return isCandidate(metadataReaderFactory.getMetadataReader(indexEntry.className()));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read class " + indexEntry.className(), e);
+        }
+    }
 }
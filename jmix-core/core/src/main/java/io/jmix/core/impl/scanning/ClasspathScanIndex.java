@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl.scanning;
+
+import io.jmix.core.annotation.Internal;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Index of classes of a Jmix module base package generated at build time by the Jmix Gradle plugin.
+ * The index is stored in the {@value #INDEX_FILE_NAME} resource of the base package and contains one line per class:
+ * <pre>
+ * className	flags	superClassName	interfaceNames	annotationTypes
+ * </pre>
+ * Columns are separated by tabs, names in columns by commas. Flags are {@code I} for interfaces, {@code A} for
+ * abstract classes, {@code N} for annotations and {@code F} for final classes.
+ * <p>
+ * The format must be kept in sync with {@code io.jmix.gradle.ClasspathScanIndexUtils}.
+ */
+@Internal
+@NullMarked
+public class ClasspathScanIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClasspathScanIndex.class);
+
+    public static final String INDEX_FILE_NAME = "jmix-classpath-index";
+    public static final String INDEX_HEADER = "#jmix-classpath-index:1";
+
+    protected final Map<String, ClasspathScanIndexEntry> entries;
+    protected final long lastModified;
+
+    protected ClasspathScanIndex(Map<String, ClasspathScanIndexEntry> entries, long lastModified) {
+        this.entries = entries;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Loads the index merged from the given resources. Several resources exist if classes of the same package
+     * are located in different classpath roots, e.g. in main and test output directories.
+     *
+     * @return index or null if no resources are passed or some of them cannot be read
+     */
+    @Nullable
+    public static ClasspathScanIndex load(Resource[] resources) {
+        if (resources.length == 0) {
+            return null;
+        }
+        Map<String, ClasspathScanIndexEntry> entries = new HashMap<>();
+        long lastModified = 0;
+        for (Resource resource : resources) {
+            try {
+                if (!readEntries(resource, entries)) {
+                    log.debug("Classpath scan index {} has unsupported format", resource);
+                    return null;
+                }
+                if (resource.isFile()) {
+                    lastModified = Math.max(lastModified, resource.lastModified());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to read classpath scan index {}: {}", resource, e.toString());
+                return null;
+            }
+        }
+        return new ClasspathScanIndex(entries, lastModified);
+    }
+
+    protected static boolean readEntries(Resource resource, Map<String, ClasspathScanIndexEntry> entries)
+            throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            if (!INDEX_HEADER.equals(reader.readLine())) {
+                return false;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    ClasspathScanIndexEntry entry = parseEntry(line);
+                    entries.put(entry.className(), entry);
+                }
+            }
+        }
+        return true;
+    }
+
+    protected static ClasspathScanIndexEntry parseEntry(String line) {
+        String[] columns = line.split("\t", -1);
+        if (columns.length != 5 || columns[0].isEmpty()) {
+            throw new IllegalStateException("Invalid classpath scan index line: " + line);
+        }
+        String flags = columns[1];
+        return new ClasspathScanIndexEntry(
+                columns[0],
+                columns[2].isEmpty() ? null : columns[2],
+                parseNames(columns[3]),
+                parseNames(columns[4]),
+                flags.indexOf('I') >= 0,
+                flags.indexOf('A') >= 0,
+                flags.indexOf('N') >= 0,
+                flags.indexOf('F') >= 0);
+    }
+
+    protected static Set<String> parseNames(String column) {
+        return column.isEmpty() ? Collections.emptySet() : Set.copyOf(Arrays.asList(column.split(",")));
+    }
+
+    public Collection<ClasspathScanIndexEntry> getEntries() {
+        return entries.values();
+    }
+
+    public boolean contains(String className) {
+        return entries.containsKey(className);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the latest modification time of index files located in the file system, or 0 if all of them
+     * are located in archives.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl.scanning;
+
+import io.jmix.core.annotation.Internal;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Class facts stored in the build-time classpath scan index, see {@link ClasspathScanIndex}.
+ *
+ * @param className      fully qualified class name
+ * @param superClassName superclass name, null for interfaces
+ * @param interfaceNames names of directly implemented interfaces
+ * @param annotationTypes names of runtime-visible annotations declared on the class
+ */
+@Internal
+@NullMarked
+public record ClasspathScanIndexEntry(String className,
+                                      @Nullable String superClassName,
+                                      Set<String> interfaceNames,
+                                      Set<String> annotationTypes,
+                                      boolean isInterface,
+                                      boolean isAbstract,
+                                      boolean isAnnotation,
+                                      boolean isFinal) {
+
+    public boolean hasAnnotation(String annotationName) {
+        return annotationTypes.contains(annotationName);
+    }
+
+    public boolean hasInterface(String interfaceName) {
+        return interfaceNames.contains(interfaceName);
+    }
+}
@@ -19,6 +19,7 @@ package io.jmix.core.impl.scanning;
 import io.jmix.core.annotation.Internal;
 import io.jmix.core.metamodel.annotation.JmixEntity;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 @Internal
@@ -29,4 +30,9 @@ public class EntityDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(JmixEntity.class.getName());
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return indexEntry.hasAnnotation(JmixEntity.class.getName());
+    }
 }
@@ -19,6 +19,7 @@ package io.jmix.core.impl.scanning;
 import io.jmix.core.annotation.Internal;
 import io.jmix.core.metamodel.datatype.EnumClass;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -31,4 +32,9 @@ public class EnumDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return Arrays.asList(metadataReader.getClassMetadata().getInterfaceNames()).contains(EnumClass.class.getName());
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return indexEntry.hasInterface(EnumClass.class.getName());
+    }
 }
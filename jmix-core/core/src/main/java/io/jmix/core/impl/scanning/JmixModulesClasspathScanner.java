@@ -16,19 +16,26 @@
 
 package io.jmix.core.impl.scanning;
 
+import io.jmix.core.CoreProperties;
 import io.jmix.core.JmixModuleDescriptor;
 import io.jmix.core.JmixModules;
 import io.jmix.core.annotation.Internal;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -38,6 +45,9 @@ import java.util.stream.Collectors;
  * <p>
  * Detected class names are stored and available through the {@link #getClassNames(Class)} method. This method
  * accepts a {@code ClasspathScanCandidateDetector} type and returns names of classes selected by this detector.
+ * <p>
+ * If a module base package contains the {@link ClasspathScanIndex} generated at build time and the index is up-to-date,
+ * candidates are detected by the index entries without reading the classes.
  */
 @Internal
 @Component("core_JmixModulesClasspathScanner")
@@ -57,6 +67,9 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
     @Autowired
     protected List<ClasspathScanCandidateDetector> candidateDetectors;
 
+    @Autowired
+    protected CoreProperties coreProperties;
+
     @Autowired
     public void setMetadataReaderFactory(AnnotationScanMetadataReaderFactory metadataReaderFactory) {
         this.metadataReaderFactory = metadataReaderFactory;
@@ -74,21 +87,106 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
         log.trace("Scanning packages {} using detectors {}", basePackages, candidateDetectors);
         long startTime = System.currentTimeMillis();
 
-        basePackages.stream()
-                .flatMap(this::scanPackage)
-                .forEach(metadataReader -> {
+        for (String basePackage : basePackages) {
+            Resource[] classResources = findClassResources(basePackage);
+            ClasspathScanIndex index = coreProperties.isClasspathScanIndexEnabled()
+                    ? loadIndex(basePackage, classResources)
+                    : null;
+            if (index != null) {
+                for (ClasspathScanIndexEntry indexEntry : index.getEntries()) {
+                    for (ClasspathScanCandidateDetector detector : candidateDetectors) {
+                        if (detector.isCandidate(indexEntry, metadataReaderFactory)) {
+                            addDetectedClass(detector, indexEntry.className());
+                        }
+                    }
+                }
+            } else {
+                readClasses(classResources).forEach(metadataReader -> {
                     for (ClasspathScanCandidateDetector detector : candidateDetectors) {
                         if (detector.isCandidate(metadataReader)) {
-                            Set<String> classNames = detectedClasses.computeIfAbsent(
-                                    detector.getClass(), aClass -> new HashSet<>());
-                            classNames.add(metadataReader.getClassMetadata().getClassName());
+                            addDetectedClass(detector, metadataReader);
                         }
                     }
                 });
+            }
+        }
 
         log.info("Classpath scan completed in {} ms", System.currentTimeMillis() - startTime);
     }
 
+    /**
+     * Loads the classpath scan index of the package and checks that it corresponds to the class resources:
+     * all classes must be indexed and no class file may be modified after the index.
+     *
+     * @return index or null if it is absent or stale
+     */
+    @Nullable
+    protected ClasspathScanIndex loadIndex(String basePackage, Resource[] classResources) {
+        String packagePath = resolveBasePackage(basePackage);
+        ClasspathScanIndex index;
+        try {
+            index = ClasspathScanIndex.load(getResourcePatternResolver().getResources(
+                    ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packagePath + '/' + ClasspathScanIndex.INDEX_FILE_NAME));
+        } catch (IOException e) {
+            log.debug("Unable to find classpath scan index of package {}: {}", basePackage, e.toString());
+            return null;
+        }
+        if (index == null) {
+            log.debug("Classpath scan index of package {} is not found", basePackage);
+            return null;
+        }
+
+        Set<String> classNames = new HashSet<>();
+        for (Resource resource : classResources) {
+            String className = getClassName(resource, packagePath);
+            if (className == null || !index.contains(className) || isModifiedAfter(resource, index.getLastModified())) {
+                log.debug("Classpath scan index of package {} is stale, {} is not indexed or modified",
+                        basePackage, resource);
+                return null;
+            }
+            classNames.add(className);
+        }
+        if (classNames.size() != index.size()) {
+            log.debug("Classpath scan index of package {} is stale, it contains absent classes", basePackage);
+            return null;
+        }
+        log.debug("Using classpath scan index of package {}", basePackage);
+        return index;
+    }
+
+    @Nullable
+    protected String getClassName(Resource resource, String packagePath) {
+        String path;
+        try {
+            path = resource.getURL().getPath();
+        } catch (IOException e) {
+            return null;
+        }
+        int start = path.lastIndexOf('/' + packagePath + '/');
+        if (start < 0 || !path.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+            return null;
+        }
+        return ClassUtils.convertResourcePathToClassName(
+                path.substring(start + 1, path.length() - ClassUtils.CLASS_FILE_SUFFIX.length()));
+    }
+
+    protected boolean isModifiedAfter(Resource resource, long time) {
+        try {
+            // classes located in archives are considered to be built together with the index
+            return resource.isFile() && resource.lastModified() > time;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    protected void addDetectedClass(ClasspathScanCandidateDetector detector, MetadataReader metadataReader) {
+        addDetectedClass(detector, metadataReader.getClassMetadata().getClassName());
+    }
+
+    protected void addDetectedClass(ClasspathScanCandidateDetector detector, String className) {
+        detectedClasses.computeIfAbsent(detector.getClass(), aClass -> new HashSet<>()).add(className);
+    }
+
     /**
      * Returns the set of class names selected by a detector of the given type.
      */
@@ -18,6 +18,7 @@ package io.jmix.core.impl.scanning;
 
 import io.jmix.core.annotation.Internal;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.Converter;
@@ -30,4 +31,9 @@ public class JpaConverterDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(Converter.class.getName());
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return indexEntry.hasAnnotation(Converter.class.getName());
+    }
 }
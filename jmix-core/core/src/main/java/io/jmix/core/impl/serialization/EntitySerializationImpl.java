@@ -22,6 +22,7 @@ import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.ExportImportEntityContext;
 import io.jmix.core.annotation.Secret;
@@ -40,6 +41,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
@@ -116,6 +120,38 @@ public class EntitySerializationImpl implements EntitySerialization {
         return createGsonForSerialization(fetchPlan, options).toJson(entities);
     }
 
+    @Override
+    public void toJson(Iterable<?> entities,
+                       Writer writer,
+                       @Nullable FetchPlan fetchPlan,
+                       EntitySerializationOption... options) {
+        context.remove();
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        // same output settings as Gson created by createGsonForSerialization()
+        jsonWriter.setHtmlSafe(true);
+        jsonWriter.setSerializeNulls(ArrayUtils.contains(options, EntitySerializationOption.SERIALIZE_NULLS));
+        if (ArrayUtils.contains(options, EntitySerializationOption.PRETTY_PRINT)) {
+            jsonWriter.setIndent("  ");
+        }
+        // each element is serialized by the same Gson as in toJson(Collection), so only the JSON tree
+        // of one element is kept in memory
+        Gson gson = createGsonForSerialization(fetchPlan, options);
+        try {
+            jsonWriter.beginArray();
+            for (Object object : entities) {
+                if (object == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    gson.toJson(object, object.getClass(), jsonWriter);
+                }
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public String objectToJson(Object object, EntitySerializationOption... options) {
         context.remove();
@@ -197,6 +233,10 @@ public class EntitySerializationImpl implements EntitySerialization {
         protected boolean ignoreEntityName;
         protected FetchPlan fetchPlan;
 
+        // properties to write by entity classes and fetch plan instances, computed once per serialization
+        protected Map<MetaClass, Map<FetchPlan, List<PropertyPlan>>> propertyPlans = new HashMap<>();
+        protected Map<MetaClass, ExportImportEntityContext> exportImportContexts = new HashMap<>();
+
         public EntitySerializer(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
             this.fetchPlan = fetchPlan;
             for (EntitySerializationOption option : options) {
@@ -275,17 +315,27 @@ public class EntitySerializationImpl implements EntitySerialization {
         }
 
         protected boolean propertyWritingAllowed(MetaProperty metaProperty, Entity entity, ExportImportEntityContext exportImportContext) {
+            MetaClass metaClass = metadata.getClass(entity);
+            if (!propertyWritingAllowed(metaProperty, metaClass, exportImportContext)) {
+                return false;
+            }
+            return !isLoadedStateRequired(metaProperty, metaClass) || entityStates.isLoaded(entity, metaProperty.getName());
+        }
+
+        /**
+         * Checks the conditions of writing the property that don't depend on the entity instance.
+         */
+        protected boolean propertyWritingAllowed(MetaProperty metaProperty, MetaClass metaClass, ExportImportEntityContext exportImportContext) {
             if (!serializeSecretFields && metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class)) {
                 return false;
             }
-            MetaClass metaClass = metadata.getClass(entity);
 
             String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
             String propertyName = metaProperty.getName();
 
             if (!Objects.equals(primaryKeyName, propertyName)) {
                 if (metadataTools.isJpa(metaProperty)) {
-                    return entityStates.isLoaded(entity, propertyName) && exportImportContext.canExported(propertyName);
+                    return exportImportContext.canExported(propertyName);
                 } else {
                     return (!metaProperty.isReadOnly() || !doNotSerializeReadOnlyProperties) && exportImportContext.canExported(propertyName);
                 }
@@ -294,37 +344,65 @@ public class EntitySerializationImpl implements EntitySerialization {
             return true;
         }
 
-        protected void writeFields(Entity entity, JsonObject jsonObject, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
-            MetaClass metaClass = metadata.getClass(entity);
+        protected boolean isLoadedStateRequired(MetaProperty metaProperty, MetaClass metaClass) {
+            return metadataTools.isJpa(metaProperty)
+                    && !Objects.equals(metadataTools.getPrimaryKeyName(metaClass), metaProperty.getName());
+        }
+
+        /**
+         * Returns the properties of the entity class to write with the given fetch plan. The list is computed once
+         * for each entity class and fetch plan instance within the serialization.
+         */
+        protected List<PropertyPlan> getPropertyPlans(MetaClass metaClass, @Nullable FetchPlan fetchPlan) {
+            return propertyPlans
+                    .computeIfAbsent(metaClass, key -> new IdentityHashMap<>())
+                    .computeIfAbsent(fetchPlan, key -> createPropertyPlans(metaClass, fetchPlan));
+        }
+
+        protected List<PropertyPlan> createPropertyPlans(MetaClass metaClass, @Nullable FetchPlan fetchPlan) {
             Collection<MetaProperty> properties = new ArrayList<>(metaClass.getProperties());
 
             Set<MetaProperty> additionalProperties = metadataTools.getAdditionalProperties(metaClass);
             properties.addAll(additionalProperties);
-            ExportImportEntityContext exportImportEntityContext = new ExportImportEntityContext(metaClass);
-            if (doNotSerializeDeniedProperties) {
-                accessManager.applyRegisteredConstraints(exportImportEntityContext);
-            }
+            ExportImportEntityContext exportImportEntityContext = exportImportContexts.computeIfAbsent(metaClass, key -> {
+                ExportImportEntityContext exportImportContext = new ExportImportEntityContext(metaClass);
+                if (doNotSerializeDeniedProperties) {
+                    accessManager.applyRegisteredConstraints(exportImportContext);
+                }
+                return exportImportContext;
+            });
 
+            List<PropertyPlan> plans = new ArrayList<>(properties.size());
             for (MetaProperty metaProperty : properties) {
-                if (!propertyWritingAllowed(metaProperty, entity, exportImportEntityContext)) {
+                if (!propertyWritingAllowed(metaProperty, metaClass, exportImportEntityContext)) {
                     continue;
                 }
+                boolean additional = additionalProperties.contains(metaProperty);
                 FetchPlanProperty fetchPlanProperty = null;
-                if (!additionalProperties.contains(metaProperty)) {
-                    if (fetchPlan != null) {
-                        fetchPlanProperty = fetchPlan.getProperty(metaProperty.getName());
-                        if (fetchPlanProperty == null) continue;
-                    }
+                if (!additional && fetchPlan != null) {
+                    fetchPlanProperty = fetchPlan.getProperty(metaProperty.getName());
+                    if (fetchPlanProperty == null) continue;
+                }
+                plans.add(new PropertyPlan(metaProperty, additional, isLoadedStateRequired(metaProperty, metaClass),
+                        fetchPlanProperty, extensionResolver.findExtension(metaProperty)));
+            }
+            return plans;
+        }
 
-                    if (!entityStates.isNew(entity)
-                            && !entityStates.isLoaded(entity, metaProperty.getName())) {
-                        continue;
-                    }
+        protected void writeFields(Entity entity, JsonObject jsonObject, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
+            MetaClass metaClass = metadata.getClass(entity);
+
+            for (PropertyPlan propertyPlan : getPropertyPlans(metaClass, fetchPlan)) {
+                MetaProperty metaProperty = propertyPlan.metaProperty();
+                FetchPlanProperty fetchPlanProperty = propertyPlan.fetchPlanProperty();
+                if ((propertyPlan.loadedStateRequired() || !propertyPlan.additional() && !entityStates.isNew(entity))
+                        && !entityStates.isLoaded(entity, metaProperty.getName())) {
+                    continue;
                 }
 
                 Object fieldValue;
                 try {
-                    fieldValue = EntityValues.getValue(entity, metaProperty.getName());
+                    fieldValue = EntityValues.getValue(entity, metaProperty);
                 } catch (EntityValueAccessException e) {
                     continue;
                 }
@@ -336,7 +414,7 @@ public class EntitySerializationImpl implements EntitySerialization {
                     continue;
                 }
 
-                EntityAttributeSerializationExtension extension = extensionResolver.findExtension(metaProperty);
+                EntityAttributeSerializationExtension extension = propertyPlan.extension();
                 if (extension != null) {
                     jsonObject.add(metaProperty.getName(), extension.toJson(metaProperty, fieldValue));
                     continue;
@@ -408,6 +486,22 @@ public class EntitySerializationImpl implements EntitySerialization {
         }
     }
 
+    /**
+     * Property of an entity class to write with a fetch plan.
+     *
+     * @param metaProperty        property
+     * @param additional          whether it is an additional property not checked for the loaded state
+     * @param loadedStateRequired whether the property is written only if it is loaded, even for new entities
+     * @param fetchPlanProperty   property of the fetch plan, or null if the fetch plan is not set
+     * @param extension           serialization extension of the property
+     */
+    protected record PropertyPlan(MetaProperty metaProperty,
+                                  boolean additional,
+                                  boolean loadedStateRequired,
+                                  @Nullable FetchPlanProperty fetchPlanProperty,
+                                  @Nullable EntityAttributeSerializationExtension extension) {
+    }
+
     protected class EntityDeserializer implements JsonDeserializer<Entity> {
 
         protected MetaClass metaClass;
@@ -116,4 +116,14 @@ public interface MetaProperty extends MetadataObject {
     Class<?> getDeclaringClass();
 
     Store getStore();
+
+    /**
+     * @return index of the attribute in the enhanced entity class, which allows accessing the attribute value
+     * without lookup by name. The index is stable for the class and its subclasses.
+     * Returns -1 if the attribute can be accessed by name only.
+     * @see io.jmix.core.entity.EntityValues#getValue(Object, MetaProperty)
+     */
+    default int getIndex() {
+        return -1;
+    }
 }
\ No newline at end of file
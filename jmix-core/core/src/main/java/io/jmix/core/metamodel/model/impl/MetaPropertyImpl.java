@@ -17,6 +17,7 @@
 package io.jmix.core.metamodel.model.impl;
 
 import com.google.common.collect.ForwardingMap;
+import io.jmix.core.entity.EntityAttributeIndexes;
 import io.jmix.core.metamodel.model.*;
 
 import java.lang.reflect.AnnotatedElement;
@@ -26,6 +27,8 @@ import java.util.function.Consumer;
 
 public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty, CloneableMetaProperty {
 
+    private static final int UNRESOLVED_INDEX = -2;
+
     private Store store;
     private MetaClass domain;
     private final Session session;
@@ -41,6 +44,8 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
     private Class<?> javaType;
     private Class<?> declaringClass;
 
+    private volatile int index = UNRESOLVED_INDEX;
+
     public MetaPropertyImpl(MetaClass domain, String name) {
         this(domain, name, true);
     }
@@ -95,6 +100,7 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
 
     public void setDomain(MetaClass domain) {
         this.domain = domain;
+        this.index = UNRESOLVED_INDEX;
     }
 
     @Override
@@ -152,6 +158,17 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
         return store;
     }
 
+    @Override
+    public int getIndex() {
+        int result = index;
+        if (result == UNRESOLVED_INDEX) {
+            Class<?> javaClass = domain.getJavaClass();
+            result = javaClass != null ? EntityAttributeIndexes.getIndex(javaClass, name) : -1;
+            index = result;
+        }
+        return result;
+    }
+
     public void setStore(Store store) {
         this.store = store;
         // Store is domain-specific: a property declared in a @MappedSuperclass has an UNDEFINED store
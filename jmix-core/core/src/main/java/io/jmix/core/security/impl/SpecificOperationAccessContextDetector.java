@@ -18,7 +18,9 @@ package io.jmix.core.security.impl;
 
 import io.jmix.core.accesscontext.SpecificOperationAccessContext;
 import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector;
+import io.jmix.core.impl.scanning.ClasspathScanIndexEntry;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 @Component("core_SpecificOperationAccessContextDetector")
@@ -28,4 +30,9 @@ public class SpecificOperationAccessContextDetector implements ClasspathScanCand
     public boolean isCandidate(MetadataReader metadataReader) {
         return SpecificOperationAccessContext.class.getName().equals(metadataReader.getClassMetadata().getSuperClassName());
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return SpecificOperationAccessContext.class.getName().equals(indexEntry.superClassName());
+    }
 }
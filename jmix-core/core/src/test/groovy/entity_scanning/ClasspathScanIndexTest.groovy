@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_scanning
+
+import io.jmix.core.impl.scanning.ClasspathScanIndex
+import io.jmix.core.impl.scanning.EntityDetector
+import io.jmix.core.impl.scanning.EnumDetector
+import io.jmix.core.metamodel.annotation.JmixEntity
+import io.jmix.core.metamodel.datatype.EnumClass
+import org.springframework.core.io.ByteArrayResource
+import org.springframework.core.io.Resource
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class ClasspathScanIndexTest extends Specification {
+
+    private static Resource indexResource(String... lines) {
+        def content = ([ClasspathScanIndex.INDEX_HEADER] + lines.toList()).join('\n')
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8))
+    }
+
+    def "index entries are parsed"() {
+        when:
+        def index = ClasspathScanIndex.load([indexResource(
+                "com.company.Foo\tA\tcom.company.Base\tjava.io.Serializable,${EnumClass.name}\t${JmixEntity.name}",
+                "com.company.Bar\tIA\t\t\t"
+        )] as Resource[])
+        def foo = index.entries.find { it.className() == 'com.company.Foo' }
+        def bar = index.entries.find { it.className() == 'com.company.Bar' }
+
+        then:
+        index.size() == 2
+        index.contains('com.company.Foo')
+
+        foo.superClassName() == 'com.company.Base'
+        foo.isAbstract()
+        !foo.isInterface()
+        foo.hasInterface(EnumClass.name)
+        foo.hasAnnotation(JmixEntity.name)
+
+        bar.superClassName() == null
+        bar.isInterface()
+        bar.interfaceNames().isEmpty()
+        bar.annotationTypes().isEmpty()
+    }
+
+    def "indexes of the same package from different classpath roots are merged"() {
+        when:
+        def index = ClasspathScanIndex.load([
+                indexResource("com.company.Foo\t\tjava.lang.Object\t\t"),
+                indexResource("com.company.Bar\t\tjava.lang.Object\t\t")
+        ] as Resource[])
+
+        then:
+        index.size() == 2
+        index.contains('com.company.Foo')
+        index.contains('com.company.Bar')
+    }
+
+    def "absent or unsupported index is not loaded"() {
+        expect:
+        ClasspathScanIndex.load([] as Resource[]) == null
+        ClasspathScanIndex.load([new ByteArrayResource("#unknown\n".getBytes(StandardCharsets.UTF_8))] as Resource[]) == null
+        ClasspathScanIndex.load([indexResource("com.company.Foo")] as Resource[]) == null
+    }
+
+    def "detectors select candidates by index entries"() {
+        given:
+        def index = ClasspathScanIndex.load([indexResource(
+                "com.company.Foo\t\tjava.lang.Object\t\t${JmixEntity.name}",
+                "com.company.Status\tF\tjava.lang.Enum\t${EnumClass.name}\t"
+        )] as Resource[])
+        def metadataReaderFactory = new SimpleMetadataReaderFactory()
+
+        expect:
+        index.entries.findAll { new EntityDetector().isCandidate(it, metadataReaderFactory) }*.className() == ['com.company.Foo']
+        index.entries.findAll { new EnumDetector().isCandidate(it, metadataReaderFactory) }*.className() == ['com.company.Status']
+    }
+}
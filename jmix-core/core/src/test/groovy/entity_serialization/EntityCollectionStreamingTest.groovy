@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_serialization
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.EntitySerialization
+import io.jmix.core.EntitySerializationOption
+import io.jmix.core.FetchPlan
+import io.jmix.core.FetchPlans
+import io.jmix.core.Metadata
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import test_support.addon1.TestAddon1Configuration
+import test_support.app.TestAppConfiguration
+import test_support.app.entity.sales.Customer
+import test_support.app.entity.sales.Order
+import test_support.app.entity.sales.OrderLine
+import test_support.app.entity.sales.Product
+
+@ContextConfiguration(classes = [CoreConfiguration, TestAddon1Configuration, TestAppConfiguration])
+class EntityCollectionStreamingTest extends Specification {
+
+    @Autowired
+    EntitySerialization entitySerialization
+
+    @Autowired
+    FetchPlans fetchPlans
+
+    @Autowired
+    Metadata metadata
+
+    def "streamed graph of entities is the same as serialized to string"() {
+
+        def orders = createOrders()
+        def options = optionList as EntitySerializationOption[]
+
+        when:
+
+        def writer = new StringWriter()
+        entitySerialization.toJson(orders, writer, null, options)
+
+        then:
+        writer.toString() == entitySerialization.toJson(orders, null, options)
+
+        where:
+        optionList << [
+                [],
+                [EntitySerializationOption.COMPACT_REPEATED_ENTITIES],
+                [EntitySerializationOption.COMPACT_REPEATED_ENTITIES, EntitySerializationOption.SERIALIZE_NULLS],
+                [EntitySerializationOption.SERIALIZE_INSTANCE_NAME, EntitySerializationOption.PRETTY_PRINT]
+        ]
+    }
+
+    def "streamed graph of entities is the same as serialized to string with fetch plan"() {
+
+        def orders = createOrders()
+        FetchPlan fetchPlan = fetchPlans.builder(Order)
+                .add('number')
+                .add('customer', FetchPlan.INSTANCE_NAME)
+                .add('orderLines', { it.add('quantity').add('order', FetchPlan.LOCAL) })
+                .build()
+
+        when:
+
+        def writer = new StringWriter()
+        entitySerialization.toJson(orders, writer, fetchPlan, EntitySerializationOption.COMPACT_REPEATED_ENTITIES)
+
+        then:
+        writer.toString() == entitySerialization.toJson(orders, fetchPlan, EntitySerializationOption.COMPACT_REPEATED_ENTITIES)
+        !writer.toString().contains('"amount"')
+    }
+
+    private List<Order> createOrders() {
+        Customer customer = metadata.create(Customer)
+        customer.name = 'customer'
+
+        Product product = metadata.create(Product)
+        product.name = 'product'
+        product.quantity = 10
+
+        (1..2).collect { i ->
+            Order order = metadata.create(Order)
+            order.number = "order-$i"
+            order.amount = new BigDecimal("1$i.5")
+            // the same customer in both orders
+            order.customer = customer
+            order.orderLines = (1..2).collect { j ->
+                OrderLine line = metadata.create(OrderLine)
+                line.product = product
+                line.quantity = j
+                // back reference makes a cycle
+                line.order = order
+                line
+            }
+            order
+        }
+    }
+}
@@ -69,4 +69,44 @@ class EntitySerializationTest extends Specification {
         jsonFields['regularField'] == 'regular'
         jsonFields['secretField'] == 'secret'
     }
+
+    def "streamed collection is the same as serialized to string"() {
+
+        def entities = (1..3).collect {
+            TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+            entity.regularField = it == 2 ? null : "regular <$it>"
+            entity.secretField = 'secret'
+            entity
+        }
+
+        when:
+
+        def writer = new StringWriter()
+        entitySerialization.toJson(entities, writer, null, options as EntitySerializationOption[])
+
+        then:
+        writer.toString() == entitySerialization.toJson(entities, null, options as EntitySerializationOption[])
+
+        where:
+        options << [
+                [],
+                [EntitySerializationOption.SERIALIZE_NULLS, EntitySerializationOption.SERIALIZE_INSTANCE_NAME],
+                [EntitySerializationOption.SERIALIZE_SECRET_FIELDS, EntitySerializationOption.IGNORE_ENTITY_NAME],
+                [EntitySerializationOption.PRETTY_PRINT]
+        ]
+    }
+
+    def "streamed collection is written to output stream in UTF-8"() {
+
+        TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+        entity.regularField = 'значение'
+
+        when:
+
+        def outputStream = new ByteArrayOutputStream()
+        entitySerialization.toJson([entity], outputStream, null)
+
+        then:
+        outputStream.toString('UTF-8') == entitySerialization.toJson([entity])
+    }
 }
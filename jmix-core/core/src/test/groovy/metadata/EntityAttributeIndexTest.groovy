@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package metadata
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.Metadata
+import io.jmix.core.entity.EntityEntryIndexedAttributes
+import io.jmix.core.entity.EntityValues
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import test_support.addon1.TestAddon1Configuration
+import test_support.app.TestAppConfiguration
+import test_support.app.entity.sales.Customer
+import test_support.app.entity.sales.Order
+import test_support.app.entity.sales.OrderLine
+import test_support.app.entity.sales.OrderLineA
+import test_support.app.entity.sales.OrderLineC
+import test_support.app.entity.sales.Status
+
+@ContextConfiguration(classes = [CoreConfiguration, TestAddon1Configuration, TestAppConfiguration])
+class EntityAttributeIndexTest extends Specification {
+
+    @Autowired
+    Metadata metadata
+
+    def "attribute values are accessed by index"() {
+        def customer = metadata.create(Customer)
+        def nameProperty = metadata.getClass(Customer).getProperty("name")
+        def statusProperty = metadata.getClass(Customer).getProperty("status")
+
+        expect:
+        customer.__getEntityEntry() instanceof EntityEntryIndexedAttributes
+        nameProperty.getIndex() >= 0
+        statusProperty.getIndex() >= 0
+
+        when:
+        EntityValues.setValue(customer, nameProperty, "John")
+        EntityValues.setValue(customer, statusProperty, Status.OK)
+
+        then:
+        customer.name == "John"
+        customer.status == Status.OK
+        EntityValues.<String> getValue(customer, nameProperty) == "John"
+        EntityValues.getValue(customer, statusProperty) == EntityValues.getValue(customer, "status")
+    }
+
+    def "subclass keeps indexes of superclass attributes"() {
+        def line = metadata.create(OrderLineA)
+        line.quantity = 10
+        line.param1 = "p1"
+
+        def quantityProperty = metadata.getClass(OrderLine).getProperty("quantity")
+        def subclassQuantityProperty = metadata.getClass(OrderLineA).getProperty("quantity")
+        def param1Property = metadata.getClass(OrderLineA).getProperty("param1")
+
+        expect:
+        quantityProperty.getIndex() == subclassQuantityProperty.getIndex()
+        param1Property.getIndex() > quantityProperty.getIndex()
+        EntityValues.getValue(line, quantityProperty) == 10
+        EntityValues.getValue(line, param1Property) == "p1"
+    }
+
+    def "property of a subclass is accessed by name for a superclass instance"() {
+        def line = metadata.create(OrderLine)
+        def param1Property = metadata.getClass(OrderLineA).getProperty("param1")
+
+        when:
+        EntityValues.getValue(line, param1Property)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "inherited attribute with ambiguous getter in a subclass is accessed by name"() {
+        def order = metadata.create(Order)
+        def line = metadata.create(OrderLineC)
+        line.order = order
+
+        def orderProperty = metadata.getClass(OrderLine).getProperty("order")
+        def subclassOrderProperty = metadata.getClass(OrderLineC).getProperty("order")
+
+        expect:
+        orderProperty.getIndex() >= 0
+        EntityValues.getValue(line, orderProperty) == order
+        EntityValues.getValue(line, subclassOrderProperty) == order
+
+        when:
+        EntityValues.setValue(line, orderProperty, null)
+
+        then:
+        line.order == null
+    }
+}
@@ -31,6 +31,7 @@ public class TestCoreProperties extends CoreProperties {
                               String dbDir,
                               List<String> availableLocales,
                               int crossDataStoreReferenceLoadingBatchSize,
+                              int crossDataStoreReferenceLoadingParallelism,
                               boolean idGenerationForEntitiesInAdditionalDataStoresEnabled,
                               int dom4jMaxPoolSize,
                               int dom4jMaxBorrowWaitMillis,
@@ -48,15 +49,18 @@ public class TestCoreProperties extends CoreProperties {
                               boolean instanceNameFallbackEnabled,
                               boolean dataObservationEnabled,
                               boolean useUserInfoForObservation,
-                              boolean applicationInfoFileEnabled) {
+                              boolean applicationInfoFileEnabled,
+                              boolean classpathScanIndexEnabled) {
         super(webHostName, webPort, confDir, workDir, tempDir, dbDir, availableLocales,
-                crossDataStoreReferenceLoadingBatchSize, idGenerationForEntitiesInAdditionalDataStoresEnabled,
+                crossDataStoreReferenceLoadingBatchSize, crossDataStoreReferenceLoadingParallelism,
+                idGenerationForEntitiesInAdditionalDataStoresEnabled,
                 dom4jMaxPoolSize, dom4jMaxBorrowWaitMillis, anonymousAuthenticationTokenKey, defaultFileStorage,
                 entitySerializationTokenRequired, entitySerializationTokenEncryptionKey,
                 unsafeRuntimeFeaturesEnabled, hotDeployEnabled, legacyFetchPlanSerializationAttributeName,
                 triggerFilesEnabled, triggerFilesProcessInterval,
                 roundDecimalValueByFormat, skipNullOrEmptyConditionsByDefault, instanceNameFallbackEnabled,
-                dataObservationEnabled, useUserInfoForObservation, applicationInfoFileEnabled);
+                dataObservationEnabled, useUserInfoForObservation, applicationInfoFileEnabled,
+                classpathScanIndexEnabled);
     }
 
     public static Builder builder() {
@@ -72,6 +76,7 @@ public class TestCoreProperties extends CoreProperties {
         String dbDir;
         List<String> availableLocales;
         int crossDataStoreReferenceLoadingBatchSize = 50;
+        int crossDataStoreReferenceLoadingParallelism = 1;
         boolean idGenerationForEntitiesInAdditionalDataStoresEnabled = true;
         int dom4jMaxPoolSize = 100;
         int dom4jMaxBorrowWaitMillis = 1000;
@@ -90,6 +95,7 @@ public class TestCoreProperties extends CoreProperties {
         boolean dataObservationEnabled = false;
         boolean useUserInfoForObservation = false;
         boolean applicationInfoFileEnabled = true;
+        boolean classpathScanIndexEnabled = true;
 
         public Builder setWebHostName(String webHostName) {
             this.webHostName = webHostName;
@@ -131,6 +137,11 @@ public class TestCoreProperties extends CoreProperties {
             return this;
         }
 
+        public Builder setCrossDataStoreReferenceLoadingParallelism(int crossDataStoreReferenceLoadingParallelism) {
+            this.crossDataStoreReferenceLoadingParallelism = crossDataStoreReferenceLoadingParallelism;
+            return this;
+        }
+
         public Builder setIdGenerationForEntitiesInAdditionalDataStoresEnabled(boolean idGenerationForEntitiesInAdditionalDataStoresEnabled) {
             this.idGenerationForEntitiesInAdditionalDataStoresEnabled = idGenerationForEntitiesInAdditionalDataStoresEnabled;
             return this;
@@ -216,6 +227,11 @@ public class TestCoreProperties extends CoreProperties {
             return this;
         }
 
+        public Builder setClasspathScanIndexEnabled(boolean classpathScanIndexEnabled) {
+            this.classpathScanIndexEnabled = classpathScanIndexEnabled;
+            return this;
+        }
+
         public TestCoreProperties build() {
             return new TestCoreProperties(
                     this.webHostName,
@@ -226,6 +242,7 @@ public class TestCoreProperties extends CoreProperties {
                     this.dbDir,
                     this.availableLocales,
                     this.crossDataStoreReferenceLoadingBatchSize,
+                    this.crossDataStoreReferenceLoadingParallelism,
                     this.idGenerationForEntitiesInAdditionalDataStoresEnabled,
                     this.dom4jMaxPoolSize,
                     this.dom4jMaxBorrowWaitMillis,
@@ -243,7 +260,8 @@ public class TestCoreProperties extends CoreProperties {
                     this.instanceNameFallbackEnabled,
                     this.dataObservationEnabled,
                     this.useUserInfoForObservation,
-                    this.applicationInfoFileEnabled);
+                    this.applicationInfoFileEnabled,
+                    this.classpathScanIndexEnabled);
         }
     }
 }
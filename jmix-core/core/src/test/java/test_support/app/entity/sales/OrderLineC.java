@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.app.entity.sales;
+
+import io.jmix.core.metamodel.annotation.JmixEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+@Entity(name = "core_OrderLineC")
+@JmixEntity
+public class OrderLineC extends OrderLine {
+
+    @Column(name = "PARAM3")
+    protected String param3;
+
+    public String getParam3() {
+        return param3;
+    }
+
+    public void setParam3(String param3) {
+        this.param3 = param3;
+    }
+
+    /**
+     * Makes the getter of the inherited {@code order} attribute ambiguous for index-based access.
+     */
+    public boolean isOrder() {
+        return order != null;
+    }
+}
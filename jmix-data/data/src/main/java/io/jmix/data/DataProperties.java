@@ -42,19 +42,26 @@ public class DataProperties {
      */
     boolean includeNullClauseInNotConditions;
 
+    /**
+     * Maximum number of parsed JPQL query trees kept in the cache. Set to 0 to parse queries every time.
+     */
+    int queryTreeCacheSize;
+
     public DataProperties(
             @DefaultValue("true") boolean useReadOnlyTransactionForLoad,
             @DefaultValue("100") int numberIdCacheSize,
             boolean useEntityDataStoreForIdSequence,
             @Nullable String uniqueConstraintViolationPattern,
             @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments,
-            @DefaultValue("false") boolean includeNullClauseInNotConditions) {
+            @DefaultValue("false") boolean includeNullClauseInNotConditions,
+            @DefaultValue("1000") int queryTreeCacheSize) {
         this.useReadOnlyTransactionForLoad = useReadOnlyTransactionForLoad;
         this.numberIdCacheSize = numberIdCacheSize;
         this.useEntityDataStoreForIdSequence = useEntityDataStoreForIdSequence;
         this.uniqueConstraintViolationPattern = uniqueConstraintViolationPattern;
         this.useUserLocaleForRelativeDateTimeMoments = useUserLocaleForRelativeDateTimeMoments;
         this.includeNullClauseInNotConditions = includeNullClauseInNotConditions;
+        this.queryTreeCacheSize = queryTreeCacheSize;
     }
 
     public boolean isUseReadOnlyTransactionForLoad() {
@@ -87,4 +94,11 @@ public class DataProperties {
     public boolean isIncludeNullClauseInNotConditions() {
         return includeNullClauseInNotConditions;
     }
+
+    /**
+     * @see #queryTreeCacheSize
+     */
+    public int getQueryTreeCacheSize() {
+        return queryTreeCacheSize;
+    }
 }
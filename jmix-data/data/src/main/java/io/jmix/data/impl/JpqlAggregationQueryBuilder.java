@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl;
+
+import io.jmix.core.AggregationQueryBuilder;
+import io.jmix.core.ExtendedEntities;
+import io.jmix.core.LoadContext;
+import io.jmix.core.ValueLoadContext;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.data.QueryParser;
+import io.jmix.data.QueryTransformer;
+import io.jmix.data.QueryTransformerFactory;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Builds aggregating value queries for entities of JPA data stores. The entity query condition is applied
+ * to the query text, and the selected entity is replaced by the aggregate expressions.
+ */
+@Component("data_JpqlAggregationQueryBuilder")
+public class JpqlAggregationQueryBuilder implements AggregationQueryBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(JpqlAggregationQueryBuilder.class);
+
+    protected static final Pattern SELECT_ENTITY_PATTERN = Pattern.compile("^\\s*select\\s+(\\w+)\\s+from\\s",
+            Pattern.CASE_INSENSITIVE);
+
+    protected final ExtendedEntities extendedEntities;
+    protected final QueryTransformerFactory queryTransformerFactory;
+    protected final ObjectProvider<JpqlQueryBuilder> jpqlQueryBuilderProvider;
+
+    public JpqlAggregationQueryBuilder(ExtendedEntities extendedEntities,
+                                       QueryTransformerFactory queryTransformerFactory,
+                                       ObjectProvider<JpqlQueryBuilder> jpqlQueryBuilderProvider) {
+        this.extendedEntities = extendedEntities;
+        this.queryTransformerFactory = queryTransformerFactory;
+        this.jpqlQueryBuilderProvider = jpqlQueryBuilderProvider;
+    }
+
+    @Nullable
+    @Override
+    public ValueLoadContext.Query build(MetaClass metaClass, LoadContext.Query query, List<String> aggregates) {
+        if (!metaClass.getStore().getDescriptor().isJpa() || query.getQueryString() == null || aggregates.isEmpty()) {
+            return null;
+        }
+
+        MetaClass effectiveMetaClass = extendedEntities.getEffectiveMetaClass(metaClass);
+
+        JpqlQueryBuilder<?> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setEntityName(effectiveMetaClass.getName())
+                .setQueryString(query.getQueryString())
+                .setCondition(query.getCondition())
+                .setQueryParameters(query.getParameters());
+
+        String entityQuery = queryBuilder.getResultQueryString();
+
+        QueryParser parser = queryTransformerFactory.parser(entityQuery);
+        if (parser.getSelectedExpressionsList().size() != 1 || !parser.isEntitySelect(parser.getEntityName())) {
+            log.debug("Cannot aggregate query which does not select a single entity: {}", entityQuery);
+            return null;
+        }
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(entityQuery);
+        // rows duplicated by joins would be aggregated several times without distinct
+        if (transformer.removeDistinct() && parser.isQueryWithJoins()) {
+            log.debug("Cannot aggregate distinct query with joins: {}", entityQuery);
+            return null;
+        }
+        transformer.removeOrderBy();
+
+        String transformedQuery = transformer.getResult();
+        Matcher matcher = SELECT_ENTITY_PATTERN.matcher(transformedQuery);
+        if (!matcher.find()) {
+            log.debug("Cannot replace selected entity in query: {}", transformedQuery);
+            return null;
+        }
+
+        String alias = matcher.group(1);
+        String selectClause = aggregates.stream()
+                .map(aggregate -> aggregate.replace(QueryTransformer.ALIAS_PLACEHOLDER, alias))
+                .collect(Collectors.joining(", "));
+
+        String aggregationQuery = "select " + selectClause + " from " + transformedQuery.substring(matcher.end());
+
+        return new ValueLoadContext.Query(aggregationQuery)
+                .setParameters(queryBuilder.getResultParameters());
+    }
+}
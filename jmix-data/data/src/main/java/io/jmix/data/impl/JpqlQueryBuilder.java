@@ -62,6 +62,7 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     protected Map<String, Object> queryParameters;
     protected Condition condition;
     protected Sort sort;
+    protected String after;
 
     protected String entityName;
     protected List<String> valueProperties;
@@ -105,6 +106,9 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     @Autowired
     protected CoreProperties coreProperties;
 
+    @Autowired
+    protected KeysetTokens keysetTokens;
+
     @Autowired(required = false)
     protected List<NonJpaPropertyConditionSupport> nonJpaPropertyConditionSupports = Collections.emptyList();
 
@@ -148,6 +152,11 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         return this;
     }
 
+    public JpqlQueryBuilder setAfter(@Nullable String after) {
+        this.after = after;
+        return this;
+    }
+
     public JpqlQueryBuilder setPreviousResults(UUID sessionId, int queryKey) {
         this.previousResults = true;
         this.sessionId = sessionId;
@@ -236,12 +245,53 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
             }
         }
         applyFiltering();
+        applyKeyset();
         applySorting();
         applyDistinct();
         applyCount();
         restrictByPreviousResults();
     }
 
+    /**
+     * Restricts the query to rows following the keyset token and sorts it by the key properties, so that
+     * the database can seek to the page by an index.
+     */
+    protected void applyKeyset() {
+        if (after == null || entityName == null || valueProperties != null) {
+            return;
+        }
+
+        MetaClass metaClass = metadata.getClass(entityName);
+        List<Sort.Order> orders = keysetTokens.getKeyOrders(metaClass, sort);
+        List<Object> values = keysetTokens.parseToken(metaClass, sort, after);
+
+        // (k1 > :k1) or (k1 = :k1 and k2 > :k2) or ... with the comparison reversed for descending orders
+        List<String> disjuncts = new ArrayList<>(orders.size());
+        StringBuilder equalities = new StringBuilder();
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Object value = values.get(i);
+            if (value == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Keyset pagination doesn't support null values of %s.%s", entityName, order.getProperty()));
+            }
+
+            String parameterName = "_keyset" + i;
+            resultParameters.put(parameterName, value);
+
+            String path = "{E}." + order.getProperty();
+            String operator = order.getDirection() == Sort.Direction.DESC ? " < :" : " > :";
+            disjuncts.add("(" + equalities + path + operator + parameterName + ")");
+            equalities.append(path).append(" = :").append(parameterName).append(" and ");
+        }
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(resultQuery);
+        transformer.addWhere("(" + String.join(" or ", disjuncts) + ")");
+        resultQuery = transformer.getResult();
+
+        sort = Sort.by(orders);
+    }
+
     protected void applySorting() {
         if (sort != null) {
             resultQuery = sortJpqlGenerator.processQuery(entityName, valueProperties, resultQuery, sort);
@@ -24,6 +24,7 @@ import io.jmix.data.impl.jpql.tree.PathNode;
 import io.jmix.data.impl.jpql.tree.SimpleConditionNode;
 import org.antlr.runtime.tree.TreeVisitor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -46,6 +47,9 @@ public class QueryParserAstBased implements QueryParser {
     protected QueryTree queryTree;
     protected QueryTreeAnalyzer queryAnalyzer;
 
+    @Autowired(required = false)
+    protected QueryTreeCache queryTreeCache;
+
     protected boolean originalEntityChecked;
     protected EntityNameAndPath originalEntityNameAndPath;
 
@@ -73,7 +77,9 @@ public class QueryParserAstBased implements QueryParser {
     protected QueryTree getTree() {
         if (queryTree == null) {
             try {
-                queryTree = new QueryTree(model, query);
+                queryTree = queryTreeCache != null
+                        ? queryTreeCache.getTree(model, query)
+                        : new QueryTree(model, query);
             } catch (JPA2RecognitionException e) {
                 throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]\n%s", StringUtils.strip(query), e.getMessage()));
             }
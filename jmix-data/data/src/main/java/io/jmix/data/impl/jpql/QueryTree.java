@@ -56,6 +56,25 @@ public class QueryTree {
         new TreeVisitor().visit(tree, idVarSelector);
     }
 
+    /**
+     * Creates a deep copy of the source tree. Modifications of the copy don't affect the source.
+     */
+    protected QueryTree(QueryTree source) {
+        this.model = source.model;
+        this.queryString = source.queryString;
+        this.tree = (CommonTree) BaseCustomNode.dupTree(source.tree);
+
+        this.idVarSelector = new IdVarSelector(model);
+        new TreeVisitor().visit(tree, idVarSelector);
+    }
+
+    /**
+     * @return deep copy of this query tree that can be modified independently
+     */
+    public QueryTree copy() {
+        return new QueryTree(this);
+    }
+
     public DomainModel getModel() {
         return model;
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jmix.data.DataProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of parsed JPQL query trees.
+ * <p>
+ * Cached trees are never modified: {@link #getTree(DomainModel, String)} returns a copy of the cached tree,
+ * so transformers can change it without parsing the query again. Trees are cached per {@link DomainModel}
+ * instance, so a new domain model doesn't use trees resolved against the previous one.
+ */
+@Component("data_QueryTreeCache")
+public class QueryTreeCache {
+
+    protected final Cache<CacheKey, QueryTree> cache;
+
+    public QueryTreeCache(DataProperties dataProperties) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(dataProperties.getQueryTreeCacheSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a query tree for the given query. The tree is parsed only if it is not cached yet.
+     *
+     * @param model domain model to resolve entities
+     * @param query JPQL query string
+     * @return a new tree instance that can be modified by the caller
+     * @throws JPA2RecognitionException if the query cannot be parsed
+     */
+    public QueryTree getTree(DomainModel model, String query) {
+        CacheKey key = new CacheKey(model, query);
+        QueryTree cachedTree = cache.getIfPresent(key);
+        if (cachedTree != null) {
+            return cachedTree.copy();
+        }
+
+        QueryTree queryTree = new QueryTree(model, query);
+        if (!queryTree.getInvalidIdVarNodes().isEmpty()) {
+            // let the caller report errors and don't keep invalid queries
+            return queryTree;
+        }
+        cache.put(key, queryTree);
+        return queryTree.copy();
+    }
+
+    /**
+     * Discards all cached trees.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getSize() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    protected record CacheKey(DomainModel model, String query) {
+    }
+}
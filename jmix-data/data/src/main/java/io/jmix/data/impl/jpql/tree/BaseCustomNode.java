@@ -52,10 +52,25 @@ public class BaseCustomNode extends CommonTree implements TreeToQueryCapable {
     }
 
     protected void dupChildren(CommonTree result) {
+        if (children == null) {
+            return;
+        }
         for (Object child : children) {
-            CommonTree t = (CommonTree) child;
-            Tree copy = t.dupNode();
-            result.addChild(copy);
+            result.addChild(dupTree((Tree) child));
+        }
+    }
+
+    /**
+     * Creates a deep copy of the given tree. Custom nodes copy their children in {@code dupNode()},
+     * standard nodes are copied here together with their children.
+     */
+    public static Tree dupTree(Tree tree) {
+        Tree copy = tree.dupNode();
+        if (!(tree instanceof BaseCustomNode)) {
+            for (int i = 0; i < tree.getChildCount(); i++) {
+                copy.addChild(dupTree(tree.getChild(i)));
+            }
         }
+        return copy;
     }
 }
\ No newline at end of file
@@ -23,6 +23,29 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 @ConfigurationProperties(prefix = "jmix.eclipselink")
 public class EclipselinkProperties {
     boolean queryCacheEnabled;
+    /**
+     * Whether the query cache maintains a local index of cached queries by related entity type. The index allows
+     * invalidating only affected queries on commit instead of iterating the whole cache. Enable it only if the query
+     * cache is local to the application instance: entries put to a shared cache by other cluster nodes are not
+     * indexed and would not be invalidated by type.
+     */
+    boolean queryCacheTypeIndexEnabled;
+    /**
+     * Number of rows read at once by the database cursor which fills a page of entities when in-memory
+     * row-level constraints have filtered out some of the loaded rows. Set 0 to re-run the query with growing
+     * batches instead.
+     */
+    int inMemoryFilteringCursorFetchSize;
+    /**
+     * Maximum number of fetch group descriptions calculated for combinations of a query and a fetch plan and kept
+     * in the cache. Set 0 to calculate fetch groups for every query.
+     */
+    int fetchGroupCacheSize;
+    /**
+     * Maximum number of entities from the same loaded list whose lazy reference is loaded by a single query when
+     * the reference is accessed on one of them. Set 0 or 1 to load lazy references of each entity separately.
+     */
+    int lazyLoadingBatchSize;
     /**
      * EXPERIMENTAL:
      * Disables lazy loading. Accessing an unfetched reference property will throw an {@link IllegalStateException}
@@ -32,8 +55,16 @@ public class EclipselinkProperties {
     boolean disableLazyLoading;
 
     public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled,
+                                 @DefaultValue("false") boolean queryCacheTypeIndexEnabled,
+                                 @DefaultValue("100") int inMemoryFilteringCursorFetchSize,
+                                 @DefaultValue("1000") int fetchGroupCacheSize,
+                                 @DefaultValue("100") int lazyLoadingBatchSize,
                                  @DefaultValue("false") boolean disableLazyLoading) {
         this.queryCacheEnabled = queryCacheEnabled;
+        this.queryCacheTypeIndexEnabled = queryCacheTypeIndexEnabled;
+        this.inMemoryFilteringCursorFetchSize = inMemoryFilteringCursorFetchSize;
+        this.fetchGroupCacheSize = fetchGroupCacheSize;
+        this.lazyLoadingBatchSize = lazyLoadingBatchSize;
         this.disableLazyLoading = disableLazyLoading;
     }
 
@@ -41,6 +72,34 @@ public class EclipselinkProperties {
         return queryCacheEnabled;
     }
 
+    /**
+     * @see #queryCacheTypeIndexEnabled
+     */
+    public boolean isQueryCacheTypeIndexEnabled() {
+        return queryCacheTypeIndexEnabled;
+    }
+
+    /**
+     * @see #inMemoryFilteringCursorFetchSize
+     */
+    public int getInMemoryFilteringCursorFetchSize() {
+        return inMemoryFilteringCursorFetchSize;
+    }
+
+    /**
+     * @see #fetchGroupCacheSize
+     */
+    public int getFetchGroupCacheSize() {
+        return fetchGroupCacheSize;
+    }
+
+    /**
+     * @see #lazyLoadingBatchSize
+     */
+    public int getLazyLoadingBatchSize() {
+        return lazyLoadingBatchSize;
+    }
+
     /**
      * @see #disableLazyLoading
      */
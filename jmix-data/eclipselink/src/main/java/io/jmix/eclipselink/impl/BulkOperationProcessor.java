@@ -0,0 +1,477 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl;
+
+import com.google.common.collect.Lists;
+import io.jmix.core.*;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
+import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.core.entity.annotation.OnDeleteInverse;
+import io.jmix.core.event.EntityBulkChangedEvent;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.data.AuditInfoProvider;
+import io.jmix.data.PersistenceHints;
+import io.jmix.data.QueryTransformerFactory;
+import io.jmix.data.accesscontext.ReadEntityQueryContext;
+import io.jmix.data.impl.JpqlQueryBuilder;
+import io.jmix.data.impl.converters.AuditConversionService;
+import io.jmix.data.persistence.DbmsSpecifics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Version;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Scope;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+/**
+ * INTERNAL.
+ * Executes {@link BulkOperationContext} in {@link JpaDataStore} with JPQL update and delete statements.
+ * <p>
+ * Affected instances are selected by an id query built from the context condition, so JPQL row-level constraints
+ * and soft deletion filtering apply to them. In-memory row-level constraints cannot be applied to the statements,
+ * so the operation is denied if the access constraints contain predicates for the entity. Delete policies are
+ * processed for the whole set of ids, in the same way as {@link io.jmix.data.impl.DeletePolicyProcessor} processes
+ * them for a single instance. Versions of the updated instances are incremented, so stale instances loaded before
+ * the operation cannot be saved over its changes.
+ */
+@Component("eclipselink_BulkOperationProcessor")
+@Scope("prototype")
+public class BulkOperationProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkOperationProcessor.class);
+
+    @Autowired
+    protected Metadata metadata;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    @Autowired
+    protected ExtendedEntities extendedEntities;
+
+    @Autowired
+    protected AccessManager accessManager;
+
+    @Autowired
+    protected QueryTransformerFactory queryTransformerFactory;
+
+    @Autowired
+    protected ObjectProvider<JpqlQueryBuilder> jpqlQueryBuilderProvider;
+
+    @Autowired
+    protected DbmsSpecifics dbmsSpecifics;
+
+    @Autowired
+    protected TimeSource timeSource;
+
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+
+    @Autowired
+    protected AuditConversionService auditConverter;
+
+    @Autowired
+    protected ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    protected ApplicationContext applicationContext;
+
+    protected EntityManager entityManager;
+    protected int batchSize;
+
+    // ids of deleted instances by entity, including cascaded ones, in the order of deletion
+    protected Map<MetaClass, List<Object>> deletedIds = new LinkedHashMap<>();
+
+    /**
+     * Executes the operation in the current transaction of the given entity manager.
+     *
+     * @return number of updated or deleted instances of the context entity
+     */
+    public long execute(EntityManager entityManager, BulkOperationContext context) {
+        this.entityManager = entityManager;
+
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            throw new UnsupportedOperationException("Bulk operations are not supported for entities with composite primary key: "
+                    + metaClass.getName());
+        }
+        Integer maxIdsBatchSize = dbmsSpecifics.getDbmsFeatures(metaClass.getStore().getName()).getMaxIdsBatchSize();
+        batchSize = maxIdsBatchSize == null ? Integer.MAX_VALUE : maxIdsBatchSize;
+
+        checkPermission(metaClass, context);
+
+        List<Object> ids = loadIds(metaClass, context);
+        log.debug("{} {} instances of {}", context.getType(), ids.size(), metaClass.getName());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        if (context.getType() == BulkOperationContext.Type.UPDATE) {
+            update(metaClass, ids, context.getValues());
+            publishEvent(metaClass, ids, EntityChangedEvent.Type.UPDATED, context.getValues().keySet());
+        } else {
+            delete(metaClass, ids);
+            for (Map.Entry<MetaClass, List<Object>> entry : deletedIds.entrySet()) {
+                publishEvent(entry.getKey(), entry.getValue(), EntityChangedEvent.Type.DELETED, Collections.emptyList());
+            }
+        }
+        return ids.size();
+    }
+
+    protected void checkPermission(MetaClass metaClass, BulkOperationContext context) {
+        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
+        accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+
+        if (context.getType() == BulkOperationContext.Type.UPDATE && !entityContext.isUpdatePermitted()) {
+            throw new AccessDeniedException("entity", metaClass.getName(), "update");
+        }
+        if (context.getType() == BulkOperationContext.Type.DELETE && !entityContext.isDeletePermitted()) {
+            throw new AccessDeniedException("entity", metaClass.getName(), "delete");
+        }
+
+        InMemoryCrudEntityContext inMemoryContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
+        accessManager.applyConstraints(inMemoryContext, context.getAccessConstraints());
+        boolean update = context.getType() == BulkOperationContext.Type.UPDATE;
+        if (inMemoryContext.readPredicate() != null
+                || (update ? inMemoryContext.updatePredicate() : inMemoryContext.deletePredicate()) != null) {
+            log.debug("Bulk operation is denied because of in-memory constraints: {}", inMemoryContext.explainConstraints());
+            throw new AccessDeniedException("entity", metaClass.getName(), update ? "update" : "delete");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<Object> loadIds(MetaClass metaClass, BulkOperationContext context) {
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+
+        JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setEntityName(metaClass.getName())
+                .setValueProperties(Collections.singletonList(primaryKeyName))
+                .setQueryString(String.format("select e.%s from %s e", primaryKeyName, metaClass.getName()))
+                .setCondition(context.getCondition())
+                .setQueryParameters(new HashMap<>());
+
+        JmixEclipseLinkQuery<?> query = queryBuilder.getQuery(entityManager);
+
+        ReadEntityQueryContext queryContext = new ReadEntityQueryContext(query, queryTransformerFactory, metadata);
+        accessManager.applyConstraints(queryContext, context.getAccessConstraints());
+
+        return (List<Object>) queryContext.getResultQuery().getResultList();
+    }
+
+    protected void update(MetaClass metaClass, List<Object> ids, Map<String, Object> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No values to update " + metaClass.getName());
+        }
+
+        Map<String, Object> actualValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            MetaProperty property = metaClass.findProperty(entry.getKey());
+            if (property == null || !metadataTools.isJpa(property)
+                    || property.getRange().getCardinality().isMany()
+                    || property.getName().equals(metadataTools.getPrimaryKeyName(metaClass))) {
+                throw new IllegalArgumentException(String.format("Property %s.%s cannot be updated by a bulk operation",
+                        metaClass.getName(), entry.getKey()));
+            }
+            actualValues.put(property.getName(), entry.getValue());
+        }
+
+        String lastModifiedDateProperty = metadataTools.findLastModifiedDateProperty(metaClass.getJavaClass());
+        if (lastModifiedDateProperty != null && !actualValues.containsKey(lastModifiedDateProperty)) {
+            actualValues.put(lastModifiedDateProperty, auditConverter.convert(timeSource.currentTimestamp(),
+                    metaClass.getProperty(lastModifiedDateProperty).getJavaType()));
+        }
+        String lastModifiedByProperty = findPropertyByAnnotation(metaClass, LastModifiedBy.class);
+        if (lastModifiedByProperty != null && !actualValues.containsKey(lastModifiedByProperty)) {
+            actualValues.put(lastModifiedByProperty, auditConverter.convert(auditInfoProvider.getCurrentUser(),
+                    metaClass.getProperty(lastModifiedByProperty).getJavaType()));
+        }
+
+        executeUpdate(metaClass, ids, actualValues);
+    }
+
+    protected void delete(MetaClass metaClass, List<Object> ids) {
+        List<MetaProperty> properties = new ArrayList<>();
+
+        fillProperties(metaClass, properties, OnDeleteInverse.class.getName());
+        for (MetaProperty property : properties) {
+            processOnDeleteInverse(metaClass, ids, property);
+        }
+
+        // references to entities which must be deleted after the owning instances
+        Map<MetaClass, List<Object>> cascadedAfter = new LinkedHashMap<>();
+
+        fillProperties(metaClass, properties, OnDelete.class.getName());
+        for (MetaProperty property : properties) {
+            processOnDelete(metaClass, ids, property, cascadedAfter);
+        }
+
+        if (isSoftDeletion(metaClass)) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            String deletedDateProperty = metadataTools.findDeletedDateProperty(metaClass.getJavaClass());
+            if (deletedDateProperty != null) {
+                values.put(deletedDateProperty, auditConverter.convert(timeSource.currentTimestamp(),
+                        metaClass.getProperty(deletedDateProperty).getJavaType()));
+            }
+            String deletedByProperty = metadataTools.findDeletedByProperty(metaClass.getJavaClass());
+            if (deletedByProperty != null) {
+                values.put(deletedByProperty, auditConverter.convert(auditInfoProvider.getCurrentUser(),
+                        metaClass.getProperty(deletedByProperty).getJavaType()));
+            }
+            executeUpdate(metaClass, ids, values);
+        } else {
+            String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+            for (List<Object> partition : Lists.partition(ids, batchSize)) {
+                Query query = entityManager.createQuery(String.format("delete from %s e where e.%s in :ids",
+                        metaClass.getName(), primaryKeyName));
+                query.setParameter("ids", partition);
+                query.executeUpdate();
+            }
+        }
+        deletedIds.computeIfAbsent(metaClass, key -> new ArrayList<>()).addAll(ids);
+
+        for (Map.Entry<MetaClass, List<Object>> entry : cascadedAfter.entrySet()) {
+            delete(entry.getKey(), entry.getValue());
+        }
+    }
+
+    protected void fillProperties(MetaClass metaClass, List<MetaProperty> properties, String annotationName) {
+        properties.clear();
+        MetaProperty[] metaProperties = (MetaProperty[]) metaClass.getAnnotations().get(annotationName);
+        if (metaProperties != null)
+            properties.addAll(Arrays.asList(metaProperties));
+        for (MetaClass aClass : metaClass.getAncestors()) {
+            metaProperties = (MetaProperty[]) aClass.getAnnotations().get(annotationName);
+            if (metaProperties != null)
+                properties.addAll(Arrays.asList(metaProperties));
+        }
+    }
+
+    protected void processOnDeleteInverse(MetaClass metaClass, List<Object> ids, MetaProperty property) {
+        List<MetaClass> persistentEntities = new ArrayList<>();
+        if (metadataTools.isJpaEntity(property.getDomain()))
+            persistentEntities.add(property.getDomain());
+        for (MetaClass descendant : property.getDomain().getDescendants()) {
+            if (metadataTools.isJpaEntity(descendant))
+                persistentEntities.add(descendant);
+        }
+
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+        boolean many = property.getRange().getCardinality().isMany();
+        DeletePolicy deletePolicy = property.getAnnotatedElement().getAnnotation(OnDeleteInverse.class).value();
+
+        for (MetaClass persistentEntity : persistentEntities) {
+            String from = many ?
+                    String.format("from %s e join e.%s c where c.%s in :ids", persistentEntity.getName(), property.getName(), primaryKeyName) :
+                    String.format("from %s e where e.%s.%s in :ids", persistentEntity.getName(), property.getName(), primaryKeyName);
+            switch (deletePolicy) {
+                case DENY:
+                    if (exists(from, ids))
+                        throw new DeletePolicyException(metaClass.getName(), persistentEntity.getName());
+                    break;
+                case CASCADE:
+                    List<Object> refIds = selectIds(persistentEntity, from, ids);
+                    if (!refIds.isEmpty())
+                        delete(persistentEntity, refIds);
+                    break;
+                case UNLINK:
+                    if (!metadataTools.isOwningSide(property))
+                        break;
+                    if (many)
+                        throw new UnsupportedOperationException("Bulk unlink of collection items is not supported: " + property);
+                    setReferenceNull(persistentEntity, property, primaryKeyName, ids);
+                    break;
+            }
+        }
+    }
+
+    protected void processOnDelete(MetaClass metaClass, List<Object> ids, MetaProperty property,
+                                   Map<MetaClass, List<Object>> cascadedAfter) {
+        MetaClass refMetaClass = property.getRange().asClass();
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+        boolean many = property.getRange().getCardinality().isMany();
+        MetaProperty inverseProperty = property.getInverse();
+        DeletePolicy deletePolicy = property.getAnnotatedElement().getAnnotation(OnDelete.class).value();
+
+        // instances of the referenced entity which point to the deleted ones through the inverse property
+        String inverseFrom = inverseProperty == null || inverseProperty.getRange().getCardinality().isMany() ? null :
+                String.format("from %s e where e.%s.%s in :ids", refMetaClass.getName(), inverseProperty.getName(), primaryKeyName);
+        // instances referenced by the deleted ones
+        String ownedFrom = String.format("from %s e join e.%s c where e.%s in :ids",
+                metaClass.getName(), property.getName(), primaryKeyName);
+
+        switch (deletePolicy) {
+            case DENY:
+                if (exists(many && inverseFrom != null ? inverseFrom : ownedFrom, ids))
+                    throw new DeletePolicyException(metaClass.getName(), refMetaClass.getName());
+                break;
+            case CASCADE:
+                boolean owningReference = !many && metadataTools.isOwningSide(property);
+                List<Object> refIds = inverseFrom != null && !owningReference ?
+                        selectIds(refMetaClass, inverseFrom, ids) :
+                        selectReferencedIds(refMetaClass, ownedFrom, ids);
+                if (refIds.isEmpty())
+                    break;
+                if (owningReference) {
+                    // the deleted instances reference the cascaded ones, so the latter are deleted afterwards
+                    cascadedAfter.computeIfAbsent(refMetaClass, key -> new ArrayList<>()).addAll(refIds);
+                } else {
+                    delete(refMetaClass, refIds);
+                }
+                break;
+            case UNLINK:
+                if (!many && metadataTools.isOwningSide(property)) {
+                    if (isSoftDeletion(metaClass))
+                        setReferenceNull(metaClass, property, null, ids);
+                } else if (inverseProperty != null && metadataTools.isOwningSide(inverseProperty)
+                        && !inverseProperty.getRange().getCardinality().isMany()) {
+                    setReferenceNull(refMetaClass, inverseProperty, primaryKeyName, ids);
+                } else {
+                    throw new UnsupportedOperationException("Bulk unlink of collection items is not supported: " + property);
+                }
+                break;
+        }
+    }
+
+    protected boolean exists(String from, List<Object> ids) {
+        for (List<Object> partition : Lists.partition(ids, batchSize)) {
+            Query query = entityManager.createQuery("select count(e) " + from);
+            query.setParameter("ids", partition);
+            if (((Number) query.getSingleResult()).longValue() > 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Selects distinct ids of instances aliased as {@code e} in the given from clause.
+     */
+    protected List<Object> selectIds(MetaClass metaClass, String from, List<Object> ids) {
+        return selectDistinct("e." + metadataTools.getPrimaryKeyName(metaClass), from, ids);
+    }
+
+    /**
+     * Selects distinct ids of instances aliased as {@code c} in the given from clause.
+     */
+    protected List<Object> selectReferencedIds(MetaClass refMetaClass, String from, List<Object> ids) {
+        return selectDistinct("c." + metadataTools.getPrimaryKeyName(refMetaClass), from, ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<Object> selectDistinct(String path, String from, List<Object> ids) {
+        Set<Object> result = new LinkedHashSet<>();
+        for (List<Object> partition : Lists.partition(ids, batchSize)) {
+            Query query = entityManager.createQuery("select distinct " + path + " " + from);
+            query.setParameter("ids", partition);
+            result.addAll(query.getResultList());
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Sets the reference property to null in instances of the given entity. If {@code refPrimaryKeyName} is null,
+     * the instances are selected by their own ids, otherwise by ids of the referenced instances.
+     */
+    protected void setReferenceNull(MetaClass metaClass, MetaProperty property, @Nullable String refPrimaryKeyName,
+                                    List<Object> ids) {
+        String where = refPrimaryKeyName == null ?
+                "e." + metadataTools.getPrimaryKeyName(metaClass) :
+                "e." + property.getName() + "." + refPrimaryKeyName;
+        for (List<Object> partition : Lists.partition(ids, batchSize)) {
+            Query query = entityManager.createQuery(String.format("update %s e set e.%s = null%s where %s in :ids",
+                    metaClass.getName(), property.getName(), getVersionIncrement(metaClass, Collections.emptySet()), where));
+            query.setParameter("ids", partition);
+            query.executeUpdate();
+        }
+    }
+
+    protected void executeUpdate(MetaClass metaClass, List<Object> ids, Map<String, Object> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("update ").append(metaClass.getName()).append(" e set ");
+        int i = 0;
+        for (String property : values.keySet()) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append("e.").append(property).append(" = :value").append(i++);
+        }
+        sb.append(getVersionIncrement(metaClass, values.keySet()));
+        sb.append(" where e.").append(metadataTools.getPrimaryKeyName(metaClass)).append(" in :ids");
+
+        for (List<Object> partition : Lists.partition(ids, batchSize)) {
+            Query query = entityManager.createQuery(sb.toString());
+            i = 0;
+            for (Object value : values.values()) {
+                query.setParameter("value" + i++, value);
+            }
+            query.setParameter("ids", partition);
+            query.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns the JPQL set clause item incrementing the version of a versioned entity, or an empty string.
+     *
+     * @param updatedProperties properties explicitly set by the statement
+     */
+    protected String getVersionIncrement(MetaClass metaClass, Set<String> updatedProperties) {
+        String versionProperty = findPropertyByAnnotation(metaClass, Version.class);
+        if (versionProperty == null || updatedProperties.contains(versionProperty)) {
+            return "";
+        }
+        return String.format(", e.%s = e.%s + 1", versionProperty, versionProperty);
+    }
+
+    @Nullable
+    protected String findPropertyByAnnotation(MetaClass metaClass, Class<? extends Annotation> annotationClass) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getAnnotations().containsKey(annotationClass.getName())) {
+                return property.getName();
+            }
+        }
+        return null;
+    }
+
+    protected boolean isSoftDeletion(MetaClass metaClass) {
+        return metadataTools.isSoftDeletable(metaClass.getJavaClass()) && PersistenceHints.isSoftDeletion(entityManager);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void publishEvent(MetaClass metaClass, List<Object> ids, EntityChangedEvent.Type type,
+                                Collection<String> attributes) {
+        MetaClass originalMetaClass = extendedEntities.getOriginalOrThisMetaClass(metaClass);
+        List<Id<Object>> entityIds = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            entityIds.add(Id.of(id, (Class<Object>) metaClass.getJavaClass()));
+        }
+        eventPublisher.publishEvent(new EntityBulkChangedEvent(this, entityIds, type,
+                new ArrayList<>(attributes), originalMetaClass));
+    }
+}
@@ -16,14 +16,22 @@
 
 package io.jmix.eclipselink.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
+import io.jmix.core.impl.metadata.MetadataGenerationManager;
+import io.jmix.core.impl.metadata.MetadataGenerationRetiredEvent;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.metamodel.model.Range;
 import io.jmix.data.QueryParser;
 import io.jmix.data.QueryTransformerFactory;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.jpa.JpaQuery;
@@ -33,6 +41,7 @@ import org.eclipse.persistence.queries.LoadGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
 
@@ -41,9 +50,19 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * Calculates fetch groups and fetch hints of queries by fetch plans.
+ * <p>
+ * Calculated descriptions are cached by the query string, structure of the fetch plan and the query kind, separately
+ * for each metadata generation. The cache size is set by {@link EclipselinkProperties#getFetchGroupCacheSize()} and
+ * its statistics are available in the {@link MeterRegistry} as {@code cache.*} meters with
+ * the {@value #CACHE_NAME} cache name.
+ */
 @Component("eclipselink_FetchGroupManager")
 public class FetchGroupManager {
 
+    public static final String CACHE_NAME = "jmix.eclipselink.fetchGroups";
+
     private final Logger log = LoggerFactory.getLogger(FetchGroupManager.class);
 
     @Autowired
@@ -64,6 +83,48 @@ public class FetchGroupManager {
     @Autowired
     private FetchPlans fetchPlans;
 
+    @Autowired
+    private EclipselinkProperties properties;
+
+    @Autowired
+    private MetadataGenerationManager metadataGenerationManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Nullable
+    private Cache<CacheKey, FetchGroupDescription> cache;
+
+    @PostConstruct
+    protected void init() {
+        int cacheSize = properties.getFetchGroupCacheSize();
+        if (cacheSize > 0) {
+            cache = GuavaCacheMetrics.monitor(meterRegistry,
+                    CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build(), CACHE_NAME);
+        }
+    }
+
+    /**
+     * Drops descriptions cached for a retired metadata generation.
+     *
+     * @param event retired-generation event
+     */
+    @EventListener
+    public void onMetadataGenerationRetired(MetadataGenerationRetiredEvent event) {
+        if (cache != null) {
+            cache.asMap().keySet().removeIf(key -> key.generationId() == event.getGenerationId());
+        }
+    }
+
+    /**
+     * Discards all cached fetch group descriptions.
+     */
+    public void invalidateCache() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
     public void setFetchPlan(JpaQuery query, String queryString, @Nullable FetchPlan fetchPlan, boolean singleResultExpected) {
         Preconditions.checkNotNullArgument(query, "query is null");
         if (fetchPlan != null) {
@@ -133,10 +194,33 @@ public class FetchGroupManager {
         }
     }
 
+    /**
+     * Returns the description of fetch group and fetch hints for the query. The returned description is sealed
+     * and must not be modified.
+     */
     public FetchGroupDescription calculateFetchGroup(String queryString,
                                                      FetchPlan fetchPlan,
                                                      boolean singleResultExpected,
                                                      boolean useFetchGroup) {
+        if (cache == null) {
+            return buildFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+        }
+
+        CacheKey key = new CacheKey(metadataGenerationManager.getPinnedOrCurrentGenerationId(), queryString,
+                new FetchPlanKey(fetchPlan), singleResultExpected, useFetchGroup);
+        FetchGroupDescription description = cache.getIfPresent(key);
+        if (description == null) {
+            description = buildFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+            description.seal();
+            cache.put(key, description);
+        }
+        return description;
+    }
+
+    private FetchGroupDescription buildFetchGroup(String queryString,
+                                                  FetchPlan fetchPlan,
+                                                  boolean singleResultExpected,
+                                                  boolean useFetchGroup) {
         Set<FetchGroupField> fetchGroupFields = new LinkedHashSet<>();
 
         fetchPlan = completeFetchPlan(fetchPlan);
@@ -684,6 +768,50 @@ public class FetchGroupManager {
         }
     }
 
+    private record CacheKey(long generationId, String queryString, FetchPlanKey fetchPlanKey,
+                            boolean singleResultExpected, boolean useFetchGroup) {
+    }
+
+    /**
+     * Compares fetch plans by their structure ignoring names, see {@link FetchPlan#contentEquals(FetchPlan)}.
+     */
+    private static final class FetchPlanKey {
+        private final FetchPlan fetchPlan;
+        private final int hash;
+
+        private FetchPlanKey(FetchPlan fetchPlan) {
+            this.fetchPlan = fetchPlan;
+            this.hash = contentHash(fetchPlan);
+        }
+
+        private static int contentHash(FetchPlan fetchPlan) {
+            int propertiesHash = 0;
+            for (FetchPlanProperty property : fetchPlan.getProperties()) {
+                // properties are compared regardless of their order
+                int propertyHash = 31 * property.getName().hashCode() + Objects.hashCode(property.getFetchMode());
+                if (property.getFetchPlan() != null) {
+                    propertyHash = 31 * propertyHash + contentHash(property.getFetchPlan());
+                }
+                propertiesHash += propertyHash;
+            }
+            int result = fetchPlan.getEntityClass().hashCode();
+            result = 31 * result + Boolean.hashCode(fetchPlan.loadPartialEntities());
+            return 31 * result + propertiesHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FetchPlanKey that)) return false;
+            return hash == that.hash && fetchPlan.contentEquals(that.fetchPlan);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static class OccurrenceDescription {
         private final FetchPlan fetchPlan;
         private final String path;
@@ -46,8 +46,10 @@ import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.JmixUtil;
 import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
 import org.eclipse.persistence.jpa.JpaQuery;
+import org.eclipse.persistence.queries.CursoredStream;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
@@ -58,6 +60,8 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
 
@@ -168,6 +172,61 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         return result;
     }
 
+    /**
+     * Executes the query with a forward-only database cursor instead of reading the whole result list.
+     * Entities are fetched according to the fetch plans as they are read from the stream. The query cache
+     * is not used. The stream must be consumed within the transaction and closed to release the cursor.
+     *
+     * @param pageSize number of rows read from the database at once
+     */
+    public Stream<E> getResultStream(int pageSize) {
+        logQueryString();
+
+        singleResultExpected = false;
+
+        JpaQuery<E> jpaQuery = getQuery();
+        if (!(jpaQuery.getDatabaseQuery() instanceof ReadAllQuery readAllQuery)) {
+            return getResultList().stream();
+        }
+
+        preExecute(jpaQuery);
+
+        readAllQuery.useCursoredStream(pageSize, pageSize);
+        readAllQuery.setFetchSize(pageSize);
+        CursoredStream cursor = (CursoredStream) jpaQuery.getResultCursor();
+
+        Iterator<E> iterator = new Iterator<>() {
+            int rowsRead;
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasMoreElements();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (rowsRead > 0 && rowsRead % pageSize == 0) {
+                    // release the rows already passed to the stream consumer
+                    cursor.clear();
+                }
+                E item = (E) cursor.nextElement();
+                rowsRead++;
+                if (item instanceof Entity) {
+                    for (FetchPlan fetchPlan : fetchPlans) {
+                        entityFetcher.fetch((Entity) item, fetchPlan);
+                    }
+                }
+                return item;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
     @Override
     public TypedQuery<E> setMaxResults(int maxResult) {
         this.maxResults = maxResult;
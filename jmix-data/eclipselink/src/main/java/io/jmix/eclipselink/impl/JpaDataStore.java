@@ -21,6 +21,8 @@ import com.google.common.collect.Sets;
 import io.jmix.core.Id;
 import io.jmix.core.*;
 import io.jmix.core.datastore.AbstractDataStore;
+import io.jmix.core.datastore.DataStoreEntityLoadingEvent;
+import io.jmix.core.datastore.EventSharedState;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
@@ -60,6 +62,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
 
 import static io.jmix.core.entity.EntitySystemAccess.getEntityEntry;
 import static io.jmix.core.entity.EntityValues.getValue;
@@ -71,7 +74,7 @@ import static jakarta.persistence.CascadeType.*;
  */
 @Component("eclipselink_JpaDataStore")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
-public class JpaDataStore extends AbstractDataStore implements DataSortingOptions {
+public class JpaDataStore extends AbstractDataStore implements DataSortingOptions, BulkOperationDataStore {
 
     public static final String LOAD_TX_PREFIX = "JpaDataStore-load-";
     public static final String SAVE_TX_PREFIX = "JpaDataStore-save-";
@@ -124,6 +127,9 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected FetchPlanRepository fetchPlanRepository;
 
+    @Autowired
+    protected ObjectProvider<BulkOperationProcessor> bulkOperationProcessorProvider;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
@@ -218,6 +224,65 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return resultList;
     }
 
+    /**
+     * Fills the requested page by reading the query result with a forward-only cursor and filtering it by chunks,
+     * instead of re-running the query with growing batches. The cursor is closed as soon as the page is filled.
+     *
+     * @see EclipselinkProperties#getInMemoryFilteringCursorFetchSize()
+     */
+    @Override
+    protected List<Object> loadListByBatches(LoadContext<?> context, int actualSize, EventSharedState eventState) {
+        int fetchSize = eclipselinkProperties.getInMemoryFilteringCursorFetchSize();
+        if (fetchSize <= 0) {
+            return super.loadListByBatches(context, actualSize, eventState);
+        }
+
+        LoadContext.Query contextQuery = context.getQuery();
+        assert contextQuery != null;
+
+        int requestedFirst = contextQuery.getFirstResult();
+        int requestedMax = contextQuery.getMaxResults();
+
+        LoadContext<?> cursorContext = context.copy();
+        assert cursorContext.getQuery() != null;
+        cursorContext.getQuery().setFirstResult(0);
+        cursorContext.getQuery().setMaxResults(0);
+
+        List<Object> resultList = new ArrayList<>(requestedMax);
+
+        EntityManager em = storeAwareLocator.getEntityManager(storeName);
+        boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+        try {
+            em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+
+            JmixEclipseLinkQuery<?> query = (JmixEclipseLinkQuery<?>) createQuery(em, cursorContext, false);
+            try (Stream<?> stream = query.getResultStream(fetchSize)) {
+                Iterator<?> iterator = stream.iterator();
+                int passed = 0;
+                List<Object> chunk = new ArrayList<>(fetchSize);
+                while (resultList.size() < requestedMax && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() < fetchSize && iterator.hasNext()) {
+                        continue;
+                    }
+
+                    DataStoreEntityLoadingEvent loadEvent = new DataStoreEntityLoadingEvent(context, chunk, eventState);
+                    fireEvent(loadEvent);
+
+                    for (Object entity : loadEvent.getResultEntities()) {
+                        if (passed++ >= requestedFirst && resultList.size() < requestedMax) {
+                            resultList.add(entity);
+                        }
+                    }
+                    chunk = new ArrayList<>(fetchSize);
+                }
+            }
+        } finally {
+            em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+        }
+        return resultList;
+    }
+
     @Override
     protected long countAll(LoadContext<?> context) {
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
@@ -603,7 +668,8 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
                     .setDistinct(contextQuery.isDistinct())
                     .setQueryParameters(contextQuery.getParameters());
             if (!countQuery) {
-                queryBuilder.setSort(contextQuery.getSort());
+                queryBuilder.setSort(contextQuery.getSort())
+                        .setAfter(contextQuery.getAfter());
             }
         }
 
@@ -758,6 +824,27 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
                 && context.getId() != null;
     }
 
+    @Override
+    public long executeBulk(BulkOperationContext context) {
+        Object transaction = beginSaveTransaction(context.isJoinTransaction());
+        try {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            long count;
+            boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+            try {
+                em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+                count = bulkOperationProcessorProvider.getObject().execute(em, context);
+            } finally {
+                em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            }
+            commitTransaction(transaction);
+            return count;
+        } finally {
+            LazyLoadingContext.setEnabled();
+            rollbackTransaction(transaction);
+        }
+    }
+
     @Override
     public boolean isNullsLastSorting() {
         return dbmsSpecifics.getDbmsFeatures(storeName).isNullsLastSorting();
@@ -19,6 +19,8 @@ package io.jmix.eclipselink.impl.entitycache;
 
 import org.jspecify.annotations.NullMarked;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -56,4 +58,25 @@ public interface QueryCache {
      * Returns number of entries in this cache.
      */
     long size();
+
+    /**
+     * Returns number of {@link #get(QueryKey)} calls that found cached query results.
+     */
+    default long getHitCount() {
+        return 0;
+    }
+
+    /**
+     * Returns number of {@link #get(QueryKey)} calls that didn't find cached query results.
+     */
+    default long getMissCount() {
+        return 0;
+    }
+
+    /**
+     * Returns number of invalidations requested for each metaClass name.
+     */
+    default Map<String, Long> getInvalidationCounts() {
+        return Collections.emptyMap();
+    }
 }
@@ -22,6 +22,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jmx.export.annotation.*;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @ManagedResource(description = "Manages query cache", objectName = "jmix.eclipselink:type=QueryCache")
 @Component("eclipselink_QueryCacheManagementFacade")
 public class QueryCacheManagementFacade {
@@ -40,6 +43,34 @@ public class QueryCacheManagementFacade {
         return queryCache.size();
     }
 
+    @ManagedAttribute(description = "Number of query cache lookups that found cached results")
+    public long getHitCount() {
+        return queryCache.getHitCount();
+    }
+
+    @ManagedAttribute(description = "Number of query cache lookups that didn't find cached results")
+    public long getMissCount() {
+        return queryCache.getMissCount();
+    }
+
+    @ManagedAttribute(description = "Ratio of query cache lookups that found cached results")
+    public double getHitRatio() {
+        long hits = queryCache.getHitCount();
+        long total = hits + queryCache.getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @ManagedOperation(description = "Print number of cache invalidations by entity")
+    public String printInvalidationCounts() {
+        Map<String, Long> counts = queryCache.getInvalidationCounts();
+        if (counts.isEmpty()) {
+            return "No invalidations";
+        }
+        return counts.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
     @ManagedOperation(description = "Discard all cached queries")
     public String evictAll() {
         queryCacheMgr.invalidateAll();
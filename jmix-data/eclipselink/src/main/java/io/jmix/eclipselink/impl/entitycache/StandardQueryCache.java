@@ -18,6 +18,7 @@ package io.jmix.eclipselink.impl.entitycache;
 
 import com.google.common.collect.Sets;
 import io.jmix.core.CacheOperations;
+import io.jmix.eclipselink.EclipselinkProperties;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,10 +28,26 @@ import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
-import java.util.HashSet;
-import java.util.Set;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Query cache based on the {@link #QUERY_CACHE_NAME} Spring cache.
+ * <p>
+ * If {@link EclipselinkProperties#isQueryCacheTypeIndexEnabled()} is true, the cache maintains a local index of
+ * cached query keys by related entity type, so invalidation by type evicts only affected queries. Index entries
+ * are added and removed atomically with the corresponding cache entries. Entries removed by the cache itself,
+ * e.g. on expiration, are dropped from the index by a JCache entry listener, and the index is pruned of absent
+ * keys whenever it doubles in size. Sets of keys of a type are removed from the index when they become empty.
+ */
 @Component("eclipselink_QueryCache")
 public class StandardQueryCache implements QueryCache {
 
@@ -40,27 +57,101 @@ public class StandardQueryCache implements QueryCache {
     protected CacheManager cacheManager;
     @Autowired
     protected CacheOperations cacheOperations;
+    @Autowired
+    protected EclipselinkProperties properties;
 
     public static final String QUERY_CACHE_NAME = "jmix-eclipselink-query-cache";
 
     protected static final Logger log = LoggerFactory.getLogger(QueryCache.class);
 
+    /**
+     * Related types of each indexed query key.
+     */
+    protected final Map<QueryKey, Set<String>> keyTypes = new ConcurrentHashMap<>();
+    /**
+     * Indexed query keys of each related type.
+     */
+    protected final Map<String, Set<QueryKey>> typeKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Minimal number of indexed keys to prune the index of keys absent in the cache.
+     */
+    protected static final int MIN_PRUNING_INDEX_SIZE = 1000;
+
+    protected final AtomicLong indexSizeAfterPruning = new AtomicLong();
+    protected final AtomicBoolean pruning = new AtomicBoolean();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final Map<String, LongAdder> invalidationCounts = new ConcurrentHashMap<>();
+
     @PostConstruct
     protected void init() {
         queries = cacheManager.getCache(QUERY_CACHE_NAME);
         if (queries == null) {
             throw new IllegalStateException(String.format("Unable to find cache: %s", QUERY_CACHE_NAME));
         }
+        if (isTypeIndexEnabled()) {
+            registerRemovalListener();
+        }
+    }
+
+    /**
+     * Registers a listener dropping keys removed or expired in the native JCache from the type index.
+     * The listener is asynchronous, so it is not called inside cache operations performed by this class.
+     */
+    @SuppressWarnings("unchecked")
+    protected void registerRemovalListener() {
+        if (!(queries.getNativeCache() instanceof javax.cache.Cache<?, ?> nativeCache)) {
+            return;
+        }
+        try {
+            ((javax.cache.Cache<Object, Object>) nativeCache).registerCacheEntryListener(
+                    new MutableCacheEntryListenerConfiguration<>(
+                            new FactoryBuilder.SingletonFactory<>(new IndexPruningListener(this)),
+                            null, false, false));
+        } catch (RuntimeException e) {
+            log.warn("Unable to register query cache listener, the type index will be pruned periodically", e);
+        }
     }
 
     @Override
     public QueryResult get(QueryKey queryKey) {
-        return queries.get(queryKey, QueryResult.class);
+        QueryResult queryResult = queries.get(queryKey, QueryResult.class);
+        if (queryResult != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            if (isTypeIndexEnabled()) {
+                // the entry could be evicted by the cache itself, so drop it from the index as well
+                unindexIfAbsent(queryKey);
+            }
+        }
+        return queryResult;
     }
 
     @Override
     public void put(QueryKey queryKey, QueryResult queryResult) {
-        queries.put(queryKey, queryResult);
+        if (isTypeIndexEnabled()) {
+            Set<String> relatedTypes = queryResult.getRelatedTypes() != null
+                    ? Set.copyOf(queryResult.getRelatedTypes())
+                    : Collections.emptySet();
+            keyTypes.compute(queryKey, (key, oldTypes) -> {
+                if (oldTypes != null) {
+                    unindex(key, oldTypes);
+                }
+                queries.put(key, queryResult);
+                for (String type : relatedTypes) {
+                    index(key, type);
+                }
+                return relatedTypes;
+            });
+            if (keyTypes.size() > Math.max(MIN_PRUNING_INDEX_SIZE, indexSizeAfterPruning.get() * 2)) {
+                pruneIndex();
+            }
+        } else {
+            queries.put(queryKey, queryResult);
+        }
     }
 
     @Override
@@ -76,7 +167,13 @@ public class StandardQueryCache implements QueryCache {
     }
 
     protected void invalidateByTypes(Set<String> typeNames) {
-        if (cacheOperations.isIterableCache(queries)) {
+        for (String typeName : typeNames) {
+            invalidationCounts.computeIfAbsent(typeName, t -> new LongAdder()).increment();
+        }
+
+        if (isTypeIndexEnabled()) {
+            invalidateByTypeIndex(typeNames);
+        } else if (cacheOperations.isIterableCache(queries)) {
             Set<QueryKey> evicted = new HashSet<>();
 
             cacheOperations.<QueryKey, QueryResult>forEach(queries, (queryKey, queryResult) -> {
@@ -94,10 +191,101 @@ public class StandardQueryCache implements QueryCache {
         }
     }
 
+    protected void invalidateByTypeIndex(Set<String> typeNames) {
+        Set<QueryKey> affectedKeys = new HashSet<>();
+        for (String typeName : typeNames) {
+            Set<QueryKey> keys = typeKeys.get(typeName);
+            if (keys != null) {
+                affectedKeys.addAll(keys);
+            }
+        }
+
+        for (QueryKey queryKey : affectedKeys) {
+            keyTypes.computeIfPresent(queryKey, (key, types) -> {
+                queries.evictIfPresent(key);
+                return unindex(key, types);
+            });
+        }
+        log.debug("Evicted {} queries for types {}", affectedKeys.size(), typeNames);
+    }
+
+    /**
+     * Adds the key to the keys of the type. Must be called inside {@code keyTypes} compute function for the key.
+     */
+    protected void index(QueryKey queryKey, String type) {
+        typeKeys.compute(type, (t, keys) -> {
+            Set<QueryKey> result = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            result.add(queryKey);
+            return result;
+        });
+    }
+
+    /**
+     * Removes the key from the type index, dropping sets of keys which become empty. Must be called inside
+     * {@code keyTypes} compute function for the key.
+     *
+     * @return always null to be used as a result of the compute function
+     */
+    protected Set<String> unindex(QueryKey queryKey, Set<String> types) {
+        for (String type : types) {
+            typeKeys.computeIfPresent(type, (t, keys) -> {
+                keys.remove(queryKey);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Removes the key from the type index if the cache doesn't contain it anymore.
+     */
+    protected void unindexIfAbsent(QueryKey queryKey) {
+        keyTypes.computeIfPresent(queryKey, (key, types) -> containsKey(key) ? types : unindex(key, types));
+    }
+
+    /**
+     * Removes keys evicted by the cache itself from the type index. Required for caches which don't notify
+     * about evictions, e.g. JCache implementations don't send events for entries evicted by size.
+     */
+    protected void pruneIndex() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int sizeBefore = keyTypes.size();
+            for (QueryKey queryKey : keyTypes.keySet()) {
+                unindexIfAbsent(queryKey);
+            }
+            indexSizeAfterPruning.set(keyTypes.size());
+            log.debug("Pruned query cache type index from {} to {} keys", sizeBefore, keyTypes.size());
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected boolean containsKey(QueryKey queryKey) {
+        if (queries.getNativeCache() instanceof javax.cache.Cache<?, ?> nativeCache) {
+            // doesn't update access statistics unlike get
+            return ((javax.cache.Cache<Object, Object>) nativeCache).containsKey(queryKey);
+        }
+        return queries.get(queryKey) != null;
+    }
+
     @Override
     public void invalidateAll() {
         log.debug("Invalidate all cache");
         queries.invalidate();
+        if (isTypeIndexEnabled()) {
+            // entries put concurrently after clearing the cache are evicted together with their index entries,
+            // so that no cached query is left unindexed
+            for (QueryKey queryKey : keyTypes.keySet()) {
+                keyTypes.computeIfPresent(queryKey, (key, types) -> {
+                    queries.evictIfPresent(key);
+                    return unindex(key, types);
+                });
+            }
+        }
     }
 
     @Override
@@ -106,8 +294,69 @@ public class StandardQueryCache implements QueryCache {
             AtomicLong count = new AtomicLong();
             cacheOperations.forEach(queries, (queryKey, queryResult) -> count.incrementAndGet());
             return count.get();
+        } else if (isTypeIndexEnabled()) {
+            return keyTypes.size();
         } else {
             return 0;
         }
     }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getInvalidationCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        invalidationCounts.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+
+    /**
+     * Returns number of query keys in the type index.
+     */
+    public long getIndexedKeysCount() {
+        return keyTypes.size();
+    }
+
+    protected boolean isTypeIndexEnabled() {
+        return properties.isQueryCacheTypeIndexEnabled();
+    }
+
+    /**
+     * Drops keys removed or expired in the native cache from the type index.
+     */
+    protected static class IndexPruningListener implements CacheEntryRemovedListener<Object, Object>,
+            CacheEntryExpiredListener<Object, Object> {
+
+        protected final StandardQueryCache queryCache;
+
+        public IndexPruningListener(StandardQueryCache queryCache) {
+            this.queryCache = queryCache;
+        }
+
+        @Override
+        public void onRemoved(Iterable<CacheEntryEvent<?, ?>> events) {
+            unindex(events);
+        }
+
+        @Override
+        public void onExpired(Iterable<CacheEntryEvent<?, ?>> events) {
+            unindex(events);
+        }
+
+        protected void unindex(Iterable<CacheEntryEvent<?, ?>> events) {
+            for (CacheEntryEvent<?, ?> event : events) {
+                if (event.getKey() instanceof QueryKey queryKey) {
+                    queryCache.unindexIfAbsent(queryKey);
+                }
+            }
+        }
+    }
 }
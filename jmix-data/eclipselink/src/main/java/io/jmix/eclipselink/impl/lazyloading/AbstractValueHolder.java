@@ -50,6 +50,9 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
     private volatile Object value;
     private transient volatile boolean loading;
     private LoadOptions loadOptions;
+    private transient volatile LazyLoadingSiblings siblings;
+    private transient volatile boolean prefetched;
+    private transient volatile Object prefetchedValue;
 
     public AbstractValueHolder(BeanFactory beanFactory,
                                ValueHolderInterface originalValueHolder,
@@ -285,6 +288,7 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
             if (LazyLoadingContext.isDisabled()) {
                 value = originalValueHolder.getValue();
                 isInstantiated = true;
+                siblings = null;
                 return value;
             }
 
@@ -296,17 +300,21 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
 
             loading = true;
             try {
-                value = loadValue();
+                value = prefetched ? prefetchedValue : loadValue();
                 // Only the outer Jmix load may complete the holder. Recursive delegated values are temporary.
                 afterLoadValue(value);
                 registerLoadedProperty(getOwner(), getPropertyInfo().getName());
                 isInstantiated = true;
+                // siblings are needed only to load the value
+                siblings = null;
             } catch (RuntimeException | Error e) {
                 value = null;
                 isInstantiated = false;
                 throw e;
             } finally {
                 loading = false;
+                prefetched = false;
+                prefetchedValue = null;
             }
         }
 
@@ -329,6 +337,25 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
 
     protected abstract Object loadValue();
 
+    /**
+     * Keeps the value loaded together with the value of another holder. The value is published on the first
+     * {@link #getValue()} call, so the holder is not locked by the thread loading the batch.
+     */
+    protected void setPrefetchedValue(Object value) {
+        if (!isInstantiated) {
+            prefetchedValue = value;
+            prefetched = true;
+            siblings = null;
+        }
+    }
+
+    /**
+     * @return true if the value is neither loaded, nor being loaded, nor prefetched
+     */
+    protected boolean isPendingLoad() {
+        return !isInstantiated && !loading && !prefetched;
+    }
+
     protected abstract void afterLoadValue(Object value);
 
     protected void registerLoadedProperty(Object entity, String property) {
@@ -342,6 +369,7 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
     public void setValue(Object value) {
         this.value = value;
         this.isInstantiated = true;
+        this.siblings = null;
         if (LazyLoadingContext.isDisabled()) {
             originalValueHolder.setValue(value);
         }
@@ -355,6 +383,17 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
         return loadOptions;
     }
 
+    void setSiblings(LazyLoadingSiblings siblings) {
+        this.siblings = siblings;
+    }
+
+    /**
+     * @return entities loaded by the same request as the owner, or null if the value is loaded for the owner only
+     */
+    LazyLoadingSiblings getSiblings() {
+        return siblings;
+    }
+
     public Object getOwner() {
         return owner;
     }
@@ -30,6 +30,7 @@ import org.springframework.beans.factory.BeanFactory;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static io.jmix.core.entity.EntitySystemAccess.getSecurityState;
 
@@ -62,9 +63,60 @@ public class CollectionValuePropertyHolder extends AbstractValueHolder {
     protected Object loadValue() {
         MetaClass metaClass = getMetadata().getClass(getOwner());
 
+        // Managed owners are reloaded from the same persistence context, so they are loaded one by one
+        LazyLoadingSiblings siblings = getSiblings();
+        if (siblings != null
+                && !EntitySystemAccess.getEntityEntry(getOwner()).isManaged()
+                && !getMetadataTools().hasCompositePrimaryKey(metaClass)) {
+            List<CollectionValuePropertyHolder> batch = siblings.collectBatch(this,
+                    entity -> ValueHoldersSupport.getCollectionValueHolder(entity, getPropertyInfo().getName()));
+            if (batch.size() > 1) {
+                return loadBatch(metaClass, batch);
+            }
+        }
+
         LoadContext<?> loadContext = createLoadContextByOwner(metaClass);
 
         Object reloadedOwner = getDataManager().load(loadContext);
+        return extractValue(reloadedOwner);
+    }
+
+    /**
+     * Reloads owners of all holders of the batch with the collection by a single query. Values of other holders
+     * are prefetched and published when these holders are accessed.
+     */
+    protected Object loadBatch(MetaClass metaClass, List<CollectionValuePropertyHolder> batch) {
+        List<Object> idList = batch.stream()
+                .map(holder -> Objects.requireNonNull(EntityValues.getId(holder.getOwner())))
+                .collect(Collectors.toList());
+
+        // Don't use standard loading by ids because AbstractDataStore throws exception
+        // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
+        String queryString = String.format("select e from %s e where e.%s in :idList",
+                metaClass.getName(), getMetadataTools().getPrimaryKeyName(metaClass));
+        LoadContext<?> loadContext = createLoadContextByOwners(metaClass)
+                .setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
+
+        Map<Object, Object> reloadedOwners = new HashMap<>();
+        for (Object reloadedOwner : getDataManager().loadList(loadContext)) {
+            reloadedOwners.put(EntityValues.getId(reloadedOwner), reloadedOwner);
+        }
+
+        for (CollectionValuePropertyHolder holder : batch) {
+            Object reloadedOwner = reloadedOwners.get(EntityValues.getId(holder.getOwner()));
+            if (holder != this && reloadedOwner != null) {
+                holder.setPrefetchedValue(holder.extractValue(reloadedOwner));
+            }
+        }
+
+        Object reloadedOwner = reloadedOwners.get(EntityValues.getId(getOwner()));
+        if (reloadedOwner == null) {
+            reloadedOwner = getDataManager().load(createLoadContextByOwner(metaClass));
+        }
+        return extractValue(reloadedOwner);
+    }
+
+    protected Collection<Object> extractValue(Object reloadedOwner) {
         Collection<Object> value = EntityValues.getValue(reloadedOwner, getPropertyInfo().getName());
 
         getSecurityState(getOwner()).addErasedIds(getPropertyInfo().getName(),
@@ -86,8 +138,12 @@ public class CollectionValuePropertyHolder extends AbstractValueHolder {
     }
 
     protected LoadContext<?> createLoadContextByOwner(MetaClass metaClass) {
+        return createLoadContextByOwners(metaClass)
+                .setId(Objects.requireNonNull(EntityValues.getId(getOwner())));
+    }
+
+    protected LoadContext<?> createLoadContextByOwners(MetaClass metaClass) {
         return new LoadContext<>(metaClass)
-                .setId(Objects.requireNonNull(EntityValues.getId(getOwner())))
                 .setFetchPlan(
                         getFetchPlans().builder(metaClass.getJavaClass())
                                 .add(getPropertyInfo().getName(), builder -> builder.addFetchPlan(FetchPlan.BASE))
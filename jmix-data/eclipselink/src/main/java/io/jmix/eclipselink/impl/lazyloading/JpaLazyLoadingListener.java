@@ -41,6 +41,7 @@ import org.eclipse.persistence.internal.expressions.RelationExpression;
 import org.eclipse.persistence.internal.indirection.QueryBasedValueHolder;
 import org.eclipse.persistence.internal.indirection.UnitOfWorkValueHolder;
 import org.eclipse.persistence.internal.indirection.WrappingValueHolder;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
@@ -100,12 +101,30 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
         if (fetchPlan == null) {
             fetchPlan = fetchPlanRepository.getFetchPlan(metaClass, FetchPlan.LOCAL);
         }
-        for (Object entity : event.getResultEntities()) {
-            processValueHolders(entity, context, fetchPlan);
+        List<Object> resultEntities = event.getResultEntities();
+        LazyLoadingSiblings siblings = null;
+        int batchSize = eclipselinkProperties.getLazyLoadingBatchSize();
+        if (batchSize > 1 && resultEntities.size() > 1 && !eclipselinkProperties.isDisableLazyLoading()) {
+            siblings = new LazyLoadingSiblings(resultEntities, batchSize);
+        }
+
+        for (Object entity : resultEntities) {
+            processValueHolders(entity, context, fetchPlan, siblings);
         }
     }
 
     public void processValueHolders(Object entity, LoadContext<?> loadContext, FetchPlan fetchPlan) {
+        processValueHolders(entity, loadContext, fetchPlan, null);
+    }
+
+    /**
+     * Wraps value holders of the entity and of the entities loaded with it.
+     *
+     * @param siblings entities loaded by the same request, whose lazy properties are loaded together with the
+     *                 properties of the given entity, or null to load lazy properties of each entity separately
+     */
+    protected void processValueHolders(Object entity, LoadContext<?> loadContext, FetchPlan fetchPlan,
+                                       @Nullable LazyLoadingSiblings siblings) {
         Map<Object, Set<FetchPlan>> collectedFetchPlans = new HashMap<>();
 
         if (fetchPlan != null) {
@@ -149,6 +168,9 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
                         } else if (property.getRange().getCardinality() == Range.Cardinality.MANY_TO_ONE) {
                             processManyToOneValueHolder(entry.getKey(), property, loadOptions);
                         }
+                        if (siblings != null && entry.getKey() == entity) {
+                            setSiblings(entity, property, siblings);
+                        }
                     } else if (wrapExcessivelyLoadedPropertiesEnabled
                             && !eclipselinkProperties.isDisableLazyLoading()
                             && metadataTools.isJpa(property)) {
@@ -232,6 +254,16 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
         }
     }
 
+    protected void setSiblings(Object entity, MetaProperty property, LazyLoadingSiblings siblings) {
+        Object valueHolder = property.getRange().getCardinality().isMany()
+                ? getCollectionValueHolder(entity, property.getName())
+                : getSingleValueHolderOrNull(entity, property.getName());
+        if (valueHolder instanceof SingleValueOwningPropertyHolder
+                || valueHolder instanceof CollectionValuePropertyHolder) {
+            ((AbstractValueHolder) valueHolder).setSiblings(siblings);
+        }
+    }
+
     /**
      * Restores SOFT_DELETION hint state if value has been forcefully set in single value property holder
      */
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl.lazyloading;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Entities returned by the same load request. When a lazy property is accessed on one of them, value holders of
+ * this property of other entities are loaded by the same query.
+ * <p>
+ * The entities are referenced weakly, so that an entity retained by the application after the load doesn't keep
+ * the whole result in memory through the value holders.
+ *
+ * @see io.jmix.eclipselink.EclipselinkProperties#getLazyLoadingBatchSize()
+ */
+class LazyLoadingSiblings {
+
+    private final List<WeakReference<Object>> entities;
+    private final int batchSize;
+
+    LazyLoadingSiblings(Collection<?> entities, int batchSize) {
+        this.entities = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            this.entities.add(new WeakReference<>(entity));
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Collects value holders to be loaded together with the given one: the holder itself followed by not loaded
+     * holders of the same type and property of other entities which have equal load options.
+     *
+     * @param holder         value holder being loaded
+     * @param holderProvider returns the value holder of the same property for a sibling entity
+     * @return list of holders not exceeding the batch size, starting with the given holder
+     */
+    @SuppressWarnings("unchecked")
+    <T extends AbstractValueHolder> List<T> collectBatch(T holder, Function<Object, Object> holderProvider) {
+        List<T> batch = new ArrayList<>();
+        batch.add(holder);
+        for (WeakReference<Object> entityRef : entities) {
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            Object entity = entityRef.get();
+            if (entity == null || entity == holder.getOwner()) {
+                continue;
+            }
+            Object sibling = holderProvider.apply(entity);
+            if (sibling != null && sibling.getClass() == holder.getClass()) {
+                T siblingHolder = (T) sibling;
+                if (siblingHolder.isPendingLoad() && hasEqualLoadOptions(holder, siblingHolder)) {
+                    batch.add(siblingHolder);
+                }
+            }
+        }
+        return batch;
+    }
+
+    private boolean hasEqualLoadOptions(AbstractValueHolder holder, AbstractValueHolder sibling) {
+        LoadOptions options = holder.getLoadOptions();
+        LoadOptions siblingOptions = sibling.getLoadOptions();
+        return Objects.equals(options.getHints(), siblingOptions.getHints())
+                && Objects.equals(options.getAccessConstraints(), siblingOptions.getAccessConstraints());
+    }
+}
@@ -18,6 +18,7 @@ package io.jmix.eclipselink.impl.lazyloading;
 
 import io.jmix.core.LoadContext;
 import io.jmix.core.UuidProvider;
+import io.jmix.core.entity.EntityValues;
 import io.jmix.core.impl.SerializationContext;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
@@ -26,7 +27,12 @@ import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.springframework.beans.factory.BeanFactory;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static io.jmix.core.entity.EntitySystemAccess.getSecurityState;
 
@@ -50,15 +56,18 @@ public class SingleValueOwningPropertyHolder extends AbstractSingleValueHolder {
 
     protected Object loadValue() {
         MetaClass metaClass = getMetadata().getClass(getPropertyInfo().getJavaType());
-        LoadOptions loadOptions = getLoadOptions();
 
-        LoadContext<?> loadContext = new LoadContext<>(metaClass)
-                .setId(getEntityId())
-                .setHints(loadOptions.getHintsCopy())
-                .setHint(PREV_SOFT_DELETION,
-                        getLoadOptions().getHints().getOrDefault(PersistenceHints.SOFT_DELETION, SOFT_DELETION_ABSENT))
-                .setHint(PersistenceHints.SOFT_DELETION, false)
-                .setAccessConstraints(loadOptions.getAccessConstraints());
+        LazyLoadingSiblings siblings = getSiblings();
+        if (siblings != null && !getMetadataTools().hasCompositePrimaryKey(metaClass)) {
+            List<SingleValueOwningPropertyHolder> batch = siblings.collectBatch(this,
+                    entity -> ValueHoldersSupport.getSingleValueHolderOrNull(entity, getPropertyInfo().getName()));
+            if (batch.size() > 1) {
+                return loadBatch(metaClass, batch);
+            }
+        }
+
+        LoadContext<?> loadContext = createLoadContext(metaClass)
+                .setId(getEntityId());
 
         Object value = getDataManager().load(loadContext);
 
@@ -69,6 +78,58 @@ public class SingleValueOwningPropertyHolder extends AbstractSingleValueHolder {
         return value;
     }
 
+    /**
+     * Loads referenced entities of all holders of the batch by a single query. Values of other holders are
+     * prefetched and published when these holders are accessed.
+     */
+    protected Object loadBatch(MetaClass metaClass, List<SingleValueOwningPropertyHolder> batch) {
+        List<Object> idList = batch.stream()
+                .map(SingleValueOwningPropertyHolder::getEntityId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Object, Object> loadedEntities = new HashMap<>();
+        if (!idList.isEmpty()) {
+            // Don't use standard loading by ids because AbstractDataStore throws exception
+            // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
+            String queryString = String.format("select e from %s e where e.%s in :idList",
+                    metaClass.getName(), getMetadataTools().getPrimaryKeyName(metaClass));
+            LoadContext<?> loadContext = createLoadContext(metaClass)
+                    .setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
+
+            for (Object entity : getDataManager().loadList(loadContext)) {
+                loadedEntities.put(EntityValues.getId(entity), entity);
+            }
+        }
+
+        Object value = null;
+        for (SingleValueOwningPropertyHolder holder : batch) {
+            Object entityId = holder.getEntityId();
+            Object holderValue = loadedEntities.get(entityId);
+            if (holderValue == null) {
+                getSecurityState(holder.getOwner()).addErasedId(getPropertyInfo().getName(), entityId);
+            }
+            if (holder == this) {
+                value = holderValue;
+            } else {
+                holder.setPrefetchedValue(holderValue);
+            }
+        }
+        return value;
+    }
+
+    protected LoadContext<?> createLoadContext(MetaClass metaClass) {
+        LoadOptions loadOptions = getLoadOptions();
+
+        return new LoadContext<>(metaClass)
+                .setHints(loadOptions.getHintsCopy())
+                .setHint(PREV_SOFT_DELETION,
+                        loadOptions.getHints().getOrDefault(PersistenceHints.SOFT_DELETION, SOFT_DELETION_ABSENT))
+                .setHint(PersistenceHints.SOFT_DELETION, false)
+                .setAccessConstraints(loadOptions.getAccessConstraints());
+    }
+
     protected Object convertId(Object entityId, MetaClass metaClass) {
         MetaProperty primaryKeyProperty = getMetadataTools().getPrimaryKeyProperty(metaClass);
         if (primaryKeyProperty != null && UUID.class.equals(primaryKeyProperty.getJavaType())) {
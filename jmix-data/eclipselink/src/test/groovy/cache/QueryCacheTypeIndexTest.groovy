@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cache
+
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryKey
+import io.jmix.eclipselink.impl.entitycache.QueryResult
+import io.jmix.eclipselink.impl.entitycache.StandardQueryCache
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.cache.CacheManager
+import test_support.DataSpec
+
+class QueryCacheTypeIndexTest extends DataSpec {
+
+    @Autowired
+    QueryCache queryCache
+
+    @Autowired
+    CacheManager cacheManager
+
+    void cleanup() {
+        queryCache.invalidateAll()
+    }
+
+    def "invalidation by type evicts only related queries"() {
+        setup:
+        def orderKey = createKey("select e from test_Order e")
+        def customerKey = createKey("select e from test_Customer e")
+        def joinedKey = createKey("select e from test_Order e join e.customer c")
+
+        queryCache.put(orderKey, new QueryResult([UUID.randomUUID()], 'test_Order', ['test_Order'] as Set))
+        queryCache.put(customerKey, new QueryResult([UUID.randomUUID()], 'test_Customer', ['test_Customer'] as Set))
+        queryCache.put(joinedKey, new QueryResult([UUID.randomUUID()], 'test_Order', ['test_Order', 'test_Customer'] as Set))
+
+        when:
+        queryCache.invalidate('test_Customer')
+
+        then:
+        queryCache.get(orderKey) != null
+        queryCache.get(customerKey) == null
+        queryCache.get(joinedKey) == null
+        queryCache.getInvalidationCounts()['test_Customer'] >= 1
+
+        when:
+        queryCache.invalidate(['test_Order'] as Set)
+
+        then:
+        queryCache.get(orderKey) == null
+    }
+
+    def "hits and misses are counted"() {
+        setup:
+        def key = createKey("select e from test_Order e where e.number = 1")
+        long hits = queryCache.getHitCount()
+        long misses = queryCache.getMissCount()
+
+        when:
+        queryCache.get(key)
+        queryCache.put(key, new QueryResult([], 'test_Order', ['test_Order'] as Set))
+        queryCache.get(key)
+
+        then:
+        queryCache.getHitCount() == hits + 1
+        queryCache.getMissCount() == misses + 1
+    }
+
+    def "keys evicted by the cache itself are pruned from the index"() {
+        setup:
+        StandardQueryCache standardQueryCache = queryCache as StandardQueryCache
+        def keptKey = createKey("select e from test_Order e where e.number = 2")
+        def evictedKey = createKey("select e from test_Order e where e.number = 3")
+        standardQueryCache.put(keptKey, new QueryResult([], 'test_Order', ['test_Order'] as Set))
+        standardQueryCache.put(evictedKey, new QueryResult([], 'test_Order', ['test_Order'] as Set))
+        long indexedKeys = standardQueryCache.getIndexedKeysCount()
+
+        when:
+        cacheManager.getCache(StandardQueryCache.QUERY_CACHE_NAME).evict(evictedKey)
+        standardQueryCache.pruneIndex()
+
+        then:
+        standardQueryCache.getIndexedKeysCount() == indexedKeys - 1
+        standardQueryCache.get(keptKey) != null
+    }
+
+    def "sets of keys are removed from the index when they become empty"() {
+        setup:
+        StandardQueryCache standardQueryCache = queryCache as StandardQueryCache
+        def key = createKey("select e from test_Product e")
+        standardQueryCache.put(key, new QueryResult([], 'test_Product', ['test_Product'] as Set))
+
+        when:
+        standardQueryCache.invalidate('test_Product')
+
+        then:
+        !standardQueryCache.typeKeys.containsKey('test_Product')
+    }
+
+    def "queries put concurrently with invalidation of all queries stay indexed"() {
+        setup:
+        StandardQueryCache standardQueryCache = queryCache as StandardQueryCache
+        def keys = (1..200).collect { createKey("select e from test_Order e where e.number = $it") }
+
+        when:
+        def putThreads = (0..3).collect { int thread ->
+            Thread.start {
+                keys.eachWithIndex { key, i ->
+                    if (i % 4 == thread) {
+                        standardQueryCache.put(key, new QueryResult([], 'test_Order', ['test_Order'] as Set))
+                    }
+                }
+            }
+        }
+        def invalidateThread = Thread.start {
+            20.times { standardQueryCache.invalidateAll() }
+        }
+        (putThreads + invalidateThread)*.join()
+
+        then:
+        keys.findAll { standardQueryCache.containsKey(it) }
+                .every { standardQueryCache.typeKeys['test_Order']?.contains(it) }
+
+        when:
+        standardQueryCache.invalidate('test_Order')
+
+        then:
+        keys.every { !standardQueryCache.containsKey(it) }
+        !standardQueryCache.typeKeys.containsKey('test_Order')
+    }
+
+    private static QueryKey createKey(String queryString) {
+        return new QueryKey(queryString, 0, 0, true, false, null, null, [:])
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.AccessDeniedException
+import io.jmix.core.BulkOperationContext
+import io.jmix.core.DataManager
+import io.jmix.core.Metadata
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext
+import io.jmix.core.constraint.AccessConstraint
+import io.jmix.core.event.EntityBulkChangedEvent
+import io.jmix.core.event.EntityChangedEvent
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.data.PersistenceHints
+import org.apache.commons.lang3.exception.ExceptionUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import test_support.DataSpec
+import test_support.entity.sales.Order
+import test_support.entity.sales.OrderLine
+import test_support.entity.sales.Product
+import test_support.listeners.TestOrdersListener
+
+import java.util.function.BiPredicate
+
+class BulkOperationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    TestOrdersListener ordersListener
+
+    @Autowired
+    SystemAuthenticator authenticator
+
+    List<EntityBulkChangedEvent> events = []
+
+    List<Order> orders
+
+    void setup() {
+        Product product = dataManager.create(Product)
+        product.name = 'p1'
+        dataManager.save(product)
+
+        orders = [10, 20, 30].collect { amount ->
+            Order order = dataManager.create(Order)
+            order.number = "o-$amount"
+            order.amount = amount
+            order
+        }
+        def lines = orders.collect { order ->
+            OrderLine line = dataManager.create(OrderLine)
+            line.order = order
+            line.product = product
+            line.quantity = 1
+            line
+        }
+        dataManager.saveAll(orders + lines)
+
+        ordersListener.bulkConsumer = { events << it }
+    }
+
+    void cleanup() {
+        ordersListener.bulkConsumer = null
+        jdbcTemplate.update('delete from SALES_ORDER_LINE')
+        jdbcTemplate.update('delete from SALES_ORDER')
+        jdbcTemplate.update('delete from SALES_PRODUCT')
+    }
+
+    def "update sets values of instances matching the condition"() {
+        when:
+        long count = dataManager.executeBulk(BulkOperationContext.update(metadata.getClass(Order))
+                .setCondition(PropertyCondition.greaterOrEqual('amount', 20))
+                .setValue('number', 'updated'))
+
+        then:
+        count == 2
+        dataManager.load(Order).all().list()
+                .collectEntries { [(it.amount.intValue()): it.number] } == [10: 'o-10', 20: 'updated', 30: 'updated']
+
+        and: "one event is sent for the changed instances"
+        events.size() == 1
+        events[0].type == EntityChangedEvent.Type.UPDATED
+        events[0].entityIds*.value as Set == [orders[1].id, orders[2].id] as Set
+        events[0].attributes == ['number']
+    }
+
+    def "delete soft deletes instances and cascades to composition items"() {
+        when:
+        long count = dataManager.executeBulk(BulkOperationContext.delete(metadata.getClass(Order))
+                .setCondition(PropertyCondition.less('amount', 30)))
+
+        then:
+        count == 2
+        dataManager.load(Order).all().list()*.id == [orders[2].id]
+        dataManager.load(OrderLine).all().list()*.order*.id == [orders[2].id]
+        dataManager.load(Order).all().hint(PersistenceHints.SOFT_DELETION, false).list().size() == 3
+
+        and:
+        events.find { it.type == EntityChangedEvent.Type.DELETED && it.entityIds.size() == 2 } != null
+        events.size() == 2
+    }
+
+    def "hard delete removes rows"() {
+        when:
+        long count = dataManager.executeBulk(BulkOperationContext.delete(metadata.getClass(Order))
+                .setCondition(PropertyCondition.less('amount', 30))
+                .setHint(PersistenceHints.SOFT_DELETION, false))
+
+        then:
+        count == 2
+        jdbcTemplate.queryForObject('select count(*) from SALES_ORDER', Long) == 1
+        jdbcTemplate.queryForObject('select count(*) from SALES_ORDER_LINE', Long) == 1
+    }
+
+    def "nothing is changed if no instances match the condition"() {
+        when:
+        long count = dataManager.executeBulk(BulkOperationContext.update(metadata.getClass(Order))
+                .setCondition(PropertyCondition.greater('amount', 100))
+                .setValue('number', 'updated'))
+
+        then:
+        count == 0
+        events.isEmpty()
+    }
+
+    def "update increments versions and sets last modified by"() {
+        given:
+        Order stale = dataManager.load(Order).id(orders[1].id).one()
+
+        when:
+        authenticator.begin('admin')
+        try {
+            dataManager.executeBulk(BulkOperationContext.update(metadata.getClass(Order))
+                    .setCondition(PropertyCondition.equal('amount', 20))
+                    .setValue('number', 'updated'))
+        } finally {
+            authenticator.end()
+        }
+        Order reloaded = dataManager.load(Order).id(orders[1].id).one()
+
+        then:
+        reloaded.version == stale.version + 1
+        reloaded.updatedBy == 'admin'
+
+        when: "an instance loaded before the operation is saved"
+        stale.number = 'stale'
+        dataManager.save(stale)
+
+        then:
+        def e = thrown(Exception)
+        ExceptionUtils.getThrowableList(e).any { it.class.simpleName.contains('OptimisticLock') }
+        dataManager.load(Order).id(orders[1].id).one().number == 'updated'
+    }
+
+    def "operation is denied if in-memory constraints exist for the entity"() {
+        given:
+        AccessConstraint<InMemoryCrudEntityContext> constraint = new AccessConstraint<InMemoryCrudEntityContext>() {
+            @Override
+            Class<InMemoryCrudEntityContext> getContextType() {
+                return InMemoryCrudEntityContext
+            }
+
+            @Override
+            void applyTo(InMemoryCrudEntityContext context) {
+                context.addReadPredicate({ entity, applicationContext -> entity.amount > 10 } as BiPredicate)
+            }
+        }
+
+        when:
+        dataManager.executeBulk(BulkOperationContext.update(metadata.getClass(Order))
+                .setCondition(PropertyCondition.greaterOrEqual('amount', 10))
+                .setValue('number', 'updated')
+                .setAccessConstraints([constraint]))
+
+        then:
+        thrown(AccessDeniedException)
+        dataManager.load(Order).all().list()*.number as Set == ['o-10', 'o-20', 'o-30'] as Set
+        events.isEmpty()
+
+        when:
+        dataManager.executeBulk(BulkOperationContext.delete(metadata.getClass(Order))
+                .setCondition(PropertyCondition.greaterOrEqual('amount', 10))
+                .setAccessConstraints([constraint]))
+
+        then:
+        thrown(AccessDeniedException)
+        dataManager.load(Order).all().list().size() == 3
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.ValueLoadContext
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.data.impl.JpqlAggregationQueryBuilder
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import test_support.DataSpec
+import test_support.entity.sales.Order
+
+class JpqlAggregationQueryBuilderTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    JpqlAggregationQueryBuilder aggregationQueryBuilder
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    void cleanup() {
+        jdbcTemplate.update('delete from SALES_ORDER')
+    }
+
+    def "aggregates the whole result set of the entity query with condition"() {
+        def orders = [10, 20, 30, 40].collect { amount ->
+            Order order = dataManager.create(Order)
+            order.number = amount < 40 ? "a-$amount" : "b-$amount"
+            order.amount = amount
+            order
+        }
+        dataManager.saveAll(orders)
+
+        def entityQuery = new LoadContext.Query('select e from sales_Order e order by e.number')
+                .setCondition(PropertyCondition.startsWith('number', 'a-'))
+                .setFirstResult(1)
+                .setMaxResults(1)
+
+        when:
+        ValueLoadContext.Query query = aggregationQueryBuilder.build(metadata.getClass(Order), entityQuery,
+                ['sum({E}.amount)', 'max({E}.amount)', 'count({E})'])
+
+        def values = dataManager.loadValues(ValueLoadContext.create()
+                .setQuery(query)
+                .setProperties(['sum', 'max', 'count']))
+
+        then:
+        !query.queryString.contains('order by')
+        values.size() == 1
+        values[0].<BigDecimal> getValue('sum') == 60
+        values[0].<BigDecimal> getValue('max') == 30
+        values[0].<Long> getValue('count') == 3
+    }
+
+    def "query selecting not an entity is not aggregated"() {
+        expect:
+        aggregationQueryBuilder.build(metadata.getClass(Order),
+                new LoadContext.Query('select e.number from sales_Order e'), ['count({E})']) == null
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.KeysetTokens
+import io.jmix.core.Metadata
+import io.jmix.core.Sort
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import test_support.DataSpec
+import test_support.entity.complex_references.Position
+import test_support.entity.sales.Order
+
+class KeysetPaginationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    KeysetTokens keysetTokens
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    void setup() {
+        def orders = [30, 10, 20, 10, 40, 20, 10].withIndex().collect { amount, i ->
+            Order order = dataManager.create(Order)
+            order.number = "o-$i"
+            order.amount = amount
+            order
+        }
+        dataManager.saveAll(orders)
+    }
+
+    void cleanup() {
+        jdbcTemplate.update('delete from SALES_ORDER')
+        jdbcTemplate.update('delete from TEST_POSITION')
+    }
+
+    def "pages loaded after tokens follow each other in the order of the sort and id"() {
+        def expected = dataManager.load(Order)
+                .all()
+                .sort(Sort.by(Sort.Order.asc('amount'), Sort.Order.asc('id')))
+                .list()
+
+        when:
+        def loaded = loadAllPages(Sort.by('amount'), 3)
+
+        then:
+        loaded*.id == expected*.id
+    }
+
+    def "pages of descending sort"() {
+        def expected = dataManager.load(Order)
+                .all()
+                .sort(Sort.by(Sort.Order.desc('amount'), Sort.Order.asc('id')))
+                .list()
+
+        when:
+        def loaded = loadAllPages(Sort.by(Sort.Direction.DESC, 'amount'), 2)
+
+        then:
+        loaded*.id == expected*.id
+    }
+
+    def "pages without sort are ordered by id"() {
+        def expected = dataManager.load(Order)
+                .all()
+                .sort(Sort.by('id'))
+                .list()
+
+        when:
+        def loaded = loadAllPages(null, 4)
+
+        then:
+        loaded*.id == expected*.id
+    }
+
+    def "token is applied together with condition"() {
+        def keySort = Sort.by(Sort.Order.asc('amount'), Sort.Order.asc('id'))
+        def first = dataManager.load(Order)
+                .query('e.amount >= :amount')
+                .parameter('amount', 20)
+                .sort(keySort)
+                .maxResults(2)
+                .list()
+
+        when:
+        def next = dataManager.load(Order)
+                .query('e.amount >= :amount')
+                .parameter('amount', 20)
+                .sort(keySort)
+                .after(keysetTokens.createToken(first.last(), keySort))
+                .list()
+
+        then:
+        first*.amount == [20, 20]
+        next*.amount == [30, 40]
+    }
+
+    def "token of another sort is rejected"() {
+        def order = dataManager.load(Order).all().list().first()
+        def token = keysetTokens.createToken(order, Sort.by('amount'))
+
+        when:
+        dataManager.load(Order)
+                .all()
+                .sort(Sort.by('amount', 'number'))
+                .after(token)
+                .list()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "pages of fractional sort values are not affected by rounding"() {
+        def positions = [1.00004d, 1.00001d, 1.00003d, 1.00002d, 1.00001d].withIndex().collect { factor, i ->
+            Position position = dataManager.create(Position)
+            position.title = "p-$i"
+            position.factor = factor
+            position
+        }
+        dataManager.saveAll(positions)
+
+        def sort = Sort.by('factor')
+        def keySort = Sort.by(keysetTokens.getKeyOrders(metadata.getClass(Position), sort))
+        def expected = dataManager.load(Position).all().sort(keySort).list()
+
+        when:
+        List<Position> loaded = []
+        String after = null
+        while (true) {
+            def page = dataManager.load(Position).all().sort(keySort).after(after).maxResults(1).list()
+            loaded.addAll(page)
+            if (page.isEmpty()) {
+                break
+            }
+            after = keysetTokens.createToken(page.last(), sort)
+        }
+
+        then:
+        loaded*.id == expected*.id
+    }
+
+    def "token keeps the exact value of a decimal sort property"() {
+        Order order = dataManager.create(Order)
+        order.amount = new BigDecimal('12.345678')
+
+        when:
+        def token = keysetTokens.createToken(order, Sort.by('amount'))
+        def values = keysetTokens.parseToken(metadata.getClass(Order), Sort.by('amount'), token)
+
+        then:
+        values[0] == new BigDecimal('12.345678')
+        values[1] == order.id
+    }
+
+    def "sort by reference is not supported"() {
+        when:
+        keysetTokens.getKeyOrders(metadata.getClass(Order), Sort.by('customer'))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private List<Order> loadAllPages(Sort sort, int pageSize) {
+        // the first page is sorted by the key orders as well to break ties the same way as the next ones
+        Sort keySort = Sort.by(keysetTokens.getKeyOrders(metadata.getClass(Order), sort))
+        List<Order> result = []
+        String after = null
+        while (true) {
+            def page = dataManager.load(Order)
+                    .all()
+                    .sort(keySort)
+                    .after(after)
+                    .maxResults(pageSize)
+                    .list()
+            result.addAll(page)
+            if (page.size() < pageSize) {
+                return result
+            }
+            after = keysetTokens.createToken(page.last(), sort)
+        }
+    }
+}
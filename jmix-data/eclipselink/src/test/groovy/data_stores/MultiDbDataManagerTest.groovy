@@ -173,6 +173,33 @@ class MultiDbDataManagerTest extends DataSpec {
         loadedOrder.mem1Customer != null
     }
 
+    void testCrossDataStoreReferencesOfSeveralEntities() {
+        when:
+        Mem1Customer customer1 = metadata.create(Mem1Customer)
+        customer1.setName("customer1")
+        Mem1Customer customer2 = metadata.create(Mem1Customer)
+        customer2.setName("customer2")
+        dataManager.save(customer1, customer2)
+
+        def orders = [customer1, customer2, customer1].collect { customer ->
+            Db1Order order = metadata.create(Db1Order)
+            order.setOrderDate(new Date())
+            order.setMem1Customer(customer)
+            order
+        }
+        dataManager.saveAll(orders)
+
+        List<Db1Order> loadedOrders = dataManager.load(Db1Order)
+                .ids(orders*.id)
+                .fetchPlan({ builder -> builder.add("mem1Customer") })
+                .list()
+
+        then: "each entity gets its own reference from another store"
+        loadedOrders.size() == 3
+        loadedOrders.every { it.mem1Customer.id == orders.find { o -> o.id == it.id }.mem1Customer.id }
+        loadedOrders.findAll { it.mem1Customer.name == "customer1" }.size() == 2
+    }
+
     void testNestedCrossDatastoreEntitiesSaving() {
         when:
         Db1Order order = metadata.create(Db1Order)
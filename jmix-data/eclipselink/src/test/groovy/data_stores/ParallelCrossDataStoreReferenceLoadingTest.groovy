@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_stores
+
+import io.jmix.core.DataManager
+import io.jmix.core.Metadata
+import io.jmix.core.impl.DataStoreFactory
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.data.StoreAwareLocator
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.core.Authentication
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.test.context.TestPropertySource
+import test_support.DataSpec
+import test_support.TestInMemoryDataStore
+import test_support.entity.multidb.Db1Order
+import test_support.entity.multidb.Mem1Customer
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@TestPropertySource(properties = [
+        "jmix.core.cross-data-store-reference-loading-parallelism = 4",
+        "jmix.core.cross-data-store-reference-loading-batch-size = 2"
+])
+class ParallelCrossDataStoreReferenceLoadingTest extends DataSpec {
+
+    @Autowired
+    Metadata metadata
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    StoreAwareLocator storeAwareLocator
+    @Autowired
+    DataStoreFactory dataStoreFactory
+    @Autowired
+    SystemAuthenticator authenticator
+
+    TestInMemoryDataStore mem1Store
+    List<Mem1Customer> customers
+    List<Db1Order> orders
+
+    def setup() {
+        mem1Store = (TestInMemoryDataStore) dataStoreFactory.get("mem1")
+        mem1Store.clear()
+
+        customers = (1..5).collect {
+            Mem1Customer customer = metadata.create(Mem1Customer)
+            customer.setName("customer$it")
+            customer
+        }
+        dataManager.saveAll(customers)
+
+        orders = (0..7).collect {
+            Db1Order order = metadata.create(Db1Order)
+            order.setOrderDate(new Date())
+            order.setMem1Customer(customers[it % customers.size()])
+            order
+        }
+        dataManager.saveAll(orders)
+    }
+
+    def cleanup() {
+        mem1Store.clear()
+        storeAwareLocator.getJdbcTemplate("db1").update("delete from ORDER_")
+    }
+
+    def "references loaded by batches in worker threads are set to their owners by id"() {
+        def loadingThreads = new ConcurrentLinkedQueue<String>()
+        def latch = new CountDownLatch(2)
+        mem1Store.setLoadListener {
+            loadingThreads << Thread.currentThread().name
+            // make sure at least two batches are loaded at the same time
+            latch.countDown()
+            latch.await(10, TimeUnit.SECONDS)
+        }
+
+        when:
+        List<Db1Order> loadedOrders = loadOrders()
+
+        then:
+        loadedOrders.size() == orders.size()
+        loadedOrders.every { it.mem1Customer.id == orders.find { o -> o.id == it.id }.mem1Customer.id }
+        loadedOrders.every { it.mem1Customer.name == customers.find { c -> c.id == it.mem1Customer.id }.name }
+
+        loadingThreads.size() == 4
+        loadingThreads.every { it.startsWith("jmix-cds-loading-") }
+        loadingThreads.toSet().size() > 1
+    }
+
+    def "worker threads load references with the security context of the calling thread"() {
+        def authentications = new ConcurrentLinkedQueue<Authentication>()
+        mem1Store.setLoadListener {
+            authentications << SecurityContextHolder.getContext().getAuthentication()
+        }
+
+        when:
+        authenticator.begin()
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication()
+        loadOrders()
+
+        then:
+        authentications.size() == 4
+        authentications.every { it.is(authentication) }
+
+        cleanup:
+        authenticator.end()
+    }
+
+    def "exception thrown in a worker thread is rethrown in the calling thread"() {
+        mem1Store.setLoadListener {
+            if (it.getIds().contains(customers[2].id) || it.getId() == customers[2].id) {
+                throw new IllegalStateException("Unable to load customer3")
+            }
+        }
+
+        when:
+        loadOrders()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == "Unable to load customer3"
+    }
+
+    private List<Db1Order> loadOrders() {
+        return dataManager.load(Db1Order)
+                .ids(orders*.id)
+                .fetchPlan({ builder -> builder.add("mem1Customer") })
+                .joinTransaction(false)
+                .list()
+    }
+}
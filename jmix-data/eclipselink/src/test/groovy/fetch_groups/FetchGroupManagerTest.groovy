@@ -212,4 +212,40 @@ class FetchGroupManagerTest extends DataSpec {
         entityStates.isLoaded(order.orderLines[0], 'product')
         entityStates.isLoaded(order.orderLines[0].product, 'quantity')
     }
+
+    def "descriptions are cached by the structure of fetch plan"() {
+        def fetchPlan1 = fetchPlans.builder(Order)
+                .addFetchPlan(FetchPlan.BASE)
+                .add('customer', FetchPlan.BASE)
+                .add('orderLines', FetchPlan.BASE)
+                .build()
+        def fetchPlan2 = fetchPlans.builder(Order)
+                .add('orderLines', FetchPlan.BASE)
+                .add('customer', FetchPlan.BASE)
+                .addFetchPlan(FetchPlan.BASE)
+                .build()
+        def fetchPlan3 = fetchPlans.builder(Order)
+                .addFetchPlan(FetchPlan.BASE)
+                .add('customer', FetchPlan.BASE)
+                .build()
+
+        when:
+        def description1 = fetchGroupManager.calculateFetchGroup('select o from sales_Order o', fetchPlan1, false, true)
+        def description2 = fetchGroupManager.calculateFetchGroup('select o from sales_Order o', fetchPlan2, false, true)
+
+        then:
+        description1.is(description2)
+        description1.sealed
+
+        and: "the query kind, fetch plan and query string are parts of the key"
+        !description1.is(fetchGroupManager.calculateFetchGroup('select o from sales_Order o', fetchPlan1, true, true))
+        !description1.is(fetchGroupManager.calculateFetchGroup('select o from sales_Order o', fetchPlan3, false, true))
+        !description1.is(fetchGroupManager.calculateFetchGroup('select e from sales_Order e', fetchPlan1, false, true))
+
+        when:
+        description1.addAttribute('number')
+
+        then:
+        thrown(IllegalStateException)
+    }
 }
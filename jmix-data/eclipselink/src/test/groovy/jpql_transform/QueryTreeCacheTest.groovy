@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jpql_transform
+
+import io.jmix.core.Sort
+import io.jmix.data.DataProperties
+import io.jmix.data.impl.jpql.DomainModel
+import io.jmix.data.impl.jpql.QueryTreeCache
+import io.jmix.data.impl.jpql.model.EntityBuilder
+import io.jmix.data.impl.jpql.model.JpqlEntityModel
+import io.jmix.data.impl.jpql.transform.QueryTransformerAstBased
+import spock.lang.Specification
+
+class QueryTreeCacheTest extends Specification {
+
+    DomainModel domainModel
+    QueryTreeCache queryTreeCache
+
+    void setup() {
+        domainModel = new DomainModel(createUserEntity())
+        queryTreeCache = new QueryTreeCache(new DataProperties(true, 100, false, null, true, false, 10))
+    }
+
+    def "transformers modify copies of the cached tree"() {
+        def query = "select u from sec_User u where u.name = :name"
+
+        when:
+        def transformer1 = createTransformer(query)
+        transformer1.addWhere("{E}.login = :login")
+        def result1 = transformer1.getResult()
+
+        def transformer2 = createTransformer(query)
+        transformer2.replaceOrderByExpressions(['{E}.login': Sort.Direction.DESC])
+        def result2 = transformer2.getResult()
+
+        def transformer3 = createTransformer(query)
+        def result3 = transformer3.getResult()
+
+        then:
+        result1.contains("u.login = :login")
+        !result1.contains("order by")
+        result2.contains("order by")
+        result2.contains("u.login desc")
+        !result2.contains(":login")
+        result3 == new QueryTransformerAstBased(domainModel, query).getResult()
+
+        queryTreeCache.getSize() == 1
+        queryTreeCache.getHitCount() == 2
+    }
+
+    def "trees are cached per domain model"() {
+        def query = "select u from sec_User u"
+
+        when:
+        queryTreeCache.getTree(domainModel, query)
+        queryTreeCache.getTree(new DomainModel(createUserEntity()), query)
+
+        then:
+        queryTreeCache.getSize() == 2
+    }
+
+    private static JpqlEntityModel createUserEntity() {
+        return EntityBuilder.create()
+                .startNewEntity('sec_User')
+                .addStringAttribute("login")
+                .addStringAttribute("name")
+                .produce()
+    }
+
+    private QueryTransformerAstBased createTransformer(String query) {
+        def transformer = new QueryTransformerAstBased(domainModel, query)
+        transformer.queryTreeCache = queryTreeCache
+        return transformer
+    }
+}
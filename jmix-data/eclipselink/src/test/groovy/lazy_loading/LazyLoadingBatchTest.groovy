@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lazy_loading
+
+import io.jmix.core.DataManager
+import io.jmix.core.Metadata
+import io.jmix.eclipselink.impl.lazyloading.AbstractValueHolder
+import io.jmix.eclipselink.impl.lazyloading.ValueHoldersSupport
+import org.springframework.beans.factory.annotation.Autowired
+import spock.lang.IgnoreIf
+import test_support.DataSpec
+import test_support.entity.lazyloading.ManyToOneEntity
+import test_support.entity.lazyloading.OneToManyEntity
+
+@IgnoreIf({Boolean.valueOf(System.getenv("JMIX_ECLIPSELINK_DISABLELAZYLOADING"))})
+class LazyLoadingBatchTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    Metadata metadata
+
+    OneToManyEntity one1, one2
+    ManyToOneEntity many1, many2, many3
+
+    void setup() {
+        one1 = metadata.create(OneToManyEntity)
+        one1.name = "one1"
+        one2 = metadata.create(OneToManyEntity)
+        one2.name = "one2"
+
+        many1 = metadata.create(ManyToOneEntity)
+        many1.name = "many1"
+        many1.oneToManyEntity = one1
+        many2 = metadata.create(ManyToOneEntity)
+        many2.name = "many2"
+        many2.oneToManyEntity = one2
+        many3 = metadata.create(ManyToOneEntity)
+        many3.name = "many3"
+        many3.oneToManyEntity = one1
+
+        dataManager.save(one1, one2, many1, many2, many3)
+    }
+
+    void cleanup() {
+        jdbc.update("delete from TEST_MANY_TO_ONE_ENTITY")
+        jdbc.update("delete from TEST_ONE_TO_MANY_ENTITY")
+    }
+
+    def "references of sibling entities are loaded together"() {
+        when:
+        List<ManyToOneEntity> list = dataManager.load(ManyToOneEntity)
+                .query("select e from test_ManyToOneEntity e where e.id in :ids order by e.name")
+                .parameter("ids", [many1.id, many2.id, many3.id])
+                .fetchPlan(b -> b.add("name"))
+                .list()
+
+        def first = list[0].oneToManyEntity
+
+        then:
+        first == one1
+        isPrefetched(ValueHoldersSupport.getSingleValueHolder(list[1], "oneToManyEntity"))
+        isPrefetched(ValueHoldersSupport.getSingleValueHolder(list[2], "oneToManyEntity"))
+
+        and:
+        list[1].oneToManyEntity == one2
+        list[1].oneToManyEntity.name == "one2"
+        list[2].oneToManyEntity == one1
+    }
+
+    def "collections of sibling entities are loaded together"() {
+        when:
+        List<OneToManyEntity> list = dataManager.load(OneToManyEntity)
+                .query("select e from test_OneToManyEntity e where e.id in :ids order by e.name")
+                .parameter("ids", [one1.id, one2.id])
+                .fetchPlan(b -> b.add("name"))
+                .list()
+
+        def first = list[0].manyToOneEntities
+
+        then:
+        first as Set == [many1, many3] as Set
+        isPrefetched(ValueHoldersSupport.getCollectionValueHolder(list[1], "manyToOneEntities"))
+
+        and:
+        list[1].manyToOneEntities == [many2]
+    }
+
+    def "siblings are released by value holders of the loaded batch"() {
+        when:
+        List<ManyToOneEntity> list = dataManager.load(ManyToOneEntity)
+                .query("select e from test_ManyToOneEntity e where e.id in :ids order by e.name")
+                .parameter("ids", [many1.id, many2.id, many3.id])
+                .fetchPlan(b -> b.add("name"))
+                .list()
+
+        def holders = list.collect { ValueHoldersSupport.getSingleValueHolder(it, "oneToManyEntity") }
+
+        then:
+        holders.every { getSiblings(it) != null }
+
+        when:
+        list[0].oneToManyEntity
+
+        then:
+        holders.every { getSiblings(it) == null }
+    }
+
+    private static Object getSiblings(Object valueHolder) {
+        def siblingsField = AbstractValueHolder.getDeclaredField("siblings")
+        siblingsField.accessible = true
+        return siblingsField.get(valueHolder)
+    }
+
+    private static boolean isPrefetched(Object valueHolder) {
+        def prefetchedField = AbstractValueHolder.getDeclaredField("prefetched")
+        prefetchedField.accessible = true
+        return prefetchedField.getBoolean(valueHolder)
+    }
+}
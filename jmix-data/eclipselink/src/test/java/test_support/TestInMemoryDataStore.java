@@ -27,6 +27,8 @@ import org.springframework.stereotype.Component;
 import org.jspecify.annotations.Nullable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component("test_InMemoryDataStore")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -36,6 +38,8 @@ public class TestInMemoryDataStore implements DataStore {
 
     private Map<String, Map<Object, Object>> entities = new ConcurrentHashMap<>();
 
+    private volatile Consumer<LoadContext<?>> loadListener;
+
     @Autowired
     private Metadata metadata;
 
@@ -52,6 +56,7 @@ public class TestInMemoryDataStore implements DataStore {
     @Nullable
     @Override
     public Object load(LoadContext<?> context) {
+        notifyLoadListener(context);
         Map<Object, Object> instances = entities.get(context.getEntityMetaClass().getName());
         if (instances == null)
             return null;
@@ -61,9 +66,15 @@ public class TestInMemoryDataStore implements DataStore {
 
     @Override
     public List<Object> loadList(LoadContext<?> context) {
+        notifyLoadListener(context);
         Map<Object, Object> instances = entities.get(context.getEntityMetaClass().getName());
         if (instances == null)
             return Collections.emptyList();
+        else if (!context.getIds().isEmpty())
+            return context.getIds().stream()
+                    .map(instances::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         else
             return new ArrayList<>(instances.values());
     }
@@ -115,5 +126,20 @@ public class TestInMemoryDataStore implements DataStore {
 
     public void clear() {
         entities.clear();
+        loadListener = null;
+    }
+
+    /**
+     * Sets a listener called in the loading thread before each load.
+     */
+    public void setLoadListener(@Nullable Consumer<LoadContext<?>> loadListener) {
+        this.loadListener = loadListener;
+    }
+
+    private void notifyLoadListener(LoadContext<?> context) {
+        Consumer<LoadContext<?>> listener = loadListener;
+        if (listener != null) {
+            listener.accept(context);
+        }
     }
 }
@@ -16,6 +16,7 @@
 
 package test_support.listeners;
 
+import io.jmix.core.event.EntityBulkChangedEvent;
 import io.jmix.core.event.EntityChangedEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -24,16 +25,22 @@ import test_support.entity.sales.Order;
 import test_support.entity.sales.OrderLine;
 
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Component("test_TestOrdersListener")
 public class TestOrdersListener {
 
     private BiConsumer<EntityChangedEvent, TransactionPhase> consumer;
+    private Consumer<EntityBulkChangedEvent> bulkConsumer;
 
     public void setConsumer(BiConsumer<EntityChangedEvent, TransactionPhase> consumer) {
         this.consumer = consumer;
     }
 
+    public void setBulkConsumer(Consumer<EntityBulkChangedEvent> bulkConsumer) {
+        this.bulkConsumer = bulkConsumer;
+    }
+
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void onOrderBeforeCommit(EntityChangedEvent<Order> event) {
         if (consumer != null) consumer.accept(event, TransactionPhase.BEFORE_COMMIT);
@@ -55,4 +62,13 @@ public class TestOrdersListener {
         if (consumer != null) consumer.accept(event, TransactionPhase.AFTER_COMMIT);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrdersBulkChanged(EntityBulkChangedEvent<Order> event) {
+        if (bulkConsumer != null) bulkConsumer.accept(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderLinesBulkChanged(EntityBulkChangedEvent<OrderLine> event) {
+        if (bulkConsumer != null) bulkConsumer.accept(event);
+    }
 }
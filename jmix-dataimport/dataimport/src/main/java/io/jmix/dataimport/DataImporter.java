@@ -17,7 +17,9 @@
 package io.jmix.dataimport;
 
 import io.jmix.dataimport.configuration.ImportConfiguration;
+import io.jmix.dataimport.configuration.ImportTransactionStrategy;
 import io.jmix.dataimport.extractor.data.ImportedData;
+import io.jmix.dataimport.extractor.data.ImportedDataStream;
 import io.jmix.dataimport.result.ImportResult;
 
 import java.io.InputStream;
@@ -33,6 +35,13 @@ import org.jspecify.annotations.NullMarked;
  *     <li>JSON: a JSON file that has an object array as a root node in which one object represents one entity to import</li>
  *     <li>XML: a XML file that has one root tag containing child tags with equal structure. One child tag represents one entity to import.</li>
  * </ol>
+ * Unless {@link ImportTransactionStrategy#SINGLE_TRANSACTION} is used, the input data is read item by item as the
+ * entities are imported, so the whole input data is not kept in memory. The {@link ImportResult} still contains
+ * the ids of all imported entities and the errors of all failed ones.
+ * <p>
+ * As the input data is read during the import, a malformed item is detected only when it is reached. In this case
+ * the import is stopped with an error result, while the entities imported by the previous transactions
+ * remain saved.
  *
  * @see ImportConfiguration
  */
@@ -67,4 +76,16 @@ public interface DataImporter {
      * @return object that contains result of import execution
      */
     ImportResult importData(ImportConfiguration configuration, ImportedData importedData);
+
+    /**
+     * Creates the entities using data items read from the given {@link ImportedDataStream} and specified import
+     * configuration and saves these entities to the database. The items are read from the stream as the entities
+     * are imported, so an error of reading the stream stops the import after the entities of the previous items
+     * have already been saved. The stream is not closed by this method.
+     *
+     * @param configuration      import configuration
+     * @param importedDataStream stream of imported data items
+     * @return object that contains result of import execution
+     */
+    ImportResult importData(ImportConfiguration configuration, ImportedDataStream importedDataStream);
 }
@@ -18,6 +18,8 @@ package io.jmix.dataimport.configuration;
 
 import io.jmix.dataimport.configuration.mapping.PropertyMapping;
 import io.jmix.dataimport.extractor.entity.EntityExtractionResult;
+import io.jmix.dataimport.result.ImportProgress;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -40,6 +42,7 @@ import java.util.function.Predicate;
  *     <li>Entity initializer: a consumer that is executed after pre-import check and allows to make additional changes with extracted entity before import.</li>
  *     <li>Input data charset: this parameter is required if CSV is input data format. Default value: UTF-8.</li>
  *     <li>Unique entity configurations: list of {@link UniqueEntityConfiguration}.</li>
+ *     <li>Progress listener: a consumer that is notified about {@link ImportProgress} after each imported batch of entities.</li>
  * </ol>
  * <br>
  * Import configuration can be created by constructor or by {@link ImportConfigurationBuilder}.
@@ -96,6 +99,7 @@ public class ImportConfiguration {
 
     protected Predicate<EntityExtractionResult> preImportPredicate;
     protected Consumer<Object> entityInitializer;
+    protected Consumer<ImportProgress> progressListener;
 
     public ImportConfiguration(Class entityClass, String inputDataFormat) {
         this.entityClass = entityClass;
@@ -344,6 +348,28 @@ public class ImportConfiguration {
         return this;
     }
 
+    /**
+     * Gets a consumer that is notified about the import progress.
+     *
+     * @return import progress listener
+     */
+    @Nullable
+    public Consumer<ImportProgress> getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Sets a consumer that is notified about the import progress after each batch of imported data items
+     * (see {@link #getImportBatchSize()}) and after the import is finished.
+     *
+     * @param progressListener import progress listener
+     * @return current instance of import configuration
+     */
+    public ImportConfiguration setProgressListener(@Nullable Consumer<ImportProgress> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
     /**
      * Creates an instance of {@link ImportConfigurationBuilder} for the specified entity class and import configuration code.
      *
@@ -19,6 +19,7 @@ package io.jmix.dataimport.configuration;
 import io.jmix.dataimport.configuration.mapping.*;
 import io.jmix.dataimport.extractor.entity.EntityExtractionResult;
 import io.jmix.dataimport.property.populator.CustomMappingContext;
+import io.jmix.dataimport.result.ImportProgress;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -42,6 +43,7 @@ import java.util.function.Predicate;
  *     <li>Entity initializer: a consumer that is executed after pre-import check and allows to make additional changes with extracted entity before import.</li>
  *     <li>Input data charset: this parameter is required if CSV is input data format. Default value: UTF-8</li>
  *     <li>Unique entity configurations: list of {@link UniqueEntityConfiguration}.</li>
+ *     <li>Progress listener: a consumer that is notified about {@link ImportProgress} after each imported batch of entities.</li>
  * </ol>
  */
 public class ImportConfigurationBuilder {
@@ -61,6 +63,7 @@ public class ImportConfigurationBuilder {
 
     private Predicate<EntityExtractionResult> preImportPredicate;
     private Consumer<Object> entityInitializer;
+    private Consumer<ImportProgress> progressListener;
 
     private List<UniqueEntityConfiguration> uniqueEntityConfigurations = new ArrayList<>();
 
@@ -237,6 +240,17 @@ public class ImportConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Sets a consumer that is notified about the import progress after each batch of imported data items.
+     *
+     * @param progressListener import progress listener
+     * @return current instance of builder
+     */
+    public ImportConfigurationBuilder withProgressListener(Consumer<ImportProgress> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
     /**
      * Creates an instance of {@link ImportConfiguration} based on the specified parameters.
      *
@@ -253,6 +267,7 @@ public class ImportConfigurationBuilder {
                 .setInputDataCharset(this.inputDataCharset)
                 .setPreImportPredicate(this.preImportPredicate)
                 .setEntityInitializer(entityInitializer)
+                .setProgressListener(progressListener)
                 .setUniqueEntityConfigurations(this.uniqueEntityConfigurations);
     }
 }
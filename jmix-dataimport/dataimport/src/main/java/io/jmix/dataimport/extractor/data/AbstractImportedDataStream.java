@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.extractor.data;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for {@link ImportedDataStream} implementations that read items one by one.
+ */
+public abstract class AbstractImportedDataStream implements ImportedDataStream {
+
+    protected List<String> dataFieldNames;
+
+    private ImportedDataItem nextItem;
+    private boolean finished;
+
+    protected AbstractImportedDataStream() {
+        this(new ArrayList<>());
+    }
+
+    protected AbstractImportedDataStream(List<String> dataFieldNames) {
+        this.dataFieldNames = dataFieldNames;
+    }
+
+    /**
+     * Reads the next item from the input data.
+     *
+     * @return next item or null if there are no more items
+     */
+    @Nullable
+    protected abstract ImportedDataItem readNextItem();
+
+    @Override
+    public boolean hasNext() {
+        if (nextItem == null && !finished) {
+            nextItem = readNextItem();
+            finished = nextItem == null;
+        }
+        return nextItem != null;
+    }
+
+    @Override
+    public ImportedDataItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportedDataItem item = nextItem;
+        nextItem = null;
+        return item;
+    }
+
+    @Override
+    public List<String> getDataFieldNames() {
+        return dataFieldNames;
+    }
+
+    protected void addDataFieldName(String dataFieldName) {
+        if (!dataFieldNames.contains(dataFieldName)) {
+            dataFieldNames.add(dataFieldName);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
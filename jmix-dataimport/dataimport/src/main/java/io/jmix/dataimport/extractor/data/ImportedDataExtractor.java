@@ -47,6 +47,21 @@ public interface ImportedDataExtractor {
      */
     ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData);
 
+    /**
+     * Creates a stream that parses input data specified as input stream item by item, so that the whole input data
+     * is not loaded into memory. The input stream is read as the items are requested and may be closed when the
+     * returned stream is closed.
+     * <br>
+     * By default, parses the whole input data using {@link #extract(ImportConfiguration, InputStream)}.
+     *
+     * @param importConfiguration import configuration
+     * @param inputStream input data
+     * @return stream of {@link ImportedDataItem}s with raw values for entity properties
+     */
+    default ImportedDataStream extractStream(ImportConfiguration importConfiguration, InputStream inputStream) {
+        return ImportedDataStream.of(extract(importConfiguration, inputStream));
+    }
+
     /**
      * @return supported format of input data
      */
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.extractor.data;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Sequence of {@link ImportedDataItem}s that are read from the input data on demand. Unlike {@link ImportedData},
+ * the items are not kept in memory: the next item is parsed only when it is requested by the import process.
+ * <br>
+ * The stream must be closed after use to release the underlying resources.
+ *
+ * @see ImportedDataExtractor#extractStream(io.jmix.dataimport.configuration.ImportConfiguration, java.io.InputStream)
+ */
+@NullMarked
+public interface ImportedDataStream extends Iterator<ImportedDataItem>, Closeable {
+
+    /**
+     * Returns names of the fields from input data. For CSV and XLSX, the names are known before the first item is read.
+     * For JSON and XML, the list contains the names of the fields of the items read so far.
+     *
+     * @return data field names
+     */
+    List<String> getDataFieldNames();
+
+    /**
+     * Releases the resources used to read the input data.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a stream of items from the given {@link ImportedData}.
+     *
+     * @param importedData imported data
+     * @return stream of imported data items
+     */
+    static ImportedDataStream of(ImportedData importedData) {
+        Iterator<ImportedDataItem> iterator = importedData.getItems().iterator();
+        return new AbstractImportedDataStream(importedData.getDataFieldNames()) {
+            @Override
+            protected ImportedDataItem readNextItem() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+        };
+    }
+}
@@ -21,10 +21,9 @@ import com.opencsv.exceptions.CsvException;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
-import io.jmix.dataimport.extractor.data.ImportedData;
-import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
-import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.extractor.data.*;
 import org.apache.commons.collections4.CollectionUtils;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
@@ -56,6 +55,17 @@ public class CsvDataExtractor implements ImportedDataExtractor {
         return getImportedData(csvReader);
     }
 
+    @Override
+    public ImportedDataStream extractStream(ImportConfiguration importConfiguration, InputStream inputStream) {
+        CSVReader csvReader;
+        try {
+            csvReader = new CSVReader(new InputStreamReader(inputStream, importConfiguration.getInputDataCharset()));
+        } catch (UnsupportedEncodingException e) {
+            throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
+        }
+        return new CsvDataStream(csvReader);
+    }
+
     @Override
     public String getSupportedDataFormat() {
         return InputDataFormat.CSV;
@@ -85,4 +95,53 @@ public class CsvDataExtractor implements ImportedDataExtractor {
         }
         return importedData;
     }
+
+    /**
+     * Reads CSV lines one by one. The first line contains column names.
+     */
+    protected static class CsvDataStream extends AbstractImportedDataStream {
+        protected CSVReader csvReader;
+        protected int itemIndex = 1;
+
+        public CsvDataStream(CSVReader csvReader) {
+            this.csvReader = csvReader;
+            String[] columnNames = readNext();
+            if (columnNames != null) {
+                dataFieldNames.addAll(Arrays.asList(columnNames));
+            }
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNextItem() {
+            String[] values = readNext();
+            if (values == null) {
+                return null;
+            }
+            ImportedDataItem importedDataItem = new ImportedDataItem();
+            importedDataItem.setItemIndex(itemIndex++);
+            for (int j = 0; j < values.length; j++) {
+                importedDataItem.addRawValue(dataFieldNames.get(j), values[j]);
+            }
+            return importedDataItem;
+        }
+
+        @Nullable
+        protected String[] readNext() {
+            try {
+                return csvReader.readNext();
+            } catch (IOException | CsvException e) {
+                throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                csvReader.close();
+            } catch (IOException e) {
+                throw new ImportException(e, "Unable to close CSV reader: " + e.getMessage());
+            }
+        }
+    }
 }
@@ -19,17 +19,35 @@ package io.jmix.dataimport.extractor.data.impl;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
-import io.jmix.dataimport.extractor.data.ImportedData;
-import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
-import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.extractor.data.*;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component("datimp_ExcelDataExtractor")
 public class ExcelDataExtractor implements ImportedDataExtractor {
@@ -56,6 +74,26 @@ public class ExcelDataExtractor implements ImportedDataExtractor {
         return getImportedData(workbook);
     }
 
+    /**
+     * {@inheritDoc}
+     * <br>
+     * The XLSX content is copied to a temporary file and the first sheet is read row by row without creating
+     * a {@link Workbook}. Formula cells are read as their cached values. Other formats supported by
+     * {@link WorkbookFactory}, e.g. XLS, are read as a whole.
+     */
+    @Override
+    public ImportedDataStream extractStream(ImportConfiguration importConfiguration, InputStream inputStream) {
+        InputStream checkedStream = FileMagic.prepareToCheckMagic(inputStream);
+        try {
+            if (FileMagic.valueOf(checkedStream) != FileMagic.OOXML) {
+                return ImportedDataStream.of(extract(importConfiguration, checkedStream));
+            }
+            return new XlsxDataStream(checkedStream);
+        } catch (IOException e) {
+            throw new ImportException(e, "I/O error occurs during Excel data reading:" + e.getMessage());
+        }
+    }
+
     @Override
     public String getSupportedDataFormat() {
         return InputDataFormat.XLSX;
@@ -90,4 +128,191 @@ public class ExcelDataExtractor implements ImportedDataExtractor {
 
         return importedData;
     }
+
+    /**
+     * Reads rows of the first sheet of an XLSX file one by one. The first row contains column names.
+     */
+    protected static class XlsxDataStream extends AbstractImportedDataStream {
+        protected Path tempFile;
+        protected OPCPackage opcPackage;
+        protected ReadOnlySharedStringsTable sharedStrings;
+        protected StylesTable styles;
+        protected InputStream sheetStream;
+        protected XMLStreamReader reader;
+        protected DataFormatter dataFormatter = new DataFormatter();
+
+        protected int rowNum = -1;
+        protected Map<Integer, String> rowValues;
+
+        public XlsxDataStream(InputStream inputStream) throws IOException {
+            tempFile = Files.createTempFile("jmix-dataimport-", ".xlsx");
+            try {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                opcPackage = OPCPackage.open(tempFile.toFile(), PackageAccess.READ);
+                XSSFReader xssfReader = new XSSFReader(opcPackage);
+                sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+                styles = xssfReader.getStylesTable();
+                sheetStream = xssfReader.getSheetsData().next();
+                reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+
+                if (readRow()) {
+                    dataFieldNames.addAll(rowValues.values());
+                }
+            } catch (OpenXML4JException | SAXException | XMLStreamException | RuntimeException e) {
+                close();
+                throw new ImportException(e, "Error while reading Excel data: " + e.getMessage());
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNextItem() {
+            try {
+                if (!readRow()) {
+                    return null;
+                }
+            } catch (XMLStreamException e) {
+                throw new ImportException(e, "Error while reading Excel data: " + e.getMessage());
+            }
+            ImportedDataItem dataItem = new ImportedDataItem();
+            dataItem.setItemIndex(rowNum);
+            for (int i = 0; i < dataFieldNames.size(); i++) {
+                dataItem.addRawValue(dataFieldNames.get(i), rowValues.getOrDefault(i, ""));
+            }
+            return dataItem;
+        }
+
+        /**
+         * Reads the next row element and puts formatted values of its cells to {@link #rowValues} by column indexes.
+         *
+         * @return false if there are no more rows in the sheet
+         */
+        protected boolean readRow() throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+                    String rowReference = reader.getAttributeValue(null, "r");
+                    rowNum = rowReference != null ? Integer.parseInt(rowReference) - 1 : rowNum + 1;
+                    rowValues = new LinkedHashMap<>();
+                    readCells();
+                    return true;
+                } else if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(reader.getLocalName())) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        protected void readCells() throws XMLStreamException {
+            int column = -1;
+            String cellType = null;
+            String styleIndex = null;
+            StringBuilder value = null;
+            StringBuilder inlineString = null;
+            boolean inValue = false;
+            boolean inInlineString = false;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "c" -> {
+                            String cellReference = reader.getAttributeValue(null, "r");
+                            column = cellReference != null ? new CellReference(cellReference).getCol() : column + 1;
+                            cellType = reader.getAttributeValue(null, "t");
+                            styleIndex = reader.getAttributeValue(null, "s");
+                            value = null;
+                            inlineString = null;
+                        }
+                        case "v" -> {
+                            inValue = true;
+                            value = new StringBuilder();
+                        }
+                        case "is" -> {
+                            inInlineString = true;
+                            inlineString = new StringBuilder();
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    if (inValue) {
+                        value.append(reader.getText());
+                    } else if (inInlineString) {
+                        inlineString.append(reader.getText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "v" -> inValue = false;
+                        case "is" -> inInlineString = false;
+                        case "c" -> rowValues.put(column, formatCellValue(cellType, styleIndex,
+                                value != null ? value.toString() : null,
+                                inlineString != null ? inlineString.toString() : null));
+                        case "row" -> {
+                            return;
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+        }
+
+        protected String formatCellValue(@Nullable String cellType, @Nullable String styleIndex,
+                                         @Nullable String value, @Nullable String inlineString) {
+            if ("inlineStr".equals(cellType)) {
+                return inlineString != null ? inlineString : "";
+            }
+            if (value == null) {
+                return "";
+            }
+            return switch (cellType == null ? "n" : cellType) {
+                case "s" -> sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+                case "b" -> "0".equals(value) ? "FALSE" : "TRUE";
+                case "n" -> formatNumber(styleIndex, value);
+                default -> value;
+            };
+        }
+
+        protected String formatNumber(@Nullable String styleIndex, String value) {
+            XSSFCellStyle style = null;
+            if (styleIndex != null) {
+                style = styles.getStyleAt(Integer.parseInt(styleIndex));
+            } else if (styles.getNumCellStyles() > 0) {
+                style = styles.getStyleAt(0);
+            }
+            if (style == null) {
+                return value;
+            }
+            short formatIndex = style.getDataFormat();
+            String formatString = style.getDataFormatString();
+            if (formatString == null) {
+                formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+            }
+            return formatString != null
+                    ? dataFormatter.formatRawCellContents(Double.parseDouble(value), formatIndex, formatString)
+                    : value;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (reader != null) {
+                    reader.close();
+                }
+                if (sheetStream != null) {
+                    sheetStream.close();
+                }
+                if (opcPackage != null) {
+                    opcPackage.revert();
+                }
+                Files.deleteIfExists(tempFile);
+            } catch (XMLStreamException | IOException e) {
+                throw new ImportException(e, "Unable to close Excel data reader: " + e.getMessage());
+            }
+        }
+    }
 }
@@ -16,13 +16,16 @@
 
 package io.jmix.dataimport.extractor.data.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.extractor.data.*;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -61,6 +64,17 @@ public class JsonDataExtractor implements ImportedDataExtractor {
         }
     }
 
+    @Override
+    public ImportedDataStream extractStream(ImportConfiguration importConfiguration, InputStream inputStream) {
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            JsonParser parser = mapper.getFactory().createParser(inputStream);
+            return new JsonDataStream(mapper, parser);
+        } catch (IOException e) {
+            throw new ImportException(e, "I/O error: " + e.getMessage());
+        }
+    }
+
     @Override
     public String getSupportedDataFormat() {
         return InputDataFormat.JSON;
@@ -148,5 +162,61 @@ public class JsonDataExtractor implements ImportedDataExtractor {
         return listObject;
     }
 
+    /**
+     * Reads the objects of the root JSON array one by one. If the root node is an object, it is read as the only item.
+     */
+    protected class JsonDataStream extends AbstractImportedDataStream {
+        protected ObjectMapper mapper;
+        protected JsonParser parser;
+        protected boolean arrayRoot;
+        protected boolean objectRoot;
+        protected int itemIndex = 1;
+
+        public JsonDataStream(ObjectMapper mapper, JsonParser parser) throws IOException {
+            this.mapper = mapper;
+            this.parser = parser;
+            JsonToken rootToken = parser.nextToken();
+            arrayRoot = rootToken == JsonToken.START_ARRAY;
+            objectRoot = rootToken == JsonToken.START_OBJECT;
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNextItem() {
+            try {
+                JsonNode entityJsonNode;
+                if (arrayRoot) {
+                    if (parser.nextToken() == JsonToken.END_ARRAY) {
+                        arrayRoot = false;
+                        return null;
+                    }
+                    entityJsonNode = mapper.readTree(parser);
+                } else if (objectRoot) {
+                    objectRoot = false;
+                    entityJsonNode = mapper.readTree(parser);
+                } else {
+                    return null;
+                }
+
+                Iterator<String> dataFieldNamesIterator = entityJsonNode.fieldNames();
+                while (dataFieldNamesIterator.hasNext()) {
+                    addDataFieldName(dataFieldNamesIterator.next());
+                }
+                return createImportedDataItem(entityJsonNode, itemIndex++);
+            } catch (JsonProcessingException e) {
+                throw new ImportException(e, "Error while parsing JSON: " + e.getMessage());
+            } catch (IOException e) {
+                throw new ImportException(e, "I/O error: " + e.getMessage());
+            }
+        }
 
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new ImportException(e, "I/O error: " + e.getMessage());
+            }
+        }
+    }
 }
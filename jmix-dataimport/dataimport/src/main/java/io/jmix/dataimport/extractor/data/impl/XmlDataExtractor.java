@@ -19,14 +19,22 @@ package io.jmix.dataimport.extractor.data.impl;
 import io.jmix.core.common.util.Dom4j;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
+import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.extractor.data.*;
 import org.apache.commons.collections4.CollectionUtils;
 import org.dom4j.Document;
+import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
 import org.dom4j.Node;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -49,6 +57,22 @@ public class XmlDataExtractor implements ImportedDataExtractor {
         return getImportedData(document);
     }
 
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Child elements of the root element are read one by one. Whether the root element represents a single item
+     * is determined by its first child element: if it contains only text, the whole root element is read as one item.
+     */
+    @Override
+    public ImportedDataStream extractStream(ImportConfiguration importConfiguration, InputStream inputStream) {
+        try {
+            XMLStreamReader reader = createXmlInputFactory().createXMLStreamReader(inputStream);
+            return new XmlDataStream(reader, inputStream);
+        } catch (XMLStreamException e) {
+            throw new ImportException(e, "Error while parsing XML: " + e.getMessage());
+        }
+    }
+
     @Override
     public String getSupportedDataFormat() {
         return InputDataFormat.XML;
@@ -88,6 +112,14 @@ public class XmlDataExtractor implements ImportedDataExtractor {
         return importedData;
     }
 
+    protected XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        return factory;
+    }
+
     protected ImportedDataItem createImportedDataItem(Element parentElement, int itemIndex) {
         ImportedDataItem item = new ImportedDataItem();
         item.setItemIndex(itemIndex);
@@ -146,4 +178,115 @@ public class XmlDataExtractor implements ImportedDataExtractor {
         });
         return elementMap;
     }
+
+    /**
+     * Reads child elements of the root element one by one and builds an {@link Element} for each of them,
+     * so that the raw values are read in the same way as from the whole document.
+     */
+    protected class XmlDataStream extends AbstractImportedDataStream {
+        protected XMLStreamReader reader;
+        protected InputStream inputStream;
+        protected Element rootElement;
+        protected Element pendingElement;
+        protected boolean rootClosed;
+        protected boolean singleItem;
+        protected int itemIndex = 1;
+
+        public XmlDataStream(XMLStreamReader reader, InputStream inputStream) throws XMLStreamException {
+            this.reader = reader;
+            this.inputStream = inputStream;
+
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    rootElement = createElement();
+                    break;
+                }
+            }
+            if (rootElement == null) {
+                rootClosed = true;
+            } else {
+                pendingElement = readNextChild();
+                singleItem = pendingElement != null && pendingElement.isTextOnly();
+            }
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNextItem() {
+            try {
+                if (singleItem) {
+                    if (pendingElement == null) {
+                        return null;
+                    }
+                    rootElement.add(pendingElement);
+                    pendingElement = null;
+                    Element child;
+                    while ((child = readNextChild()) != null) {
+                        rootElement.add(child);
+                    }
+                    rootElement.elements().forEach(element -> addDataFieldName(element.getName()));
+                    return createImportedDataItem(rootElement, 1);
+                }
+
+                Element element = pendingElement != null ? pendingElement : readNextChild();
+                pendingElement = null;
+                if (element == null) {
+                    return null;
+                }
+                element.elements().forEach(child -> addDataFieldName(child.getName()));
+                return createImportedDataItem(element, itemIndex++);
+            } catch (XMLStreamException e) {
+                throw new ImportException(e, "Error while parsing XML: " + e.getMessage());
+            }
+        }
+
+        @Nullable
+        protected Element readNextChild() throws XMLStreamException {
+            while (!rootClosed && reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    return readElement();
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    rootClosed = true;
+                }
+            }
+            return null;
+        }
+
+        protected Element readElement() throws XMLStreamException {
+            Element element = createElement();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT -> element.add(readElement());
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                            element.addText(reader.getText());
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        return element;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            throw new XMLStreamException("Unexpected end of XML document in element " + element.getName());
+        }
+
+        protected Element createElement() {
+            Element element = DocumentHelper.createElement(reader.getLocalName());
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                element.addAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+            return element;
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+                inputStream.close();
+            } catch (XMLStreamException | IOException e) {
+                throw new ImportException(e, "Unable to close XML reader: " + e.getMessage());
+            }
+        }
+    }
 }
@@ -31,15 +31,18 @@ import io.jmix.dataimport.configuration.mapping.PropertyMapping;
 import io.jmix.dataimport.configuration.mapping.ReferenceMultiFieldPropertyMapping;
 import io.jmix.dataimport.configuration.mapping.ReferencePropertyMapping;
 import io.jmix.dataimport.configuration.mapping.SimplePropertyMapping;
+import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.exception.ImportUniqueAbortException;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.extractor.data.ImportedDataStream;
 import io.jmix.dataimport.extractor.entity.EntityExtractionResult;
 import io.jmix.dataimport.extractor.entity.EntityExtractor;
 import io.jmix.dataimport.property.populator.EntityInfo;
 import io.jmix.dataimport.property.populator.EntityPropertiesPopulator;
 import io.jmix.dataimport.result.EntityImportError;
 import io.jmix.dataimport.result.EntityImportErrorType;
+import io.jmix.dataimport.result.ImportProgress;
 import io.jmix.dataimport.result.ImportResult;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
@@ -51,14 +54,15 @@ import org.springframework.stereotype.Component;
 
 import org.jspecify.annotations.Nullable;
 import jakarta.persistence.PersistenceException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
- * Executes import for a given import configuration and {@link ImportedData}.
+ * Executes import for a given import configuration and {@link ImportedData} or {@link ImportedDataStream}.
+ * If the data is provided as a stream, the items are read from it as they are imported, except for
+ * {@link ImportTransactionStrategy#SINGLE_TRANSACTION} that requires all items at once. If reading the stream
+ * fails, the import is stopped, and the entities imported by the previous transactions are not rolled back.
  */
 @Component("datimp_DataImportExecutor")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -86,12 +90,23 @@ public class DataImportExecutor {
 
     protected ImportConfiguration importConfiguration;
     protected ImportedData importedData;
+    protected ImportedDataStream importedDataStream;
+
+    // created only if the same entity can be imported several times, see addImportedEntityId()
+    protected Set<Object> importedEntityIds;
+    protected int processedItemCount;
+    protected int reportedItemCount = -1;
 
     public DataImportExecutor(ImportConfiguration importConfiguration, ImportedData importedData) {
         this.importConfiguration = importConfiguration;
         this.importedData = importedData;
     }
 
+    public DataImportExecutor(ImportConfiguration importConfiguration, ImportedDataStream importedDataStream) {
+        this.importConfiguration = importConfiguration;
+        this.importedDataStream = importedDataStream;
+    }
+
     public ImportResult importData() {
         if (importConfiguration == null) {
             throw new IllegalStateException("Import configuration is not set to execute data import");
@@ -105,14 +120,33 @@ public class DataImportExecutor {
             importInMultipleTransactions();
         }
 
+        if (processedItemCount != reportedItemCount) {
+            notifyProgress();
+        }
         return importResult;
     }
 
+    protected ImportedData getImportedData() {
+        if (importedData == null) {
+            ImportedData data = new ImportedData();
+            importedDataStream.forEachRemaining(data::addItem);
+            data.setDataFieldNames(importedDataStream.getDataFieldNames());
+            importedData = data;
+        }
+        return importedData;
+    }
+
+    protected Iterator<ImportedDataItem> getItems() {
+        return importedDataStream != null ? importedDataStream : importedData.getItems().iterator();
+    }
+
     protected void importInOneTransaction() {
         try {
             List<EntityExtractionResult> extractionResults = null;
             try {
-                extractionResults = entityExtractor.extractEntities(importConfiguration, importedData);
+                ImportedData data = getImportedData();
+                processedItemCount = data.getItems().size();
+                extractionResults = entityExtractor.extractEntities(importConfiguration, data);
             } catch (Exception e) {
                 createErrorResult(e, "Entities extraction failed: " + e.getMessage());
             }
@@ -132,12 +166,21 @@ public class DataImportExecutor {
     }
 
     protected void importByBatches() {
-        int offset = 0;
-        int batchSize = importConfiguration.getImportBatchSize();
-        List<ImportedDataItem> allItems = importedData.getItems();
+        int batchSize = Math.max(importConfiguration.getImportBatchSize(), 1);
+        Iterator<ImportedDataItem> items = getItems();
         while (true) {
-            int end = offset + batchSize;
-            List<ImportedDataItem> importedDataItemsBatch = allItems.subList(offset, Math.min(end, allItems.size()));
+            List<ImportedDataItem> importedDataItemsBatch = new ArrayList<>(batchSize);
+            try {
+                while (importedDataItemsBatch.size() < batchSize && items.hasNext()) {
+                    importedDataItemsBatch.add(items.next());
+                }
+            } catch (Exception e) {
+                createErrorResult(e, "Error while reading the input data: " + e.getMessage());
+                break;
+            }
+            if (importedDataItemsBatch.isEmpty()) {
+                break;
+            }
             try {
                 processBatch(importedDataItemsBatch);
             } catch (ImportUniqueAbortException e) {
@@ -146,11 +189,8 @@ public class DataImportExecutor {
                         e.getExistingEntity()));
                 break;
             }
-            if (end >= allItems.size()) {
-                break;
-            } else {
-                offset += batchSize;
-            }
+            processedItemCount += importedDataItemsBatch.size();
+            notifyProgress();
         }
     }
 
@@ -170,9 +210,7 @@ public class DataImportExecutor {
             if (extractionResults != null) {
                 List<Object> entitiesToImport = checkExtractionResults(extractionResults);
                 Collection<Object> importedEntities = importEntities(entitiesToImport);
-                importedEntities.stream()
-                        .filter(importedEntityId -> !importResult.getImportedEntityIds().contains(importedEntityId))
-                        .forEach(importedEntityId -> importResult.addImportedEntityId(importedEntityId));
+                importedEntities.forEach(this::addImportedEntityId);
             }
         } catch (ImportUniqueAbortException e) {
             throw e;
@@ -192,7 +230,10 @@ public class DataImportExecutor {
     protected void importInMultipleTransactions() {
         try {
             importResult.setSuccess(true);
-            importedData.getItems().forEach(dataItem -> {
+            int batchSize = Math.max(importConfiguration.getImportBatchSize(), 1);
+            Iterator<ImportedDataItem> items = getItems();
+            while (items.hasNext()) {
+                ImportedDataItem dataItem = items.next();
                 EntityExtractionResult extractionResult = null;
                 try {
                     extractionResult = entityExtractor.extractEntity(importConfiguration, dataItem);
@@ -210,12 +251,17 @@ public class DataImportExecutor {
                         importEntity(extractionResult);
                     }
                 }
-            });
+                if (++processedItemCount % batchSize == 0) {
+                    notifyProgress();
+                }
+            }
         } catch (ImportUniqueAbortException e) {
             String errorMessage = String.format("Unique violation occurred with Unique Policy ABORT for data row: %s. Found entity: %s",
                     e.getImportedDataItem(),
                     e.getExistingEntity());
             createErrorResult(e, errorMessage);
+        } catch (ImportException e) {
+            createErrorResult(e, "Error while reading the input data: " + e.getMessage());
         }
     }
 
@@ -326,10 +372,7 @@ public class DataImportExecutor {
     protected void importEntity(EntityExtractionResult entityExtractionResult) {
         try {
             Collection<Object> importedEntities = importEntities(Collections.singletonList(entityExtractionResult.getEntity()));
-            Object importedEntityId = importedEntities.iterator().next();
-            if (!importResult.getImportedEntityIds().contains(importedEntityId)) {
-                importResult.addImportedEntityId(importedEntityId);
-            }
+            addImportedEntityId(importedEntities.iterator().next());
         } catch (EntityValidationException e) {
             log.error(String.format("Import failed for entity: %s, data item: %s",
                     entityImportExport.exportEntitiesToJSON(Collections.singletonList(entityExtractionResult.getEntity())),
@@ -364,6 +407,29 @@ public class DataImportExecutor {
                 .collect(Collectors.toList());
     }
 
+    protected void addImportedEntityId(Object importedEntityId) {
+        // only existing entities found by unique entity configurations can be imported more than once
+        if (CollectionUtils.isEmpty(importConfiguration.getUniqueEntityConfigurations())) {
+            importResult.addImportedEntityId(importedEntityId);
+            return;
+        }
+        if (importedEntityIds == null) {
+            importedEntityIds = new HashSet<>(importResult.getImportedEntityIds());
+        }
+        if (importedEntityIds.add(importedEntityId)) {
+            importResult.addImportedEntityId(importedEntityId);
+        }
+    }
+
+    protected void notifyProgress() {
+        Consumer<ImportProgress> progressListener = importConfiguration.getProgressListener();
+        if (progressListener != null) {
+            progressListener.accept(new ImportProgress(processedItemCount,
+                    importResult.getImportedEntityIds().size(), importResult.getFailedEntities().size()));
+        }
+        reportedItemCount = processedItemCount;
+    }
+
     protected EntityImportError createEntityImportErrorResult(EntityExtractionResult result, String errorMessage, EntityImportErrorType entityImportErrorType) {
         return new EntityImportError(result.getEntity())
                 .setImportedDataItem(result.getImportedDataItem())
@@ -18,9 +18,11 @@ package io.jmix.dataimport.impl;
 
 import io.jmix.dataimport.DataImporter;
 import io.jmix.dataimport.configuration.ImportConfiguration;
+import io.jmix.dataimport.configuration.ImportTransactionStrategy;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractors;
+import io.jmix.dataimport.extractor.data.ImportedDataStream;
 import io.jmix.dataimport.result.ImportResult;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
@@ -29,6 +31,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 
 @Component("datimp_DataImporter")
@@ -47,6 +50,9 @@ public class DataImporterImpl implements DataImporter {
         try {
             importConfigurationValidator.validate(configuration);
             ImportedDataExtractor dataExtractor = importedDataExtractors.getExtractor(configuration.getInputDataFormat());
+            if (configuration.getTransactionStrategy() != ImportTransactionStrategy.SINGLE_TRANSACTION) {
+                return importDataStream(configuration, dataExtractor, new ByteArrayInputStream(content));
+            }
             ImportedData importedData = dataExtractor.extract(configuration, content);
             return importData(configuration, importedData);
         } catch (Exception e) {
@@ -63,6 +69,9 @@ public class DataImporterImpl implements DataImporter {
         try {
             importConfigurationValidator.validate(configuration);
             ImportedDataExtractor dataExtractor = importedDataExtractors.getExtractor(configuration.getInputDataFormat());
+            if (configuration.getTransactionStrategy() != ImportTransactionStrategy.SINGLE_TRANSACTION) {
+                return importDataStream(configuration, dataExtractor, inputStream);
+            }
             ImportedData importedData = dataExtractor.extract(configuration, inputStream);
             return importData(configuration, importedData);
         } catch (Exception e) {
@@ -79,4 +88,17 @@ public class DataImporterImpl implements DataImporter {
         return dataImportExecutor.importData();
     }
 
+    @Override
+    public ImportResult importData(ImportConfiguration configuration, ImportedDataStream importedDataStream) {
+        DataImportExecutor dataImportExecutor = dataImportExecutors.getObject(configuration, importedDataStream);
+        return dataImportExecutor.importData();
+    }
+
+    protected ImportResult importDataStream(ImportConfiguration configuration, ImportedDataExtractor dataExtractor,
+                                            InputStream inputStream) {
+        try (ImportedDataStream importedDataStream = dataExtractor.extractStream(configuration, inputStream)) {
+            return importData(configuration, importedDataStream);
+        }
+    }
+
 }
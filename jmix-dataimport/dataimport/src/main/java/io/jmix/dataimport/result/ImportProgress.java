@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.result;
+
+/**
+ * An object that contains the following information about the progress of the import execution:
+ * <ul>
+ *     <li>Number of processed imported data items</li>
+ *     <li>Number of successfully imported entities</li>
+ *     <li>Number of entities that are not imported</li>
+ * </ul>
+ */
+public class ImportProgress {
+    protected final int processedItemCount;
+    protected final int importedEntityCount;
+    protected final int failedEntityCount;
+
+    public ImportProgress(int processedItemCount, int importedEntityCount, int failedEntityCount) {
+        this.processedItemCount = processedItemCount;
+        this.importedEntityCount = importedEntityCount;
+        this.failedEntityCount = failedEntityCount;
+    }
+
+    public int getProcessedItemCount() {
+        return processedItemCount;
+    }
+
+    public int getImportedEntityCount() {
+        return importedEntityCount;
+    }
+
+    public int getFailedEntityCount() {
+        return failedEntityCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Processed items: %s, imported entities: %s, failed entities: %s",
+                processedItemCount, importedEntityCount, failedEntityCount);
+    }
+}
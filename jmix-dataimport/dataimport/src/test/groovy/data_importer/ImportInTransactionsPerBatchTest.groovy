@@ -28,6 +28,7 @@ import io.jmix.dataimport.configuration.mapping.ReferenceImportPolicy
 import io.jmix.dataimport.configuration.mapping.ReferenceMultiFieldPropertyMapping
 import io.jmix.dataimport.configuration.mapping.SimplePropertyMapping
 import io.jmix.dataimport.result.EntityImportErrorType
+import io.jmix.dataimport.result.ImportProgress
 import org.springframework.beans.factory.annotation.Autowired
 import test_support.DataImportSpec
 import test_support.entity.BonusCard
@@ -618,4 +619,48 @@ class ImportInTransactionsPerBatchTest extends DataImportSpec {
         def customer2 = loadEntity(Customer, importResult.importedEntityIds[1], FetchPlan.LOCAL) as Customer
         checkCustomer(customer2, 'Tom Smith', 't.smith@mail.com', CustomerGrade.BRONZE)
     }
+
+    def 'test import progress is reported after each batch'() {
+        given:
+        List<ImportProgress> progress = []
+        def importConfig = ImportConfiguration.builder(Customer, InputDataFormat.CSV)
+                .addSimplePropertyMapping("name", "Name")
+                .addSimplePropertyMapping("email", "Email")
+                .withTransactionStrategy(ImportTransactionStrategy.TRANSACTION_PER_BATCH)
+                .withImportBatchSize(1)
+                .withProgressListener { progress.add(it) }
+                .build()
+        InputStream csvContent = resources.getResourceAsStream("/test_support/input_data_files/csv/customers.csv")
+
+        when: 'data imported'
+        def importResult = dataImporter.importData(importConfig, csvContent)
+
+        then:
+        importResult.success
+        progress*.processedItemCount == [1, 2]
+        progress*.importedEntityCount == [1, 2]
+        progress*.failedEntityCount == [0, 0]
+    }
+
+    def 'test entities of previous batches remain saved if a malformed item is read later'() {
+        given:
+        def importConfig = ImportConfiguration.builder(Product, InputDataFormat.JSON)
+                .addSimplePropertyMapping("name", "name")
+                .addSimplePropertyMapping("price", "price")
+                .withTransactionStrategy(ImportTransactionStrategy.TRANSACTION_PER_BATCH)
+                .withImportBatchSize(1)
+                .build()
+        def jsonContent = '[{"name": "Fullriver Sealed Battery 6V", "price": 5.10}, {"name": "Outback Power", "price": '
+
+        when: 'data imported'
+        def importResult = dataImporter.importData(importConfig, new ByteArrayInputStream(jsonContent.bytes))
+
+        then:
+        !importResult.success
+        importResult.errorMessage != null
+        importResult.importedEntityIds.size() == 1
+
+        def product = loadEntity(Product, importResult.importedEntityIds[0], FetchPlan.LOCAL) as Product
+        product.name == 'Fullriver Sealed Battery 6V'
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package extractor.data
+
+import io.jmix.core.Resources
+import io.jmix.dataimport.InputDataFormat
+import io.jmix.dataimport.configuration.ImportConfiguration
+import io.jmix.dataimport.extractor.data.ImportedDataExtractor
+import io.jmix.dataimport.extractor.data.impl.CsvDataExtractor
+import io.jmix.dataimport.extractor.data.impl.ExcelDataExtractor
+import io.jmix.dataimport.extractor.data.impl.JsonDataExtractor
+import io.jmix.dataimport.extractor.data.impl.XmlDataExtractor
+import org.springframework.beans.factory.annotation.Autowired
+import spock.lang.Unroll
+import test_support.DataImportSpec
+import test_support.entity.Customer
+import test_support.entity.Product
+
+class ImportedDataStreamTest extends DataImportSpec {
+
+    @Autowired
+    protected CsvDataExtractor csvDataExtractor
+    @Autowired
+    protected JsonDataExtractor jsonDataExtractor
+    @Autowired
+    protected XmlDataExtractor xmlDataExtractor
+    @Autowired
+    protected ExcelDataExtractor excelDataExtractor
+
+    @Autowired
+    protected Resources resources
+
+    @Unroll
+    def "test streamed items are equal to extracted items for #format"() {
+        given:
+        ImportedDataExtractor extractor = [(InputDataFormat.CSV) : csvDataExtractor,
+                                           (InputDataFormat.JSON): jsonDataExtractor,
+                                           (InputDataFormat.XML) : xmlDataExtractor,
+                                           (InputDataFormat.XLSX): excelDataExtractor][format]
+        ImportConfiguration importConfiguration = new ImportConfiguration(entityClass, format)
+
+        when: 'imported data extracted both ways'
+        def importedData = extractor.extract(importConfiguration, resources.getResourceAsStream(path))
+        def streamedItems = []
+        def stream = extractor.extractStream(importConfiguration, resources.getResourceAsStream(path))
+        try {
+            stream.forEachRemaining { streamedItems.add(it) }
+        } finally {
+            stream.close()
+        }
+
+        then:
+        streamedItems.size() == importedData.items.size()
+        streamedItems*.itemIndex == importedData.items*.itemIndex
+        streamedItems*.rawValues*.toString() == importedData.items*.rawValues*.toString()
+        stream.dataFieldNames.toSet() == importedData.dataFieldNames.toSet()
+
+        where:
+        format               | entityClass | path
+        InputDataFormat.CSV  | Product     | "test_support/input_data_files/csv/products.csv"
+        InputDataFormat.JSON | Product     | "test_support/input_data_files/json/array_of_products.json"
+        InputDataFormat.JSON | Product     | "test_support/input_data_files/json/one_product.json"
+        InputDataFormat.XML  | Product     | "test_support/input_data_files/xml/list_of_products.xml"
+        InputDataFormat.XML  | Customer    | "test_support/input_data_files/xml/customers_with_addresses.xml"
+        InputDataFormat.XLSX | Product     | "test_support/input_data_files/xlsx/products.xlsx"
+    }
+}
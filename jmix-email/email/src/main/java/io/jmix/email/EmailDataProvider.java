@@ -19,6 +19,7 @@ package io.jmix.email;
 import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.jspecify.annotations.NullMarked;
@@ -41,6 +42,16 @@ public interface EmailDataProvider {
      */
     void updateStatus(SendingMessage sendingMessage, SendingStatus status);
 
+    /**
+     * Update status for specified messages, in a single transaction if possible.
+     *
+     * @param sendingMessages messages
+     * @param status new status
+     */
+    default void updateStatus(Collection<SendingMessage> sendingMessages, SendingStatus status) {
+        sendingMessages.forEach(sendingMessage -> updateStatus(sendingMessage, status));
+    }
+
     /**
      * Loads content text for given message.
      *
@@ -22,6 +22,10 @@ import jakarta.mail.MessagingException;
 
 import org.jspecify.annotations.NullMarked;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Adapter to javax.mail email sending API.
  * <br>
@@ -31,11 +35,31 @@ import org.jspecify.annotations.NullMarked;
 public interface EmailSender {
     /**
      * Sends email with help of {@link org.springframework.mail.javamail.JavaMailSender}.
-     * Message body and attachments' content must be loaded from file storage.
+     * Message body must be loaded from file storage, attachments' content is read from file storage
+     * if not loaded.
      * <br>
      * Use {@link Emailer} instead if you need email to be delivered reliably and stored to email history.
      *
      * @throws MessagingException if delivery fails
      */
     void sendEmail(SendingMessage sendingMessage) throws MessagingException;
-}
\ No newline at end of file
+
+    /**
+     * Sends several emails over one connection to the SMTP server, if supported by the implementation.
+     * Message bodies must be loaded from file storage, attachments' content is read from file storage
+     * if not loaded.
+     *
+     * @return exceptions of the messages which have not been sent, by message
+     */
+    default Map<SendingMessage, Exception> sendEmails(List<SendingMessage> sendingMessages) {
+        Map<SendingMessage, Exception> failures = new HashMap<>();
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                sendEmail(sendingMessage);
+            } catch (Exception e) {
+                failures.put(sendingMessage, e);
+            }
+        }
+        return failures;
+    }
+}
@@ -22,6 +22,7 @@ import io.jmix.core.security.Authenticated;
 import io.jmix.data.PersistenceHints;
 import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
+import io.jmix.email.impl.EmailSendingStatistics;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,6 +66,9 @@ public class EmailerManagementFacade {
     @Autowired
     protected EmailDataProvider emailDataProvider;
 
+    @Autowired
+    protected EmailSendingStatistics emailSendingStatistics;
+
     @Autowired
     protected void setJavaMailProperties() {
         javaMailProperties = javaMailSender.getJavaMailProperties();
@@ -123,6 +127,50 @@ public class EmailerManagementFacade {
         return javaMailProperties.getProperty("mail.smtp.connectiontimeout");
     }
 
+    @ManagedAttribute(description = "Number of queued messages sent since the server start")
+    public long getSentCount() {
+        return emailSendingStatistics.getSentCount();
+    }
+
+    @ManagedAttribute(description = "Number of queued messages failed to send since the server start")
+    public long getFailedCount() {
+        return emailSendingStatistics.getFailedCount();
+    }
+
+    @ManagedAttribute(description = "Number of SMTP connections used to send queued messages since the server start")
+    public long getSmtpSessionCount() {
+        return emailSendingStatistics.getBatchCount();
+    }
+
+    @ManagedAttribute(description = "Average number of queued messages sent per second of sending time")
+    public double getThroughput() {
+        return emailSendingStatistics.getThroughput();
+    }
+
+    @ManagedAttribute(description = "Number of queued messages taken by the last processing of the queue")
+    public int getLastRunMessageCount() {
+        EmailSendingStatistics.Run run = emailSendingStatistics.getLastRun();
+        return run != null ? run.getMessageCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of messages sent by the last processing of the queue")
+    public int getLastRunSentCount() {
+        EmailSendingStatistics.Run run = emailSendingStatistics.getLastRun();
+        return run != null ? run.getSentCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of messages failed to send by the last processing of the queue")
+    public int getLastRunFailedCount() {
+        EmailSendingStatistics.Run run = emailSendingStatistics.getLastRun();
+        return run != null ? run.getFailedCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of messages sent per second by the last processing of the queue")
+    public double getLastRunThroughput() {
+        EmailSendingStatistics.Run run = emailSendingStatistics.getLastRun();
+        return run != null ? run.getThroughput() : 0;
+    }
+
     @Authenticated
     @ManagedOperation(description = "Send a test email to the specified addresses")
     @ManagedOperationParameters({@ManagedOperationParameter(name = "addresses", description = "")})
@@ -18,6 +18,7 @@ package io.jmix.email;
 
 import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -45,6 +46,13 @@ public class EmailerProperties {
      */
     int messageQueueCapacity;
 
+    /**
+     * Max number of queued messages sent over one SMTP connection. Queued messages of every scheduler tick are split
+     * into batches of this size, and each batch is sent by a separate sending task.
+     */
+    @Positive
+    int sendingBatchSize;
+
     /**
      * Max number of attempts to send a message, after which the message's status is set to NOT_SENT.
      */
@@ -138,6 +146,7 @@ public class EmailerProperties {
                              @DefaultValue("0") int maxAgeOfNonImportantMessages,
                              @DefaultValue("0 0 0 * * ?") String emailCleaningCron,
                              @DefaultValue("false") boolean cleanFileStorage,
+                             @DefaultValue("50") int sendingBatchSize,
                              @DefaultValue OAuth2 oauth2) {
         this.fromAddress = fromAddress;
         this.scheduledSendingDelayCallCount = scheduledSendingDelayCallCount;
@@ -153,6 +162,7 @@ public class EmailerProperties {
         this.maxAgeOfNonImportantMessages = maxAgeOfNonImportantMessages;
         this.emailCleaningCron = emailCleaningCron;
         this.cleanFileStorage = cleanFileStorage;
+        this.sendingBatchSize = sendingBatchSize;
         this.oauth2 = oauth2;
     }
 
@@ -177,6 +187,13 @@ public class EmailerProperties {
         return messageQueueCapacity;
     }
 
+    /**
+     * @see #sendingBatchSize
+     */
+    public int getSendingBatchSize() {
+        return sendingBatchSize;
+    }
+
     /**
      * @see #defaultSendingAttemptsLimit
      */
@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -117,27 +118,43 @@ public class EmailDataProviderImpl implements EmailDataProvider {
     @Override
     public void updateStatus(SendingMessage sendingMessage, SendingStatus status) {
         try {
-            transaction.executeWithoutResult(transactionStatus -> {
-                SendingMessage msg = entityManager.merge(sendingMessage);
-
-                msg.setAttemptsMade(msg.getAttemptsMade() + 1);
-                msg.setStatus(status);
-
-                if(status == SendingStatus.QUEUE && shouldMarkNotSent(msg)) {
-                    msg.setStatus(SendingStatus.NOT_SENT);
-                }
-                if (status == SendingStatus.SENT) {
-                    msg.setDateSent(timeSource.currentTimestamp());
-                }
-                if (emailerProperties.isUseFileStorage()) {
-                    msg.setContentText(null);
-                }
-            });
+            transaction.executeWithoutResult(transactionStatus -> mergeStatus(sendingMessage, status));
         } catch (Exception e) {
             log.error(buildErrorMessage(status), sendingMessage.getAddress(), e);
         }
     }
 
+    @Override
+    public void updateStatus(Collection<SendingMessage> sendingMessages, SendingStatus status) {
+        if (sendingMessages.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(transactionStatus ->
+                    sendingMessages.forEach(sendingMessage -> mergeStatus(sendingMessage, status)));
+        } catch (Exception e) {
+            log.warn("Error updating status of {} messages, updating them one by one", sendingMessages.size(), e);
+            sendingMessages.forEach(sendingMessage -> updateStatus(sendingMessage, status));
+        }
+    }
+
+    protected void mergeStatus(SendingMessage sendingMessage, SendingStatus status) {
+        SendingMessage msg = entityManager.merge(sendingMessage);
+
+        msg.setAttemptsMade(msg.getAttemptsMade() + 1);
+        msg.setStatus(status);
+
+        if(status == SendingStatus.QUEUE && shouldMarkNotSent(msg)) {
+            msg.setStatus(SendingStatus.NOT_SENT);
+        }
+        if (status == SendingStatus.SENT) {
+            msg.setDateSent(timeSource.currentTimestamp());
+        }
+        if (emailerProperties.isUseFileStorage()) {
+            msg.setContentText(null);
+        }
+    }
+
     @Override
     public String loadContentText(SendingMessage sendingMessage) {
         SendingMessage msg = dataManager.load(SendingMessage.class)
@@ -232,6 +249,10 @@ public class EmailDataProviderImpl implements EmailDataProvider {
         return res;
     }
 
+    /**
+     * Loads message body from file storage. Content of attachments stored in file storage is not loaded,
+     * it is read by {@link io.jmix.email.EmailSender} while sending.
+     */
     protected void loadBodyAndAttachments(SendingMessage message) {
         try {
             if (message.getContentTextFile() != null) {
@@ -239,15 +260,8 @@ public class EmailDataProviderImpl implements EmailDataProvider {
                 String body = bodyTextFromByteArray(bodyContent);
                 message.setContentText(body);
             }
-
-            for (SendingAttachment attachment : message.getAttachments()) {
-                if (attachment.getContentFile() != null) {
-                    byte[] content = readFileContent(attachment.getContentFile());
-                    attachment.setContent(content);
-                }
-            }
         } catch (IOException e) {
-            log.error("Failed to load body or attachments for {}", message);
+            log.error("Failed to load body for {}", message);
         }
     }
 
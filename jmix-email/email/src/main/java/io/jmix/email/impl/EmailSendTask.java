@@ -26,6 +26,8 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component("email_EmailSendTask")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class EmailSendTask implements Runnable {
@@ -40,10 +42,13 @@ public class EmailSendTask implements Runnable {
     @Autowired
     private EmailerProperties emailerProperties;
 
-    private SendingMessage sendingMessage;
+    private List<SendingMessage> sendingMessages;
+
+    private EmailSendingStatistics.Run run;
 
-    public EmailSendTask(SendingMessage sendingMessage) {
-        this.sendingMessage = sendingMessage;
+    public EmailSendTask(List<SendingMessage> sendingMessages, EmailSendingStatistics.Run run) {
+        this.sendingMessages = sendingMessages;
+        this.run = run;
     }
 
     @Override
@@ -51,12 +56,12 @@ public class EmailSendTask implements Runnable {
         try {
             authenticator.begin(emailerProperties.getAsyncSendingUsername());
             try {
-                emailer.sendSendingMessage(sendingMessage);
+                emailer.sendSendingMessages(sendingMessages, run);
             } finally {
                 authenticator.end();
             }
         } catch (Exception e) {
-            log.error("Exception while sending email to '{}': ", sendingMessage.getAddress(), e);
+            log.error("Exception while sending {} emails: ", sendingMessages.size(), e);
         }
     }
 }
@@ -19,6 +19,9 @@ package io.jmix.email.impl;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
 import io.jmix.core.CoreProperties;
+import io.jmix.core.FileRef;
+import io.jmix.core.FileStorage;
+import io.jmix.core.FileStorageLocator;
 import io.jmix.core.FileTypesHelper;
 import io.jmix.core.TimeSource;
 import io.jmix.email.EmailHeader;
@@ -31,6 +34,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
@@ -43,6 +48,10 @@ import jakarta.mail.internet.*;
 import java.io.*;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component("email_EmailSender")
 public class EmailSenderImpl implements EmailSender {
@@ -61,6 +70,9 @@ public class EmailSenderImpl implements EmailSender {
     @Autowired
     protected MeterRegistry meterRegistry;
 
+    @Autowired
+    protected FileStorageLocator fileStorageLocator;
+
     @Override
     public void sendEmail(SendingMessage sendingMessage) throws MessagingException {
         MimeMessage msg = createMimeMessage(sendingMessage);
@@ -72,6 +84,52 @@ public class EmailSenderImpl implements EmailSender {
         log.info("Email '{}' to '{}' has been sent successfully", msg.getSubject(), sendingMessage.getAddress());
     }
 
+    @Override
+    public Map<SendingMessage, Exception> sendEmails(List<SendingMessage> sendingMessages) {
+        Map<SendingMessage, Exception> failures = new HashMap<>();
+        Map<MimeMessage, SendingMessage> mimeMessages = new LinkedHashMap<>();
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                mimeMessages.put(createMimeMessage(sendingMessage), sendingMessage);
+            } catch (Exception e) {
+                failures.put(sendingMessage, e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            // JavaMailSender sends all messages over one connection
+            mailSender.send(mimeMessages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                mimeMessages.values().forEach(sendingMessage -> failures.put(sendingMessage, e));
+            } else {
+                failedMessages.forEach((mimeMessage, exception) -> {
+                    SendingMessage sendingMessage = mimeMessages.get(mimeMessage);
+                    if (sendingMessage != null) {
+                        // wrap as if the message was sent alone
+                        failures.put(sendingMessage, new MailSendException(exception.getMessage(), exception));
+                    }
+                });
+            }
+        } catch (MailException e) {
+            mimeMessages.values().forEach(sendingMessage -> failures.put(sendingMessage, e));
+        }
+        sample.stop(meterRegistry.timer("jmix.EmailSender.sendBatch"));
+
+        for (SendingMessage sendingMessage : mimeMessages.values()) {
+            if (!failures.containsKey(sendingMessage)) {
+                log.info("Email '{}' to '{}' has been sent successfully",
+                        sendingMessage.getSubject(), sendingMessage.getAddress());
+            }
+        }
+        return failures;
+    }
+
     protected MimeMessage createMimeMessage(SendingMessage sendingMessage) throws MessagingException {
         MimeMessage msg = mailSender.createMimeMessage();
         assignRecipient(Message.RecipientType.TO, sendingMessage.getAddress(), msg);
@@ -159,7 +217,9 @@ public class EmailSenderImpl implements EmailSender {
     }
 
     protected MimeBodyPart createAttachmentPart(SendingAttachment attachment) throws MessagingException {
-        DataSource source = new MyByteArrayDataSource(attachment.getContent());
+        DataSource source = attachment.getContent() == null && attachment.getContentFile() != null
+                ? new FileRefDataSource(fileStorageLocator.getDefault(), attachment.getContentFile())
+                : new MyByteArrayDataSource(attachment.getContent());
 
         String mimeType = FileTypesHelper.getMIMEType(attachment.getName());
 
@@ -229,4 +289,37 @@ public class EmailSenderImpl implements EmailSender {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads attachment content from file storage every time the message is written, instead of keeping it in memory.
+     */
+    protected static class FileRefDataSource implements DataSource {
+        private final FileStorage fileStorage;
+        private final FileRef fileRef;
+
+        public FileRefDataSource(FileStorage fileStorage, FileRef fileRef) {
+            this.fileStorage = fileStorage;
+            this.fileRef = fileRef;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return fileStorage.openStream(fileRef);
+        }
+
+        @Override
+        public String getName() {
+            return fileRef.getFileName();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            return null;
+        }
+    }
+}
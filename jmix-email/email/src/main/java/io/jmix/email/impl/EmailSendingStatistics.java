@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.email.impl;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects statistics of sending queued emails since the server start and for the last processing of the queue.
+ */
+@Component("email_EmailSendingStatistics")
+public class EmailSendingStatistics {
+
+    protected final AtomicLong sentCount = new AtomicLong();
+    protected final AtomicLong failedCount = new AtomicLong();
+    protected final AtomicLong batchCount = new AtomicLong();
+    protected final AtomicLong sendingTimeNanos = new AtomicLong();
+
+    @Nullable
+    protected volatile Run lastRun;
+
+    /**
+     * Starts statistics of processing the given number of queued messages.
+     */
+    public Run startRun(int messageCount) {
+        Run run = new Run(messageCount);
+        lastRun = run;
+        return run;
+    }
+
+    /**
+     * Registers a batch of messages sent over one SMTP connection.
+     *
+     * @param run           processing the batch belongs to
+     * @param sent          number of successfully sent messages
+     * @param failed        number of failed messages
+     * @param durationNanos time of sending the batch
+     */
+    public void batchSent(Run run, int sent, int failed, long durationNanos) {
+        sentCount.addAndGet(sent);
+        failedCount.addAndGet(failed);
+        batchCount.incrementAndGet();
+        sendingTimeNanos.addAndGet(durationNanos);
+        run.batchSent(sent, failed);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return number of batches, i.e. SMTP connections used to send messages
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * @return average number of messages sent per second of sending time
+     */
+    public double getThroughput() {
+        return throughput(sentCount.get(), sendingTimeNanos.get());
+    }
+
+    @Nullable
+    public Run getLastRun() {
+        return lastRun;
+    }
+
+    protected static double throughput(long count, long nanos) {
+        return nanos > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / nanos : 0;
+    }
+
+    /**
+     * Statistics of one processing of the email queue. Messages are sent asynchronously, so the numbers grow
+     * until all batches of the processing are sent.
+     */
+    public static class Run {
+
+        protected final int messageCount;
+        protected final long startNanos = System.nanoTime();
+        protected final AtomicInteger sentCount = new AtomicInteger();
+        protected final AtomicInteger failedCount = new AtomicInteger();
+        protected final AtomicLong lastBatchNanos = new AtomicLong(startNanos);
+
+        protected Run(int messageCount) {
+            this.messageCount = messageCount;
+        }
+
+        protected void batchSent(int sent, int failed) {
+            sentCount.addAndGet(sent);
+            failedCount.addAndGet(failed);
+            lastBatchNanos.accumulateAndGet(System.nanoTime(), Math::max);
+        }
+
+        public int getMessageCount() {
+            return messageCount;
+        }
+
+        public int getSentCount() {
+            return sentCount.get();
+        }
+
+        public int getFailedCount() {
+            return failedCount.get();
+        }
+
+        /**
+         * @return number of messages sent per second from the start of the processing till the last sent batch
+         */
+        public double getThroughput() {
+            return throughput(sentCount.get(), lastBatchNanos.get() - startNanos);
+        }
+    }
+}
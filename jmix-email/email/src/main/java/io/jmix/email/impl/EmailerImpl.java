@@ -16,6 +16,7 @@
 package io.jmix.email.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.security.SystemAuthenticator;
@@ -75,6 +76,9 @@ public class EmailerImpl implements Emailer {
     @Autowired
     protected EmailCleaner emailCleaner;
 
+    @Autowired
+    protected EmailSendingStatistics emailSendingStatistics;
+
     @Override
     public void sendEmail(String address, String subject, String body, String bodyContentType, Boolean important,
                           EmailAttachment... attachment) throws EmailException {
@@ -173,20 +177,52 @@ public class EmailerImpl implements Emailer {
         return sendingMessage;
     }
 
-    protected void sendSendingMessage(SendingMessage sendingMessage) {
-        Objects.requireNonNull(sendingMessage, "sendingMessage is null");
-        Objects.requireNonNull(sendingMessage.getAddress(), "sendingMessage.address is null");
-        Objects.requireNonNull(sendingMessage.getSubject(), "sendingMessage.subject is null");
-        Objects.requireNonNull(sendingMessage.getContentText(), "sendingMessage.contentText is null");
-        Objects.requireNonNull(sendingMessage.getFrom(), "sendingMessage.from is null");
-        try {
-            emailSender.sendEmail(sendingMessage);
-            emailDataProvider.updateStatus(sendingMessage, SendingStatus.SENT);
-        } catch (Exception e) {
-            log.warn("Unable to send email to '{}'", sendingMessage.getAddress(), e);
-            SendingStatus newStatus = isNeedToRetry(e) ? SendingStatus.QUEUE : SendingStatus.NOT_SENT;
-            emailDataProvider.updateStatus(sendingMessage, newStatus);
+    /**
+     * Sends the given messages over one SMTP connection and updates their statuses in bulk.
+     */
+    protected void sendSendingMessages(List<SendingMessage> sendingMessages, EmailSendingStatistics.Run run) {
+        List<SendingMessage> validMessages = new ArrayList<>(sendingMessages.size());
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                Objects.requireNonNull(sendingMessage, "sendingMessage is null");
+                Objects.requireNonNull(sendingMessage.getAddress(), "sendingMessage.address is null");
+                Objects.requireNonNull(sendingMessage.getSubject(), "sendingMessage.subject is null");
+                Objects.requireNonNull(sendingMessage.getContentText(), "sendingMessage.contentText is null");
+                Objects.requireNonNull(sendingMessage.getFrom(), "sendingMessage.from is null");
+                validMessages.add(sendingMessage);
+            } catch (NullPointerException e) {
+                log.error("Exception while sending email {}: ", sendingMessage, e);
+            }
+        }
+        if (validMessages.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Map<SendingMessage, Exception> failures = emailSender.sendEmails(validMessages);
+        long duration = System.nanoTime() - start;
+
+        List<SendingMessage> sent = new ArrayList<>(validMessages.size());
+        List<SendingMessage> toRetry = new ArrayList<>();
+        List<SendingMessage> notSent = new ArrayList<>();
+        for (SendingMessage sendingMessage : validMessages) {
+            Exception e = failures.get(sendingMessage);
+            if (e == null) {
+                sent.add(sendingMessage);
+            } else {
+                log.warn("Unable to send email to '{}'", sendingMessage.getAddress(), e);
+                if (isNeedToRetry(e)) {
+                    toRetry.add(sendingMessage);
+                } else {
+                    notSent.add(sendingMessage);
+                }
+            }
         }
+        emailDataProvider.updateStatus(sent, SendingStatus.SENT);
+        emailDataProvider.updateStatus(toRetry, SendingStatus.QUEUE);
+        emailDataProvider.updateStatus(notSent, SendingStatus.NOT_SENT);
+
+        emailSendingStatistics.batchSent(run, sent.size(), failures.size(), duration);
     }
 
     protected void persistAndSendEmail(EmailInfo emailInfo) throws EmailException {
@@ -275,26 +311,29 @@ public class EmailerImpl implements Emailer {
         List<SendingMessage> messagesToSend = emailDataProvider.loadEmailsToSend();
         log.trace("Found {} messages to be sent", messagesToSend.size());
 
-        messagesToSend.forEach(this::submitExecutorTask);
-
         if (messagesToSend.isEmpty()) {
             return "";
         }
 
+        EmailSendingStatistics.Run run = emailSendingStatistics.startRun(messagesToSend.size());
+        for (List<SendingMessage> batch : Lists.partition(messagesToSend, emailerProperties.getSendingBatchSize())) {
+            submitExecutorTask(batch, run);
+        }
+
         return String.format("Processed %d emails", messagesToSend.size());
     }
 
-    protected void submitExecutorTask(SendingMessage msg) {
+    protected void submitExecutorTask(List<SendingMessage> batch, EmailSendingStatistics.Run run) {
         try {
-            Runnable mailSendTask = applicationContext.getBean(EmailSendTask.class, msg);
+            Runnable mailSendTask = applicationContext.getBean(EmailSendTask.class, new ArrayList<>(batch), run);
             mailSendTaskExecutor.execute(mailSendTask);
         } catch (RejectedExecutionException e) {
-            emailDataProvider.updateStatus(msg, SendingStatus.QUEUE);
+            emailDataProvider.updateStatus(batch, SendingStatus.QUEUE);
         } catch (Exception e) {
-            log.error("Exception while sending email to '{}': ", msg.getAddress(), e);
+            log.error("Exception while sending {} emails: ", batch.size(), e);
 
             SendingStatus newStatus = isNeedToRetry(e) ? SendingStatus.QUEUE : SendingStatus.NOT_SENT;
-            emailDataProvider.updateStatus(msg, newStatus);
+            emailDataProvider.updateStatus(batch, newStatus);
         }
     }
 
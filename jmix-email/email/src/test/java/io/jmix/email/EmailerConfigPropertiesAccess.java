@@ -20,6 +20,10 @@ public class EmailerConfigPropertiesAccess {
     public static void setScheduledSendingDelayCallCount(EmailerProperties properties, int scheduledSendingDelayCallCount) {
         properties.scheduledSendingDelayCallCount = scheduledSendingDelayCallCount;
     }
+    public static void setSendingBatchSize(EmailerProperties properties, int sendingBatchSize) {
+        properties.sendingBatchSize = sendingBatchSize;
+    }
+
     public static void setUseFileStorage(EmailerProperties properties, boolean useFileStorage) {
         properties.useFileStorage = useFileStorage;
     }
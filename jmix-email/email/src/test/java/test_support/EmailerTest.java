@@ -42,7 +42,9 @@ import jakarta.mail.internet.MimeMultipart;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -194,6 +196,36 @@ public class EmailerTest {
         doTestAsynchronous(true);
     }
 
+    @Test
+    public void testAsynchronousBatches() throws Exception {
+        int previousBatchSize = emailerProperties.getSendingBatchSize();
+        EmailerConfigPropertiesAccess.setSendingBatchSize(emailerProperties, 2);
+        testMailSender.clearBuffer();
+        try {
+            List<SendingMessage> messages = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                EmailInfo myInfo = EmailInfoBuilder.create()
+                        .setAddresses("recipient" + i + "@example.com")
+                        .setSubject("Test " + i)
+                        .setBody("Test Email Body")
+                        .build();
+                messages.add(emailer.sendEmailAsync(myInfo));
+            }
+
+            // run scheduler
+            emailer.processQueuedEmails();
+
+            // 5 messages are sent over 3 connections
+            assertEquals(5, testMailSender.getBufferSize());
+            assertEquals(3, testMailSender.getSessionCount());
+            for (SendingMessage message : messages) {
+                assertEquals(SendingStatus.SENT, reload(message).getStatus());
+            }
+        } finally {
+            EmailerConfigPropertiesAccess.setSendingBatchSize(emailerProperties, previousBatchSize);
+        }
+    }
+
     @Test
     public void testFileStorageEmailBodyReturningToDbColumn() {
         EmailerConfigPropertiesAccess.setUseFileStorage(emailerProperties, true);
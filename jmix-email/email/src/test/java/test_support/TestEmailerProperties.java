@@ -25,6 +25,6 @@ public class TestEmailerProperties {
 
     public static EmailerProperties create(EmailerProperties.OAuth2 oauth2) {
         return new EmailerProperties("DoNotReply@localhost", 2, 100, 10, 240, "admin@localhost",
-                false, false, "admin", "0 * * * * ?", 0, 0, "0 0 0 * * ?", false, oauth2);
+                false, false, "admin", "0 * * * * ?", 0, 0, "0 0 0 * * ?", false, 50, oauth2);
     }
 }
@@ -25,6 +25,7 @@ import org.springframework.stereotype.Component;
 
 import jakarta.mail.internet.MimeMessage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -38,8 +39,18 @@ public class TestMailSender extends JavaMailSenderImpl {
 
     private boolean mustFail;
 
+    private int sessionCount;
+
     public void clearBuffer() {
         myMessages.clear();
+        sessionCount = 0;
+    }
+
+    /**
+     * @return number of calls sending several messages at once, i.e. SMTP connections of a real sender
+     */
+    public int getSessionCount() {
+        return sessionCount;
     }
 
     public int getBufferSize() {
@@ -61,6 +72,15 @@ public class TestMailSender extends JavaMailSenderImpl {
         myMessages.add(mimeMessage);
     }
 
+    @Override
+    public void send(MimeMessage... mimeMessages) throws MailException {
+        if (mustFail) {
+            throw new MailSendException("Smtp server not available");
+        }
+        sessionCount++;
+        myMessages.addAll(Arrays.asList(mimeMessages));
+    }
+
     public boolean isEmpty() {
         return myMessages.isEmpty();
     }
@@ -414,6 +414,15 @@ public final class StudioPropertyGroups {
     public interface AggregationPosition {
     }
 
+    @StudioPropertyGroup(properties = @StudioProperty(
+            xmlAttribute = StudioXmlAttributes.AGGREGATION_MODE,
+            type = StudioPropertyType.ENUMERATION,
+            classFqn = "io.jmix.flowui.component.grid.EnhancedDataGrid$AggregationMode",
+            defaultValue = "IN_MEMORY",
+            options = {"IN_MEMORY", "DATA_STORE"}))
+    public interface AggregationMode {
+    }
+
     @StudioPropertyGroup(properties = @StudioProperty(
             xmlAttribute = StudioXmlAttributes.ALIGN_ITEMS,
             type = StudioPropertyType.ENUMERATION,
@@ -1080,6 +1089,13 @@ public final class StudioPropertyGroups {
     public interface Key {
     }
 
+    @StudioPropertyGroup(properties = @StudioProperty(
+            xmlAttribute = StudioXmlAttributes.LAZY_LOADING,
+            type = StudioPropertyType.BOOLEAN,
+            defaultValue = "false"))
+    public interface LazyLoading {
+    }
+
     @StudioPropertyGroup(properties = @StudioProperty(
             xmlAttribute = StudioXmlAttributes.LABEL,
             type = StudioPropertyType.LOCALIZED_STRING,
@@ -2415,7 +2431,7 @@ public final class StudioPropertyGroups {
 
     @StudioPropertyGroup
     public interface BaseGridComponent extends ClassNamesAndCss, IdAndVisible, Enabled,
-            GridAlignSelf, JustifySelf, AriaLabel, AggregationPosition, AllRowsVisible, Colspan,
+            GridAlignSelf, JustifySelf, AriaLabel, AggregationMode, AggregationPosition, AllRowsVisible, Colspan,
             ColumnReorderingAllowed, CollectionDataContainer, DropMode, EmptyStateText, HasHeightAttributes, MaxWidth,
             MetaClassTypeParameterE, MultiSort, MultiSortOnShiftClickOnly, MultiSortPriority,
             NestedNullBehavior, PageSizeWithDefaultValue50, RowsDraggable, SelectionMode, HasFocusableAttributes,
@@ -2423,7 +2439,8 @@ public final class StudioPropertyGroups {
     }
 
     @StudioPropertyGroup
-    public interface DataGridDefaultProperties extends BaseGridComponent, Aggregatable, DetailsVisibleOnClick {
+    public interface DataGridDefaultProperties extends BaseGridComponent, Aggregatable, DetailsVisibleOnClick,
+            LazyLoading {
     }
 
     @StudioPropertyGroup
@@ -3449,6 +3466,11 @@ public final class StudioPropertyGroups {
                             xmlAttribute = StudioXmlAttributes.AUTO_LOAD,
                             type = StudioPropertyType.BOOLEAN,
                             category = StudioProperty.Category.GENERAL,
+                            defaultValue = "false"),
+                    @StudioProperty(
+                            xmlAttribute = StudioXmlAttributes.KEYSET_PAGINATION,
+                            type = StudioPropertyType.BOOLEAN,
+                            category = StudioProperty.Category.GENERAL,
                             defaultValue = "false")
             }
     )
@@ -39,6 +39,7 @@ public final class StudioXmlAttributes {
     public static final String ACTIVE_SHEET_WITH_POI_INDEX = "activeSheetWithPOIIndex";
     public static final String ADDITIONAL_PROPERTIES = "additionalProperties";
     public static final String AGGREGATABLE = "aggregatable";
+    public static final String AGGREGATION_MODE = "aggregationMode";
     public static final String AGGREGATION_POSITION = "aggregationPosition";
     public static final String ALIGN = "align";
     public static final String ALIGN_ITEMS = "alignItems";
@@ -490,6 +491,7 @@ public final class StudioXmlAttributes {
     public static final String KEEP_ASPECT = "keepAspect";
     public static final String KEY = "key";
     public static final String KEY_COMBINATION = "keyCombination";
+    public static final String KEYSET_PAGINATION = "keysetPagination";
     public static final String LABEL = "label";
     public static final String LABELS_ASIDE = "labelsAside";
     public static final String LABELS_POSITION = "labelsPosition";
@@ -506,6 +508,7 @@ public final class StudioXmlAttributes {
     public static final String LAYER = "layer";
     public static final String LAYOUT = "layout";
     public static final String LAZY = "lazy";
+    public static final String LAZY_LOADING = "lazyLoading";
     public static final String LEFT = "left";
     public static final String LEGEND_HOVER_LINK = "legendHoverLink";
     public static final String LEGEND_TEXT = "legendText";
@@ -52,15 +52,19 @@ import io.jmix.flowui.component.grid.editor.DataGridEditor;
 import io.jmix.flowui.component.grid.editor.DataGridEditorImpl;
 import io.jmix.flowui.component.grid.sort.*;
 import io.jmix.flowui.data.BindingState;
+import io.jmix.flowui.data.ContainerDataUnit;
 import io.jmix.flowui.data.EntityDataUnit;
 import io.jmix.flowui.data.aggregation.Aggregation;
 import io.jmix.flowui.data.aggregation.Aggregations;
 import io.jmix.flowui.data.aggregation.impl.AggregatableDelegate;
+import io.jmix.flowui.data.aggregation.impl.DataStoreAggregationSupport;
 import io.jmix.flowui.data.grid.*;
 import io.jmix.flowui.data.provider.StringPresentationValueProvider;
 import io.jmix.flowui.kit.action.Action;
 import io.jmix.flowui.kit.component.HasActions;
 import io.jmix.flowui.kit.component.KeyCombination;
+import io.jmix.flowui.model.CollectionLoader;
+import io.jmix.flowui.model.HasLoader;
 import io.jmix.flowui.sys.BeanUtil;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -89,6 +93,7 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
     protected AccessManager accessManager;
     protected Aggregations aggregations;
     protected AggregatableDelegate<Object> aggregatableDelegate;
+    protected DataStoreAggregationSupport dataStoreAggregationSupport;
 
     protected ITEMS dataGridItems;
 
@@ -115,6 +120,7 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
 
     protected boolean aggregatable;
     protected EnhancedDataGrid.AggregationPosition aggregationPosition = EnhancedDataGrid.AggregationPosition.BOTTOM;
+    protected EnhancedDataGrid.AggregationMode aggregationMode = EnhancedDataGrid.AggregationMode.IN_MEMORY;
     protected Map<Grid.Column<E>, AggregationInfo> aggregationMap = new LinkedHashMap<>();
 
     protected HeaderRow aggregationHeader;
@@ -416,6 +422,18 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
         this.aggregationPosition = position;
     }
 
+    public EnhancedDataGrid.AggregationMode getAggregationMode() {
+        return aggregationMode;
+    }
+
+    public void setAggregationMode(EnhancedDataGrid.AggregationMode mode) {
+        Preconditions.checkNotNullArgument(mode);
+
+        this.aggregationMode = mode;
+
+        updateAggregationRow();
+    }
+
     public void addAggregationInfo(Grid.Column<E> column, AggregationInfo info) {
         if (aggregationMap.containsKey(column)) {
             throw new IllegalStateException(String.format("Aggregation property %s already exists", column.getKey()));
@@ -440,6 +458,11 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
 
         List<AggregationInfo> aggregationInfos = getAggregationInfos();
 
+        Map<AggregationInfo, Object> dataStoreValues = aggregateInDataStore(aggregationInfos);
+        if (dataStoreValues != null) {
+            return convertAggregationKeyMapToColumnMap(getAggregatableDelegate().formatValues(dataStoreValues));
+        }
+
         Map<AggregationInfo, String> aggregationInfoMap = getAggregatableDelegate().aggregate(
                 aggregationInfos.toArray(new AggregationInfo[0]),
                 getItems().getItems().stream()
@@ -458,6 +481,11 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
 
         List<AggregationInfo> aggregationInfos = getAggregationInfos();
 
+        Map<AggregationInfo, Object> dataStoreValues = aggregateInDataStore(aggregationInfos);
+        if (dataStoreValues != null) {
+            return convertAggregationKeyMapToColumnMap(dataStoreValues);
+        }
+
         Map<AggregationInfo, Object> aggregationInfoMap = getAggregatableDelegate().aggregateValues(
                 aggregationInfos.toArray(new AggregationInfo[0]),
                 getItems().getItems().stream()
@@ -468,6 +496,26 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
         return convertAggregationKeyMapToColumnMap(aggregationInfoMap);
     }
 
+    @Nullable
+    protected Map<AggregationInfo, Object> aggregateInDataStore(List<AggregationInfo> aggregationInfos) {
+        if (aggregationMode != EnhancedDataGrid.AggregationMode.DATA_STORE
+                || aggregationInfos.isEmpty()
+                || !(getItems() instanceof ContainerDataUnit<?> containerDataUnit)
+                || !(containerDataUnit.getContainer() instanceof HasLoader hasLoader)
+                || !(hasLoader.getLoader() instanceof CollectionLoader<?> loader)) {
+            return null;
+        }
+
+        return getDataStoreAggregationSupport().aggregate(loader, aggregationInfos);
+    }
+
+    protected DataStoreAggregationSupport getDataStoreAggregationSupport() {
+        if (dataStoreAggregationSupport == null) {
+            dataStoreAggregationSupport = applicationContext.getBean(DataStoreAggregationSupport.class);
+        }
+        return dataStoreAggregationSupport;
+    }
+
     protected <V> Map<Grid.Column<E>, V> convertAggregationKeyMapToColumnMap(Map<AggregationInfo, V> aggregationInfos) {
         return aggregationMap.entrySet()
                 .stream()
@@ -305,6 +305,16 @@ public class DataGrid<E> extends JmixGrid<E> implements ListDataComponent<E>, Mu
         gridDelegate.setAggregationPosition(aggregationPosition);
     }
 
+    @Override
+    public AggregationMode getAggregationMode() {
+        return gridDelegate.getAggregationMode();
+    }
+
+    @Override
+    public void setAggregationMode(AggregationMode aggregationMode) {
+        gridDelegate.setAggregationMode(aggregationMode);
+    }
+
     @Override
     public void addAggregation(Column<E> column, AggregationInfo info) {
         gridDelegate.addAggregationInfo(column, info);
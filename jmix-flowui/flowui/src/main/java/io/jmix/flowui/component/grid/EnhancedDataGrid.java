@@ -73,6 +73,18 @@ public interface EnhancedDataGrid<T> {
      */
     void setAggregationPosition(AggregationPosition position);
 
+    /**
+     * @return where aggregation is performed
+     */
+    AggregationMode getAggregationMode();
+
+    /**
+     * Sets where aggregation is performed. Default value is {@link AggregationMode#IN_MEMORY}.
+     *
+     * @param mode mode: {@link AggregationMode#IN_MEMORY} or {@link AggregationMode#DATA_STORE}
+     */
+    void setAggregationMode(AggregationMode mode);
+
     /**
      * Add an aggregation info in order to perform aggregation for column.
      *
@@ -148,4 +160,23 @@ public interface EnhancedDataGrid<T> {
         TOP,
         BOTTOM
     }
+
+    /**
+     * Defines where aggregation is performed.
+     */
+    enum AggregationMode {
+
+        /**
+         * Loaded items are aggregated.
+         */
+        IN_MEMORY,
+
+        /**
+         * The whole result set of the data loader is aggregated by a query to the data store, regardless of paging.
+         * Applied only if the items are loaded by a {@link io.jmix.flowui.model.CollectionLoader} with a JPQL query,
+         * aggregations have no custom strategies and aggregated properties are persistent. Otherwise, loaded items
+         * are aggregated.
+         */
+        DATA_STORE
+    }
 }
@@ -132,56 +132,72 @@ public class AggregatableDelegate<K> {
         return aggregationResults;
     }
 
+    /**
+     * Formats aggregated values, e.g. computed by the data store, the same way as results of {@link #aggregate}.
+     *
+     * @param values aggregated values by aggregation info
+     * @return a map representing the formatted values for the given info
+     */
+    public Map<AggregationInfo, String> formatValues(Map<AggregationInfo, Object> values) {
+        Map<AggregationInfo, String> formattedValues = new HashMap<>();
+        values.forEach((aggregationInfo, value) ->
+                formattedValues.put(aggregationInfo, formatValue(aggregationInfo, value)));
+        return formattedValues;
+    }
+
     protected Map<AggregationInfo, String> doAggregation(AggregationInfo[] aggregationInfos, Collection<K> itemIds) {
         Map<AggregationInfo, String> aggregationResults = new HashMap<>();
 
         for (AggregationInfo aggregationInfo : aggregationInfos) {
             final Object value = doPropertyAggregation(aggregationInfo, itemIds);
+            aggregationResults.put(aggregationInfo, formatValue(aggregationInfo, value));
+        }
 
-            String formattedValue;
-            if (aggregationInfo.getFormatter() != null) {
-                formattedValue = aggregationInfo.getFormatter()
-                        .apply(value);
-            } else {
-                // propertyPath could be null in case of custom aggregation
-                MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
-
-                Range range = propertyPath != null
-                        ? propertyPath.getRange()
-                        : null;
-                if (range != null && range.isDatatype()) {
-                    if (aggregationInfo.getType() != AggregationInfo.Type.COUNT) {
-                        Class<?> resultClass;
-
-                        if (aggregationInfo.getStrategy() == null) {
-                            Class<?> rangeJavaClass = propertyPath.getRangeJavaClass();
-                            Aggregation<?> aggregation = aggregations.get(rangeJavaClass);
-                            resultClass = Objects.requireNonNull(aggregation).getResultClass();
-                        } else {
-                            resultClass = aggregationInfo.getStrategy().getResultClass();
-                        }
-
-                        Locale locale = currentAuthentication.getLocale();
-                        formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
+        return aggregationResults;
+    }
+
+    protected String formatValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        String formattedValue;
+        if (aggregationInfo.getFormatter() != null) {
+            formattedValue = aggregationInfo.getFormatter()
+                    .apply(value);
+        } else {
+            // propertyPath could be null in case of custom aggregation
+            MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+
+            Range range = propertyPath != null
+                    ? propertyPath.getRange()
+                    : null;
+            if (range != null && range.isDatatype()) {
+                if (aggregationInfo.getType() != AggregationInfo.Type.COUNT) {
+                    Class<?> resultClass;
+
+                    if (aggregationInfo.getStrategy() == null) {
+                        Class<?> rangeJavaClass = propertyPath.getRangeJavaClass();
+                        Aggregation<?> aggregation = aggregations.get(rangeJavaClass);
+                        resultClass = Objects.requireNonNull(aggregation).getResultClass();
                     } else {
-                        formattedValue = Objects.requireNonNull(value).toString();
+                        resultClass = aggregationInfo.getStrategy().getResultClass();
                     }
+
+                    Locale locale = currentAuthentication.getLocale();
+                    formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
                 } else {
-                    if (aggregationInfo.getStrategy() != null) {
-                        Class<?> resultClass = aggregationInfo.getStrategy().getResultClass();
+                    formattedValue = Objects.requireNonNull(value).toString();
+                }
+            } else {
+                if (aggregationInfo.getStrategy() != null) {
+                    Class<?> resultClass = aggregationInfo.getStrategy().getResultClass();
 
-                        Locale locale = currentAuthentication.getLocale();
-                        formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
-                    } else {
-                        formattedValue = Objects.requireNonNull(value).toString();
-                    }
+                    Locale locale = currentAuthentication.getLocale();
+                    formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
+                } else {
+                    formattedValue = Objects.requireNonNull(value).toString();
                 }
             }
-
-            aggregationResults.put(aggregationInfo, formattedValue);
         }
 
-        return aggregationResults;
+        return formattedValue;
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.data.aggregation.impl;
+
+import io.jmix.core.*;
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.flowui.component.AggregationInfo;
+import io.jmix.flowui.data.aggregation.Aggregation;
+import io.jmix.flowui.data.aggregation.Aggregations;
+import io.jmix.flowui.model.CollectionLoader;
+import jakarta.persistence.Embedded;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates the whole result set of a {@link CollectionLoader} in the data store by a value query built from
+ * the loader query and condition, without loading entities. JPQL row-level constraints are applied to the query
+ * by the data store. In-memory row-level constraints cannot be applied to it, so entities restricted by them are
+ * not aggregated in the data store.
+ *
+ * @see AggregationQueryBuilder
+ */
+@Component("flowui_DataStoreAggregationSupport")
+public class DataStoreAggregationSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(DataStoreAggregationSupport.class);
+
+    protected static final String AGGREGATE_PROPERTY_PREFIX = "aggregate";
+    protected static final String ENTITY_PLACEHOLDER = "{E}";
+
+    protected final DataManager dataManager;
+    protected final MetadataTools metadataTools;
+    protected final Aggregations aggregations;
+    protected final ObjectProvider<AggregationQueryBuilder> aggregationQueryBuilderProvider;
+    protected final AccessManager accessManager;
+    protected final ApplicationContext applicationContext;
+
+    public DataStoreAggregationSupport(DataManager dataManager,
+                                       MetadataTools metadataTools,
+                                       Aggregations aggregations,
+                                       ObjectProvider<AggregationQueryBuilder> aggregationQueryBuilderProvider,
+                                       AccessManager accessManager,
+                                       ApplicationContext applicationContext) {
+        this.dataManager = dataManager;
+        this.metadataTools = metadataTools;
+        this.aggregations = aggregations;
+        this.aggregationQueryBuilderProvider = aggregationQueryBuilderProvider;
+        this.accessManager = accessManager;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Aggregates the whole result set of the given loader in the data store, ignoring paging.
+     * Values have the same types as the results of in-memory aggregation.
+     *
+     * @param loader           loader of the aggregated items
+     * @param aggregationInfos aggregations to perform
+     * @return aggregated values, or null if some of the aggregations or the loader query cannot be executed
+     * by the data store, e.g. custom aggregation strategies, non-persistent properties, a load delegate
+     * or in-memory row-level constraints
+     */
+    @Nullable
+    public Map<AggregationInfo, Object> aggregate(CollectionLoader<?> loader, List<AggregationInfo> aggregationInfos) {
+        AggregationQueryBuilder queryBuilder = aggregationQueryBuilderProvider.getIfAvailable();
+        if (queryBuilder == null
+                || loader.getQuery() == null
+                || loader.getLoadDelegate() != null
+                || loader.getLoadFromRepositoryDelegate() != null) {
+            return null;
+        }
+
+        List<String> aggregates = new ArrayList<>(aggregationInfos.size());
+        for (AggregationInfo aggregationInfo : aggregationInfos) {
+            String aggregate = getAggregateExpression(aggregationInfo);
+            if (aggregate == null) {
+                return null;
+            }
+            aggregates.add(aggregate);
+        }
+
+        MetaClass metaClass = loader.getContainer().getEntityMetaClass();
+        LoadContext<?> loadContext = loader.createLoadContext();
+        if (hasInMemoryConstraints(metaClass, loadContext)) {
+            log.debug("{} has in-memory constraints, loaded items will be aggregated", metaClass.getName());
+            return null;
+        }
+
+        LoadContext.Query entityQuery = loadContext.getQuery();
+        ValueLoadContext.Query query = entityQuery != null
+                ? queryBuilder.build(metaClass, entityQuery, aggregates)
+                : null;
+        if (query == null) {
+            return null;
+        }
+
+        List<String> properties = new ArrayList<>(aggregates.size());
+        for (int i = 0; i < aggregates.size(); i++) {
+            properties.add(AGGREGATE_PROPERTY_PREFIX + i);
+        }
+
+        ValueLoadContext valueLoadContext = ValueLoadContext.create()
+                .setStoreName(metaClass.getStore().getName())
+                .setQuery(query)
+                .setProperties(properties);
+        loadContext.getHints().forEach((name, value) -> {
+            if (value instanceof Serializable serializable) {
+                valueLoadContext.setHint(name, serializable);
+            }
+        });
+
+        List<KeyValueEntity> result;
+        try {
+            result = dataManager.loadValues(valueLoadContext);
+        } catch (RuntimeException e) {
+            log.warn("Unable to aggregate {} in data store, loaded items will be aggregated", metaClass.getName(), e);
+            return null;
+        }
+
+        KeyValueEntity row = result.isEmpty() ? null : result.get(0);
+        Map<AggregationInfo, Object> values = new HashMap<>();
+        for (int i = 0; i < aggregationInfos.size(); i++) {
+            AggregationInfo aggregationInfo = aggregationInfos.get(i);
+            Object value = row != null ? row.getValue(properties.get(i)) : null;
+            values.put(aggregationInfo, convertValue(aggregationInfo, value));
+        }
+        return values;
+    }
+
+    /**
+     * Returns true if reading of the entity is restricted by in-memory predicates of the registered
+     * or the load context constraints.
+     */
+    protected boolean hasInMemoryConstraints(MetaClass metaClass, LoadContext<?> loadContext) {
+        InMemoryCrudEntityContext inMemoryContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
+        accessManager.applyRegisteredConstraints(inMemoryContext);
+        accessManager.applyConstraints(inMemoryContext, loadContext.getAccessConstraints());
+        return inMemoryContext.readPredicate() != null;
+    }
+
+    @Nullable
+    protected String getAggregateExpression(AggregationInfo aggregationInfo) {
+        MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+        if (aggregationInfo.getStrategy() != null || propertyPath == null) {
+            return null;
+        }
+
+        // references would be joined and filter out rows for all aggregates, so only embedded paths are supported
+        MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+        for (int i = 0; i < metaProperties.length; i++) {
+            if (!metadataTools.isJpa(metaProperties[i])
+                    || i < metaProperties.length - 1 && !metaProperties[i].getAnnotatedElement().isAnnotationPresent(Embedded.class)) {
+                return null;
+            }
+        }
+
+        String property = ENTITY_PLACEHOLDER + "." + propertyPath.toPathString();
+        AggregationInfo.Type type = aggregationInfo.getType();
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case SUM -> "sum(" + property + ")";
+            case AVG -> "avg(" + property + ")";
+            case MIN -> "min(" + property + ")";
+            case MAX -> "max(" + property + ")";
+            case COUNT -> "count(" + ENTITY_PLACEHOLDER + ")";
+            case CUSTOM -> null;
+        };
+    }
+
+    @Nullable
+    protected Object convertValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        if (aggregationInfo.getType() == AggregationInfo.Type.COUNT) {
+            return value instanceof Number number ? number.intValue() : 0;
+        }
+
+        MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+        Aggregation<?> aggregation = propertyPath != null ? aggregations.get(propertyPath.getRangeJavaClass()) : null;
+        if (!(value instanceof Number number) || aggregation == null
+                || aggregation.getResultClass().isInstance(value)) {
+            return value;
+        }
+
+        Class<?> resultClass = aggregation.getResultClass();
+        if (resultClass == Long.class) {
+            return number.longValue();
+        } else if (resultClass == Integer.class) {
+            return number.intValue();
+        } else if (resultClass == Double.class) {
+            return number.doubleValue();
+        } else if (resultClass == BigDecimal.class) {
+            return new BigDecimal(number.toString());
+        } else if (resultClass == BigInteger.class) {
+            return new BigDecimal(number.toString()).toBigInteger();
+        }
+        return value;
+    }
+}
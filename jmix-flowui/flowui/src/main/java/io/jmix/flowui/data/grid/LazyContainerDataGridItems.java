@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.data.grid;
+
+import com.vaadin.flow.data.provider.Query;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Sort;
+import io.jmix.core.common.util.Preconditions;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.flowui.component.grid.DataGrid;
+import io.jmix.flowui.component.grid.sort.DataGridSort;
+import io.jmix.flowui.data.BindingState;
+import io.jmix.flowui.model.*;
+import io.jmix.flowui.model.CollectionContainer.CollectionChangeEvent;
+import io.jmix.flowui.model.impl.CollectionLoaderImpl;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link DataGridItems} that loads items of a {@link DataGrid} lazily by windows
+ * as the grid is scrolled, instead of loading the whole result of a {@link CollectionLoader}.
+ * <p>
+ * Windows are loaded by queries of the container loader with its condition, parameters, sort, fetch plan and hints,
+ * the loader's {@code firstResult} and {@code maxResults} are ignored. The total number of rows is obtained
+ * by a count query. Only the last {@link #getMaxCachedWindows()} windows are kept in memory, and the container
+ * contains the items of these windows and the selected item.
+ * <p>
+ * Invocations of {@link CollectionLoader#load()} don't load the container anymore and reset loaded windows instead,
+ * so filtering and refreshing the loader work as usual. Windows are loaded by the loader, so {@link
+ * CollectionLoader.PreLoadEvent} and {@link CollectionLoader.PostLoadEvent} are sent for each loaded window.
+ * Items are merged into the loader's {@link DataContext} if it is set, so the data context should be read-only
+ * to keep memory consumption constant.
+ * <p>
+ * If a window contains fewer items than counted, e.g. because of in-memory row-level constraints, the total number
+ * of items is decreased accordingly and the grid is notified about the change.
+ * <p>
+ * Loaders with a load delegate or a repository load delegate are not supported.
+ *
+ * @param <T> the type of entity contained in the associated {@link CollectionContainer}
+ */
+public class LazyContainerDataGridItems<T> extends ContainerDataGridItems<T> {
+
+    public static final int DEFAULT_WINDOW_SIZE = 50;
+    public static final int DEFAULT_MAX_CACHED_WINDOWS = 10;
+
+    protected final DataManager dataManager;
+    protected final CollectionLoader<T> loader;
+
+    protected int windowSize = DEFAULT_WINDOW_SIZE;
+    protected int maxCachedWindows = DEFAULT_MAX_CACHED_WINDOWS;
+
+    protected Map<Integer, List<T>> windows = createWindowCache();
+    // sizes of all windows loaded since the last refresh, also of the evicted ones, to map grid rows to windows
+    protected Map<Integer, Integer> windowItemCounts = new HashMap<>();
+    @Nullable
+    protected Integer count;
+    protected int missingCount;
+    protected boolean updatingContainer;
+    protected boolean loadingWindow;
+
+    @SuppressWarnings("unchecked")
+    public LazyContainerDataGridItems(CollectionContainer<T> container, DataManager dataManager) {
+        super(container);
+        Preconditions.checkNotNullArgument(dataManager);
+
+        if (!(container instanceof HasLoader hasLoader)
+                || !(hasLoader.getLoader() instanceof CollectionLoader<?> collectionLoader)) {
+            throw new IllegalArgumentException("Container must be loaded by a CollectionLoader: " + container);
+        }
+
+        this.dataManager = dataManager;
+        this.loader = (CollectionLoader<T>) collectionLoader;
+        this.loader.addPreLoadListener(this::loaderPreLoad);
+    }
+
+    /**
+     * @return number of items loaded by one query
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the number of items loaded by one query. It is recommended to set it to the page size of the grid.
+     * Loaded windows are reset. Default value is {@link #DEFAULT_WINDOW_SIZE}.
+     *
+     * @param windowSize number of items loaded by one query
+     */
+    public void setWindowSize(int windowSize) {
+        Preconditions.checkState(windowSize > 0, "Window size must be positive");
+
+        this.windowSize = windowSize;
+        refresh();
+    }
+
+    /**
+     * @return number of recently used windows kept in memory
+     */
+    public int getMaxCachedWindows() {
+        return maxCachedWindows;
+    }
+
+    /**
+     * Sets the number of recently used windows kept in memory. Default value is {@link #DEFAULT_MAX_CACHED_WINDOWS}.
+     *
+     * @param maxCachedWindows number of recently used windows kept in memory
+     */
+    public void setMaxCachedWindows(int maxCachedWindows) {
+        Preconditions.checkState(maxCachedWindows > 0, "Max cached windows must be positive");
+
+        this.maxCachedWindows = maxCachedWindows;
+    }
+
+    /**
+     * Resets loaded windows and the total number of items, so that the grid loads visible items again.
+     */
+    public void refresh() {
+        count = null;
+        missingCount = 0;
+        windows.clear();
+        windowItemCounts.clear();
+        getEventBus().fireEvent(new ItemSetChangeEvent<>(this));
+    }
+
+    protected void loaderPreLoad(CollectionLoader.PreLoadEvent<T> event) {
+        if (loadingWindow) {
+            return;
+        }
+        event.preventLoad();
+        refresh();
+    }
+
+    @Override
+    protected void containerCollectionChanged(CollectionChangeEvent<T> event) {
+        if (updatingContainer) {
+            return;
+        }
+
+        if (event.getChangeType() == CollectionChangeType.SET_ITEM) {
+            for (T item : event.getChanges()) {
+                replaceInWindows(item);
+            }
+            super.containerCollectionChanged(event);
+        } else {
+            // added or removed items change positions of other rows, so all windows are loaded again
+            refresh();
+        }
+    }
+
+    protected void replaceInWindows(T item) {
+        Object id = EntityValues.getId(item);
+        for (List<T> window : windows.values()) {
+            for (int i = 0; i < window.size(); i++) {
+                if (Objects.equals(EntityValues.getId(window.get(i)), id)) {
+                    window.set(i, item);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isInMemory() {
+        return false;
+    }
+
+    @Override
+    public int size(Query<T, Void> query) {
+        if (getState() == BindingState.INACTIVE) {
+            return 0;
+        }
+
+        return getTotalCount() - missingCount;
+    }
+
+    /**
+     * @return number of items returned by the count query
+     */
+    protected int getTotalCount() {
+        if (count == null) {
+            LoadContext<T> loadContext = createLoadContext();
+            loadContext.getQuery().setFirstResult(0).setMaxResults(0);
+            count = Math.toIntExact(dataManager.getCount(loadContext));
+        }
+        return count;
+    }
+
+    @Override
+    public Stream<T> fetch(Query<T, Void> query) {
+        if (getState() == BindingState.INACTIVE || query.getLimit() == 0) {
+            return Stream.empty();
+        }
+
+        int totalCount = getTotalCount();
+        int missingCountBefore = missingCount;
+        int offset = query.getOffset();
+
+        // windows are positioned by rows of the query, so grid rows are shifted by items missing in previous windows
+        int index = 0;
+        int windowStart = 0;
+        while (index * windowSize < totalCount) {
+            int windowItemCount = windowItemCounts.getOrDefault(index, getExpectedWindowSize(index));
+            if (windowStart + windowItemCount > offset) {
+                break;
+            }
+            windowStart += windowItemCount;
+            index++;
+        }
+
+        List<T> items = new ArrayList<>(query.getLimit());
+        boolean loaded = false;
+        for (; items.size() < query.getLimit() && index * windowSize < totalCount; index++) {
+            List<T> window = windows.get(index);
+            if (window == null) {
+                window = loadWindow(index);
+                putWindow(index, window);
+                loaded = true;
+            }
+
+            int from = Math.min(Math.max(offset - windowStart, 0), window.size());
+            int to = Math.min(from + query.getLimit() - items.size(), window.size());
+            items.addAll(window.subList(from, to));
+            windowStart += window.size();
+        }
+
+        if (loaded) {
+            updateContainer();
+        }
+        if (missingCount != missingCountBefore) {
+            // the grid expects more items than the windows contain, so it should request the size again
+            getEventBus().fireEvent(new ItemSetChangeEvent<>(this));
+        }
+        return items.stream();
+    }
+
+    protected void putWindow(int index, List<T> window) {
+        windows.put(index, window);
+        Integer previousItemCount = windowItemCounts.put(index, window.size());
+        missingCount += getMissingCount(index, window.size());
+        if (previousItemCount != null) {
+            missingCount -= getMissingCount(index, previousItemCount);
+        }
+    }
+
+    protected int getMissingCount(int index, int windowItemCount) {
+        return Math.max(getExpectedWindowSize(index) - windowItemCount, 0);
+    }
+
+    /**
+     * @return number of items of the window according to the count query
+     */
+    protected int getExpectedWindowSize(int index) {
+        return Math.max(Math.min(windowSize, getTotalCount() - index * windowSize), 0);
+    }
+
+    protected List<T> loadWindow(int index) {
+        if (loader.getLoadDelegate() != null || loader.getLoadFromRepositoryDelegate() != null) {
+            throw new IllegalStateException("Lazy loading is not supported for loaders with load delegates");
+        }
+
+        if (loader instanceof CollectionLoaderImpl<T> loaderImpl) {
+            loadingWindow = true;
+            try {
+                List<T> list = loaderImpl.loadRange(index * windowSize, windowSize);
+                return list == null ? new ArrayList<>() : new ArrayList<>(list);
+            } finally {
+                loadingWindow = false;
+            }
+        }
+
+        LoadContext<T> loadContext = createLoadContext();
+        loadContext.getQuery()
+                .setFirstResult(index * windowSize)
+                .setMaxResults(windowSize);
+
+        List<T> list = dataManager.loadList(loadContext);
+
+        DataContext dataContext = loader.getDataContext();
+        if (dataContext == null) {
+            return new ArrayList<>(list);
+        }
+
+        List<T> mergedList = new ArrayList<>(list.size());
+        for (T entity : list) {
+            mergedList.add(dataContext.merge(entity, new MergeOptions().setFresh(true)));
+        }
+        return mergedList;
+    }
+
+    protected LoadContext<T> createLoadContext() {
+        LoadContext<T> loadContext = loader.createLoadContext();
+        if (loadContext.getQuery() == null) {
+            throw new IllegalStateException("Lazy loading requires the loader query: " + loader);
+        }
+        return loadContext;
+    }
+
+    /**
+     * Replaces the container items with the items of cached windows, so that actions and selection
+     * work with loaded rows.
+     */
+    protected void updateContainer() {
+        Map<Object, T> items = new LinkedHashMap<>();
+        for (List<T> window : windows.values()) {
+            for (T item : window) {
+                items.putIfAbsent(EntityValues.getId(item), item);
+            }
+        }
+
+        T selectedItem = container.getItemOrNull();
+        if (selectedItem != null) {
+            items.putIfAbsent(EntityValues.getId(selectedItem), selectedItem);
+        }
+
+        updatingContainer = true;
+        try {
+            container.setItems(items.values());
+        } finally {
+            updatingContainer = false;
+        }
+    }
+
+    @Override
+    public void sort(DataGridSort sort) {
+        sortInternal(sort.toPersistentSort());
+    }
+
+    @Override
+    protected void sortInternal(Sort sort) {
+        loader.setSort(sort);
+        refresh();
+    }
+
+    @Override
+    public void resetSortOrder() {
+        sortInternal(Sort.UNSORTED);
+    }
+
+    protected Map<Integer, List<T>> createWindowCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxCachedWindows;
+            }
+        };
+    }
+}
@@ -18,10 +18,17 @@ package io.jmix.flowui.data.pagination;
 
 import io.jmix.core.DataLoadContext;
 import io.jmix.core.DataManager;
+import io.jmix.core.KeysetTokens;
 import io.jmix.core.LoadContext;
+import io.jmix.core.Sort;
 import io.jmix.core.ValueLoadContext;
+import io.jmix.core.common.event.Subscription;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
 import io.jmix.flowui.model.*;
 import io.jmix.flowui.model.CollectionContainer.CollectionChangeEvent;
 import io.jmix.flowui.model.impl.WeakCollectionChangeListener;
@@ -34,6 +41,10 @@ import org.springframework.stereotype.Component;
 
 import org.jspecify.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -42,6 +53,11 @@ import java.util.function.Function;
  * for managing pagination when loading entity data, including setting and retrieving the
  * starting position, maximum number of results, and total count of data items. Also handles
  * refreshing the data and responding to collection change events.
+ * <p>
+ * If {@link #setKeysetPaginationEnabled(boolean) keyset pagination} is enabled, moving to the next page and back
+ * to already visited pages loads the data after the last row of the preceding page instead of skipping rows
+ * by offset. Other moves, e.g. to the last page, fall back to the offset. Tokens of visited pages are discarded
+ * when the query, its parameters, condition or sort change.
  */
 @Component("flowui_PaginationDataLoaderImpl")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -59,6 +75,18 @@ public class PaginationDataLoaderImpl implements PaginationDataLoader {
     protected Consumer<CollectionChangeEvent<?>> containerCollectionChangeListener;
     protected Function<DataLoadContext, Integer> totalCountDelegate;
 
+    protected KeysetTokens keysetTokens;
+    protected boolean keysetPaginationEnabled;
+    protected Subscription keysetPreLoadSubscription;
+    protected Subscription keysetPostLoadSubscription;
+    // query without the page position, its condition and key orders, which the collected tokens are valid for
+    protected LoadContext.Query keysetQuery;
+    protected Condition keysetCondition;
+    protected List<Sort.Order> keysetKeyOrders;
+    protected Sort keysetSort;
+    // tokens to load pages following fully loaded ones, by the first result of the page
+    protected Map<Integer, String> keysetTokensByFirstResult = new HashMap<>();
+
     public PaginationDataLoaderImpl(BaseCollectionLoader loader) {
         Preconditions.checkNotNullArgument(loader);
         Preconditions.checkNotNullArgument(loader.getContainer(),
@@ -82,6 +110,11 @@ public class PaginationDataLoaderImpl implements PaginationDataLoader {
         this.dataManager = dataManager;
     }
 
+    @Autowired
+    public void setKeysetTokens(KeysetTokens keysetTokens) {
+        this.keysetTokens = keysetTokens;
+    }
+
     @Override
     public int getFirstResult() {
         return loader.getFirstResult();
@@ -163,4 +196,153 @@ public class PaginationDataLoaderImpl implements PaginationDataLoader {
     public void setTotalCountDelegate(@Nullable Function<DataLoadContext, Integer> totalCountDelegate) {
         this.totalCountDelegate = totalCountDelegate;
     }
+
+    /**
+     * @return {@code true} if keyset pagination is enabled
+     */
+    public boolean isKeysetPaginationEnabled() {
+        return keysetPaginationEnabled;
+    }
+
+    /**
+     * Enables keyset pagination. It is supported by {@link CollectionLoader} only and is used if the loader
+     * sort contains only local attributes with not null values. The primary key is appended to the sort
+     * to make the order of rows stable.
+     *
+     * @param keysetPaginationEnabled whether to enable keyset pagination
+     */
+    public void setKeysetPaginationEnabled(boolean keysetPaginationEnabled) {
+        if (this.keysetPaginationEnabled == keysetPaginationEnabled) {
+            return;
+        }
+        if (keysetPaginationEnabled && !(loader instanceof CollectionLoader<?>)) {
+            throw new IllegalStateException("Keyset pagination is not supported by " + loader.getClass().getName());
+        }
+
+        this.keysetPaginationEnabled = keysetPaginationEnabled;
+
+        if (keysetPaginationEnabled) {
+            attachKeysetListeners((CollectionLoader<?>) loader);
+        } else {
+            keysetPreLoadSubscription.unsubscribe();
+            keysetPostLoadSubscription.unsubscribe();
+            keysetQuery = null;
+            keysetCondition = null;
+            keysetKeyOrders = null;
+            keysetSort = null;
+            keysetTokensByFirstResult.clear();
+        }
+    }
+
+    protected <E> void attachKeysetListeners(CollectionLoader<E> collectionLoader) {
+        keysetPreLoadSubscription = collectionLoader.addPreLoadListener(this::onKeysetPreLoad);
+        keysetPostLoadSubscription = collectionLoader.addPostLoadListener(this::onKeysetPostLoad);
+    }
+
+    protected void onKeysetPreLoad(CollectionLoader.PreLoadEvent<?> event) {
+        LoadContext.Query query = event.getLoadContext().getQuery();
+        if (query == null || query.getAfter() != null) {
+            keysetSort = null;
+            return;
+        }
+
+        List<Sort.Order> keyOrders;
+        try {
+            keyOrders = keysetTokens.getKeyOrders(getEntityMetaClass(), query.getSort());
+        } catch (IllegalArgumentException e) {
+            log.debug("Falling back to offset pagination: {}", e.getMessage());
+            keysetSort = null;
+            return;
+        }
+
+        LoadContext.Query pageIndependentQuery = query.copy().setFirstResult(0);
+        // the condition is compared with a copy, as filters change it in place
+        if (!pageIndependentQuery.equals(keysetQuery)
+                || !isSameCondition(query.getCondition(), keysetCondition)
+                || !isSameOrders(keyOrders, keysetKeyOrders)) {
+            keysetQuery = pageIndependentQuery;
+            keysetCondition = pageIndependentQuery.getCondition();
+            keysetKeyOrders = keyOrders;
+            keysetTokensByFirstResult.clear();
+        }
+        Sort sort = Sort.by(keyOrders);
+        keysetSort = sort;
+
+        query.setSort(sort);
+        String token = keysetTokensByFirstResult.get(query.getFirstResult());
+        if (token != null) {
+            query.setAfter(token);
+            query.setFirstResult(0);
+        }
+    }
+
+    protected boolean isSameCondition(@Nullable Condition condition, @Nullable Condition other) {
+        if (condition == null || other == null) {
+            return condition == other;
+        }
+        if (condition.getClass() != other.getClass()) {
+            return false;
+        }
+        if (condition instanceof LogicalCondition logicalCondition) {
+            List<Condition> conditions = logicalCondition.getConditions();
+            List<Condition> otherConditions = ((LogicalCondition) other).getConditions();
+            if (logicalCondition.getType() != ((LogicalCondition) other).getType()
+                    || conditions.size() != otherConditions.size()) {
+                return false;
+            }
+            for (int i = 0; i < conditions.size(); i++) {
+                if (!isSameCondition(conditions.get(i), otherConditions.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (condition instanceof PropertyCondition propertyCondition) {
+            PropertyCondition otherCondition = (PropertyCondition) other;
+            return Objects.equals(propertyCondition.getProperty(), otherCondition.getProperty())
+                    && Objects.equals(propertyCondition.getOperation(), otherCondition.getOperation())
+                    && Objects.equals(propertyCondition.getParameterName(), otherCondition.getParameterName())
+                    && Objects.deepEquals(propertyCondition.getParameterValue(), otherCondition.getParameterValue())
+                    && propertyCondition.isSkipNullOrEmpty() == otherCondition.isSkipNullOrEmpty();
+        }
+        if (condition instanceof JpqlCondition jpqlCondition) {
+            JpqlCondition otherCondition = (JpqlCondition) other;
+            return Objects.equals(jpqlCondition.getWhere(), otherCondition.getWhere())
+                    && Objects.equals(jpqlCondition.getJoin(), otherCondition.getJoin())
+                    && Objects.equals(jpqlCondition.getParameterValuesMap(), otherCondition.getParameterValuesMap())
+                    && jpqlCondition.isSkipNullOrEmpty() == otherCondition.isSkipNullOrEmpty();
+        }
+        return condition.equals(other);
+    }
+
+    protected boolean isSameOrders(List<Sort.Order> orders, @Nullable List<Sort.Order> otherOrders) {
+        if (otherOrders == null || orders.size() != otherOrders.size()) {
+            return false;
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Sort.Order otherOrder = otherOrders.get(i);
+            if (order.getClass() != otherOrder.getClass()
+                    || order.getDirection() != otherOrder.getDirection()
+                    || !order.getProperty().equals(otherOrder.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void onKeysetPostLoad(CollectionLoader.PostLoadEvent<?> event) {
+        List<?> entities = event.getLoadedEntities();
+        int maxResults = loader.getMaxResults();
+        if (keysetSort == null || maxResults <= 0 || entities.size() < maxResults) {
+            return;
+        }
+
+        try {
+            String token = keysetTokens.createToken(entities.get(entities.size() - 1), keysetSort);
+            keysetTokensByFirstResult.put(loader.getFirstResult() + entities.size(), token);
+        } catch (IllegalArgumentException e) {
+            log.debug("Cannot create keyset token: {}", e.getMessage());
+        }
+    }
 }
@@ -123,7 +123,58 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
             return false;
         }
 
-        List<E> list = uiObservationSupport.observeDataLoader(this, DataLoaderLifeCycle.LOAD, () -> {
+        List<E> list = loadList(loadContext);
+
+        if (list == null) {
+            return false;
+        }
+
+        container.setItems(mergeLoadedEntities(list));
+
+        sendPostLoadEvent(list);
+
+        return true;
+    }
+
+    /**
+     * Loads the given range of entities by the loader query, ignoring the loader's {@code firstResult} and
+     * {@code maxResults}. Unlike {@link #load()}, loaded entities are not set to the container. They are merged
+     * into the data context if it is set, and {@link PreLoadEvent} and {@link PostLoadEvent} are sent as usual.
+     *
+     * @param firstResult position of the first loaded entity
+     * @param maxResults  maximum number of loaded entities
+     * @return loaded entities or null if loading was prevented
+     */
+    @Nullable
+    public List<E> loadRange(int firstResult, int maxResults) {
+        if (container == null)
+            throw new IllegalStateException("container is null");
+
+        LoadContext<E> loadContext = createLoadContext();
+        loadContext.getQuery()
+                .setFirstResult(firstResult)
+                .setMaxResults(maxResults);
+
+        if (!sendPreLoadEvent(loadContext)) {
+            return null;
+        }
+
+        List<E> list = loadList(loadContext);
+
+        if (list == null) {
+            return null;
+        }
+
+        List<E> mergedList = mergeLoadedEntities(list);
+
+        sendPostLoadEvent(list);
+
+        return mergedList;
+    }
+
+    @Nullable
+    protected List<E> loadList(LoadContext<E> loadContext) {
+        return uiObservationSupport.observeDataLoader(this, DataLoaderLifeCycle.LOAD, () -> {
             if (loadFromRepositoryDelegate == null && delegate == null) {
                 return dataManager.loadList(loadContext);
             }
@@ -135,24 +186,18 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
             }
             return delegate.apply(loadContext);
         });
+    }
 
-        if (list == null) {
-            return false;
+    protected List<E> mergeLoadedEntities(List<E> list) {
+        if (dataContext == null) {
+            return list;
         }
 
-        if (dataContext != null) {
-            List<E> mergedList = new ArrayList<>(list.size());
-            for (E entity : list) {
-                mergedList.add(dataContext.merge(entity, new MergeOptions().setFresh(true)));
-            }
-            container.setItems(mergedList);
-        } else {
-            container.setItems(list);
+        List<E> mergedList = new ArrayList<>(list.size());
+        for (E entity : list) {
+            mergedList.add(dataContext.merge(entity, new MergeOptions().setFresh(true)));
         }
-
-        sendPostLoadEvent(list);
-
-        return true;
+        return mergedList;
     }
 
     @Override
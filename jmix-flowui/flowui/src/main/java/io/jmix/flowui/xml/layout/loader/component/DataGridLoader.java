@@ -16,9 +16,12 @@
 
 package io.jmix.flowui.xml.layout.loader.component;
 
+import io.jmix.core.DataManager;
 import io.jmix.flowui.component.grid.DataGrid;
 import io.jmix.flowui.data.grid.ContainerDataGridItems;
 import io.jmix.flowui.data.grid.EmptyDataGridItems;
+import io.jmix.flowui.data.grid.LazyContainerDataGridItems;
+import io.jmix.flowui.model.CollectionContainer;
 import org.dom4j.Element;
 
 public class DataGridLoader extends AbstractGridLoader<DataGrid<?>> {
@@ -32,12 +35,21 @@ public class DataGridLoader extends AbstractGridLoader<DataGrid<?>> {
     @Override
     protected void setupDataProvider(GridDataHolder holder) {
         if (holder.getContainer() != null) {
-            resultComponent.setItems(new ContainerDataGridItems(holder.getContainer()));
+            resultComponent.setItems(loadBoolean(element, "lazyLoading").orElse(false)
+                    ? createLazyDataGridItems(holder.getContainer())
+                    : new ContainerDataGridItems(holder.getContainer()));
         } else if (holder.getMetaClass() != null) {
             resultComponent.setItems(new EmptyDataGridItems(holder.getMetaClass()));
         }
     }
 
+    protected LazyContainerDataGridItems<?> createLazyDataGridItems(CollectionContainer<?> container) {
+        LazyContainerDataGridItems<?> items =
+                new LazyContainerDataGridItems<>(container, applicationContext.getBean(DataManager.class));
+        loadInteger(element, "pageSize", items::setWindowSize);
+        return items;
+    }
+
     @Override
     protected void loadActions() {
         loadActionsAttributes();
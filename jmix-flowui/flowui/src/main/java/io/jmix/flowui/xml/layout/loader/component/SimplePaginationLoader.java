@@ -58,8 +58,9 @@ public class SimplePaginationLoader extends AbstractComponentLoader<SimplePagina
                 .ifPresent(id -> {
                     DataLoader loader = context.getDataHolder().getLoader(id);
                     if (loader instanceof BaseCollectionLoader) {
-                        PaginationDataLoader paginationLoader =
+                        PaginationDataLoaderImpl paginationLoader =
                                 applicationContext.getBean(PaginationDataLoaderImpl.class, loader);
+                        loadBoolean(element, "keysetPagination", paginationLoader::setKeysetPaginationEnabled);
                         resultComponent.setPaginationLoader(paginationLoader);
                     } else {
                         throw new GuiDevelopmentException(
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package component.grid
+
+import io.jmix.core.*
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext
+import io.jmix.core.entity.KeyValueEntity
+import io.jmix.core.metamodel.model.MetaClass
+import io.jmix.core.metamodel.model.MetaProperty
+import io.jmix.core.metamodel.model.MetaPropertyPath
+import io.jmix.core.metamodel.model.Store
+import io.jmix.flowui.component.AggregationInfo
+import io.jmix.flowui.data.aggregation.Aggregations
+import io.jmix.flowui.data.aggregation.impl.DataStoreAggregationSupport
+import io.jmix.flowui.model.CollectionContainer
+import io.jmix.flowui.model.CollectionLoader
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.context.ApplicationContext
+import spock.lang.Specification
+
+import java.util.function.BiPredicate
+
+class DataStoreAggregationSupportTest extends Specification {
+
+    DataManager dataManager = Mock()
+    AccessManager accessManager = Mock()
+    DataStoreAggregationSupport aggregationSupport
+
+    MetaClass metaClass = Stub() {
+        getName() >> 'test_Order'
+        getStore() >> Stub(Store) {
+            getName() >> Stores.MAIN
+        }
+    }
+
+    def setup() {
+        AggregationQueryBuilder queryBuilder = Stub() {
+            build(_, _, _) >> new ValueLoadContext.Query('select sum(e.amount) from test_Order e')
+        }
+        ObjectProvider<AggregationQueryBuilder> queryBuilderProvider = Stub() {
+            getIfAvailable() >> queryBuilder
+        }
+        MetadataTools metadataTools = Stub() {
+            isJpa(_ as MetaProperty) >> true
+        }
+        aggregationSupport = new DataStoreAggregationSupport(dataManager, metadataTools, Stub(Aggregations) { get(_) >> null },
+                queryBuilderProvider, accessManager, Stub(ApplicationContext))
+    }
+
+    def "values are aggregated in the data store"() {
+        def row = new KeyValueEntity()
+        row.setValue('aggregate0', 100)
+        def aggregationInfo = createSumAggregationInfo()
+
+        when:
+        def values = aggregationSupport.aggregate(createLoader(), [aggregationInfo])
+
+        then:
+        1 * dataManager.loadValues(_ as ValueLoadContext) >> [row]
+        values == [(aggregationInfo): 100]
+    }
+
+    def "entity with in-memory read constraints is not aggregated in the data store"() {
+        given:
+        accessManager.applyRegisteredConstraints(_) >> { args ->
+            if (args[0] instanceof InMemoryCrudEntityContext) {
+                (args[0] as InMemoryCrudEntityContext).addReadPredicate({ entity, context -> false } as BiPredicate)
+            }
+        }
+
+        when:
+        def values = aggregationSupport.aggregate(createLoader(), [createSumAggregationInfo()])
+
+        then:
+        values == null
+        0 * dataManager.loadValues(_)
+    }
+
+    private AggregationInfo createSumAggregationInfo() {
+        MetaProperty metaProperty = Stub()
+        MetaPropertyPath propertyPath = Stub() {
+            getMetaProperties() >> ([metaProperty] as MetaProperty[])
+            toPathString() >> 'amount'
+            getRangeJavaClass() >> BigDecimal
+        }
+        def aggregationInfo = new AggregationInfo()
+        aggregationInfo.setPropertyPath(propertyPath)
+        aggregationInfo.setType(AggregationInfo.Type.SUM)
+        return aggregationInfo
+    }
+
+    private CollectionLoader<?> createLoader() {
+        def loadContext = new LoadContext(metaClass)
+                .setQuery(new LoadContext.Query('select e from test_Order e'))
+        CollectionContainer<?> container = Stub() {
+            getEntityMetaClass() >> metaClass
+        }
+        CollectionLoader<?> loader = Stub() {
+            getQuery() >> 'select e from test_Order e'
+            getLoadDelegate() >> null
+            getLoadFromRepositoryDelegate() >> null
+            getContainer() >> container
+            createLoadContext() >> loadContext
+        }
+        return loader
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import com.vaadin.flow.data.provider.Query
+import io.jmix.core.DataManager
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.flowui.data.grid.LazyContainerDataGridItems
+import io.jmix.flowui.model.CollectionContainer
+import io.jmix.flowui.model.CollectionLoader
+import io.jmix.flowui.model.DataComponents
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.entity.Foo
+import test_support.spec.DataContextSpec
+
+class LazyContainerDataGridItemsTest extends DataContextSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    DataComponents factory
+
+    List<Foo> foos
+
+    void setup() {
+        foos = (1..25).collect { i ->
+            Foo foo = new Foo()
+            foo.name = String.format('foo-%02d', i)
+            foo
+        }
+        dataManager.saveAll(foos)
+    }
+
+    void cleanup() {
+        deleteRecord(foos.toArray())
+    }
+
+    def "items are fetched by windows and only recent windows are kept"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        CollectionLoader<Foo> loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Foo e order by e.name')
+
+        def items = new LazyContainerDataGridItems<Foo>(container, dataManager)
+        items.setWindowSize(10)
+        items.setMaxCachedWindows(2)
+
+        when:
+
+        def size = items.size(new Query<>())
+        def page = items.fetch(new Query<>(8, 4, [], null, null)).toList()
+
+        then:
+
+        size == 25
+        page*.name == ['foo-09', 'foo-10', 'foo-11', 'foo-12']
+        container.items.size() == 20
+
+        when:
+
+        def lastPage = items.fetch(new Query<>(20, 10, [], null, null)).toList()
+
+        then:
+
+        lastPage*.name == ['foo-21', 'foo-22', 'foo-23', 'foo-24', 'foo-25']
+        container.items*.name.containsAll(['foo-11', 'foo-25'])
+        !container.items*.name.contains('foo-01')
+    }
+
+    def "loader load resets windows and applies condition"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        CollectionLoader<Foo> loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Foo e order by e.name')
+
+        def items = new LazyContainerDataGridItems<Foo>(container, dataManager)
+        int itemSetChanges = 0
+        items.addItemSetChangeListener { itemSetChanges++ }
+
+        items.fetch(new Query<>(0, 50, [], null, null)).toList()
+
+        when:
+
+        loader.setCondition(PropertyCondition.startsWith('name', 'foo-1'))
+        loader.load()
+
+        then:
+
+        itemSetChanges == 1
+        items.size(new Query<>()) == 10
+        items.fetch(new Query<>(0, 50, [], null, null)).toList()*.name ==
+                (10..19).collect { "foo-$it".toString() }
+    }
+
+    def "pre-load and post-load events are sent for each loaded window"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        CollectionLoader<Foo> loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Foo e order by e.name')
+
+        def items = new LazyContainerDataGridItems<Foo>(container, dataManager)
+        items.setWindowSize(10)
+
+        List<Integer> preLoadedFirstResults = []
+        List<List<String>> postLoadedNames = []
+        loader.addPreLoadListener { preLoadedFirstResults << it.loadContext.query.firstResult }
+        loader.addPostLoadListener { postLoadedNames << it.loadedEntities*.name }
+
+        when:
+
+        items.fetch(new Query<>(5, 10, [], null, null)).toList()
+
+        then:
+
+        preLoadedFirstResults == [0, 10]
+        postLoadedNames == [(1..10).collect { String.format('foo-%02d', it) },
+                            (11..20).collect { String.format('foo-%02d', it) }]
+        container.items.size() == 20
+
+        when: "the loader is loaded explicitly"
+
+        loader.load()
+        items.fetch(new Query<>(0, 5, [], null, null)).toList()
+
+        then: "windows are reset and loaded again instead of the whole result"
+
+        postLoadedNames.size() == 3
+        postLoadedNames.last().size() == 10
+    }
+
+    def "count is decreased if windows contain fewer items than counted"() {
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        CollectionLoader<Foo> loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Foo e order by e.name')
+
+        // mimics in-memory constraints hiding every fifth item after it is loaded
+        def items = new LazyContainerDataGridItems<Foo>(container, dataManager) {
+            @Override
+            protected List<Foo> loadWindow(int index) {
+                return super.loadWindow(index).findAll { !it.name.endsWith('5') && !it.name.endsWith('0') }
+            }
+        }
+        items.setWindowSize(10)
+        int itemSetChanges = 0
+        items.addItemSetChangeListener { itemSetChanges++ }
+
+        when:
+
+        def sizeBefore = items.size(new Query<>())
+        def firstPage = items.fetch(new Query<>(0, 10, [], null, null)).toList()
+
+        then:
+
+        sizeBefore == 25
+        firstPage*.name == ['foo-01', 'foo-02', 'foo-03', 'foo-04', 'foo-06',
+                            'foo-07', 'foo-08', 'foo-09', 'foo-11', 'foo-12']
+        itemSetChanges == 1
+        items.size(new Query<>()) == 21
+
+        when:
+
+        def all = items.fetch(new Query<>(0, 25, [], null, null)).toList()
+
+        then:
+
+        items.size(new Query<>()) == 20
+        all.size() == 20
+        all*.name == (1..25).findAll { it % 5 != 0 }.collect { String.format('foo-%02d', it) }
+        items.fetch(new Query<>(16, 4, [], null, null)).toList()*.name == ['foo-21', 'foo-22', 'foo-23', 'foo-24']
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pagination
+
+import io.jmix.core.DataManager
+import io.jmix.core.Sort
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.flowui.data.pagination.PaginationDataLoaderImpl
+import io.jmix.flowui.model.CollectionContainer
+import io.jmix.flowui.model.CollectionLoader
+import io.jmix.flowui.model.DataComponents
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationContext
+import test_support.entity.Foo
+import test_support.spec.DataContextSpec
+
+class KeysetPaginationDataLoaderTest extends DataContextSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    DataComponents factory
+    @Autowired
+    ApplicationContext applicationContext
+
+    List<Foo> foos
+    CollectionContainer<Foo> container
+    CollectionLoader<Foo> loader
+    List<String> afterTokens = []
+
+    @Override
+    void setup() {
+        foos = ['a1', 'a2', 'a3', 'a4', 'b1', 'b2', 'b3', 'b4'].collect {
+            Foo foo = dataManager.create(Foo)
+            foo.name = it
+            foo
+        }
+        dataManager.save(foos.toArray())
+
+        container = factory.createCollectionContainer(Foo)
+        loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Foo e')
+        loader.setSort(Sort.by('name'))
+        loader.setMaxResults(2)
+
+        PaginationDataLoaderImpl paginationLoader = applicationContext.getBean(PaginationDataLoaderImpl, loader)
+        paginationLoader.setKeysetPaginationEnabled(true)
+        loader.addPreLoadListener { afterTokens << it.loadContext.query.after }
+    }
+
+    @Override
+    void cleanup() {
+        deleteRecord(foos.toArray())
+    }
+
+    def "next page is loaded by the token of the preceding page"() {
+        when:
+        loadPage(0)
+        loadPage(2)
+
+        then:
+        container.items*.name == ['a3', 'a4']
+        afterTokens[0] == null
+        afterTokens[1] != null
+    }
+
+    def "tokens are discarded when the condition changes"() {
+        def condition = PropertyCondition.startsWith('name', 'a')
+        loader.setCondition(condition)
+
+        when:
+        loadPage(0)
+        loader.setCondition(PropertyCondition.startsWith('name', 'b'))
+        loadPage(2)
+
+        then:
+        container.items*.name == ['b3', 'b4']
+        afterTokens[1] == null
+
+        when: "the condition is changed in place"
+        loader.setCondition(condition)
+        loadPage(0)
+        condition.setParameterValue('b')
+        loadPage(2)
+
+        then:
+        container.items*.name == ['b3', 'b4']
+        afterTokens[3] == null
+    }
+
+    def "tokens are discarded when the sort changes"() {
+        when:
+        loadPage(0)
+        loader.setSort(Sort.by(Sort.Order.desc('name')))
+        loadPage(2)
+
+        then:
+        container.items*.name == ['b2', 'b1']
+        afterTokens[1] == null
+
+        when:
+        loadPage(4)
+
+        then:
+        container.items*.name == ['a4', 'a3']
+        afterTokens[2] != null
+    }
+
+    private void loadPage(int firstResult) {
+        loader.setFirstResult(firstResult)
+        loader.load()
+    }
+}
@@ -94,6 +94,10 @@ class EnhancingAction implements Action<Task> {
         } else {
             project.logger.lifecycle "Entities enhancing was skipped, because entity classes haven't been changed since the last build"
         }
+
+        if (project.jmix.classpathScanIndexEnabled) {
+            constructClasspathScanIndexes(project, classesInfo, enhancedDir)
+        }
     }
 
     /**
@@ -405,6 +409,19 @@ class EnhancingAction implements Action<Task> {
         }
     }
 
+    /**
+     * Writes the classpath scan index of each module into the generated descriptors dir, so it is placed next to
+     * the module's classes in the runtime classpath. Must be invoked after enhancing: the index reflects the
+     * enhanced classes and has to be newer than them to be considered up-to-date at runtime.
+     */
+    protected void constructClasspathScanIndexes(Project project, ClassesInfo classesInfo, String enhancedDir) {
+        for (String modulePath : classesInfo.modulePaths) {
+            File indexFile = new File("${generatedDescriptorsDir(project, sourceSetName)}/$modulePath/${ClasspathScanIndexUtils.INDEX_FILE_NAME}")
+            int count = ClasspathScanIndexUtils.constructClasspathScanIndex(indexFile, new File(enhancedDir), modulePath)
+            project.logger.info "Classpath scan index with $count classes is written to $indexFile"
+        }
+    }
+
     static String generatedDescriptorsDir(Project project, String sourceSetName) {
         return "$project.buildDir/generated/jmix-descriptors/$sourceSetName"
     }
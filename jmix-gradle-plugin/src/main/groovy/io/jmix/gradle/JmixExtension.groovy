@@ -50,6 +50,12 @@ class JmixExtension {
      */
     boolean confDirCleanupEnabled = true
 
+    /**
+     * If true, the classpath scan index of the module's classes is generated at build time and used by the Jmix
+     * classpath scanner at application startup instead of reading all classes of the module.
+     */
+    boolean classpathScanIndexEnabled = true
+
     JmixExtension(Project project) {
         this.project = project
         entitiesEnhancing = new EntitiesEnhancing()
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gradle;
+
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.annotation.Annotation;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the classpath scan index of a Jmix module. The index lists all classes of the module's base package
+ * with their modifiers, superclass, interfaces and annotations, so the classpath scanner doesn't have to read
+ * the classes at application startup.
+ * <p>
+ * The format must be kept in sync with {@code io.jmix.core.impl.scanning.ClasspathScanIndex}.
+ */
+public class ClasspathScanIndexUtils {
+
+    public static final String INDEX_FILE_NAME = "jmix-classpath-index";
+    public static final String INDEX_HEADER = "#jmix-classpath-index:1";
+
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * Writes the index of classes located in {@code modulePath} of {@code classesDir}.
+     *
+     * @param indexFile  file to write
+     * @param classesDir root directory of compiled (and enhanced) classes
+     * @param modulePath base package of the module as a path, e.g. {@code com/company/app}
+     * @return number of indexed classes
+     */
+    public static int constructClasspathScanIndex(File indexFile, File classesDir, String modulePath) throws IOException {
+        Path packageDir = classesDir.toPath().resolve(modulePath);
+        List<String> lines = new ArrayList<>();
+        lines.add(INDEX_HEADER);
+
+        if (Files.isDirectory(packageDir)) {
+            List<Path> classFiles;
+            try (Stream<Path> paths = Files.walk(packageDir)) {
+                classFiles = paths
+                        .filter(path -> path.getFileName().toString().endsWith(".class"))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+            for (Path classFile : classFiles) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(classFile)))) {
+                    lines.add(createIndexLine(new ClassFile(in)));
+                }
+            }
+        }
+
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), lines, StandardCharsets.UTF_8);
+        return lines.size() - 1;
+    }
+
+    protected static String createIndexLine(ClassFile classFile) {
+        StringBuilder flags = new StringBuilder();
+        if (classFile.isInterface()) {
+            flags.append('I');
+        }
+        if (classFile.isAbstract()) {
+            flags.append('A');
+        }
+        if ((classFile.getAccessFlags() & AccessFlag.ANNOTATION) != 0) {
+            flags.append('N');
+        }
+        if ((classFile.getAccessFlags() & AccessFlag.FINAL) != 0) {
+            flags.append('F');
+        }
+
+        // the same as Spring's class metadata: interfaces have no superclass
+        String superclass = classFile.isInterface() || classFile.getSuperclass() == null ? "" : classFile.getSuperclass();
+
+        List<String> annotations = new ArrayList<>();
+        AnnotationsAttribute attribute = (AnnotationsAttribute) classFile.getAttribute(AnnotationsAttribute.visibleTag);
+        if (attribute != null) {
+            for (Annotation annotation : attribute.getAnnotations()) {
+                annotations.add(annotation.getTypeName());
+            }
+        }
+
+        return classFile.getName() + SEPARATOR
+                + flags + SEPARATOR
+                + superclass + SEPARATOR
+                + String.join(",", classFile.getInterfaces()) + SEPARATOR
+                + String.join(",", annotations);
+    }
+}
@@ -18,11 +18,13 @@ package io.jmix.gradle;
 
 import org.jspecify.annotations.Nullable;
 import javassist.*;
+import javassist.bytecode.AccessFlag;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -143,7 +145,7 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         setupSoftDelete(nestedCtClass, ctClass, info);
         setupHasUuid(nestedCtClass, ctClass, info);
         setupVersion(nestedCtClass, ctClass, info);
-
+        setupIndexedAttributes(nestedCtClass, ctClass);
 
         nestedCtClass.writeFile(outputDir);
     }
@@ -281,6 +283,165 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         }
     }
 
+    /**
+     * Generates index-based access to attribute values. Attributes are indexed in the order of fields declared
+     * in the class hierarchy starting from the topmost superclass, so a subclass keeps indexes of its superclasses.
+     * An attribute without unambiguous public getter keeps its index but can be accessed by name only.
+     */
+    protected void setupIndexedAttributes(CtClass nestedClass, CtClass ctClass)
+            throws NotFoundException, CannotCompileException {
+        List<CtField> fields = collectIndexedFields(ctClass);
+
+        StringBuilder namesBody = new StringBuilder(String.format("{ String[] names = new String[%d];", fields.size()));
+        StringBuilder getterCases = new StringBuilder();
+        StringBuilder setterCases = new StringBuilder();
+        int accessibleCount = 0;
+
+        for (int index = 0; index < fields.size(); index++) {
+            CtField field = fields.get(index);
+            CtMethod getter = findIndexedGetter(ctClass, field);
+            if (getter == null) {
+                continue;
+            }
+            accessibleCount++;
+            namesBody.append(String.format(" names[%d] = \"%s\";", index, field.getName()));
+            getterCases.append(String.format(" case %d: return ($w)((%s)getSource()).%s();",
+                    index, ctClass.getName(), getter.getName()));
+
+            CtClass valueType = getter.getReturnType();
+            CtMethod setter = findIndexedSetter(ctClass, field, valueType);
+            if (setter != null) {
+                String target = String.format("((%s)getSource()).%s", ctClass.getName(), setter.getName());
+                if (valueType.isPrimitive()) {
+                    CtPrimitiveType primitiveType = (CtPrimitiveType) valueType;
+                    setterCases.append(String.format(" case %d: if ($2 instanceof %s) { %s(((%s)$2).%s()); return true; } return false;",
+                            index, primitiveType.getWrapperName(), target,
+                            primitiveType.getWrapperName(), primitiveType.getGetMethodName()));
+                } else {
+                    setterCases.append(String.format(" case %d: if ($2 == null || $2 instanceof %s) { %s((%s)$2); return true; } return false;",
+                            index, valueType.getName(), target, valueType.getName()));
+                }
+            }
+        }
+
+        namesBody.append(" return names; }");
+        String getterBody = String.format("{ %s throw new IllegalArgumentException(\"Unknown attribute index: \" + $1); }",
+                getterCases.length() > 0 ? "switch ($1) {" + getterCases + " }" : "");
+        String setterBody = String.format("{ %s return false; }",
+                setterCases.length() > 0 ? "switch ($1) {" + setterCases + " }" : "");
+
+        CtClass objectClass = classPool.get(Object.class.getName());
+
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PUBLIC | Modifier.STATIC,
+                classPool.get("java.lang.String[]"), GEN_ATTRIBUTE_NAMES_METHOD_NAME, null, null,
+                namesBody.toString(), nestedClass));
+
+        nestedClass.addMethod(CtNewMethod.make(objectClass, "getAttributeValue",
+                new CtClass[]{CtClass.intType}, null,
+                getterBody, nestedClass));
+
+        nestedClass.addMethod(CtNewMethod.make(CtClass.booleanType, "setAttributeValue",
+                new CtClass[]{CtClass.intType, objectClass}, null,
+                setterBody, nestedClass));
+
+        nestedClass.addInterface(classPool.get(ENTITY_ENTRY_INDEXED_ATTRIBUTES_TYPE));
+        logger.debug(String.format("Entity '%s' has %d attributes accessible by index",
+                ctClass.getSimpleName(), accessibleCount));
+    }
+
+    protected List<CtField> collectIndexedFields(CtClass ctClass) throws NotFoundException {
+        List<CtClass> hierarchy = new ArrayList<>();
+        for (CtClass current = ctClass;
+             current != null && !Object.class.getName().equals(current.getName());
+             current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+
+        List<CtField> fields = new ArrayList<>();
+        for (CtClass current : hierarchy) {
+            for (CtField field : current.getDeclaredFields()) {
+                // skip static fields and fields added by enhancing and weaving
+                if (Modifier.isStatic(field.getModifiers())
+                        || field.getName().startsWith("_")
+                        || field.getName().contains("$")) {
+                    continue;
+                }
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    @Nullable
+    protected CtMethod findIndexedGetter(CtClass ctClass, CtField field) {
+        String fieldName = field.getName();
+        if (fieldName.length() > 2 && fieldName.startsWith("is") && Character.isUpperCase(fieldName.charAt(2))) {
+            // Kotlin-style boolean properties are resolved by name
+            return null;
+        }
+        CtMethod getMethod = findPublicMethod(ctClass, "get" + StringUtils.capitalize(fieldName), 0);
+        CtMethod isMethod = findPublicMethod(ctClass, "is" + StringUtils.capitalize(fieldName), 0);
+        if (getMethod != null && isMethod != null) {
+            return null;
+        }
+        CtMethod getter = getMethod != null ? getMethod : isMethod;
+        try {
+            if (getter != null && getter.getReturnType() == CtClass.voidType) {
+                return null;
+            }
+        } catch (NotFoundException e) {
+            return null;
+        }
+        return getter;
+    }
+
+    @Nullable
+    protected CtMethod findIndexedSetter(CtClass ctClass, CtField field, CtClass valueType) {
+        String setterName = "set" + StringUtils.capitalize(field.getName());
+        for (CtMethod method : ctClass.getMethods()) {
+            if (!method.getName().equals(setterName) || !isPublicInstanceMethod(method)) {
+                continue;
+            }
+            try {
+                CtClass[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length == 1 && parameterTypes[0].getName().equals(valueType.getName())) {
+                    return method;
+                }
+            } catch (NotFoundException e) {
+                // ignore
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    protected CtMethod findPublicMethod(CtClass ctClass, String name, int parameterCount) {
+        CtMethod result = null;
+        for (CtMethod method : ctClass.getMethods()) {
+            if (!method.getName().equals(name) || !isPublicInstanceMethod(method)) {
+                continue;
+            }
+            try {
+                if (method.getParameterTypes().length != parameterCount) {
+                    continue;
+                }
+            } catch (NotFoundException e) {
+                continue;
+            }
+            // a getter overridden with a covariant return type: prefer the most specific one
+            if (result == null || method.getDeclaringClass().subclassOf(result.getDeclaringClass())) {
+                result = method;
+            }
+        }
+        return result;
+    }
+
+    protected boolean isPublicInstanceMethod(CtMethod method) {
+        int modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)
+                && (method.getMethodInfo2().getAccessFlags() & AccessFlag.BRIDGE) == 0;
+    }
+
     protected void setupHasUuidForField(CtClass nestedClass, CtClass ctClass, String uuidFieldName)
             throws NotFoundException, CannotCompileException {
         CtClass uuidClass = classPool.get(UUID.class.getName());
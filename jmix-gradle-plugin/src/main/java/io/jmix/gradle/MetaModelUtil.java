@@ -34,6 +34,7 @@ public class MetaModelUtil {
     public static final String EMBEDDABLE_ENTITY_ENTRY_TYPE = "io.jmix.core.entity.EmbeddableEntityEntry";
     public static final String NULLABLE_ID_ENTITY_ENTRY_TYPE = "io.jmix.core.entity.NullableIdEntityEntry";
     public static final String NO_ID_ENTITY_ENTRY_TYPE = "io.jmix.core.entity.NoIdEntityEntry";
+    public static final String ENTITY_ENTRY_INDEXED_ATTRIBUTES_TYPE = "io.jmix.core.entity.EntityEntryIndexedAttributes";
 
     public static final String SETTERS_ENHANCED_TYPE = "io.jmix.core.entity.JmixSettersEnhanced";
     public static final String ENTITY_ENTRY_ENHANCED_TYPE = "io.jmix.core.entity.JmixEntityEntryEnhanced";
@@ -55,6 +56,7 @@ public class MetaModelUtil {
 
     public static final String GEN_ENTITY_ENTRY_VAR_NAME = "_jmixEntityEntry";
     public static final String GEN_ENTITY_ENTRY_CLASS_NAME = "JmixEntityEntry";
+    public static final String GEN_ATTRIBUTE_NAMES_METHOD_NAME = "_jmixAttributeNames";
 
     public static boolean isSettersEnhanced(CtClass ctClass) throws NotFoundException {
         for (CtClass ctInterface : ctClass.getInterfaces()) {
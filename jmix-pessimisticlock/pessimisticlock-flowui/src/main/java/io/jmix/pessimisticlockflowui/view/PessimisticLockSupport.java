@@ -23,17 +23,24 @@ import io.jmix.core.Messages;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.metamodel.datatype.DatatypeFormatter;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.flowui.Facets;
 import io.jmix.flowui.Notifications;
+import io.jmix.flowui.facet.Timer;
 import io.jmix.flowui.view.LockStatus;
 import io.jmix.flowui.view.View;
+import io.jmix.flowui.view.ViewControllerUtils;
 import io.jmix.pessimisticlock.LockManager;
+import io.jmix.pessimisticlock.PessimisticLockProperties;
 import io.jmix.pessimisticlock.entity.LockInfo;
 import io.jmix.pessimisticlock.entity.LockNotSupported;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component("pslock_PessimisticLockSupport")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class PessimisticLockSupport {
@@ -47,6 +54,11 @@ public class PessimisticLockSupport {
     protected Messages messages;
     protected DatatypeFormatter datatypeFormatter;
     protected Notifications notifications;
+    protected Facets facets;
+    protected PessimisticLockProperties properties;
+
+    @Nullable
+    protected Timer leaseRenewalTimer;
 
     public PessimisticLockSupport(View<?> view, MetaClass entityMetaClass) {
         this.view = view;
@@ -78,11 +90,22 @@ public class PessimisticLockSupport {
         this.notifications = notifications;
     }
 
+    @Autowired
+    public void setFacets(Facets facets) {
+        this.facets = facets;
+    }
+
+    @Autowired
+    public void setProperties(PessimisticLockProperties properties) {
+        this.properties = properties;
+    }
+
     public LockStatus lock(Object entityId) {
         Preconditions.checkNotNullArgument(entityId);
 
         LockInfo lockInfo = lockManager.lock(getLockName(), entityId.toString());
         if (lockInfo == null) {
+            startLeaseRenewal(entityId);
             return LockStatus.LOCKED;
         } else if (!(lockInfo instanceof LockNotSupported)) {
             String title = messages.getMessage("entityLocked.title");
@@ -105,9 +128,50 @@ public class PessimisticLockSupport {
     public void unlock(Object entityId) {
         Preconditions.checkNotNullArgument(entityId);
 
+        stopLeaseRenewal();
         lockManager.unlock(getLockName(), entityId.toString(), false);
     }
 
+    /**
+     * Renews the lock periodically while the view is open, so that the lock does not expire
+     * if the user edits the entity longer than the lock timeout.
+     *
+     * @see PessimisticLockProperties#getLeaseRenewalInterval()
+     */
+    protected void startLeaseRenewal(Object entityId) {
+        Duration interval = properties.getLeaseRenewalInterval();
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+
+        stopLeaseRenewal();
+
+        String lockName = getLockName();
+        String id = entityId.toString();
+
+        Timer timer = facets.create(Timer.class);
+        timer.setDelay((int) interval.toMillis());
+        timer.setRepeating(true);
+        timer.setAutostart(true);
+        timer.addTimerActionListener(event -> {
+            if (!lockManager.renewLock(lockName, id)) {
+                stopLeaseRenewal();
+            }
+        });
+        ViewControllerUtils.getViewFacets(view).addFacet(timer);
+
+        leaseRenewalTimer = timer;
+    }
+
+    protected void stopLeaseRenewal() {
+        Timer timer = leaseRenewalTimer;
+        if (timer != null) {
+            leaseRenewalTimer = null;
+            timer.stop();
+            ViewControllerUtils.getViewFacets(view).removeFacet(timer);
+        }
+    }
+
     protected String getLockName() {
         return extendedEntities
                 .getOriginalOrThisMetaClass(entityMetaClass)
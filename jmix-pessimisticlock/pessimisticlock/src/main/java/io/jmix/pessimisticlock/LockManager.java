@@ -51,6 +51,29 @@ public interface LockManager {
     @Nullable
     LockInfo lock(Object entity);
 
+    /**
+     * Try to lock several arbitrary objects of the same type at once. Either all objects are locked or none of them.
+     *
+     * @param name locking objects name
+     * @param ids  locking objects IDs
+     * @return - null in case of successful lock of all objects,<br>
+     * - {@link LockNotSupported} instance in case of locking is not configured for these objects,<br>
+     * - {@link LockInfo} instance of the first object which is already locked by someone
+     */
+    @Nullable
+    LockInfo lockAll(String name, Collection<String> ids);
+
+    /**
+     * Try to lock several entities at once. Either all entities are locked or none of them.
+     *
+     * @param entities entity instances
+     * @return - null in case of successful lock of all entities,<br>
+     * - {@link LockNotSupported} instance in case of locking is not configured for some of the entities,<br>
+     * - {@link LockInfo} instance of the first entity which is already locked by someone
+     */
+    @Nullable
+    LockInfo lockAll(Collection<?> entities);
+
     /**
      * Unlock an arbitrary object.
      *
@@ -79,6 +102,40 @@ public interface LockManager {
      */
     void unlock(Object entity);
 
+    /**
+     * Unlock several arbitrary objects of the same type.
+     *
+     * @param name locking objects name
+     * @param ids  locking objects IDs
+     */
+    void unlockAll(String name, Collection<String> ids);
+
+    /**
+     * Unlock several entities.
+     *
+     * @param entities entity instances
+     */
+    void unlockAll(Collection<?> entities);
+
+    /**
+     * Renew the lease of a lock held by the current user. The lock expires when its timeout passes
+     * since the last renewal.
+     *
+     * @param name locking object name
+     * @param id   locking object ID
+     * @return true if the lock is held by the current user and has been renewed, false otherwise, including
+     * the case when the cache provider doesn't support atomic replace of entries
+     */
+    boolean renewLock(String name, String id);
+
+    /**
+     * Renew the lease of an entity lock held by the current user.
+     *
+     * @param entity entity instance
+     * @return true if the lock is held by the current user and has been renewed, false otherwise
+     */
+    boolean renewLock(Object entity);
+
     /**
      * Get locking status for particular object
      *
@@ -96,6 +153,14 @@ public interface LockManager {
      */
     Collection<LockInfo> getCurrentLocks();
 
+    /**
+     * Collection of current locks of objects with the given name. Unlike {@link #getCurrentLocks()},
+     * does not iterate over all locks.
+     *
+     * @param name locking objects name
+     */
+    Collection<LockInfo> getCurrentLocks(String name);
+
     /**
      * Process locks expiring. All expired locks will be removed.
      */
@@ -19,6 +19,8 @@ package io.jmix.pessimisticlock;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.pslock")
 public class PessimisticLockProperties {
 
@@ -32,10 +34,19 @@ public class PessimisticLockProperties {
      */
     boolean useDefaultQuartzConfiguration;
 
+    /**
+     * Interval of renewing locks of entities opened in views. A lock expires if it has not been renewed during its
+     * timeout, so the interval must be less than lock timeouts. Zero disables renewal, so locks expire after their
+     * timeout from the moment of locking.
+     */
+    Duration leaseRenewalInterval;
+
     public PessimisticLockProperties(@DefaultValue("0 * * * * ?") String expirationCron,
-                           @DefaultValue("true") boolean useDefaultQuartzConfiguration) {
+                           @DefaultValue("true") boolean useDefaultQuartzConfiguration,
+                           @DefaultValue("60s") Duration leaseRenewalInterval) {
         this.expirationCron = expirationCron;
         this.useDefaultQuartzConfiguration = useDefaultQuartzConfiguration;
+        this.leaseRenewalInterval = leaseRenewalInterval;
     }
 
     /**
@@ -51,4 +62,11 @@ public class PessimisticLockProperties {
     public boolean isUseDefaultQuartzConfiguration() {
         return useDefaultQuartzConfiguration;
     }
-}
\ No newline at end of file
+
+    /**
+     * @see #leaseRenewalInterval
+     */
+    public Duration getLeaseRenewalInterval() {
+        return leaseRenewalInterval;
+    }
+}
@@ -41,6 +41,7 @@ public class LockInfo implements Serializable {
     private final String objectId;
     private final Date since;
     private final String username;
+    private final Date renewed;
 
     @Id
     @JmixProperty
@@ -52,6 +53,7 @@ public class LockInfo implements Serializable {
         this.objectId = null;
         this.since = null;
         this.username = null;
+        this.renewed = null;
     }
 
     public LockInfo(@Nullable String username, String objectType, String objectId,
@@ -61,6 +63,22 @@ public class LockInfo implements Serializable {
         this.objectId = objectId;
         this.since = since;
         this.username = username;
+        this.renewed = null;
+    }
+
+    /**
+     * Creates a copy of the given lock with the renewed lease.
+     *
+     * @param lockInfo lock to renew
+     * @param renewed  time of the renewal
+     */
+    public LockInfo(LockInfo lockInfo, Date renewed) {
+        this.id = lockInfo.id;
+        this.objectType = lockInfo.objectType;
+        this.objectId = lockInfo.objectId;
+        this.since = lockInfo.since;
+        this.username = lockInfo.username;
+        this.renewed = renewed;
     }
 
     public UUID getId() {
@@ -92,6 +110,13 @@ public class LockInfo implements Serializable {
         return since;
     }
 
+    /**
+     * @return when the lock lease was renewed last time, or when the lock occurred if it has not been renewed
+     */
+    public Date getRenewed() {
+        return renewed != null ? renewed : since;
+    }
+
     /**
      * @return username of the user which holds the lock
      */
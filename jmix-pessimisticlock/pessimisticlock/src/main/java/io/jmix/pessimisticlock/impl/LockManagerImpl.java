@@ -27,6 +27,8 @@ import io.jmix.pessimisticlock.entity.LockDescriptor;
 import io.jmix.pessimisticlock.entity.LockInfo;
 import io.jmix.pessimisticlock.entity.LockNotSupported;
 import jakarta.annotation.PostConstruct;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.MutableEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.Cache;
@@ -38,6 +40,8 @@ import org.springframework.stereotype.Component;
 import java.io.Serializable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component("pslock_LockManagerImpl")
 public class LockManagerImpl implements LockManager {
@@ -57,6 +61,9 @@ public class LockManagerImpl implements LockManager {
 
     protected Cache locks;
 
+    // IDs of locked objects by lock name, contains locks made on this node and the ones found by expiring locks
+    protected final Map<String, Set<String>> lockIdsByName = new ConcurrentHashMap<>();
+
     public LockManagerImpl(ExtendedEntities extendedEntities,
                            Metadata metadata,
                            MetadataTools metadataTools,
@@ -81,6 +88,10 @@ public class LockManagerImpl implements LockManager {
         if (locks == null) {
             throw new IllegalStateException(String.format("Unable to find cache: %s", LOCKS_CACHE_NAME));
         }
+        if (cacheOperations.isIterableCache(locks)) {
+            Collection<LockKey> keys = cacheOperations.getKeys(locks);
+            keys.forEach(this::addToIndex);
+        }
     }
 
     protected Map<String, LockDescriptor> getConfig() {
@@ -112,6 +123,7 @@ public class LockManagerImpl implements LockManager {
 
         Cache.ValueWrapper lockInfoWrapper = locks.putIfAbsent(key, lockInfo);
         if (lockInfoWrapper == null) {
+            addToIndex(key);
             log.debug("Locked {}/{}", name, id);
             return null;
         } else {
@@ -132,11 +144,64 @@ public class LockManagerImpl implements LockManager {
         return lock(originalMetaClass.getName(), EntityValues.getId(entity).toString());
     }
 
+    @Nullable
+    @Override
+    public LockInfo lockAll(String name, Collection<String> ids) {
+        List<LockKey> keys = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            keys.add(new LockKey(name, id));
+        }
+        return lockAll(keys);
+    }
+
+    @Nullable
+    @Override
+    public LockInfo lockAll(Collection<?> entities) {
+        return lockAll(getLockKeys(entities));
+    }
+
+    @Nullable
+    protected LockInfo lockAll(List<LockKey> keys) {
+        for (LockKey key : keys) {
+            if (getConfig().get(key.name) == null) {
+                return new LockNotSupported();
+            }
+        }
+
+        // acquire locks in the same order everywhere, so that one of concurrent overlapping requests succeeds
+        List<LockKey> sortedKeys = keys.stream()
+                .distinct()
+                .sorted(Comparator.comparing((LockKey key) -> key.name).thenComparing(key -> key.id))
+                .toList();
+
+        String username = currentAuthentication.getUser().getUsername();
+        Date since = timeSource.currentTimestamp();
+        List<LockKey> lockedKeys = new ArrayList<>(sortedKeys.size());
+        for (LockKey key : sortedKeys) {
+            Cache.ValueWrapper lockInfoWrapper = locks.putIfAbsent(key, new LockInfo(username, key.name, key.id, since));
+            if (lockInfoWrapper != null) {
+                LockInfo existingLockInfo = (LockInfo) lockInfoWrapper.get();
+                log.debug("Already locked: {}, releasing {} locks acquired before", existingLockInfo, lockedKeys.size());
+                for (LockKey lockedKey : lockedKeys) {
+                    locks.evictIfPresent(lockedKey);
+                    removeFromIndex(lockedKey);
+                }
+                return existingLockInfo;
+            }
+            lockedKeys.add(key);
+            addToIndex(key);
+        }
+        log.debug("Locked {}", lockedKeys);
+        return null;
+    }
+
     @Override
     public void unlock(String name, String id) {
-        if (locks.evictIfPresent(new LockKey(name, id))) {
+        LockKey key = new LockKey(name, id);
+        if (locks.evictIfPresent(key)) {
             log.debug("Unlocked {}/{}", name, id);
         }
+        removeFromIndex(key);
     }
 
     @Override
@@ -158,6 +223,91 @@ public class LockManagerImpl implements LockManager {
         unlock(originalMetaClass.getName(), EntityValues.getId(entity).toString());
     }
 
+    @Override
+    public void unlockAll(String name, Collection<String> ids) {
+        for (String id : ids) {
+            unlock(name, id);
+        }
+    }
+
+    @Override
+    public void unlockAll(Collection<?> entities) {
+        for (LockKey key : getLockKeys(entities)) {
+            unlock(key.name, key.id);
+        }
+    }
+
+    @Override
+    public boolean renewLock(String name, String id) {
+        if (getConfig().get(name) == null) {
+            return false;
+        }
+
+        LockKey key = new LockKey(name, id);
+        LockInfo lockInfo = locks.get(key, LockInfo.class);
+        if (lockInfo == null || !currentAuthentication.getUser().getUsername().equals(lockInfo.getUsername())) {
+            log.debug("Cannot renew lock {}/{}: not owned by current user", name, id);
+            return false;
+        }
+
+        LockInfo renewedLockInfo = new LockInfo(lockInfo, timeSource.currentTimestamp());
+        // do not overwrite the lock if it has been released and acquired by someone else in the meantime
+        if (!replaceLock(key, lockInfo, renewedLockInfo)) {
+            log.debug("Cannot renew lock {}/{}: changed concurrently or atomic replace is not supported by cache",
+                    name, id);
+            return false;
+        }
+        log.trace("Renewed lock {}/{}", name, id);
+        return true;
+    }
+
+    /**
+     * Atomically replaces the lock if it is still the given one. Locks are compared by their fields, because
+     * caches storing values by value return copies of the cached lock.
+     *
+     * @return false if the lock has changed, or if the cache provider doesn't support atomic replace
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean replaceLock(LockKey key, LockInfo lockInfo, LockInfo newLockInfo) {
+        Object nativeCache = locks.getNativeCache();
+        if (nativeCache instanceof ConcurrentMap) {
+            AtomicBoolean replaced = new AtomicBoolean();
+            ((ConcurrentMap<Object, Object>) nativeCache).computeIfPresent(key, (lockKey, currentLockInfo) -> {
+                if (isSameLock(currentLockInfo, lockInfo)) {
+                    replaced.set(true);
+                    return newLockInfo;
+                }
+                return currentLockInfo;
+            });
+            return replaced.get();
+        }
+        if (nativeCache instanceof javax.cache.Cache) {
+            return Boolean.TRUE.equals(((javax.cache.Cache<Object, Object>) nativeCache)
+                    .invoke(key, new ReplaceLockProcessor(lockInfo, newLockInfo)));
+        }
+        return false;
+    }
+
+    protected static boolean isSameLock(@Nullable Object cachedLockInfo, LockInfo lockInfo) {
+        return cachedLockInfo instanceof LockInfo cached
+                && Objects.equals(cached.getId(), lockInfo.getId())
+                && Objects.equals(cached.getObjectType(), lockInfo.getObjectType())
+                && Objects.equals(cached.getObjectId(), lockInfo.getObjectId())
+                && Objects.equals(cached.getUsername(), lockInfo.getUsername())
+                && Objects.equals(cached.getSince(), lockInfo.getSince())
+                && Objects.equals(cached.getRenewed(), lockInfo.getRenewed());
+    }
+
+    @Override
+    public boolean renewLock(Object entity) {
+        Preconditions.checkNotNullArgument(entity, "entity is null");
+
+        MetaClass metaClass = metadata.getClass(entity);
+        MetaClass originalMetaClass = extendedEntities.getOriginalOrThisMetaClass(metaClass);
+
+        return renewLock(originalMetaClass.getName(), EntityValues.getId(entity).toString());
+    }
+
     @Override
     public LockInfo getLockInfo(String name, String id) {
         LockDescriptor ld = getConfig().get(name);
@@ -178,6 +328,30 @@ public class LockManagerImpl implements LockManager {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Locks made on other cluster nodes are returned after they are found by the next {@link #expireLocks()}.
+     */
+    @Override
+    public Collection<LockInfo> getCurrentLocks(String name) {
+        Set<String> ids = lockIdsByName.get(name);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+
+        List<LockInfo> result = new ArrayList<>(ids.size());
+        for (Iterator<String> iterator = ids.iterator(); iterator.hasNext(); ) {
+            LockInfo lockInfo = locks.get(new LockKey(name, iterator.next()), LockInfo.class);
+            if (lockInfo != null) {
+                result.add(lockInfo);
+            } else {
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+
     @Override
     public void expireLocks() {
         if (cacheOperations.isIterableCache(locks)) {
@@ -190,15 +364,13 @@ public class LockManagerImpl implements LockManager {
                     if (ld == null) {
                         log.debug("Lock {}/{} configuration not found, remove it", key.name, key.id);
                         locks.evict(key);
+                        removeFromIndex(key);
+                    } else if (isExpired(lockInfo, ld)) {
+                        log.debug("Lock {}/{} expired", key.name, key.id);
+                        locks.evict(key);
+                        removeFromIndex(key);
                     } else {
-                        Integer timeoutSec = ld.getTimeoutSec();
-                        if (timeoutSec != null && timeoutSec > 0) {
-                            Date since = lockInfo.getSince();
-                            if (since.getTime() + timeoutSec * 1000 < timeSource.currentTimestamp().getTime()) {
-                                log.debug("Lock {}/{} expired", key.name, key.id);
-                                locks.evict(key);
-                            }
-                        }
+                        addToIndex(key);
                     }
                 } else {
                     log.trace("Lock info not found for key '{}'", key);
@@ -214,6 +386,35 @@ public class LockManagerImpl implements LockManager {
         config = null;
     }
 
+    protected boolean isExpired(LockInfo lockInfo, LockDescriptor ld) {
+        Integer timeoutSec = ld.getTimeoutSec();
+        return timeoutSec != null && timeoutSec > 0
+                && lockInfo.getRenewed().getTime() + timeoutSec * 1000L < timeSource.currentTimestamp().getTime();
+    }
+
+    protected List<LockKey> getLockKeys(Collection<?> entities) {
+        List<LockKey> keys = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            Preconditions.checkNotNullArgument(entity, "entity is null");
+
+            MetaClass metaClass = metadata.getClass(entity);
+            MetaClass originalMetaClass = extendedEntities.getOriginalOrThisMetaClass(metaClass);
+            keys.add(new LockKey(originalMetaClass.getName(), EntityValues.getId(entity).toString()));
+        }
+        return keys;
+    }
+
+    protected void addToIndex(LockKey key) {
+        lockIdsByName.computeIfAbsent(key.name, name -> ConcurrentHashMap.newKeySet()).add(key.id);
+    }
+
+    protected void removeFromIndex(LockKey key) {
+        Set<String> ids = lockIdsByName.get(key.name);
+        if (ids != null) {
+            ids.remove(key.id);
+        }
+    }
+
     protected boolean isCurrentUserLock(@Nullable LockInfo lockInfo) {
         return lockInfo == null
                 || currentAuthentication.getUser().getUsername().equals(lockInfo.getUsername());
@@ -253,4 +454,29 @@ public class LockManagerImpl implements LockManager {
             return String.format("%s[%s]", name, id);
         }
     }
+
+    /**
+     * Replaces the lock in a JCache if it is still the given one. Executed atomically by the cache provider,
+     * possibly on another node, so it must be serializable.
+     */
+    protected static class ReplaceLockProcessor implements EntryProcessor<Object, Object, Boolean>, Serializable {
+        private static final long serialVersionUID = 4920138470213318791L;
+
+        private final LockInfo lockInfo;
+        private final LockInfo newLockInfo;
+
+        public ReplaceLockProcessor(LockInfo lockInfo, LockInfo newLockInfo) {
+            this.lockInfo = lockInfo;
+            this.newLockInfo = newLockInfo;
+        }
+
+        @Override
+        public Boolean process(MutableEntry<Object, Object> entry, Object... arguments) {
+            if (entry.exists() && isSameLock(entry.getValue(), lockInfo)) {
+                entry.setValue(newLockInfo);
+                return true;
+            }
+            return false;
+        }
+    }
 }
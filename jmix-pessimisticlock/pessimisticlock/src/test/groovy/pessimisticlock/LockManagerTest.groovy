@@ -16,18 +16,37 @@
 
 package pessimisticlock
 
+import com.hazelcast.cache.HazelcastCachingProvider
+import com.hazelcast.config.Config
+import com.hazelcast.core.Hazelcast
+import io.jmix.core.CacheOperations
 import io.jmix.core.CoreConfiguration
+import io.jmix.core.ExtendedEntities
 import io.jmix.core.Metadata
+import io.jmix.core.MetadataTools
+import io.jmix.core.TimeSource
+import io.jmix.core.security.CurrentAuthentication
 import io.jmix.core.security.SystemAuthenticator
+import io.jmix.pessimisticlock.LockDescriptorProvider
 import io.jmix.pessimisticlock.LockManager
+import io.jmix.pessimisticlock.entity.LockDescriptor
 import io.jmix.pessimisticlock.entity.LockInfo
+import io.jmix.pessimisticlock.impl.LockManagerImpl
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager
+import org.springframework.cache.Cache
+import org.springframework.cache.concurrent.ConcurrentMapCache
+import org.springframework.cache.jcache.JCacheCacheManager
+import org.springframework.cache.support.SimpleCacheManager
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
 import test_support.PessimisticLockTestConfiguration
 import test_support.entity.LockableChildEntity
 import test_support.entity.LockableParentEntity
 
+import javax.cache.Caching
+import javax.cache.configuration.MutableConfiguration
+
 import static org.junit.jupiter.api.Assertions.assertNotNull
 import static org.junit.jupiter.api.Assertions.assertNull
 
@@ -43,6 +62,18 @@ class LockManagerTest extends Specification {
     @Autowired
     SystemAuthenticator authenticator
 
+    @Autowired
+    ExtendedEntities extendedEntities
+
+    @Autowired
+    MetadataTools metadataTools
+
+    @Autowired
+    CurrentAuthentication currentAuthentication
+
+    @Autowired
+    CacheOperations cacheOperations
+
     void setup() {
         authenticator.begin()
     }
@@ -92,4 +123,154 @@ class LockManagerTest extends Specification {
         then:
         assertNull(lockInfo)
     }
+
+    def "Test bulk lock is acquired for all entities or none of them"() {
+        def entities = (1..3).collect {
+            LockableParentEntity entity = metadata.create(LockableParentEntity.class)
+            entity.setName("Test name $it")
+            entity
+        }
+        def lockedByOther = metadata.create(LockableParentEntity.class)
+
+        when:
+        lockManager.lock(lockedByOther)
+        LockInfo lockInfo = lockManager.lockAll(entities + lockedByOther)
+        then:
+        assertNotNull(lockInfo)
+        entities.every { lockManager.getLockInfo("pslock_LockableParentEntity", it.getId().toString()) == null }
+
+        when:
+        lockManager.unlock(lockedByOther)
+        lockInfo = lockManager.lockAll(entities)
+        then:
+        assertNull(lockInfo)
+        lockManager.getCurrentLocks("pslock_LockableParentEntity")*.objectId as Set == entities*.id*.toString() as Set
+
+        when:
+        lockManager.unlockAll(entities)
+        then:
+        lockManager.getCurrentLocks("pslock_LockableParentEntity").isEmpty()
+    }
+
+    def "Test lock renewal"() {
+        LockableParentEntity entity = metadata.create(LockableParentEntity.class)
+        entity.setName("Test name")
+
+        when:
+        boolean renewed = lockManager.renewLock(entity)
+        then:
+        !renewed
+
+        when:
+        lockManager.lock(entity)
+        LockInfo lockInfo = lockManager.getLockInfo("pslock_LockableParentEntity", entity.getId().toString())
+        then:
+        lockManager.renewLock(entity)
+        lockManager.getLockInfo("pslock_LockableParentEntity", entity.getId().toString()).getSince() == lockInfo.getSince()
+
+        cleanup:
+        lockManager.unlock(entity)
+    }
+
+    def "Test lock expires after timeout since the last renewal"() {
+        long now = 0
+        TimeSource timeSource = Stub(TimeSource) {
+            currentTimestamp() >> { new Date(now) }
+        }
+        def manager = createLockManager(new ConcurrentMapCacheManager(LockManager.LOCKS_CACHE_NAME), timeSource)
+
+        when: "the lock is renewed before its timeout and the timeout since locking passes"
+        manager.lock("test_Lock", "1")
+        now = 100_000
+        boolean renewed = manager.renewLock("test_Lock", "1")
+        now = 150_000
+        manager.expireLocks()
+
+        then: "the timeout is measured from the renewal"
+        renewed
+        manager.getLockInfo("test_Lock", "1").getRenewed() == new Date(100_000)
+        manager.getLockInfo("test_Lock", "1").getSince() == new Date(0)
+
+        when:
+        now = 221_000
+        manager.expireLocks()
+
+        then:
+        manager.getLockInfo("test_Lock", "1") == null
+    }
+
+    def "Test lock is not renewed if cache does not support atomic replace"() {
+        def cacheManager = new SimpleCacheManager()
+        cacheManager.setCaches([new NonAtomicCache()])
+        cacheManager.afterPropertiesSet()
+        def manager = createLockManager(cacheManager, Stub(TimeSource) {
+            currentTimestamp() >> new Date()
+        })
+
+        when:
+        manager.lock("test_Lock", "1")
+
+        then:
+        !manager.renewLock("test_Lock", "1")
+        manager.getLockInfo("test_Lock", "1").getRenewed() == manager.getLockInfo("test_Lock", "1").getSince()
+    }
+
+    def "Test lock is renewed in a cache storing values by value"() {
+        def config = new Config()
+        config.clusterName = 'pessimistic-lock-test'
+        config.networkConfig.join.multicastConfig.enabled = false
+        config.networkConfig.join.autoDetectionConfig.enabled = false
+        def hazelcast = Hazelcast.newHazelcastInstance(config)
+        def cachingProvider = Caching.getCachingProvider('com.hazelcast.cache.HazelcastMemberCachingProvider')
+        def jcacheManager = cachingProvider.getCacheManager(null, null,
+                HazelcastCachingProvider.propertiesByInstanceItself(hazelcast))
+        jcacheManager.createCache(LockManager.LOCKS_CACHE_NAME,
+                new MutableConfiguration<Object, Object>().setStoreByValue(true))
+        def cacheManager = new JCacheCacheManager(jcacheManager)
+        cacheManager.afterPropertiesSet()
+
+        long now = 0
+        def manager = createLockManager(cacheManager, Stub(TimeSource) {
+            currentTimestamp() >> { new Date(now) }
+        })
+
+        when:
+        manager.lock("test_Lock", "1")
+        now = 100_000
+        boolean renewed = manager.renewLock("test_Lock", "1")
+        now = 200_000
+        boolean renewedAgain = manager.renewLock("test_Lock", "1")
+
+        then:
+        renewed
+        renewedAgain
+        manager.getLockInfo("test_Lock", "1").getRenewed() == new Date(200_000)
+        manager.getLockInfo("test_Lock", "1").getSince() == new Date(0)
+
+        cleanup:
+        jcacheManager.close()
+        hazelcast.shutdown()
+    }
+
+    private LockManagerImpl createLockManager(cacheManager, TimeSource timeSource) {
+        LockDescriptorProvider descriptorProvider = { [new LockDescriptor("test_Lock", 120)] }
+        def manager = new LockManagerImpl(extendedEntities, metadata, metadataTools, timeSource,
+                currentAuthentication, cacheManager, cacheOperations, [descriptorProvider])
+        manager.init()
+        return manager
+    }
+
+    /**
+     * Cache which native cache provides no atomic replace operation.
+     */
+    static class NonAtomicCache implements Cache {
+
+        @Delegate(excludes = 'getNativeCache')
+        ConcurrentMapCache delegate = new ConcurrentMapCache(LockManager.LOCKS_CACHE_NAME)
+
+        @Override
+        Object getNativeCache() {
+            return new Object()
+        }
+    }
 }
@@ -18,6 +18,7 @@ package io.jmix.quartz.util;
 
 import io.jmix.core.impl.scanning.AnnotationScanMetadataReaderFactory;
 import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector;
+import io.jmix.core.impl.scanning.ClasspathScanIndexEntry;
 import io.jmix.core.impl.scanning.JmixModulesClasspathScanner;
 import org.apache.commons.collections4.CollectionUtils;
 import org.quartz.Job;
@@ -25,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.stereotype.Component;
 
@@ -73,6 +75,21 @@ public class QuartzJobClassFinder {
                 return false;
             }
         }
+
+        @Override
+        public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+            if (indexEntry.isInterface() || indexEntry.isAbstract()) {
+                return false;
+            }
+            if (indexEntry.hasInterface(Job.class.getName())) {
+                return true;
+            }
+            if (indexEntry.interfaceNames().isEmpty() && Object.class.getName().equals(indexEntry.superClassName())) {
+                return false;
+            }
+            // the class can inherit the interface, so check its hierarchy
+            return ClasspathScanCandidateDetector.super.isCandidate(indexEntry, metadataReaderFactory);
+        }
     }
 
 }
@@ -140,6 +140,8 @@ public class ReportDetailView extends StandardDetailView<Report> {
     @ViewComponent
     protected JmixCheckbox streamingField;
     @ViewComponent
+    protected TypedTextField<String> streamingKeyField;
+    @ViewComponent
     protected FlexLayout multiDataSetLayout;
     @ViewComponent
     protected FlexLayout singleDataSetLayout;
@@ -770,6 +772,7 @@ public class ReportDetailView extends StandardDetailView<Report> {
         // the structural rules (e.g. an imported report): otherwise the user cannot clear an invalid flag
         // that the save-time validation rejects.
         streamingField.setEnabled(item != null && (canEnableStreaming || Boolean.TRUE.equals(item.getStreaming())));
+        streamingKeyField.setEnabled(item != null && Boolean.TRUE.equals(item.getStreaming()));
         multiDataSetField.setEnabled(item != null
                 && dataSetsDc.getItems().size() <= 1
                 && !Boolean.TRUE.equals(item.getStreaming()));
@@ -1084,8 +1087,17 @@ public class ReportDetailView extends StandardDetailView<Report> {
         // Runs regardless of whether the root has children: a streaming flag on the root band (or any
         // structurally invalid streaming setup) must be rejected at save time with the exact runtime
         // rules, not only at render time. The support returns no violations when there is no streaming band.
-        for (StreamingReportValidator.Violation violation
-                : streamingReportValidationSupport.validate(rootBandDefinition)) {
+        // Each template is checked, since streaming formatters of different formats have their own rules.
+        Set<StreamingReportValidator.Violation> violations = new LinkedHashSet<>();
+        List<ReportTemplate> templates = getEditedEntity().getTemplates();
+        if (CollectionUtils.isEmpty(templates)) {
+            violations.addAll(streamingReportValidationSupport.validate(rootBandDefinition));
+        } else {
+            for (ReportTemplate template : templates) {
+                violations.addAll(streamingReportValidationSupport.validate(rootBandDefinition, template));
+            }
+        }
+        for (StreamingReportValidator.Violation violation : violations) {
             validationErrors.add(streamingViolationMessage(violation));
         }
     }
@@ -1096,9 +1108,12 @@ public class ReportDetailView extends StandardDetailView<Report> {
             case NOT_FIRST_LEVEL -> "validation.error.streamingBandFirstLevel";
             case NOT_HORIZONTAL -> "validation.error.streamingBandHorizontal";
             case HAS_CHILDREN -> "validation.error.streamingBandChildren";
+            case NO_STREAMING_KEY -> "validation.error.streamingBandKey";
             case NOT_SINGLE_QUERY -> "validation.error.streamingBandSingleDataSet";
             case LOADER_NOT_STREAMING -> "validation.error.streamingBandLoaderType";
             case NON_HORIZONTAL_BAND_IN_REPORT -> "validation.error.streamingReportNonHorizontalBand";
+            case DOCX_HAS_CHILDREN -> "validation.error.streamingBandDocxChildren";
+            case HTML_GROOVY_TEMPLATE -> "validation.error.streamingBandHtmlGroovyTemplate";
         };
 
         return messageBundle.formatMessage(key, violation.bandName());
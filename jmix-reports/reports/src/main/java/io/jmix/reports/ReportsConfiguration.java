@@ -77,6 +77,7 @@ public class ReportsConfiguration {
         jmixReporting.setLoaderFactory(loaderFactory);
         jmixReporting.setFormatterFactory(formatterFactory);
         jmixReporting.setDataExtractor(dataExtractor);
+        jmixReporting.setStreamingChildBandBatchSize(reportsProperties.getStreaming().getChildBandBatchSize());
         jmixReporting.setObjectToStringConverter(converter);
         jmixReporting.setScripting(scripting);
         return jmixReporting;
@@ -170,6 +170,11 @@ public class ReportsProperties {
      */
     Streaming streaming;
 
+    /**
+     * Parallel extraction of first-level bands.
+     */
+    ParallelExtraction parallelExtraction;
+
     public ReportsProperties(@DefaultValue("/") String officePath,
                              @DefaultValue({"8100", "8101", "8102", "8103"}) List<Integer> officePorts,
                              @DefaultValue("20") int docFormatterTimeout,
@@ -197,7 +202,8 @@ public class ReportsProperties {
                              @DefaultValue("false") boolean useLegacyDateTimeTypes,
                              @DefaultValue("true") boolean groovyEnabled,
                              @DefaultValue({"htm", "html", "jpg", "png", "jpeg", "pdf"}) List<String> viewFileExtensions,
-                             @DefaultValue Streaming streaming) {
+                             @DefaultValue Streaming streaming,
+                             @DefaultValue ParallelExtraction parallelExtraction) {
         this.officePath = officePath;
         this.officePorts = officePorts;
         this.docFormatterTimeout = docFormatterTimeout;
@@ -226,6 +232,7 @@ public class ReportsProperties {
         this.groovyEnabled = groovyEnabled;
         this.viewFileExtensions = viewFileExtensions;
         this.streaming = streaming;
+        this.parallelExtraction = parallelExtraction;
     }
 
     /**
@@ -252,22 +259,32 @@ public class ReportsProperties {
          */
         int rowAccessWindowSize;
 
+        /**
+         * Number of streaming band rows whose child bands with datasets are extracted by one run of the datasets.
+         * If it is greater than 1, the fields of the streaming band are passed to the datasets as lists of values
+         * of all rows of a chunk, so they should be used in {@code in} conditions. Set it to 1 to pass them as
+         * single values and run the datasets for each row.
+         */
+        int childBandBatchSize;
+
         public Streaming(@DefaultValue("1000") int fetchSize,
                          @DefaultValue("1000") int cursorClearInterval,
-                         @DefaultValue("100") int rowAccessWindowSize) {
+                         @DefaultValue("100") int rowAccessWindowSize,
+                         @DefaultValue("100") int childBandBatchSize) {
             // A zero or negative value is never valid and would break streaming in non-obvious ways:
             // cursorClearInterval is a modulus divisor (ArithmeticException), fetchSize drives the JDBC
             // cursor, rowAccessWindowSize sizes the SXSSF window. Fail fast at startup instead.
-            if (fetchSize <= 0 || cursorClearInterval <= 0 || rowAccessWindowSize <= 0) {
+            if (fetchSize <= 0 || cursorClearInterval <= 0 || rowAccessWindowSize <= 0 || childBandBatchSize <= 0) {
                 throw new IllegalArgumentException(String.format(
                         "jmix.reports.streaming knobs must be positive: fetch-size=%d, "
-                                + "cursor-clear-interval=%d, row-access-window-size=%d",
-                        fetchSize, cursorClearInterval, rowAccessWindowSize));
+                                + "cursor-clear-interval=%d, row-access-window-size=%d, child-band-batch-size=%d",
+                        fetchSize, cursorClearInterval, rowAccessWindowSize, childBandBatchSize));
             }
 
             this.fetchSize = fetchSize;
             this.cursorClearInterval = cursorClearInterval;
             this.rowAccessWindowSize = rowAccessWindowSize;
+            this.childBandBatchSize = childBandBatchSize;
         }
 
         /**
@@ -290,6 +307,60 @@ public class ReportsProperties {
         public int getRowAccessWindowSize() {
             return rowAccessWindowSize;
         }
+
+        /**
+         * @see #childBandBatchSize
+         */
+        public int getChildBandBatchSize() {
+            return childBandBatchSize;
+        }
+    }
+
+    /**
+     * @see #parallelExtraction
+     */
+    public ParallelExtraction getParallelExtraction() {
+        return parallelExtraction;
+    }
+
+    public static class ParallelExtraction {
+
+        /**
+         * Whether adjacent first-level bands marked as parallel are extracted concurrently. Other bands, as well as
+         * nested bands, are always extracted sequentially. Datasets of bands extracted in parallel run in separate
+         * transactions.
+         */
+        boolean enabled;
+
+        /**
+         * Maximum number of threads extracting bands of all running reports.
+         */
+        int poolSize;
+
+        public ParallelExtraction(@DefaultValue("false") boolean enabled,
+                                  @DefaultValue("4") int poolSize) {
+            if (poolSize <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "jmix.reports.parallel-extraction.pool-size must be positive: %d", poolSize));
+            }
+
+            this.enabled = enabled;
+            this.poolSize = poolSize;
+        }
+
+        /**
+         * @see #enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @see #poolSize
+         */
+        public int getPoolSize() {
+            return poolSize;
+        }
     }
 
     /**
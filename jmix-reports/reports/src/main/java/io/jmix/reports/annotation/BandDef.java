@@ -63,6 +63,23 @@ public @interface BandDef {
      */
     boolean streaming() default false;
 
+    /**
+     * Name of the field of the streaming band's dataset which identifies a master row. Required if the streaming
+     * band has child bands.
+     *
+     * @return key field name, or an empty string if the streaming band has no child bands
+     */
+    String streamingKey() default "";
+
+    /**
+     * Allows extracting the band concurrently with adjacent first-level bands that are marked as parallel too.
+     * Mark a band as parallel only if its datasets don't use parameters published by datasets of sibling bands.
+     * Applies only if {@code jmix.reports.parallel-extraction.enabled} is set.
+     *
+     * @return {@code true} if the band is independent of its sibling bands
+     */
+    boolean parallel() default false;
+
     /**
      * Datasets of the band. May be empty if the band has no data.
      */
@@ -59,6 +59,10 @@ public class BandDefinition implements ReportBand {
 
     protected Boolean streaming = false;
 
+    protected Boolean parallel = false;
+
+    protected String streamingKey;
+
     public UUID getId() {
         return id;
     }
@@ -160,4 +164,22 @@ public class BandDefinition implements ReportBand {
     public void setStreaming(Boolean streaming) {
         this.streaming = streaming;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Boolean getParallel() {
+        return parallel;
+    }
+
+    public void setParallel(Boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public String getStreamingKey() {
+        return streamingKey;
+    }
+
+    public void setStreamingKey(String streamingKey) {
+        this.streamingKey = streamingKey;
+    }
+}
@@ -18,6 +18,8 @@ package io.jmix.reports.impl;
 import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory;
 import io.jmix.reports.yarg.reporting.StreamingReportValidator;
 import io.jmix.reports.yarg.structure.ReportBand;
+import io.jmix.reports.yarg.structure.ReportTemplate;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -37,4 +39,8 @@ public class StreamingReportValidationSupport {
     public List<StreamingReportValidator.Violation> validate(ReportBand rootBand) {
         return validator.validate(rootBand, loaderFactory);
     }
+
+    public List<StreamingReportValidator.Violation> validate(ReportBand rootBand, @Nullable ReportTemplate template) {
+        return validator.validate(rootBand, loaderFactory, template);
+    }
 }
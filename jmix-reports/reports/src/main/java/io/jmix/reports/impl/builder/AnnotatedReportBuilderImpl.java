@@ -488,6 +488,10 @@ public class AnnotatedReportBuilderImpl implements AnnotatedReportBuilder {
             band.setName(annotation.name());
             band.setOrientation(annotation.orientation());
             band.setStreaming(annotation.streaming());
+            if (!annotation.streamingKey().isEmpty()) {
+                band.setStreamingKey(annotation.streamingKey());
+            }
+            band.setParallel(annotation.parallel());
             band.setPosition(position++);
             band.setReport(report);
 
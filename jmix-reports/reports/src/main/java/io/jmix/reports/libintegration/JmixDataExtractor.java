@@ -16,12 +16,20 @@
 
 package io.jmix.reports.libintegration;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory;
 import io.jmix.reports.ReportsProperties;
 import io.jmix.reports.yarg.reporting.DataExtractorImpl;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
 
-public class JmixDataExtractor extends DataExtractorImpl {
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class JmixDataExtractor extends DataExtractorImpl implements InitializingBean, DisposableBean {
 
     @Autowired
     protected ReportsProperties reportsProperties;
@@ -34,4 +42,32 @@ public class JmixDataExtractor extends DataExtractorImpl {
     public boolean getPutEmptyRowIfNoDataSelected() {
         return Boolean.TRUE.equals(reportsProperties.getPutEmptyRowIfNoDataSelected());
     }
-}
\ No newline at end of file
+
+    @Override
+    public void afterPropertiesSet() {
+        ReportsProperties.ParallelExtraction parallelExtraction = reportsProperties.getParallelExtraction();
+        if (parallelExtraction.isEnabled() && bandExtractionExecutor == null) {
+            setBandExtractionExecutor(Executors.newFixedThreadPool(parallelExtraction.getPoolSize(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("ReportBandExtraction-%d")
+                            .setDaemon(true)
+                            .build()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ExecutorService executor = bandExtractionExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Propagates the security context, and thus the current user and tenant, to the band extraction thread.
+     */
+    @Override
+    protected <T> Callable<T> wrapBandExtractionTask(Callable<T> task) {
+        return new DelegatingSecurityContextCallable<>(task);
+    }
+}
@@ -36,7 +36,10 @@ public class JmixFormatterFactory extends DefaultFormatterFactory {
     public JmixFormatterFactory() {
         super();
         FormatterCreator ftlCreator = factoryInput -> {
-            HtmlFormatter htmlFormatter = beanFactory.getBean(JmixHtmlFormatter.class, factoryInput);
+            HtmlFormatter htmlFormatter = factoryInput.isStreaming()
+                    ? beanFactory.getBean(JmixStreamingHtmlFormatter.class, factoryInput)
+                    // by name: JmixStreamingHtmlFormatter is a JmixHtmlFormatter too
+                    : (HtmlFormatter) beanFactory.getBean("report_JmixHtmlFormatter", factoryInput);
             htmlFormatter.setDefaultFormatProvider(defaultFormatProvider);
             htmlFormatter.setScripting(scripting);
             return htmlFormatter;
@@ -45,7 +48,9 @@ public class JmixFormatterFactory extends DefaultFormatterFactory {
         formattersMap.put("html", ftlCreator);
 
         FormatterCreator docxCreator = factoryInput -> {
-            DocxFormatter docxFormatter = beanFactory.getBean(JmixDocxFormatter.class, factoryInput);
+            DocxFormatter docxFormatter = factoryInput.isStreaming()
+                    ? beanFactory.getBean(JmixStreamingDocxFormatter.class, factoryInput)
+                    : beanFactory.getBean(JmixDocxFormatter.class, factoryInput);
             docxFormatter.setDefaultFormatProvider(defaultFormatProvider);
             if (useOfficeForDocumentConversion) {
                 docxFormatter.setDocumentConverter(documentConverter);
@@ -18,17 +18,20 @@ package io.jmix.reports.libintegration;
 
 import com.google.common.base.Strings;
 import io.jmix.reports.delegate.ParameterTransformer;
+import io.jmix.reports.yarg.reporting.DataExtractorImpl;
 import io.jmix.reports.yarg.reporting.Reporting;
 import io.jmix.reports.yarg.exception.ReportingException;
 import io.jmix.reports.yarg.reporting.RunParams;
 import io.jmix.reports.yarg.structure.BandData;
 import io.jmix.reports.yarg.structure.Report;
+import io.jmix.reports.yarg.structure.ReportBand;
 import io.jmix.reports.yarg.structure.ReportParameter;
 import io.jmix.reports.yarg.util.groovy.Scripting;
 import io.jmix.core.DataManager;
 import io.jmix.core.Metadata;
 import io.jmix.core.QueryUtils;
 import io.jmix.core.Resources;
+import io.jmix.data.StoreAwareLocator;
 import io.jmix.reports.entity.ParameterType;
 import io.jmix.reports.entity.PredefinedTransformation;
 import io.jmix.reports.entity.ReportInputParameter;
@@ -38,9 +41,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import org.jspecify.annotations.Nullable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -69,6 +75,9 @@ public class JmixReporting extends Reporting {
     @Autowired
     protected ReportsGroovyFeatureSupport groovyFeatureSupport;
 
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+
     public void setScripting(Scripting scripting) {
         this.scripting = scripting;
     }
@@ -159,6 +168,23 @@ public class JmixReporting extends Reporting {
         return "(?i)" + (before ? "%" : "") + value + (after ? "%" : "");
     }
 
+    /**
+     * Runs the extraction in a separate read-only transaction of the streaming band's data store. The streaming
+     * JPQL cursor holds the connection of the current transaction, so the datasets of child bands get their own
+     * connection instead of joining it.
+     */
+    @Override
+    protected void extractCorrelatedChildBands(DataExtractorImpl extractor, ReportBand streamingBand,
+                                               List<ReportBand> childBands, List<BandData> rows,
+                                               Map<String, Object> handledParams) {
+        String storeName = StoreUtils.getStoreName(streamingBand.getReportQueries().get(0));
+        TransactionTemplate transaction = new TransactionTemplate(storeAwareLocator.getTransactionManager(storeName));
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status ->
+                super.extractCorrelatedChildBands(extractor, streamingBand, childBands, rows, handledParams));
+    }
+
     @Override
     protected void logException(ReportingException e) {
         //todo https://github.com/Haulmont/jmix-reports/issues/22
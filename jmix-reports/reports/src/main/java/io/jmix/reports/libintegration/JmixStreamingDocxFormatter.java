@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jmix.reports.libintegration;
+
+import io.jmix.reports.ReportsProperties;
+import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput;
+import io.jmix.reports.yarg.formatters.impl.StreamingDocxFormatter;
+import io.jmix.reports.yarg.formatters.impl.docx.MultilineTextProcessor;
+import io.jmix.reports.yarg.formatters.impl.docx.TableManager;
+import org.docx4j.wml.Text;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Spring-managed prototype adapter of {@link StreamingDocxFormatter} that processes multiline strings
+ * like {@link JmixDocxFormatter}, including the ones of the streamed rows.
+ */
+@Component("report_JmixStreamingDocxFormatter")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class JmixStreamingDocxFormatter extends StreamingDocxFormatter {
+
+    @Autowired
+    protected ReportsProperties reportsProperties;
+
+    @Autowired
+    protected MultilineTextProcessor multilineTextProcessor;
+
+    public JmixStreamingDocxFormatter(FormatterFactoryInput formatterFactoryInput) {
+        super(formatterFactoryInput);
+    }
+
+    @Override
+    protected void handleMultilineTexts() {
+        if (reportsProperties.isMultilineStringsProcessingEnabled()) {
+            documentWrapper.getTexts().forEach(textWrapper -> multilineTextProcessor.process(textWrapper));
+
+            for (TableManager table : documentWrapper.getTables()) {
+                table.getMultilineTexts().forEach(text -> multilineTextProcessor.process(text));
+            }
+        }
+    }
+
+    @Override
+    protected void handleStreamedRowMultilineTexts(List<Text> multilineTexts) {
+        if (reportsProperties.isMultilineStringsProcessingEnabled()) {
+            multilineTexts.forEach(text -> multilineTextProcessor.process(text));
+        }
+    }
+
+    @Override
+    protected boolean isSupportedMultilineText(Text text) {
+        if (!reportsProperties.isMultilineStringsProcessingEnabled()) {
+            return false;
+        }
+        return super.isSupportedMultilineText(text);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jmix.reports.libintegration;
+
+import io.jmix.reports.yarg.formatters.StreamingReportFormatter;
+import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput;
+import io.jmix.reports.yarg.formatters.impl.StreamingHtmlFormatter;
+import io.jmix.reports.yarg.formatters.impl.streaming.StreamingBandFeed;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link JmixHtmlFormatter} rendering the streaming band's rows from a feed, see {@link StreamingHtmlFormatter}.
+ * Extends {@link JmixHtmlFormatter} rather than {@link StreamingHtmlFormatter} to keep the template functions,
+ * fonts and resource handling of the regular HTML reports.
+ */
+@Component("report_JmixStreamingHtmlFormatter")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class JmixStreamingHtmlFormatter extends JmixHtmlFormatter implements StreamingReportFormatter {
+
+    public JmixStreamingHtmlFormatter(FormatterFactoryInput formatterFactoryInput) {
+        super(formatterFactoryInput);
+    }
+
+    @Override
+    public void setStreamingBandFeed(StreamingBandFeed streamingBandFeed) {
+        this.streamingBandFeed = streamingBandFeed;
+    }
+
+    @Override
+    public void renderDocument() {
+        consumeData();
+        completeRendering();
+    }
+
+    @Override
+    public void consumeData() {
+        spoolHtmlDocument();
+    }
+
+    @Override
+    public void completeRendering() {
+        writeSpooledHtmlDocument();
+    }
+
+    @Override
+    public void discard() {
+        deleteSpooledDocument();
+    }
+}
@@ -28,6 +28,7 @@ import io.jmix.reports.yarg.formatters.impl.xls.DocumentConverterImpl;
 import io.jmix.reports.yarg.structure.BandData;
 import io.jmix.reports.yarg.structure.ReportTemplate;
 import io.jmix.reports.yarg.util.groovy.Scripting;
+import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,7 +82,9 @@ public class DefaultFormatterFactory implements ReportFormatterFactory {
         formattersMap.put("odt", docCreator);
         formattersMap.put("doc", docCreator);
         FormatterCreator ftlCreator = factoryInput -> {
-            HtmlFormatter htmlFormatter = new HtmlFormatter(factoryInput);
+            HtmlFormatter htmlFormatter = factoryInput.isStreaming()
+                    ? new StreamingHtmlFormatter(factoryInput)
+                    : new HtmlFormatter(factoryInput);
             htmlFormatter.setDefaultFormatProvider(defaultFormatProvider);
             htmlFormatter.setFontsDirectory(getFontsDirectory());
             htmlFormatter.setPdfConverterFactory(htmlToPdfConverterFactory);
@@ -91,7 +94,9 @@ public class DefaultFormatterFactory implements ReportFormatterFactory {
         formattersMap.put("ftl", ftlCreator);
         formattersMap.put("html", ftlCreator);
         formattersMap.put("docx", factoryInput -> {
-            DocxFormatter docxFormatter = new DocxFormatter(factoryInput);
+            DocxFormatter docxFormatter = factoryInput.isStreaming()
+                    ? new StreamingDocxFormatter(factoryInput)
+                    : new DocxFormatter(factoryInput);
             docxFormatter.setDefaultFormatProvider(defaultFormatProvider);
             docxFormatter.setDocumentConverter(documentConverter);
             docxFormatter.setHtmlImportProcessor(htmlImportProcessor);
@@ -200,7 +205,7 @@ public class DefaultFormatterFactory implements ReportFormatterFactory {
 
     @Override
     public boolean supportsStreaming(String templateExtension) {
-        return "xlsx".equalsIgnoreCase(templateExtension);
+        return StringUtils.equalsAnyIgnoreCase(templateExtension, "xlsx", "docx", "html", "ftl");
     }
 
     protected void setDefaultInlinersProvider() {
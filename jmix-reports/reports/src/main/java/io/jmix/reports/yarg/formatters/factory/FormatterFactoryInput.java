@@ -83,7 +83,7 @@ public class FormatterFactoryInput {
     }
 
     /**
-     * @return true if the report declares a streaming band, requesting the streaming XLSX engine
+     * @return true if the report declares a streaming band, requesting a streaming formatter
      */
     public boolean isStreaming() {
         return streaming;
@@ -19,6 +19,7 @@ import freemarker.cache.StringTemplateLoader;
 import freemarker.ext.beans.BeansWrapper;
 import freemarker.ext.beans.MapModel;
 import freemarker.template.*;
+import com.google.common.collect.Iterators;
 import groovy.text.GStringTemplateEngine;
 import io.jmix.reports.yarg.exception.ReportingException;
 import io.jmix.reports.yarg.exception.UnsupportedFormatException;
@@ -26,16 +27,19 @@ import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput;
 import io.jmix.reports.yarg.formatters.factory.HtmlToPdfConverterFactory;
 import io.jmix.reports.yarg.formatters.impl.pdf.HtmlToPdfConverter;
 import io.jmix.reports.yarg.formatters.impl.pdf.ITextPdfConverter;
+import io.jmix.reports.yarg.formatters.impl.streaming.StreamingBandFeed;
 import io.jmix.reports.yarg.structure.BandData;
 import io.jmix.reports.yarg.structure.ReportOutputType;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -54,6 +58,13 @@ public class HtmlFormatter extends AbstractFormatter {
     protected String fontsDirectory;
     protected HtmlToPdfConverterFactory pdfConverterFactory;
 
+    /** Supply of the streaming band's rows; set only when a streaming report is rendered. */
+    @Nullable
+    protected StreamingBandFeed streamingBandFeed;
+    /** Document written by {@link #spoolHtmlDocument()}, waiting for {@link #writeSpooledHtmlDocument()}. */
+    @Nullable
+    protected File spooledDocument;
+
     public HtmlFormatter(FormatterFactoryInput formatterFactoryInput) {
         super(formatterFactoryInput);
         supportedOutputTypes.add(ReportOutputType.custom);
@@ -155,8 +166,59 @@ public class HtmlFormatter extends AbstractFormatter {
         }
     }
 
+    /**
+     * Renders the document with the streaming band's rows pulled from {@link #streamingBandFeed} to a temp file.
+     * Must be called while the feed's cursor is alive.
+     */
+    protected void spoolHtmlDocument() {
+        try {
+            spooledDocument = File.createTempFile("streaming-report", ".htm");
+            try (OutputStream spoolStream = new BufferedOutputStream(new FileOutputStream(spooledDocument))) {
+                writeHtmlDocument(rootBand, spoolStream);
+            }
+        } catch (IOException e) {
+            deleteSpooledDocument();
+            throw wrapWithReportingException("An error occurred while writing html document.", e);
+        } catch (RuntimeException | Error e) {
+            deleteSpooledDocument();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the document rendered by {@link #spoolHtmlDocument()} to the output stream. HTML is copied as is;
+     * PDF layout needs the whole document, so it is read into memory for conversion.
+     */
+    protected void writeSpooledHtmlDocument() {
+        try {
+            if (ReportOutputType.custom.equals(outputType) || ReportOutputType.csv.equals(outputType) || ReportOutputType.html.equals(outputType)) {
+                Files.copy(spooledDocument.toPath(), outputStream);
+                outputStream.flush();
+            } else if (ReportOutputType.pdf.equals(outputType)) {
+                renderPdfDocument(Files.readString(spooledDocument.toPath(), StandardCharsets.UTF_8), outputStream);
+            } else {
+                throw new UnsupportedFormatException();
+            }
+        } catch (IOException e) {
+            throw wrapWithReportingException("An error occurred while writing html document.", e);
+        } finally {
+            IOUtils.closeQuietly(outputStream);
+            deleteSpooledDocument();
+        }
+    }
+
+    protected void deleteSpooledDocument() {
+        if (spooledDocument != null) {
+            FileUtils.deleteQuietly(spooledDocument);
+            spooledDocument = null;
+        }
+    }
+
     protected void writeHtmlDocument(BandData rootBand, OutputStream outputStream) {
         Map templateModel = getTemplateModel(rootBand);
+        if (streamingBandFeed != null) {
+            putStreamingBandModel(templateModel, rootBand, streamingBandFeed);
+        }
 
         if (reportTemplate.isGroovy()) {
             groovy.text.Template htmlTemplate = getGroovyTemplate();
@@ -211,6 +273,17 @@ public class HtmlFormatter extends AbstractFormatter {
         return model;
     }
 
+    /**
+     * Exposes the fed rows to the template as the streaming band's list. Rows are converted to band models
+     * one by one while the template iterates over them, so the list can be iterated only once.
+     */
+    @SuppressWarnings("unchecked")
+    protected void putStreamingBandModel(Map templateModel, BandData rootBand, StreamingBandFeed feed) {
+        Map<String, Object> rootModel = (Map<String, Object>) templateModel.get(rootBand.getName());
+        Map<String, Object> bands = (Map<String, Object>) rootModel.get("bands");
+        bands.put(feed.getBandName(), Iterators.transform(feed.iterator(), this::getBandModel));
+    }
+
     protected Template getFreemarkerTemplate() {
         try {
             String templateContent = IOUtils.toString(reportTemplate.getDocumentContent(), StandardCharsets.UTF_8);
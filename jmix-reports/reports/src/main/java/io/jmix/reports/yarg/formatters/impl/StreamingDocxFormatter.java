@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jmix.reports.yarg.formatters.impl;
+
+import io.jmix.reports.yarg.exception.ReportFormattingException;
+import io.jmix.reports.yarg.formatters.StreamingReportFormatter;
+import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput;
+import io.jmix.reports.yarg.formatters.impl.docx.TableManager;
+import io.jmix.reports.yarg.formatters.impl.inline.ContentInliner;
+import io.jmix.reports.yarg.formatters.impl.streaming.StreamingBandFeed;
+import io.jmix.reports.yarg.formatters.impl.xls.DocumentConverter;
+import io.jmix.reports.yarg.structure.BandData;
+import io.jmix.reports.yarg.structure.ReportFieldFormat;
+import io.jmix.reports.yarg.structure.ReportOutputType;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.docx4j.Docx4J;
+import org.docx4j.TraversalUtil;
+import org.docx4j.XmlUtils;
+import org.docx4j.convert.out.HTMLSettings;
+import org.docx4j.openpackaging.exceptions.Docx4JException;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.wml.Text;
+import org.docx4j.wml.Tr;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streaming formatter for '.docx' file types.
+ * <p>
+ * The streaming band is rendered by a table with the {@code ##band=<name>} marker, like in {@link DocxFormatter}.
+ * The rest of the document is filled by docx4j as usual, with the table's row with aliases replaced by a
+ * placeholder. Then the document is written to a temp file part by part, and the placeholder in the main
+ * document part is replaced by the rows pulled from {@link StreamingBandFeed}: each row is filled from the
+ * template row and written right away, so only the current row is held in memory.
+ * <p>
+ * Restrictions of the streamed row: the streaming band must not have child bands, content inliners (images,
+ * html) are not supported for its fields, and its aliases cannot be referenced outside the table.
+ * <p>
+ * {@code docx} output is copied from the temp file to the output stream as is; {@code pdf} and {@code html}
+ * output is converted from the whole document.
+ */
+public class StreamingDocxFormatter extends DocxFormatter implements StreamingReportFormatter {
+
+    /** Value of the placeholder row's rsid attribute, used to find the row in the written main document part. */
+    protected static final String STREAMED_ROWS_MARKER = "0FEED0DC";
+
+    @Nullable
+    protected StreamingBandFeed streamingBandFeed;
+    @Nullable
+    protected File spooledDocument;
+    protected boolean writingStreamedRows;
+
+    public StreamingDocxFormatter(FormatterFactoryInput formatterFactoryInput) {
+        super(formatterFactoryInput);
+        supportedOutputTypes.add(ReportOutputType.html);
+    }
+
+    @Override
+    public void setStreamingBandFeed(StreamingBandFeed streamingBandFeed) {
+        this.streamingBandFeed = streamingBandFeed;
+    }
+
+    @Override
+    public void renderDocument() {
+        if (streamingBandFeed == null) {
+            super.renderDocument();
+            return;
+        }
+        consumeData();
+        completeRendering();
+    }
+
+    @Override
+    public void consumeData() {
+        if (streamingBandFeed == null) {
+            throw new IllegalStateException("Streaming band feed is not set");
+        }
+        try {
+            loadDocument();
+
+            TableManager streamingTable = findStreamingTable(streamingBandFeed.getBandName());
+            Tr templateRow = streamingTable.getRowWithAliases();
+            documentWrapper.getTables().remove(streamingTable);
+
+            fillTables();
+            replaceAllAliasesInDocument();
+            handleUrls();
+            handleMultilineTexts();
+            updateTableOfContents();
+
+            // Replaced after the aliases of the document are filled, so that the template row gets
+            // the values of non-table aliases like the rest of the document
+            List<Object> tableContent = streamingTable.getTable().getContent();
+            tableContent.set(tableContent.indexOf(templateRow), createPlaceholderRow());
+
+            convertAltChunks();
+            spoolDocument(streamingTable, templateRow);
+        } catch (Docx4JException e) {
+            discard();
+            throw wrapWithReportingException("An error occurred while saving result report", e);
+        } catch (IOException e) {
+            discard();
+            throw wrapWithReportingException("An error occurred while writing streaming docx document", e);
+        } catch (RuntimeException | Error e) {
+            discard();
+            throw e;
+        } finally {
+            documentWrapper = null;
+            wordprocessingMLPackage = null;
+        }
+    }
+
+    @Override
+    public void completeRendering() {
+        try {
+            checkThreadInterrupted();
+            if (ReportOutputType.docx.equals(outputType)) {
+                Files.copy(spooledDocument.toPath(), outputStream);
+            } else if (ReportOutputType.pdf.equals(outputType) || ReportOutputType.html.equals(outputType)) {
+                convertSpooledDocument();
+            } else {
+                throw new UnsupportedOperationException(String.format("StreamingDocxFormatter could not output file with type [%s]", outputType));
+            }
+            outputStream.flush();
+        } catch (Docx4JException e) {
+            throw wrapWithReportingException("An error occurred while saving result report", e);
+        } catch (IOException e) {
+            throw wrapWithReportingException("An error occurred while saving result report", e);
+        } finally {
+            IOUtils.closeQuietly(outputStream);
+            deleteSpooledDocument();
+        }
+    }
+
+    @Override
+    public void discard() {
+        deleteSpooledDocument();
+    }
+
+    protected void deleteSpooledDocument() {
+        if (spooledDocument != null) {
+            FileUtils.deleteQuietly(spooledDocument);
+            spooledDocument = null;
+        }
+    }
+
+    protected TableManager findStreamingTable(String bandName) {
+        for (TableManager table : documentWrapper.getTables()) {
+            if (bandName.equals(table.getBandName()) && table.getRowWithAliases() != null) {
+                return table;
+            }
+        }
+        throw wrapWithReportingException(String.format(
+                "Streaming band [%s] must be rendered by a table with the ##band=%s marker and a row with aliases",
+                bandName, bandName));
+    }
+
+    protected Tr createPlaceholderRow() {
+        Tr row = new Tr();
+        row.setRsidR(STREAMED_ROWS_MARKER);
+        return row;
+    }
+
+    /**
+     * Writes the document to a temp file, copying all parts except the main document part, which is written
+     * with the placeholder row replaced by the streamed rows.
+     */
+    protected void spoolDocument(TableManager streamingTable, Tr templateRow) throws Docx4JException, IOException {
+        ByteArrayOutputStream packageStream = new ByteArrayOutputStream();
+        writeToOutputStream(wordprocessingMLPackage, packageStream);
+        String mainDocumentEntry = StringUtils.removeStart(
+                wordprocessingMLPackage.getMainDocumentPart().getPartName().getName(), "/");
+
+        spooledDocument = File.createTempFile("streaming-report", ".docx");
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(packageStream.toByteArray()));
+             ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(spooledDocument)))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                out.putNextEntry(new ZipEntry(entry.getName()));
+                if (mainDocumentEntry.equals(entry.getName())) {
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    writeMainDocument(IOUtils.toString(in, StandardCharsets.UTF_8), writer, streamingTable, templateRow);
+                    // not closed: closing would close the zip stream
+                    writer.flush();
+                } else {
+                    IOUtils.copy(in, out);
+                }
+                out.closeEntry();
+            }
+        }
+    }
+
+    protected void writeMainDocument(String documentXml, Writer writer, TableManager streamingTable, Tr templateRow)
+            throws IOException {
+        int markerIndex = documentXml.indexOf("\"" + STREAMED_ROWS_MARKER + "\"");
+        if (markerIndex < 0) {
+            throw new ReportFormattingException("Unable to find the streaming band's row in the written document");
+        }
+        int rowStart = documentXml.lastIndexOf("<w:tr", markerIndex);
+        int tagEnd = documentXml.indexOf('>', markerIndex);
+        int rowEnd = documentXml.charAt(tagEnd - 1) == '/'
+                ? tagEnd + 1
+                : documentXml.indexOf("</w:tr>", tagEnd) + "</w:tr>".length();
+
+        writer.write(documentXml, 0, rowStart);
+
+        writingStreamedRows = true;
+        try {
+            int rowCount = 0;
+            Iterator<BandData> rows = streamingBandFeed.iterator();
+            while (rows.hasNext()) {
+                writeStreamedRow(writer, streamingTable, templateRow, rows.next());
+                rowCount++;
+            }
+            if (rowCount == 0 && streamingTable.noHeader()) {
+                // A table must have at least one row, so a table consisting of the band's row only
+                // keeps it with empty values
+                writeStreamedRow(writer, streamingTable, templateRow,
+                        new BandData(streamingBandFeed.getBandName(), rootBand));
+            }
+        } finally {
+            writingStreamedRows = false;
+        }
+
+        writer.write(documentXml, rowEnd, documentXml.length() - rowEnd);
+    }
+
+    protected void writeStreamedRow(Writer writer, TableManager streamingTable, Tr templateRow, BandData band)
+            throws IOException {
+        checkThreadInterrupted();
+        Tr row = XmlUtils.deepCopy(templateRow);
+        new TraversalUtil(row, streamingTable.INVARIANTS_SETTER);
+        streamingTable.fillRowFromBand(row, band);
+
+        List<Text> multilineTexts = streamingTable.getMultilineTexts();
+        handleStreamedRowMultilineTexts(multilineTexts);
+        multilineTexts.clear();
+
+        writer.write(XmlUtils.marshaltoString(row, true, false));
+    }
+
+    /**
+     * Processes multiline texts of a streamed row before it is written. Does nothing by default, like
+     * {@link #handleMultilineTexts()}.
+     */
+    protected void handleStreamedRowMultilineTexts(List<Text> multilineTexts) {
+    }
+
+    @Override
+    protected boolean tryToApplyInliners(String fullParameterName, Object paramValue, Text text) {
+        if (writingStreamedRows && paramValue != null && hasContentInliner(fullParameterName)) {
+            // the document parts are already written, so inlined content could not be added to the package
+            throw wrapWithReportingException(String.format(
+                    "Content inliners are not supported for fields of a streaming band [%s]", fullParameterName));
+        }
+        return super.tryToApplyInliners(fullParameterName, paramValue, text);
+    }
+
+    protected boolean hasContentInliner(String fullParameterName) {
+        Map<String, ReportFieldFormat> valueFormats = rootBand.getReportFieldFormats();
+        if (valueFormats == null || !valueFormats.containsKey(fullParameterName)) {
+            return false;
+        }
+        String format = valueFormats.get(fullParameterName).getFormat();
+        for (ContentInliner contentInliner : contentInliners) {
+            if (contentInliner.getTagPattern().matcher(format).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void convertSpooledDocument() throws IOException, Docx4JException {
+        byte[] documentBytes = Files.readAllBytes(spooledDocument.toPath());
+        DocumentConverter.FileType fileType = DocumentConverter.FileType.DOCUMENT;
+        if (documentConverter != null) {
+            if (ReportOutputType.pdf.equals(outputType)) {
+                documentConverter.convertToPdf(fileType, documentBytes, outputStream);
+            } else {
+                documentConverter.convertToHtml(fileType, documentBytes, outputStream);
+            }
+            return;
+        }
+
+        WordprocessingMLPackage resultPackage = WordprocessingMLPackage.load(new ByteArrayInputStream(documentBytes));
+        if (ReportOutputType.pdf.equals(outputType)) {
+            Docx4J.toPDF(resultPackage, outputStream);
+        } else {
+            HTMLSettings htmlSettings = Docx4J.createHTMLSettings();
+            htmlSettings.setOpcPackage(resultPackage);
+            Docx4J.toHTML(htmlSettings, outputStream, Docx4J.FLAG_NONE);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jmix.reports.yarg.formatters.impl;
+
+import io.jmix.reports.yarg.formatters.StreamingReportFormatter;
+import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput;
+import io.jmix.reports.yarg.formatters.impl.streaming.StreamingBandFeed;
+
+/**
+ * Streaming formatter for '.html' and '.ftl' FreeMarker templates.
+ * <p>
+ * The streaming band's rows are exposed to the template as a list pulled from {@link StreamingBandFeed}: each row
+ * is converted to a band model when the template reaches it, and the template output is written to a temp file,
+ * so only the current row is held in memory. The list can be iterated only once, and built-ins that need the
+ * whole list (e.g. {@code ?size}, indexing) are not supported for it. Child bands attached by the feed are
+ * available in each row's model as usual.
+ * <p>
+ * {@code html} output is copied from the temp file to the output stream as is; {@code pdf} output is produced
+ * from the whole document, since PDF layout needs it.
+ */
+public class StreamingHtmlFormatter extends HtmlFormatter implements StreamingReportFormatter {
+
+    public StreamingHtmlFormatter(FormatterFactoryInput formatterFactoryInput) {
+        super(formatterFactoryInput);
+    }
+
+    @Override
+    public void setStreamingBandFeed(StreamingBandFeed streamingBandFeed) {
+        this.streamingBandFeed = streamingBandFeed;
+    }
+
+    @Override
+    public void renderDocument() {
+        consumeData();
+        completeRendering();
+    }
+
+    @Override
+    public void consumeData() {
+        spoolHtmlDocument();
+    }
+
+    @Override
+    public void completeRendering() {
+        writeSpooledHtmlDocument();
+    }
+
+    @Override
+    public void discard() {
+        deleteSpooledDocument();
+    }
+}
@@ -185,8 +185,10 @@ import org.w3c.dom.NodeList;
  *
  * <p>Data feeding: when the report's streaming band is backed by a {@code sql} or {@code jpql} dataset,
  * its rows are pulled from a live database cursor inside an open transaction (see
- * {@code StreamingBandFeed} and {@code StreamingReportDataLoader}); the band must be horizontal,
- * single-dataset and childless, other loader types (groovy, json) are rejected. Conditional formatting
+ * {@code StreamingBandFeed} and {@code StreamingReportDataLoader}); the band must be horizontal and
+ * single-dataset, other loader types (groovy, json) are rejected. The band may have one level of child bands,
+ * attached by the feed to each streamed row (from an ordered join split on key changes, or loaded per row),
+ * so only one row's children are held in memory; merged regions are rejected in them as in the fed band. Conditional formatting
  * over the fed band is applied as one contiguous range covering the whole rendered span. A
  * {@code hint_rowAutoHeight} range over a fed band measures every streamed row's text with an AWT layout
  * pass: this stays O(1) in memory but costs CPU per row, so a large fed export with auto-height is
@@ -728,6 +730,13 @@ public class StreamingXlsxFormatter extends AbstractFormatter implements Streami
         collectBandDataNames(rootBand, names);
         if (streamingBandFeed != null) {
             names.add(streamingBandFeed.getBandName());
+            // Fed rows are never attached to the band tree, so their children are registered from the feed
+            Set<String> feedChildNames = streamingBandFeed.getChildBandNames();
+            if (!feedChildNames.isEmpty()) {
+                names.addAll(feedChildNames);
+                childBandNames.computeIfAbsent(streamingBandFeed.getBandName(), k -> new HashSet<>())
+                        .addAll(feedChildNames);
+            }
         }
         return names;
     }
@@ -1150,7 +1159,8 @@ public class StreamingXlsxFormatter extends AbstractFormatter implements Streami
                         continue;
                     }
                     rejectContentBetween(band, child, templateSheet);
-                    writeHorizontalBand(child, templateSheet, resultSheet, cursor, childInstances);
+                    // Children of a fed row are unbounded in total, so they are rendered as fed too
+                    writeHorizontalBand(child, templateSheet, resultSheet, cursor, childInstances.iterator(), fed);
                 }
             }
         }
@@ -15,12 +15,13 @@
  */
 package io.jmix.reports.yarg.formatters.impl.streaming;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import io.jmix.reports.yarg.structure.BandData;
 import org.jspecify.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * One-shot supply of the streaming ("hot") band's rows for the streaming XLSX formatter. Each source
@@ -28,6 +29,17 @@ import java.util.Map;
  * it, so rendered rows become garbage as soon as the formatter moves on. When
  * {@code putEmptyRowIfNoDataSelected} is on, an empty source yields exactly one empty row, mirroring
  * the extractor's behavior.
+ * <p>
+ * The streamed band may have one level of child bands, attached to each emitted row before it is returned:
+ * <ul>
+ *     <li>joined child bands ({@link #setJoinedChildBands}) — the source is an ordered join of master and
+ *     detail rows. Consecutive rows with the same split key value form one emitted row: the first of them
+ *     supplies the row's data, and each of them becomes an instance of every joined child band;</li>
+ *     <li>correlated child bands ({@link #setCorrelatedChildBands}) — loaded for chunks of emitted rows,
+ *     e.g. by a query parameterized with the fields of all rows of the chunk.</li>
+ * </ul>
+ * Only the rows of the current chunk and their children are held in memory, so memory stays bounded by the
+ * chunk size and the largest group regardless of the number of rows.
  */
 public class StreamingBandFeed {
 
@@ -41,6 +53,14 @@ public class StreamingBandFeed {
     @Nullable
     protected BandData firstRow;
 
+    @Nullable
+    protected String splitKey;
+    protected Set<String> joinedChildBandNames = Set.of();
+    protected Set<String> correlatedChildBandNames = Set.of();
+    protected int correlatedChunkSize = 1;
+    @Nullable
+    protected Consumer<List<BandData>> correlatedChildBandsLoader;
+
     public StreamingBandFeed(String bandName, Iterator<Map<String, Object>> rows, BandData rootBand) {
         this(bandName, rows, rootBand, true);
     }
@@ -57,6 +77,41 @@ public class StreamingBandFeed {
         return bandName;
     }
 
+    /**
+     * Switches the feed to the ordered join mode: consecutive source rows with equal {@code splitKey} values
+     * are emitted as one row with an instance of each of {@code childBandNames} per source row.
+     * <p>
+     * Rows of a group are copied into plain maps when pulled, because reading ahead to find the end of the
+     * group may release the previous rows of the cursor. Aliases of such bands are resolved against the
+     * selected fields only.
+     */
+    public void setJoinedChildBands(String splitKey, Set<String> childBandNames) {
+        this.splitKey = splitKey;
+        this.joinedChildBandNames = childBandNames;
+    }
+
+    /**
+     * Sets child bands whose instances are loaded by {@code loader} for chunks of emitted rows. Up to
+     * {@code chunkSize} rows are read ahead and copied into plain maps, then the loader receives them and
+     * attaches instances of the child bands to them. So the loader is invoked once per chunk rather than once
+     * per row, and not between fetches of the rows of a chunk.
+     */
+    public void setCorrelatedChildBands(Set<String> childBandNames, int chunkSize,
+                                        Consumer<List<BandData>> loader) {
+        this.correlatedChildBandNames = childBandNames;
+        this.correlatedChunkSize = Math.max(chunkSize, 1);
+        this.correlatedChildBandsLoader = loader;
+    }
+
+    /**
+     * Names of the child bands attached to emitted rows.
+     */
+    public Set<String> getChildBandNames() {
+        Set<String> names = new HashSet<>(joinedChildBandNames);
+        names.addAll(correlatedChildBandNames);
+        return names;
+    }
+
     public Iterator<BandData> iterator() {
         if (consumed) {
             throw new IllegalStateException("Streaming band feed for [" + bandName + "] is already consumed");
@@ -64,13 +119,15 @@ public class StreamingBandFeed {
 
         consumed = true;
 
+        PeekingIterator<Map<String, Object>> source = Iterators.peekingIterator(rows);
+        Deque<BandData> chunk = new ArrayDeque<>();
         return new Iterator<>() {
             private boolean anyRowSeen = false;
             private boolean emptyRowEmitted = false;
 
             @Override
             public boolean hasNext() {
-                if (rows.hasNext()) {
+                if (!chunk.isEmpty() || source.hasNext()) {
                     return true;
                 }
                 return putEmptyRowIfNoDataSelected && !anyRowSeen && !emptyRowEmitted;
@@ -78,16 +135,69 @@ public class StreamingBandFeed {
 
             @Override
             public BandData next() {
-                if (rows.hasNext()) {
+                if (chunk.isEmpty() && source.hasNext()) {
                     anyRowSeen = true;
-                    return wrap(rows.next());
+                    readChunk(source, chunk);
+                }
+                if (!chunk.isEmpty()) {
+                    return chunk.poll();
+                }
+                if (!putEmptyRowIfNoDataSelected || anyRowSeen || emptyRowEmitted) {
+                    throw new NoSuchElementException();
                 }
                 emptyRowEmitted = true;
-                return wrap(new HashMap<>());
+                BandData band = wrap(new HashMap<>());
+                loadCorrelatedChildBands(List.of(band));
+                return band;
             }
         };
     }
 
+    protected void readChunk(PeekingIterator<Map<String, Object>> source, Deque<BandData> chunk) {
+        if (correlatedChildBandsLoader == null) {
+            chunk.add(nextRow(source, false));
+            return;
+        }
+        List<BandData> bands = new ArrayList<>(correlatedChunkSize);
+        while (bands.size() < correlatedChunkSize && source.hasNext()) {
+            // rows read ahead are copied, because reading the next ones may release them in the cursor
+            bands.add(nextRow(source, true));
+        }
+        loadCorrelatedChildBands(bands);
+        chunk.addAll(bands);
+    }
+
+    protected BandData nextRow(PeekingIterator<Map<String, Object>> source, boolean materializeRow) {
+        BandData band;
+        if (splitKey == null) {
+            Map<String, Object> row = source.next();
+            band = wrap(materializeRow ? materialize(row) : row);
+        } else {
+            Map<String, Object> row = materialize(source.next());
+            Object key = row.get(splitKey);
+            band = wrap(row);
+            addJoinedChildBands(band, row);
+            while (source.hasNext() && Objects.equals(key, source.peek().get(splitKey))) {
+                addJoinedChildBands(band, materialize(source.next()));
+            }
+        }
+        return band;
+    }
+
+    protected void addJoinedChildBands(BandData band, Map<String, Object> row) {
+        for (String childBandName : joinedChildBandNames) {
+            BandData child = new BandData(childBandName, band);
+            child.setData(row);
+            band.addChild(child);
+        }
+    }
+
+    protected void loadCorrelatedChildBands(List<BandData> bands) {
+        if (correlatedChildBandsLoader != null) {
+            correlatedChildBandsLoader.accept(bands);
+        }
+    }
+
     /** The first emitted row, or {@code null} when nothing was emitted or the feed was not consumed yet. */
     @Nullable
     public BandData getFirstRow() {
@@ -103,18 +213,26 @@ public class StreamingBandFeed {
             // referencing this band keep working after the connection is released. The rendered band
             // keeps the original map to preserve lazy path-alias semantics.
             //
-            // The copy iterates entrySet() explicitly instead of new HashMap<>(row): a lazy EntityMap
-            // reports size()==0 until it is materialized, and HashMap(Map)/putAll skip entrySet() when
-            // size()==0, which would leave the copy empty. Reading entrySet() forces the load.
-            Map<String, Object> materialized = new HashMap<>();
-            for (Map.Entry<String, Object> entry : row.entrySet()) {
-                //noinspection UseBulkOperation
-                materialized.put(entry.getKey(), entry.getValue());
-            }
+            // The copy is taken with materialize(): see its comment on lazy EntityMap rows.
+            Map<String, Object> materialized = materialize(row);
             BandData copy = new BandData(bandName, rootBand);
             copy.setData(materialized);
             firstRow = copy;
         }
         return band;
     }
+
+    /**
+     * Copies a row into a plain map. The copy iterates entrySet() explicitly instead of new HashMap<>(row):
+     * a lazy EntityMap reports size()==0 until it is materialized, and HashMap(Map)/putAll skip entrySet()
+     * when size()==0, which would leave the copy empty. Reading entrySet() forces the load.
+     */
+    protected Map<String, Object> materialize(Map<String, Object> row) {
+        Map<String, Object> materialized = new HashMap<>();
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            //noinspection UseBulkOperation
+            materialized.put(entry.getKey(), entry.getValue());
+        }
+        return materialized;
+    }
 }
@@ -17,6 +17,8 @@
 package io.jmix.reports.yarg.reporting;
 
 
+import io.jmix.reports.yarg.exception.ReportingException;
+import io.jmix.reports.yarg.exception.ReportingInterruptedException;
 import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory;
 import io.jmix.reports.yarg.reporting.extraction.DefaultExtractionContextFactory;
 import io.jmix.reports.yarg.reporting.extraction.DefaultExtractionControllerFactory;
@@ -27,8 +29,10 @@ import io.jmix.reports.yarg.structure.Report;
 import io.jmix.reports.yarg.structure.ReportBand;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -42,6 +46,8 @@ public class DataExtractorImpl implements DataExtractor {
 
     protected boolean putEmptyRowIfNoDataSelected = true;
 
+    protected @Nullable ExecutorService bandExtractionExecutor;
+
     public DataExtractorImpl(ReportLoaderFactory loaderFactory) {
         checkNotNull(loaderFactory, "\"loaderFactory\" parameter can not be null");
 
@@ -84,14 +90,184 @@ public class DataExtractorImpl implements DataExtractor {
                 .sorted(Comparator.comparingInt(ReportBand::getPosition))
                 .toList();
 
+        List<ReportBand> bandsToExtract = new ArrayList<>(firstLevelBands.size());
         for (ReportBand definition : firstLevelBands) {
             rootBand.getFirstLevelBandDefinitionNames().add(definition.getName());
-            if (excludedBandNames.contains(definition.getName())) {
+            if (!excludedBandNames.contains(definition.getName())) {
+                bandsToExtract.add(definition);
+            }
+        }
+
+        ExecutorService executor = bandExtractionExecutor;
+        List<ReportBand> parallelBands = new ArrayList<>();
+        for (ReportBand definition : bandsToExtract) {
+            if (executor != null && Boolean.TRUE.equals(definition.getParallel())) {
+                parallelBands.add(definition);
                 continue;
             }
+            createParallelBands(parallelBands, rootBand, params, executor);
             List<BandData> bands = createBands(definition, rootBand, params);
             rootBand.addChildren(bands);
         }
+        createParallelBands(parallelBands, rootBand, params, executor);
+    }
+
+    /**
+     * Extracts the collected adjacent parallel bands and clears the list.
+     */
+    protected void createParallelBands(List<ReportBand> parallelBands, BandData rootBand, Map<String, Object> params,
+                                       @Nullable ExecutorService executor) {
+        if (parallelBands.isEmpty()) {
+            return;
+        }
+        if (executor != null && parallelBands.size() > 1) {
+            createBandsInParallel(parallelBands, rootBand, params, executor);
+        } else {
+            for (ReportBand definition : parallelBands) {
+                rootBand.addChildren(createBands(definition, rootBand, params));
+            }
+        }
+        parallelBands.clear();
+    }
+
+    /**
+     * Extracts first-level bands concurrently. The bands must be marked as {@link ReportBand#getParallel() parallel},
+     * i.e. independent of parameters published by their siblings. Nested bands depend on their parent band output
+     * and are extracted sequentially by the task of their first-level band. Extracted bands are added to
+     * {@code rootBand} in the order of definitions.
+     * <p>
+     * Each band works with its own copy of {@code params}, so parameters added by datasets of a band are not visible
+     * to the bands extracted concurrently. They are merged back to {@code params} in the order of definitions after
+     * extraction, so bands following the parallel ones see them.
+     */
+    protected void createBandsInParallel(List<ReportBand> definitions, BandData rootBand, Map<String, Object> params,
+                                         ExecutorService executor) {
+        List<Map<String, Object>> bandParams = new ArrayList<>(definitions.size());
+        List<Future<List<BandData>>> futures = new ArrayList<>(definitions.size());
+        try {
+            for (ReportBand definition : definitions) {
+                Map<String, Object> definitionParams = new HashMap<>(params);
+                bandParams.add(definitionParams);
+                futures.add(executor.submit(
+                        wrapBandExtractionTask(() -> createBands(definition, rootBand, definitionParams))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                rootBand.addChildren(futures.get(i).get());
+                params.putAll(bandParams.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportingInterruptedException("Data extraction interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ReportingException(cause);
+        } finally {
+            for (Future<List<BandData>> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Wraps a task extracting a first-level band in a worker thread. Override to propagate thread-bound state
+     * of the calling thread, e.g. security context.
+     */
+    protected <T> Callable<T> wrapBandExtractionTask(Callable<T> task) {
+        return task;
+    }
+
+    /**
+     * Sets an executor used to extract adjacent first-level bands marked as {@link ReportBand#getParallel() parallel}
+     * concurrently. If {@code null}, all bands are extracted sequentially in the calling thread.
+     */
+    public void setBandExtractionExecutor(@Nullable ExecutorService bandExtractionExecutor) {
+        this.bandExtractionExecutor = bandExtractionExecutor;
+    }
+
+    public @Nullable ExecutorService getBandExtractionExecutor() {
+        return bandExtractionExecutor;
+    }
+
+    /**
+     * Extracts instances of the given band for several instances of its parent band by one run of the band's
+     * datasets and attaches them to the parents. Used by the streaming engine to load child bands of a chunk of
+     * streamed rows.
+     * <p>
+     * The datasets receive each field of the parent band as the list of its values in all given parents, e.g.
+     * {@code ${Orders.id}} is bound to the ids of all given orders, so the fields should be used in {@code in}
+     * conditions. Each extracted instance must contain {@code keyField} and is attached to the parent with the
+     * same value of this field.
+     */
+    public void extractBands(ReportBand definition, List<BandData> parentBands, String keyField,
+                             Map<String, Object> params) {
+        Map<Object, BandData> parentsByKey = new HashMap<>();
+        Map<String, Set<Object>> parentValues = new HashMap<>();
+        for (BandData parentBand : parentBands) {
+            Object key = parentBand.getData().get(keyField);
+            if (key == null) {
+                // e.g. the empty row of a streaming band without data
+                continue;
+            }
+            parentsByKey.putIfAbsent(key, parentBand);
+            for (Map.Entry<String, Object> entry : parentBand.getData().entrySet()) {
+                if (entry.getValue() != null) {
+                    parentValues.computeIfAbsent(entry.getKey(), name -> new LinkedHashSet<>()).add(entry.getValue());
+                }
+            }
+        }
+        if (parentsByKey.isEmpty()) {
+            return;
+        }
+
+        BandData firstParent = parentBands.get(0);
+        BandData chunkBand = new BandData(firstParent.getName(), firstParent.getParentBand(),
+                firstParent.getOrientation());
+        Map<String, Object> chunkData = new HashMap<>();
+        parentValues.forEach((name, values) -> chunkData.put(name, new ArrayList<>(values)));
+        chunkBand.setData(chunkData);
+
+        Set<BandData> parentsWithChildren = new HashSet<>();
+        for (BandData band : createBands(definition, chunkBand, params)) {
+            Object key = band.getData().get(keyField);
+            if (key == null && band.getData().isEmpty()) {
+                // the empty row put if the whole chunk has no data, it is put for each parent below
+                continue;
+            }
+            BandData parentBand = key == null ? null : parentsByKey.get(key);
+            if (parentBand == null) {
+                throw new ReportingException(String.format(
+                        "Row of band [%s] does not belong to any of the extracted rows of band [%s]: "
+                                + "field [%s] is [%s]", definition.getName(), firstParent.getName(), keyField, key));
+            }
+            band.setParentBand(parentBand);
+            parentBand.addChild(band);
+            parentsWithChildren.add(parentBand);
+        }
+
+        if (putEmptyRowIfNoDataSelected) {
+            for (BandData parentBand : parentsByKey.values()) {
+                if (!parentsWithChildren.contains(parentBand)) {
+                    BandData emptyBand = new BandData(definition.getName(), parentBand, definition.getBandOrientation());
+                    emptyBand.setData(new HashMap<>());
+                    parentBand.addChild(emptyBand);
+                }
+            }
+        }
+    }
+
+    /**
+     * Extracts instances of the given band for a single instance of its parent band and attaches them to it.
+     * Unlike {@link #extractBands(ReportBand, List, String, Map)}, the datasets receive the fields of the parent
+     * band as single values.
+     */
+    public void extractBands(ReportBand definition, BandData parentBand, Map<String, Object> params) {
+        parentBand.addChildren(createBands(definition, parentBand, params));
     }
 
     public void setPutEmptyRowIfNoDataSelected(boolean putEmptyRowIfNoDataSelected) {
@@ -32,6 +32,7 @@ import io.jmix.reports.yarg.structure.*;
 import org.jspecify.annotations.Nullable;
 import io.jmix.reports.yarg.util.converter.ObjectToStringConverter;
 import io.jmix.reports.yarg.util.converter.ObjectToStringConverterImpl;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
@@ -41,8 +42,10 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +61,7 @@ public class Reporting implements ReportingAPI {
     protected DataExtractor dataExtractor;
     protected ReportLoaderFactory loaderFactory;
     protected StreamingReportValidator streamingValidator = new StreamingReportValidator();
+    protected int streamingChildBandBatchSize = 100;
 
     protected ObjectToStringConverter objectToStringConverter = new ObjectToStringConverterImpl();
 
@@ -78,6 +82,10 @@ public class Reporting implements ReportingAPI {
         this.dataExtractor = dataExtractor;
     }
 
+    public void setStreamingChildBandBatchSize(int streamingChildBandBatchSize) {
+        this.streamingChildBandBatchSize = streamingChildBandBatchSize;
+    }
+
     public void setObjectToStringConverter(ObjectToStringConverter objectToStringConverter) {
         this.objectToStringConverter = objectToStringConverter;
     }
@@ -229,13 +237,13 @@ public class Reporting implements ReportingAPI {
                         + "call Reporting.setLoaderFactory before running streaming reports", report.getName());
 
         List<StreamingReportValidator.Violation> violations =
-                streamingValidator.validate(report.getRootBand(), loaderFactory);
+                streamingValidator.validate(report.getRootBand(), loaderFactory, reportTemplate);
         if (!violations.isEmpty()) {
             String details = violations.stream()
                     .map(StreamingReportValidator.Violation::describe)
                     .collect(Collectors.joining("; "));
             throw new ReportingException(
-                    "Report cannot be rendered by the streaming XLSX engine: " + details);
+                    "Report cannot be rendered by the streaming engine: " + details);
         }
         streamingFormatter.setReportBandNames(collectReportBandNames(report.getRootBand()));
 
@@ -256,6 +264,7 @@ public class Reporting implements ReportingAPI {
             feed = streamingLoader.loadDataStreaming(query, rootBand, handledParams, rows -> {
                 StreamingBandFeed bandFeed = new StreamingBandFeed(
                         streamingBand.getName(), rows, rootBand, dataExtractor.getPutEmptyRowIfNoDataSelected());
+                configureChildBands(bandFeed, streamingBand, handledParams);
                 streamingFormatter.setStreamingBandFeed(bandFeed);
                 streamingFormatter.consumeData();
                 return bandFeed;
@@ -277,6 +286,73 @@ public class Reporting implements ReportingAPI {
         return rootBand;
     }
 
+    /**
+     * Configures how child bands of the streaming band are fed. Rows of the streaming band are identified by
+     * its {@link ReportBand#getStreamingKey() streaming key}. Child bands without datasets receive the detail
+     * rows of an ordered join of master and detail rows that is split on changes of the key. Other child bands
+     * are extracted by their own datasets, see {@link #extractCorrelatedChildBands}.
+     */
+    protected void configureChildBands(StreamingBandFeed feed, ReportBand streamingBand,
+                                       Map<String, Object> handledParams) {
+        if (streamingBand.getChildren().isEmpty()) {
+            return;
+        }
+
+        String key = streamingBand.getStreamingKey();
+        if (StringUtils.isBlank(key)) {
+            throw new ReportingException(format("Streaming band [%s] with child bands must define a key field",
+                    streamingBand.getName()));
+        }
+
+        Set<String> joinedBandNames = new LinkedHashSet<>();
+        List<ReportBand> correlatedBands = new ArrayList<>();
+        for (ReportBand child : streamingBand.getChildren()) {
+            if (CollectionUtils.isEmpty(child.getReportQueries())) {
+                joinedBandNames.add(child.getName());
+            } else {
+                correlatedBands.add(child);
+            }
+        }
+
+        if (!joinedBandNames.isEmpty()) {
+            feed.setJoinedChildBands(key, joinedBandNames);
+        }
+        if (!correlatedBands.isEmpty()) {
+            if (!(dataExtractor instanceof DataExtractorImpl extractor)) {
+                throw new ReportingException(format("Child bands of streaming band [%s] require %s",
+                        streamingBand.getName(), DataExtractorImpl.class.getSimpleName()));
+            }
+            Set<String> correlatedBandNames = correlatedBands.stream()
+                    .map(ReportBand::getName)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            feed.setCorrelatedChildBands(correlatedBandNames, streamingChildBandBatchSize, rows ->
+                    extractCorrelatedChildBands(extractor, streamingBand, correlatedBands, rows, handledParams));
+        }
+    }
+
+    /**
+     * Extracts child bands with datasets for a chunk of streamed rows. If the chunk size is 1, the datasets run
+     * for each row and receive its fields as single values, otherwise they run once per chunk and receive the
+     * fields as lists of values, see {@link DataExtractorImpl#extractBands(ReportBand, List, String, Map)}.
+     * <p>
+     * Invoked while the cursor of the streaming band is open, so the datasets must not use its connection:
+     * e.g. MySQL and MariaDB cannot run other statements on a connection with an unfinished streaming result.
+     * Override to run the extraction in a separate transaction.
+     */
+    protected void extractCorrelatedChildBands(DataExtractorImpl extractor, ReportBand streamingBand,
+                                               List<ReportBand> childBands, List<BandData> rows,
+                                               Map<String, Object> handledParams) {
+        for (ReportBand child : childBands) {
+            if (streamingChildBandBatchSize == 1) {
+                for (BandData row : rows) {
+                    extractor.extractBands(child, row, handledParams);
+                }
+            } else {
+                extractor.extractBands(child, rows, streamingBand.getStreamingKey(), handledParams);
+            }
+        }
+    }
+
     protected Set<String> collectReportBandNames(ReportBand band) {
         Set<String> names = new HashSet<>();
         names.add(band.getName());
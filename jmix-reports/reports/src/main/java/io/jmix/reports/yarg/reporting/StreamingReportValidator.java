@@ -20,6 +20,8 @@ import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory;
 import io.jmix.reports.yarg.structure.BandOrientation;
 import io.jmix.reports.yarg.structure.ReportBand;
 import io.jmix.reports.yarg.structure.ReportQuery;
+import io.jmix.reports.yarg.structure.ReportTemplate;
+import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
@@ -28,8 +30,13 @@ import java.util.List;
 
 /**
  * Validates the band structure of a report that uses a streaming band against the restrictions of the
- * streaming XLSX engine. Shared by the rendering engine ({@link Reporting}) and the report designer UI,
+ * streaming engine. Shared by the rendering engine ({@link Reporting}) and the report designer UI,
  * so an unsupported structure is rejected identically at save time and at run time.
+ * <p>
+ * Besides the rules common to all formats, each streaming formatter has its own restrictions, checked
+ * when the template is known: XLSX reports must not contain vertical or cross bands, the streaming band
+ * of a DOCX template fills a single table row and must not have child bands, and HTML templates must be
+ * FreeMarker templates.
  */
 @NullMarked
 public class StreamingReportValidator {
@@ -38,11 +45,14 @@ public class StreamingReportValidator {
         MULTIPLE_STREAMING_BANDS("a report can have only one streaming band"),
         NOT_FIRST_LEVEL("streaming band must be a first-level band (a direct child of the root band)"),
         NOT_HORIZONTAL("streaming band must be horizontal"),
-        HAS_CHILDREN("streaming band must not have child bands"),
+        HAS_CHILDREN("child band of a streaming band must not have child bands"),
+        NO_STREAMING_KEY("streaming band with child bands must define a key field"),
         NOT_SINGLE_QUERY("streaming band must have exactly one dataset"),
         LOADER_NOT_STREAMING("streaming band must use a loader that supports streaming (sql or jpql)"),
         NON_HORIZONTAL_BAND_IN_REPORT(
-                "report with a streaming band must not contain vertical or cross bands");
+                "report with a streaming band must not contain vertical or cross bands"),
+        DOCX_HAS_CHILDREN("streaming band of a DOCX template must not have child bands"),
+        HTML_GROOVY_TEMPLATE("streaming band of an HTML template requires a FreeMarker template");
 
         private final String description;
 
@@ -64,9 +74,22 @@ public class StreamingReportValidator {
 
     /**
      * Returns the violations of the streaming engine's restrictions, or an empty list when the report
-     * either has no streaming band or satisfies all of them.
+     * either has no streaming band or satisfies all of them. The template is not known, so the rules of
+     * the streaming XLSX formatter are applied.
      */
     public List<Violation> validate(ReportBand rootBand, ReportLoaderFactory loaderFactory) {
+        return validate(rootBand, loaderFactory, null);
+    }
+
+    /**
+     * Returns the violations of the streaming engine's restrictions for the given template, or an empty list
+     * when the report either has no streaming band or satisfies all of them.
+     *
+     * @param template template the report is rendered with; if null, the rules of the streaming XLSX
+     *                 formatter are applied
+     */
+    public List<Violation> validate(ReportBand rootBand, ReportLoaderFactory loaderFactory,
+                                    @Nullable ReportTemplate template) {
         List<Violation> violations = new ArrayList<>();
         List<ReportBand> streamingBands = new ArrayList<>();
         collectStreamingBands(rootBand, streamingBands);
@@ -83,7 +106,24 @@ public class StreamingReportValidator {
         for (ReportBand band : streamingBands) {
             validateStreamingBand(band, loaderFactory, violations);
         }
-        collectNonHorizontalBands(rootBand, violations);
+
+        String extension = template == null ? null
+                : StringUtils.lowerCase(StringUtils.substringAfterLast(template.getDocumentName(), "."));
+        if ("docx".equals(extension)) {
+            for (ReportBand band : streamingBands) {
+                if (!band.getChildren().isEmpty()) {
+                    violations.add(new Violation(ViolationType.DOCX_HAS_CHILDREN, band.getName()));
+                }
+            }
+        } else if ("html".equals(extension) || "ftl".equals(extension)) {
+            if (template != null && template.isGroovy()) {
+                for (ReportBand band : streamingBands) {
+                    violations.add(new Violation(ViolationType.HTML_GROOVY_TEMPLATE, band.getName()));
+                }
+            }
+        } else {
+            collectNonHorizontalBands(rootBand, violations);
+        }
         return violations;
     }
 
@@ -107,8 +147,14 @@ public class StreamingReportValidator {
             violations.add(new Violation(ViolationType.NOT_HORIZONTAL, band.getName()));
         }
 
-        if (!band.getChildren().isEmpty()) {
-            violations.add(new Violation(ViolationType.HAS_CHILDREN, band.getName()));
+        // One level of child bands is supported: they are fed per streamed row
+        for (ReportBand child : band.getChildren()) {
+            if (!child.getChildren().isEmpty()) {
+                violations.add(new Violation(ViolationType.HAS_CHILDREN, child.getName()));
+            }
+        }
+        if (!band.getChildren().isEmpty() && StringUtils.isBlank(band.getStreamingKey())) {
+            violations.add(new Violation(ViolationType.NO_STREAMING_KEY, band.getName()));
         }
 
         List<ReportQuery> queries = band.getReportQueries();
@@ -16,6 +16,7 @@
 package io.jmix.reports.yarg.structure;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.List;
@@ -42,10 +43,29 @@ public interface ReportBand extends Serializable {
     BandOrientation getBandOrientation();
 
     /**
-     * @return true if this band is the large "hot" band rendered by the streaming XLSX engine.
+     * @return true if this band is the large "hot" band rendered by the streaming engine.
      * A report containing at least one streaming band is generated by the streaming formatter.
      */
     default Boolean getStreaming() {
         return false;
     }
+
+    /**
+     * @return true if this first-level band doesn't use parameters published by datasets of its sibling bands,
+     * so it can be extracted concurrently with adjacent parallel bands. Relevant only if parallel extraction is
+     * configured for the data extractor.
+     */
+    default Boolean getParallel() {
+        return false;
+    }
+
+    /**
+     * @return name of the field of the streaming band's dataset which identifies a master row. Required if the
+     * streaming band has child bands: consecutive rows with the same key value form one master row, and rows of
+     * child bands with datasets are attached to the master row with the same key value.
+     */
+    @Nullable
+    default String getStreamingKey() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package docx
+
+import io.jmix.reports.entity.ReportTemplate
+import io.jmix.reports.yarg.exception.ReportingException
+import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput
+import io.jmix.reports.yarg.formatters.impl.StreamingDocxFormatter
+import io.jmix.reports.yarg.formatters.impl.streaming.StreamingBandFeed
+import io.jmix.reports.yarg.structure.BandData
+import io.jmix.reports.yarg.structure.ReportOutputType
+import org.docx4j.TextUtils
+import org.docx4j.XmlUtils
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage
+import org.docx4j.wml.Tbl
+import spock.lang.Specification
+
+class StreamingDocxFormatterTest extends Specification {
+
+    private static final String WML_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main"
+
+    private static byte[] buildTemplate(String tableBandName, String... rowTexts) {
+        def mlPackage = WordprocessingMLPackage.createPackage()
+        def documentPart = mlPackage.getMainDocumentPart()
+        documentPart.addParagraphOfText('${Header.title}')
+
+        def rows = (["##band=" + tableBandName] + rowTexts.toList()).collect {
+            "<w:tr><w:tc><w:p><w:r><w:t>${it}</w:t></w:r></w:p></w:tc></w:tr>"
+        }.join()
+        documentPart.addObject(XmlUtils.unmarshalString("<w:tbl xmlns:w=\"${WML_NS}\">${rows}</w:tbl>"))
+        documentPart.addParagraphOfText("end")
+
+        def output = new ByteArrayOutputStream()
+        mlPackage.save(output)
+        return output.toByteArray()
+    }
+
+    private static byte[] renderWithFeed(byte[] template, BandData root, StreamingBandFeed feed) {
+        def output = new ByteArrayOutputStream()
+        def reportTemplate = new ReportTemplate()
+        reportTemplate.setName("template.docx")
+        reportTemplate.setContent(template)
+        def input = new FormatterFactoryInput("docx", root, reportTemplate, ReportOutputType.docx, output)
+        def formatter = new StreamingDocxFormatter(input)
+        formatter.setStreamingBandFeed(feed)
+        formatter.consumeData()
+        formatter.completeRendering()
+        return output.toByteArray()
+    }
+
+    private static Tbl firstTable(WordprocessingMLPackage mlPackage) {
+        return mlPackage.getMainDocumentPart().getContent()
+                .collect { XmlUtils.unwrap(it) }
+                .find { it instanceof Tbl } as Tbl
+    }
+
+    private static String textOf(Object element) {
+        def writer = new StringWriter()
+        TextUtils.extractText(element, writer)
+        return writer.toString()
+    }
+
+    private static BandData rootWithHeader() {
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        def header = new BandData("Header", root)
+        header.setData([title: "T"])
+        root.addChild(header)
+        return root
+    }
+
+    def "streamed rows fill the band's table, the rest of the document is filled from the tree"() {
+        given:
+        def root = rootWithHeader()
+        def feed = new StreamingBandFeed("Data", [[n: "A"], [n: "B"], [n: "C"]].iterator(), root)
+
+        when:
+        def result = WordprocessingMLPackage.load(
+                new ByteArrayInputStream(renderWithFeed(buildTemplate("Data", '${n}'), root, feed)))
+        def table = firstTable(result)
+        def text = textOf(result.getMainDocumentPart().getJaxbElement())
+
+        then:
+        table.getContent().size() == 4
+        textOf(table.getContent()[1]) == "A"
+        textOf(table.getContent()[2]) == "B"
+        textOf(table.getContent()[3]) == "C"
+        !text.contains('${Header.title}')
+        text.contains("T")
+        text.contains("end")
+    }
+
+    def "values of streamed rows are escaped"() {
+        given:
+        def root = rootWithHeader()
+        def feed = new StreamingBandFeed("Data", [[n: "<a & b>"]].iterator(), root)
+
+        when:
+        def result = WordprocessingMLPackage.load(
+                new ByteArrayInputStream(renderWithFeed(buildTemplate("Data", '${n}'), root, feed)))
+
+        then:
+        textOf(firstTable(result).getContent()[1]) == "<a & b>"
+    }
+
+    def "template without the streaming band's table is rejected"() {
+        given:
+        def root = rootWithHeader()
+        def feed = new StreamingBandFeed("Data", [[n: "A"]].iterator(), root)
+
+        when:
+        renderWithFeed(buildTemplate("Other", '${n}'), root, feed)
+
+        then:
+        thrown(ReportingException)
+    }
+}
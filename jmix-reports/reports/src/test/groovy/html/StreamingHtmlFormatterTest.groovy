@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package html
+
+import io.jmix.reports.entity.ReportTemplate
+import io.jmix.reports.yarg.exception.ReportingException
+import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput
+import io.jmix.reports.yarg.formatters.impl.StreamingHtmlFormatter
+import io.jmix.reports.yarg.formatters.impl.streaming.StreamingBandFeed
+import io.jmix.reports.yarg.structure.BandData
+import io.jmix.reports.yarg.structure.ReportOutputType
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class StreamingHtmlFormatterTest extends Specification {
+
+    private String renderWithFeed(String template, BandData root, StreamingBandFeed feed) {
+        def output = new ByteArrayOutputStream()
+        def reportTemplate = new ReportTemplate()
+        reportTemplate.setName("template.html")
+        reportTemplate.setContent(template.getBytes(StandardCharsets.UTF_8))
+        def input = new FormatterFactoryInput("html", root, reportTemplate, ReportOutputType.html, output)
+        def formatter = new StreamingHtmlFormatter(input)
+        formatter.setStreamingBandFeed(feed)
+        formatter.consumeData()
+        formatter.completeRendering()
+        return output.toString(StandardCharsets.UTF_8)
+    }
+
+    private static BandData addBand(BandData parent, String name, Map<String, Object> data) {
+        def band = new BandData(name, parent)
+        band.setData(data)
+        parent.addChild(band)
+        return band
+    }
+
+    def "streaming band rows come from the feed, other bands from the tree"() {
+        given:
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        addBand(root, "Header", [title: "T"])
+        def feed = new StreamingBandFeed("Data", [[n: "A"], [n: "B"], [n: "C"]].iterator(), root)
+        def template = '${Root.bands.Header[0].fields.title}:<#list Root.bands.Data as row>${row.fields.n};</#list>'
+
+        when:
+        def result = renderWithFeed(template, root, feed)
+
+        then:
+        result == "T:A;B;C;"
+        root.getChildrenByName("Data").isEmpty()
+    }
+
+    def "child bands attached by the feed are available in the row model"() {
+        given:
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        def rows = [[number: "I1", line: "a"], [number: "I1", line: "b"], [number: "I2", line: "c"]]
+        def feed = new StreamingBandFeed("Invoice", rows.iterator(), root)
+        feed.setJoinedChildBands("number", ["Line"] as Set)
+        def template = '<#list Root.bands.Invoice as invoice>${invoice.fields.number}(' +
+                '<#list invoice.bands.Line as line>${line.fields.line}</#list>)</#list>'
+
+        when:
+        def result = renderWithFeed(template, root, feed)
+
+        then:
+        result == "I1(ab)I2(c)"
+    }
+
+    def "streaming band can be listed only once"() {
+        given:
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        def feed = new StreamingBandFeed("Data", [[n: "A"]].iterator(), root)
+        def template = '<#list Root.bands.Data as row>${row.fields.n}</#list><#list Root.bands.Data as row>${row.fields.n}</#list>'
+
+        when:
+        renderWithFeed(template, root, feed)
+
+        then:
+        thrown(ReportingException)
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reporting
+
+import io.jmix.reports.yarg.exception.DataLoadingException
+import io.jmix.reports.yarg.loaders.ReportDataLoader
+import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory
+import io.jmix.reports.yarg.reporting.DataExtractorImpl
+import io.jmix.reports.yarg.structure.BandData
+import io.jmix.reports.yarg.structure.BandOrientation
+import io.jmix.reports.yarg.structure.Report
+import io.jmix.reports.yarg.structure.ReportBand
+import io.jmix.reports.yarg.structure.ReportQuery
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * First-level bands marked as parallel are extracted on the band extraction executor, keeping definition order
+ * in the root band.
+ */
+class DataExtractorParallelTest extends Specification {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    void cleanup() {
+        executor.shutdownNow()
+    }
+
+    def "first-level bands are extracted in worker threads and added in definition order"() {
+        given: "bands whose queries finish in reverse order"
+        def threads = new ConcurrentHashMap<String, String>()
+        ReportDataLoader loader = { query, parentBand, params ->
+            threads.put(query.getName(), Thread.currentThread().getName())
+            Thread.sleep(query.getName() == "qa" ? 200 : 10)
+            return [[v: query.getName()]]
+        }
+        def extractor = extractor(loader)
+        def rootDefinition = rootDefinition(band("A", 0, query("qa"), true), band("B", 1, query("qb"), true),
+                band("C", 2, query("qc"), true))
+        def rootBand = rootBand()
+
+        when:
+        extractor.extractData(report(rootDefinition), [:], rootBand)
+
+        then:
+        rootBand.getChildrenList()*.getName() == ["A", "B", "C"]
+        rootBand.getChildrenList()*.getData()*.get("v") == ["qa", "qb", "qc"]
+        threads.size() == 3
+        !threads.values().contains(Thread.currentThread().getName())
+    }
+
+    def "nested bands are extracted after their parent band"() {
+        given:
+        def parentNames = Collections.synchronizedList([])
+        ReportDataLoader loader = { query, parentBand, params ->
+            parentNames << "${query.getName()}:${parentBand.getName()}"
+            return [[v: 1]]
+        }
+        def extractor = extractor(loader)
+        def child = band("Child", 0, query("qchild"))
+        def parent = band("Parent", 0, query("qparent"), true, child)
+        def rootDefinition = rootDefinition(parent, band("Other", 1, query("qother"), true))
+        def rootBand = rootBand()
+
+        when:
+        extractor.extractData(report(rootDefinition), [:], rootBand)
+
+        then:
+        parentNames.indexOf("qparent:Root") < parentNames.indexOf("qchild:Parent")
+        rootBand.getChildrenByName("Parent")[0].getChildrenByName("Child").size() == 1
+    }
+
+    def "loader exception is rethrown in the calling thread"() {
+        given:
+        ReportDataLoader loader = { query, parentBand, params ->
+            if (query.getName() == "qb") {
+                throw new DataLoadingException("broken")
+            }
+            return [[v: 1]]
+        }
+        def extractor = extractor(loader)
+        def rootDefinition = rootDefinition(band("A", 0, query("qa"), true), band("B", 1, query("qb"), true))
+
+        when:
+        extractor.extractData(report(rootDefinition), [:], rootBand())
+
+        then:
+        def e = thrown(DataLoadingException)
+        e.message == "broken"
+    }
+
+    def "bands not marked as parallel are extracted in the calling thread"() {
+        given:
+        def threads = new ConcurrentHashMap<String, String>()
+        ReportDataLoader loader = { query, parentBand, params ->
+            threads.put(query.getName(), Thread.currentThread().getName())
+            return [[v: 1]]
+        }
+        def extractor = extractor(loader)
+        def rootDefinition = rootDefinition(band("A", 0, query("qa")), band("B", 1, query("qb")))
+
+        when:
+        extractor.extractData(report(rootDefinition), [:], rootBand())
+
+        then:
+        threads.values().toSet() == [Thread.currentThread().getName()] as Set
+    }
+
+    def "sequential band sees parameters published by preceding bands"() {
+        given: "parallel bands publishing parameters and a sequential band reading them"
+        def seen = new ConcurrentHashMap<String, Object>()
+        ReportDataLoader loader = { query, parentBand, params ->
+            if (query.getName() == "qc") {
+                seen.putAll(params)
+            } else {
+                params.put(query.getName(), query.getName())
+            }
+            return [[v: 1]]
+        }
+        def extractor = extractor(loader)
+        def rootDefinition = rootDefinition(band("A", 0, query("qa"), true), band("B", 1, query("qb"), true),
+                band("C", 2, query("qc")))
+        def rootBand = rootBand()
+
+        when:
+        extractor.extractData(report(rootDefinition), [:], rootBand)
+
+        then:
+        seen.qa == "qa"
+        seen.qb == "qb"
+        rootBand.getChildrenList()*.getName() == ["A", "B", "C"]
+    }
+
+    private DataExtractorImpl extractor(ReportDataLoader loader) {
+        ReportLoaderFactory loaderFactory = { loaderType -> loader }
+        def extractor = new DataExtractorImpl(loaderFactory)
+        extractor.setBandExtractionExecutor(executor)
+        return extractor
+    }
+
+    private Report report(ReportBand rootDefinition) {
+        return Mock(Report) {
+            getRootBand() >> rootDefinition
+        }
+    }
+
+    private static BandData rootBand() {
+        def rootBand = new BandData(BandData.ROOT_BAND_NAME)
+        rootBand.setFirstLevelBandDefinitionNames(new HashSet<String>())
+        return rootBand
+    }
+
+    private ReportQuery query(String name) {
+        return Mock(ReportQuery) {
+            getName() >> name
+            getLoaderType() >> "test"
+            getScript() >> "s"
+            getLinkParameterName() >> null
+        }
+    }
+
+    private ReportBand band(String name, int position, ReportQuery reportQuery, ReportBand... children) {
+        return band(name, position, reportQuery, false, children)
+    }
+
+    private ReportBand band(String name, int position, ReportQuery reportQuery, boolean parallel,
+                            ReportBand... children) {
+        return Mock(ReportBand) {
+            getName() >> name
+            getPosition() >> position
+            getParallel() >> parallel
+            getChildren() >> (children as List)
+            getReportQueries() >> [reportQuery]
+            getBandOrientation() >> BandOrientation.HORIZONTAL
+        }
+    }
+
+    private ReportBand rootDefinition(ReportBand... children) {
+        return Mock(ReportBand) {
+            getName() >> BandData.ROOT_BAND_NAME
+            getPosition() >> 0
+            getChildren() >> (children as List)
+            getReportQueries() >> []
+            getBandOrientation() >> BandOrientation.HORIZONTAL
+        }
+    }
+}
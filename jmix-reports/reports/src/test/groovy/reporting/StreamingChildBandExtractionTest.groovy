@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reporting
+
+import io.jmix.reports.yarg.loaders.ReportDataLoader
+import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory
+import io.jmix.reports.yarg.reporting.DataExtractorImpl
+import io.jmix.reports.yarg.reporting.Reporting
+import io.jmix.reports.yarg.structure.BandData
+import io.jmix.reports.yarg.structure.BandOrientation
+import io.jmix.reports.yarg.structure.ReportBand
+import io.jmix.reports.yarg.structure.ReportQuery
+import spock.lang.Specification
+
+/**
+ * Child bands with datasets of streamed rows receive the parent fields as lists of values of a chunk of rows,
+ * or as single values if the chunk size is 1.
+ */
+class StreamingChildBandExtractionTest extends Specification {
+
+    List<Object> boundIds = []
+    DataExtractorImpl extractor
+    ReportBand streamingBand = Mock(ReportBand) {
+        getName() >> "Orders"
+        getStreamingKey() >> "id"
+    }
+    ReportBand childBand = band("Lines", query("linesQuery"))
+
+    void setup() {
+        ReportDataLoader loader = { query, parentBand, params ->
+            def id = parentBand.getData().get("id")
+            boundIds << id
+            def ids = id instanceof Collection ? id : [id]
+            return ids.collect { [id: it, line: "line$it"] }
+        }
+        ReportLoaderFactory loaderFactory = { loaderType -> loader }
+        extractor = new DataExtractorImpl(loaderFactory)
+    }
+
+    def "child datasets run once per chunk with parent fields bound as lists"() {
+        given:
+        def rows = [row(1), row(2)]
+        def reporting = new Reporting()
+        reporting.setStreamingChildBandBatchSize(100)
+
+        when:
+        reporting.extractCorrelatedChildBands(extractor, streamingBand, [childBand], rows, [:])
+
+        then:
+        boundIds == [[1, 2]]
+        rows.every { it.getChildrenByName("Lines")*.getData()*.get("line") == ["line${it.getData().get('id')}"] }
+    }
+
+    def "child datasets run per row with parent fields bound as values if the chunk size is 1"() {
+        given:
+        def rows = [row(1), row(2)]
+        def reporting = new Reporting()
+        reporting.setStreamingChildBandBatchSize(1)
+
+        when:
+        reporting.extractCorrelatedChildBands(extractor, streamingBand, [childBand], rows, [:])
+
+        then:
+        boundIds == [1, 2]
+        rows.every { it.getChildrenByName("Lines")*.getData()*.get("line") == ["line${it.getData().get('id')}"] }
+    }
+
+    private static BandData row(Object id) {
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        def row = new BandData("Orders", root, BandOrientation.HORIZONTAL)
+        row.setData([id: id])
+        return row
+    }
+
+    private ReportQuery query(String name) {
+        return Mock(ReportQuery) {
+            getName() >> name
+            getLoaderType() >> "test"
+            getScript() >> "s"
+            getLinkParameterName() >> null
+        }
+    }
+
+    private ReportBand band(String name, ReportQuery reportQuery) {
+        return Mock(ReportBand) {
+            getName() >> name
+            getPosition() >> 0
+            getChildren() >> []
+            getReportQueries() >> [reportQuery]
+            getBandOrientation() >> BandOrientation.HORIZONTAL
+        }
+    }
+}
@@ -114,6 +114,71 @@ class StreamingBandFeedTest extends Specification {
         thrown(IllegalStateException)
     }
 
+    def "ordered join rows are split on key changes into rows with joined child bands"() {
+        given:
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        def rows = [[id: 1, line: "a"], [id: 1, line: "b"], [id: 2, line: "c"], [id: 3, line: "d"], [id: 3, line: "e"]]
+        def feed = new StreamingBandFeed("Invoice", rows.iterator(), root)
+        feed.setJoinedChildBands("id", ["Line"] as Set)
+
+        when:
+        def emitted = feed.iterator().collect()
+
+        then:
+        emitted*.data*.get("id") == [1, 2, 3]
+        emitted.collect { it.getChildrenByName("Line")*.data*.get("line") } == [["a", "b"], ["c"], ["d", "e"]]
+        emitted.every { row -> row.getChildrenByName("Line").every { it.parentBand.is(row) } }
+        feed.childBandNames == ["Line"] as Set
+        root.childrenList.isEmpty()
+    }
+
+    def "correlated child bands are loaded once per chunk of rows before the chunk is returned"() {
+        given:
+        def root = new BandData(BandData.ROOT_BAND_NAME)
+        def feed = new StreamingBandFeed("Invoice", [[id: 1], [id: 2], [id: 3]].iterator(), root)
+        def loadedFor = []
+        feed.setCorrelatedChildBands(["Line"] as Set, 2) { List<BandData> rows ->
+            loadedFor << rows*.data*.get("id")
+            rows.each { row ->
+                def line = new BandData("Line", row)
+                line.setData([line: "for" + row.data.id])
+                row.addChild(line)
+            }
+        }
+
+        when:
+        def iterator = feed.iterator()
+        def first = iterator.next()
+
+        then: "the rows of the next chunk are not loaded ahead"
+        loadedFor == [[1, 2]]
+        first.getChildrenByName("Line")[0].data.line == "for1"
+
+        when:
+        def second = iterator.next()
+        def third = iterator.next()
+
+        then:
+        loadedFor == [[1, 2], [3]]
+        second.getChildrenByName("Line")[0].data.line == "for2"
+        third.getChildrenByName("Line")[0].data.line == "for3"
+        !iterator.hasNext()
+    }
+
+    def "rows of a chunk are materialized before the next rows are read"() {
+        given:
+        def feed = new StreamingBandFeed("Invoice", [new LazyRow([id: 1]), new LazyRow([id: 2])].iterator(),
+                new BandData(BandData.ROOT_BAND_NAME))
+        feed.setCorrelatedChildBands(["Line"] as Set, 10) { List<BandData> rows -> }
+
+        when:
+        def emitted = feed.iterator().collect()
+
+        then:
+        emitted*.data*.get("id") == [1, 2]
+        emitted.every { it.data instanceof HashMap && !(it.data instanceof LazyRow) }
+    }
+
     /**
      * Mimics {@code io.jmix.reports.app.EntityMap}: {@code size()} stays 0 until {@code entrySet()}
      * (or another materializing accessor) is called, and {@code isEmpty()} is hardcoded to false.
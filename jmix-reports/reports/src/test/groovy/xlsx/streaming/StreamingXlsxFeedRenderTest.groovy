@@ -68,6 +68,32 @@ class StreamingXlsxFeedRenderTest extends StreamingBaseXlsxRenderTest {
         root.getChildrenByName("Data").isEmpty()
     }
 
+    def "child bands of the fed band render under each streamed row"() {
+        given:
+        def template = buildTemplate { wb ->
+            def sheet = sheet(wb)
+            cell(sheet, 0, 0, '${number}')
+            defineBand(wb, "Invoice", 0, 0, 0, 0)
+            cell(sheet, 1, 1, '${line}')
+            defineBand(wb, "Line", 1, 0, 1, 1)
+        }
+        def root = rootBand("Invoice")
+        def rows = [[number: "I1", line: "a"], [number: "I1", line: "b"], [number: "I2", line: "c"]]
+        def feed = new StreamingBandFeed("Invoice", rows.iterator(), root)
+        feed.setJoinedChildBands("number", ["Line"] as Set)
+
+        when:
+        def sheet = read(renderWithFeed(template, root, feed)).getSheetAt(0)
+
+        then:
+        stringValue(sheet, 0, 0) == "I1"
+        stringValue(sheet, 1, 1) == "a"
+        stringValue(sheet, 2, 1) == "b"
+        stringValue(sheet, 3, 0) == "I2"
+        stringValue(sheet, 4, 1) == "c"
+        cellOrNull(sheet, 5, 0) == null
+    }
+
     def "the fed band renders every source row in order, pulling each exactly once"() {
         given: "a finite source that counts pulls"
         int pulled = 0
@@ -19,7 +19,11 @@ package io.jmix.reports.impl;
 import io.jmix.core.Metadata;
 import io.jmix.reports.ReportsTestConfiguration;
 import io.jmix.reports.entity.ReportTemplate;
+import io.jmix.reports.libintegration.JmixDocxFormatter;
 import io.jmix.reports.libintegration.JmixFormatterFactory;
+import io.jmix.reports.libintegration.JmixHtmlFormatter;
+import io.jmix.reports.libintegration.JmixStreamingDocxFormatter;
+import io.jmix.reports.libintegration.JmixStreamingHtmlFormatter;
 import io.jmix.reports.libintegration.JmixStreamingXlsxFormatter;
 import io.jmix.reports.libintegration.JmixXlsxFormatter;
 import io.jmix.reports.yarg.formatters.ReportFormatter;
@@ -60,11 +64,31 @@ public class StreamingFormatterSelectionTest {
         assertThat(formatter).isInstanceOf(JmixXlsxFormatter.class);
     }
 
+    @Test
+    void testStreamingInputSelectsStreamingDocxAndHtmlFormatters() {
+        assertThat(formatterFactory.createFormatter(factoryInput("docx", ReportOutputType.docx, true)))
+                .isInstanceOf(JmixStreamingDocxFormatter.class);
+        assertThat(formatterFactory.createFormatter(factoryInput("html", ReportOutputType.html, true)))
+                .isInstanceOf(JmixStreamingHtmlFormatter.class);
+    }
+
+    @Test
+    void testNonStreamingInputSelectsDefaultDocxAndHtmlFormatters() {
+        assertThat(formatterFactory.createFormatter(factoryInput("docx", ReportOutputType.docx, false)))
+                .isExactlyInstanceOf(JmixDocxFormatter.class);
+        assertThat(formatterFactory.createFormatter(factoryInput("html", ReportOutputType.html, false)))
+                .isExactlyInstanceOf(JmixHtmlFormatter.class);
+    }
+
     protected FormatterFactoryInput factoryInput(boolean streaming) {
+        return factoryInput("xlsx", ReportOutputType.xlsx, streaming);
+    }
+
+    protected FormatterFactoryInput factoryInput(String extension, ReportOutputType outputType, boolean streaming) {
         BandData rootBand = new BandData(BandData.ROOT_BAND_NAME);
         ReportTemplate template = metadata.create(ReportTemplate.class);
         template.setContent(new byte[0]);
-        return new FormatterFactoryInput("xlsx", rootBand, template, ReportOutputType.xlsx,
+        return new FormatterFactoryInput(extension, rootBand, template, outputType,
                 new ByteArrayOutputStream(), streaming);
     }
 }
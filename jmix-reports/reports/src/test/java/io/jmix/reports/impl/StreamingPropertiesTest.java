@@ -40,15 +40,18 @@ public class StreamingPropertiesTest {
         assertThat(reportsProperties.getStreaming().getFetchSize()).isEqualTo(42);
         assertThat(reportsProperties.getStreaming().getCursorClearInterval()).isEqualTo(1000);
         assertThat(reportsProperties.getStreaming().getRowAccessWindowSize()).isEqualTo(100);
+        assertThat(reportsProperties.getStreaming().getChildBandBatchSize()).isEqualTo(100);
     }
 
     @Test
     void testNonPositiveStreamingKnobIsRejected() {
-        assertThatThrownBy(() -> new ReportsProperties.Streaming(0, 1000, 100))
+        assertThatThrownBy(() -> new ReportsProperties.Streaming(0, 1000, 100, 100))
                 .isInstanceOf(IllegalArgumentException.class);
-        assertThatThrownBy(() -> new ReportsProperties.Streaming(1000, 0, 100))
+        assertThatThrownBy(() -> new ReportsProperties.Streaming(1000, 0, 100, 100))
                 .isInstanceOf(IllegalArgumentException.class);
-        assertThatThrownBy(() -> new ReportsProperties.Streaming(1000, 1000, 0))
+        assertThatThrownBy(() -> new ReportsProperties.Streaming(1000, 1000, 0, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReportsProperties.Streaming(1000, 1000, 100, 0))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 }
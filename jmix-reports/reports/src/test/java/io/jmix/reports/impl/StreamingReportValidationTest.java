@@ -22,6 +22,7 @@ import io.jmix.reports.entity.DataSet;
 import io.jmix.reports.entity.DataSetType;
 import io.jmix.reports.entity.Orientation;
 import io.jmix.reports.entity.Report;
+import io.jmix.reports.entity.ReportTemplate;
 import io.jmix.reports.yarg.reporting.StreamingReportValidator.Violation;
 import io.jmix.reports.yarg.reporting.StreamingReportValidator.ViolationType;
 import org.junit.jupiter.api.Test;
@@ -127,16 +128,70 @@ public class StreamingReportValidationTest {
     }
 
     @Test
-    void testStreamingBandWithChildBandIsReported() {
+    void testStreamingBandWithChildBandIsValid() {
+        Report report = report();
+        BandDefinition streaming = addStreamingBand(report, "Data", DataSetType.SQL);
+        streaming.setStreamingKey("id");
+        moveBand(report, addBand(report, "Child", DataSetType.SQL), streaming);
+
+        assertThat(validationSupport.validate(rootBand(report))).isEmpty();
+    }
+
+    @Test
+    void testStreamingBandWithChildBandWithoutKeyIsReported() {
+        Report report = report();
+        BandDefinition streaming = addStreamingBand(report, "Data", DataSetType.SQL);
+        moveBand(report, addBand(report, "Child", DataSetType.SQL), streaming);
+
+        List<Violation> violations = validationSupport.validate(rootBand(report));
+        assertThat(violations).containsExactly(new Violation(ViolationType.NO_STREAMING_KEY, "Data"));
+    }
+
+    @Test
+    void testStreamingBandWithNestedChildBandIsReported() {
         Report report = report();
         BandDefinition streaming = addStreamingBand(report, "Data", DataSetType.SQL);
         BandDefinition child = addBand(report, "Child", DataSetType.SQL);
-        rootBand(report).getChildrenBandDefinitions().remove(child);
-        child.setParentBandDefinition(streaming);
-        streaming.getChildrenBandDefinitions().add(child);
+        moveBand(report, child, streaming);
+        moveBand(report, addBand(report, "GrandChild", DataSetType.SQL), child);
 
         List<Violation> violations = validationSupport.validate(rootBand(report));
-        assertThat(violations).extracting(Violation::type).contains(ViolationType.HAS_CHILDREN);
+        assertThat(violations).contains(new Violation(ViolationType.HAS_CHILDREN, "Child"));
+    }
+
+    @Test
+    void testStreamingBandWithChildBandIsReportedForDocxTemplate() {
+        Report report = report();
+        BandDefinition streaming = addStreamingBand(report, "Data", DataSetType.SQL);
+        streaming.setStreamingKey("id");
+        moveBand(report, addBand(report, "Child", DataSetType.SQL), streaming);
+
+        List<Violation> violations = validationSupport.validate(rootBand(report), template("report.docx"));
+        assertThat(violations).containsExactly(new Violation(ViolationType.DOCX_HAS_CHILDREN, "Data"));
+    }
+
+    @Test
+    void testGroovyHtmlTemplateIsReported() {
+        Report report = report();
+        addStreamingBand(report, "Data", DataSetType.SQL);
+        ReportTemplate template = template("report.html");
+        template.setGroovy(true);
+
+        assertThat(validationSupport.validate(rootBand(report), template))
+                .containsExactly(new Violation(ViolationType.HTML_GROOVY_TEMPLATE, "Data"));
+        assertThat(validationSupport.validate(rootBand(report), template("report.ftl"))).isEmpty();
+    }
+
+    @Test
+    void testVerticalSiblingBandIsValidForHtmlTemplate() {
+        Report report = report();
+        addStreamingBand(report, "Data", DataSetType.SQL);
+        BandDefinition vertical = addBand(report, "Side", DataSetType.SQL);
+        vertical.setOrientation(Orientation.VERTICAL);
+
+        assertThat(validationSupport.validate(rootBand(report), template("report.html"))).isEmpty();
+        assertThat(validationSupport.validate(rootBand(report), template("report.xlsx")))
+                .extracting(Violation::type).contains(ViolationType.NON_HORIZONTAL_BAND_IN_REPORT);
     }
 
     @Test
@@ -184,11 +239,23 @@ public class StreamingReportValidationTest {
         return report;
     }
 
+    protected ReportTemplate template(String name) {
+        ReportTemplate template = metadata.create(ReportTemplate.class);
+        template.setName(name);
+        return template;
+    }
+
     protected BandDefinition rootBand(Report report) {
         return report.getBands().stream()
                 .filter(b -> b.getParentBandDefinition() == null).findFirst().orElseThrow();
     }
 
+    protected void moveBand(Report report, BandDefinition band, BandDefinition newParent) {
+        rootBand(report).getChildrenBandDefinitions().remove(band);
+        band.setParentBandDefinition(newParent);
+        newParent.getChildrenBandDefinitions().add(band);
+    }
+
     protected BandDefinition addBand(Report report, String name, DataSetType type) {
         BandDefinition root = rootBand(report);
         BandDefinition band = metadata.create(BandDefinition.class);
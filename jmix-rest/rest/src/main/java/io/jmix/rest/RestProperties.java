@@ -105,6 +105,12 @@ public class RestProperties {
      */
     private final boolean inlineFetchPlanEnabled;
 
+    /**
+     * Whether entities can be created, updated and deleted in bulk by passing arrays to the entities endpoints
+     * (true by default).
+     */
+    private final boolean bulkOperationsEnabled;
+
     /**
      * File extensions that can be opened for viewing in a browser by replying with 'Content-Disposition=inline' header.
      */
@@ -139,6 +145,7 @@ public class RestProperties {
             @DefaultValue({"jpg", "png", "jpeg", "pdf"}) Set<String> inlineEnabledFileExtensions,
             @Nullable Map<String, Integer> entityMaxFetchSize,
             @DefaultValue("true") boolean inlineFetchPlanEnabled,
+            @DefaultValue("true") boolean bulkOperationsEnabled,
             String servicesConfig,
             String queriesConfig) {
         this.basePath = checkPath("jmix.rest.base-path", basePath);
@@ -159,6 +166,7 @@ public class RestProperties {
         this.entityMaxFetchSize = entityMaxFetchSize == null ? Collections.emptyMap() : entityMaxFetchSize;
         this.inlineEnabledFileExtensions = inlineEnabledFileExtensions;
         this.inlineFetchPlanEnabled = inlineFetchPlanEnabled;
+        this.bulkOperationsEnabled = bulkOperationsEnabled;
         this.servicesConfig = servicesConfig;
         this.queriesConfig = queriesConfig;
     }
@@ -287,6 +295,13 @@ public class RestProperties {
         return inlineFetchPlanEnabled;
     }
 
+    /**
+     * @see #bulkOperationsEnabled
+     */
+    public boolean isBulkOperationsEnabled() {
+        return bulkOperationsEnabled;
+    }
+
     /**
      * @see #servicesPath
      */
@@ -35,9 +35,13 @@ public class CapabilitiesController {
 
     @GetMapping
     public Capabilities getCapabilities() {
-        return new Capabilities(restProperties.isInlineFetchPlanEnabled());
+        return new Capabilities(restProperties.isInlineFetchPlanEnabled(), restProperties.isBulkOperationsEnabled());
     }
 
-    public record Capabilities (boolean inlineFetchPlans) {
+    /**
+     * @param inlineFetchPlans whether fetch plans can be passed as JSON in requests
+     * @param bulkOperations   whether entities can be created, updated and deleted in bulk by passing arrays
+     */
+    public record Capabilities (boolean inlineFetchPlans, boolean bulkOperations) {
     }
 }
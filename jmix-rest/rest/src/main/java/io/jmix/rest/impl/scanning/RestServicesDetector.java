@@ -17,8 +17,10 @@
 package io.jmix.rest.impl.scanning;
 
 import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector;
+import io.jmix.core.impl.scanning.ClasspathScanIndexEntry;
 import io.jmix.rest.annotation.RestService;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,4 +29,9 @@ public class RestServicesDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(RestService.class.getName());
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return indexEntry.hasAnnotation(RestService.class.getName());
+    }
 }
@@ -80,6 +80,9 @@ public class EntitiesControllerManager {
     @Autowired
     protected Metadata metadata;
 
+    @Autowired
+    protected KeysetTokens keysetTokens;
+
     @Autowired
     protected EntitySerialization entitySerialization;
 
@@ -162,6 +165,7 @@ public class EntitiesControllerManager {
                                                  @Nullable Integer limit,
                                                  @Nullable Integer offset,
                                                  @Nullable String sort,
+                                                 @Nullable String after,
                                                  @Nullable Boolean returnNulls,
                                                  @Nullable Boolean returnCount,
                                                  @Nullable Boolean dynamicAttributes,
@@ -172,24 +176,18 @@ public class EntitiesControllerManager {
 
         FetchPlan fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(metaClass, fetchPlanNameOrJson);
 
-        String json = loadEntitiesJson(LogicalCondition.and(),
-                fetchPlan,
-                limit,
-                offset,
-                sort,
-                returnNulls,
-                dynamicAttributes,
-                modelVersion,
-                metaClass);
-
-        json = restControllerUtils.transformJsonIfRequired(entityName, modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        List<Object> entities = loadEntities(LogicalCondition.and(), fetchPlan, limit, offset, sort, after,
+                dynamicAttributes, metaClass);
 
         Long count = null;
         if (BooleanUtils.isTrue(returnCount)) {
             count = countEntities(metaClass, LogicalCondition.and());
         }
-        return new EntitiesSearchResult(json, count);
 
+        EntitiesSearchResult result = new EntitiesSearchResult(
+                createEntitiesJsonBody(entities, fetchPlan, returnNulls, modelVersion, metaClass), count);
+        result.setNextPageAfter(createNextPageAfter(entities, limit, sort, after, metaClass));
+        return result;
     }
 
     public EntitiesSearchResult searchEntities(String entityName,
@@ -198,6 +196,7 @@ public class EntitiesControllerManager {
                                                @Nullable Integer limit,
                                                @Nullable Integer offset,
                                                @Nullable String sort,
+                                               @Nullable String after,
                                                @Nullable Boolean returnNulls,
                                                @Nullable Boolean returnCount,
                                                @Nullable Boolean dynamicAttributes,
@@ -210,6 +209,7 @@ public class EntitiesControllerManager {
                 limit,
                 offset,
                 sort,
+                after,
                 returnNulls,
                 returnCount,
                 dynamicAttributes,
@@ -222,6 +222,7 @@ public class EntitiesControllerManager {
                                                @Nullable Integer limit,
                                                @Nullable Integer offset,
                                                @Nullable String sort,
+                                               @Nullable String after,
                                                @Nullable Boolean returnNulls,
                                                @Nullable Boolean returnCount,
                                                @Nullable Boolean dynamicAttributes,
@@ -240,12 +241,16 @@ public class EntitiesControllerManager {
             throw new RestAPIException("Cannot parse entities filter", e.getMessage(), HttpStatus.BAD_REQUEST, e);
         }
 
-        String json = loadEntitiesJson(jmixCondition, fetchPlan, limit, offset, sort, returnNulls,
-                dynamicAttributes, modelVersion, metaClass);
+        List<Object> entities = loadEntities(jmixCondition, fetchPlan, limit, offset, sort, after,
+                dynamicAttributes, metaClass);
         Long count = BooleanUtils.isTrue(returnCount) ?
                 countEntities(metaClass, jmixCondition)
                 : null;
-        return new EntitiesSearchResult(json, count);
+
+        EntitiesSearchResult result = new EntitiesSearchResult(
+                createEntitiesJsonBody(entities, fetchPlan, returnNulls, modelVersion, metaClass), count);
+        result.setNextPageAfter(createNextPageAfter(entities, limit, sort, after, metaClass));
+        return result;
     }
 
     protected MetaClass getMetaClass(String entityName, @Nullable String modelVersion) {
@@ -316,6 +321,7 @@ public class EntitiesControllerManager {
                 searchEntitiesRequest.getLimit(),
                 searchEntitiesRequest.getOffset(),
                 searchEntitiesRequest.getSort(),
+                searchEntitiesRequest.getAfter(),
                 searchEntitiesRequest.getReturnNulls(),
                 searchEntitiesRequest.getReturnCount(),
                 searchEntitiesRequest.getDynamicAttributes(),
@@ -333,20 +339,56 @@ public class EntitiesControllerManager {
         return countSearchEntities(entityName, searchEntitiesRequest.getFilter().toString(), searchEntitiesRequest.getModelVersion());
     }
 
-    protected String loadEntitiesJson(Condition condition,
-                                      @Nullable FetchPlan fetchPlan,
-                                      @Nullable Integer limit,
-                                      @Nullable Integer offset,
-                                      @Nullable String sort,
-                                      @Nullable Boolean returnNulls,
-                                      @Nullable Boolean dynamicAttributes,
-                                      @Nullable String modelVersion,
-                                      MetaClass metaClass) {
+    protected String createEntitiesJson(List<Object> entities,
+                                        @Nullable FetchPlan fetchPlan,
+                                        @Nullable Boolean returnNulls,
+                                        @Nullable String modelVersion,
+                                        MetaClass metaClass) {
+        String json = entitySerialization.toJson(entities, fetchPlan, createListSerializationOptions(returnNulls));
+        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    /**
+     * Returns the JSON body which serializes the entities directly to the response stream. If a model version
+     * is requested, the JSON is built as a string, because the transformers work on the whole JSON.
+     */
+    protected EntitiesSearchResult.JsonBody createEntitiesJsonBody(List<Object> entities,
+                                                                   @Nullable FetchPlan fetchPlan,
+                                                                   @Nullable Boolean returnNulls,
+                                                                   @Nullable String modelVersion,
+                                                                   MetaClass metaClass) {
+        if (Strings.isNullOrEmpty(modelVersion)) {
+            EntitySerializationOption[] options = createListSerializationOptions(returnNulls);
+            return outputStream -> entitySerialization.toJson(entities, outputStream, fetchPlan, options);
+        }
+        String json = createEntitiesJson(entities, fetchPlan, returnNulls, modelVersion, metaClass);
+        return outputStream -> outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected EntitySerializationOption[] createListSerializationOptions(@Nullable Boolean returnNulls) {
+        List<EntitySerializationOption> serializationOptions = new ArrayList<>();
+        serializationOptions.add(SERIALIZE_INSTANCE_NAME);
+        serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
+        if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(SERIALIZE_NULLS);
+        return serializationOptions.toArray(new EntitySerializationOption[0]);
+    }
+
+    protected List<Object> loadEntities(Condition condition,
+                                        @Nullable FetchPlan fetchPlan,
+                                        @Nullable Integer limit,
+                                        @Nullable Integer offset,
+                                        @Nullable String sort,
+                                        @Nullable String after,
+                                        @Nullable Boolean dynamicAttributes,
+                                        MetaClass metaClass) {
         LoadContext<Object> ctx = new LoadContext<>(metaClass);
 
         String queryString = createSimpleSelect(metaClass);
         if (queryString != null) {
-            queryString = addOrderBy(queryString, sort, metaClass);
+            if (after == null) {
+                queryString = addOrderBy(queryString, sort, metaClass);
+            }
             queryString = QueryUtils.applyQueryStringProcessors(queryStringProcessors, queryString, metaClass.getJavaClass());
         }
 
@@ -354,6 +396,19 @@ public class EntitiesControllerManager {
 
         query.setCondition(condition);
 
+        if (after != null) {
+            Sort keysetSort = createKeysetSort(sort, metaClass);
+            query.setSort(keysetSort);
+            if (!after.isEmpty()) {
+                try {
+                    keysetTokens.parseToken(metaClass, keysetSort, after);
+                } catch (IllegalArgumentException e) {
+                    throw new RestAPIException("Invalid after parameter", e.getMessage(), HttpStatus.BAD_REQUEST, e);
+                }
+                query.setAfter(after);
+            }
+        }
+
         int limitFromProperties = restProperties.getEntityMaxFetchSize(metaClass.getName());
         if (limit != null && limit > limitFromProperties) {
             throw new RestAPIException("The value of limit exceeded", "The value of the limit exceeds the maximum possible value from application.properties", HttpStatus.BAD_REQUEST);
@@ -374,16 +429,47 @@ public class EntitiesControllerManager {
 
         ctx.setHint("jmix.dynattr", BooleanUtils.isTrue(dynamicAttributes));
 
-        List<Object> entities = dataManager.loadList(ctx);
+        return dataManager.loadList(ctx);
+    }
 
-        List<EntitySerializationOption> serializationOptions = new ArrayList<>();
-        serializationOptions.add(SERIALIZE_INSTANCE_NAME);
-        serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
-        if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(SERIALIZE_NULLS);
+    /**
+     * Creates a sort for keyset pagination. Unlike {@link #addOrderBy(String, String, MetaClass)}, references
+     * are not expanded to their instance name properties, and the primary key is appended so that the first page
+     * is loaded in the same order as the following ones.
+     */
+    protected Sort createKeysetSort(@Nullable String sort, MetaClass metaClass) {
+        List<Sort.Order> orders = new ArrayList<>();
+        if (!Strings.isNullOrEmpty(sort)) {
+            for (String column : Splitter.on(",").trimResults().omitEmptyStrings().split(sort)) {
+                boolean descending = column.startsWith("-");
+                if (descending || column.startsWith("+")) {
+                    column = column.substring(1);
+                }
+                orders.add(descending ? Sort.Order.desc(column) : Sort.Order.asc(column));
+            }
+        }
+        try {
+            return Sort.by(keysetTokens.getKeyOrders(metaClass, Sort.by(orders)));
+        } catch (IllegalArgumentException e) {
+            throw new RestAPIException("Invalid sort for keyset pagination", e.getMessage(), HttpStatus.BAD_REQUEST, e);
+        }
+    }
 
-        String json = entitySerialization.toJson(entities, fetchPlan, serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+    /**
+     * Returns the token to request the next page by keyset pagination, or null if keyset pagination
+     * is not requested or the page is the last one.
+     */
+    @Nullable
+    protected String createNextPageAfter(List<Object> entities,
+                                         @Nullable Integer limit,
+                                         @Nullable String sort,
+                                         @Nullable String after,
+                                         MetaClass metaClass) {
+        int maxResults = limit != null ? limit : restProperties.getEntityMaxFetchSize(metaClass.getName());
+        if (after == null || entities.isEmpty() || entities.size() < maxResults) {
+            return null;
+        }
+        return keysetTokens.createToken(entities.get(entities.size() - 1), createKeysetSort(sort, metaClass));
     }
 
     protected String addOrderBy(String queryString, @Nullable String sort, MetaClass metaClass) {
@@ -462,6 +548,7 @@ public class EntitiesControllerManager {
 
         ResponseInfo responseInfo;
         if (jsonElement.isJsonArray()) {
+            checkBulkOperationsEnabled();
             responseInfo = createResponseInfoEntities(request, entityJson, entityName, responseFetchPlanNameOrJson, modelVersion);
         } else {
             responseInfo = createResponseInfoEntity(request, entityJson, entityName, responseFetchPlanNameOrJson, modelVersion);
@@ -658,6 +745,7 @@ public class EntitiesControllerManager {
                                        String entityName,
                                        String responseFetchPlanName,
                                        String modelVersion) {
+        checkBulkOperationsEnabled();
         String transformedEntityName = restControllerUtils.transformEntityNameIfRequired(entityName, modelVersion, JsonTransformationDirection.FROM_VERSION);
         MetaClass metaClass = restControllerUtils.getMetaClass(transformedEntityName);
         checkCanUpdateEntity(metaClass);
@@ -790,6 +878,7 @@ public class EntitiesControllerManager {
     public void deleteEntities(String entityName,
                                String entitiesIdJson,
                                String modelVersion) {
+        checkBulkOperationsEnabled();
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, modelVersion, JsonTransformationDirection.FROM_VERSION);
         MetaClass metaClass = restControllerUtils.getMetaClass(entityName);
         checkCanDeleteEntity(metaClass);
@@ -869,6 +958,14 @@ public class EntitiesControllerManager {
         }
     }
 
+    protected void checkBulkOperationsEnabled() {
+        if (!restProperties.isBulkOperationsEnabled()) {
+            throw new RestAPIException("Bulk operations are disabled",
+                    "Bulk operations are disabled by the jmix.rest.bulk-operations-enabled property",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
     protected void checkCanDeleteEntity(MetaClass metaClass) {
         CrudEntityContext entityContext = applyEntityConstraints(metaClass);
         if (!entityContext.isDeletePermitted()) {
@@ -970,6 +1067,7 @@ public class EntitiesControllerManager {
         protected Integer limit;
         protected Integer offset;
         protected String sort;
+        protected String after;
         protected Boolean returnNulls;
         protected Boolean returnCount;
         protected Boolean dynamicAttributes;
@@ -999,6 +1097,11 @@ public class EntitiesControllerManager {
             return sort;
         }
 
+        @Nullable
+        public String getAfter() {
+            return after;
+        }
+
         public Boolean getReturnNulls() {
             return returnNulls;
         }
@@ -1035,6 +1138,10 @@ public class EntitiesControllerManager {
             this.sort = sort;
         }
 
+        public void setAfter(String after) {
+            this.after = after;
+        }
+
         public void setReturnNulls(Boolean returnNulls) {
             this.returnNulls = returnNulls;
         }
@@ -16,20 +16,82 @@
 
 package io.jmix.rest.impl.service.filter.data;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 public class EntitiesSearchResult {
     protected String json;
+    protected JsonBody jsonBody;
     protected Long count;
+    protected String nextPageAfter;
 
     public EntitiesSearchResult(String json, Long count) {
         this.json = json;
         this.count = count;
     }
 
+    /**
+     * Creates a result which JSON is written on demand, see {@link #writeJson(OutputStream)}.
+     */
+    public EntitiesSearchResult(JsonBody jsonBody, Long count) {
+        this.jsonBody = jsonBody;
+        this.count = count;
+    }
+
+    /**
+     * Returns the result JSON. If the result is created with {@link JsonBody}, the JSON is built in memory,
+     * use {@link #writeJson(OutputStream)} to avoid it.
+     */
     public String getJson() {
+        if (json == null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                jsonBody.writeTo(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            json = outputStream.toString(StandardCharsets.UTF_8);
+        }
         return json;
     }
 
+    /**
+     * Writes the result JSON to the given stream in UTF-8. The stream is flushed but not closed.
+     */
+    public void writeJson(OutputStream outputStream) throws IOException {
+        if (json != null) {
+            outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        } else {
+            jsonBody.writeTo(outputStream);
+        }
+        outputStream.flush();
+    }
+
     public Long getCount() {
         return count;
     }
+
+    /**
+     * Returns the token to pass in the {@code after} parameter to load the next page by keyset pagination,
+     * or null if keyset pagination is not used or there are no more pages.
+     */
+    public String getNextPageAfter() {
+        return nextPageAfter;
+    }
+
+    public void setNextPageAfter(String nextPageAfter) {
+        this.nextPageAfter = nextPageAfter;
+    }
+
+    /**
+     * Writes the result JSON incrementally.
+     */
+    @FunctionalInterface
+    public interface JsonBody {
+
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
 }
@@ -79,6 +79,57 @@ class EntitiesControllerTest extends RestSpec {
         response.body.as(Integer) == 1
     }
 
+    def "POST-request for a page of entities returns count and next page headers"() {
+        def body = [
+                'filter'     : [
+                        'conditions': [
+                                [
+                                        'property': 'login',
+                                        'operator': 'startsWith',
+                                        'value'   : 'login'
+                                ]
+                        ]
+                ],
+                'sort'       : 'login',
+                'limit'      : 1,
+                'after'      : '',
+                'returnCount': true
+        ]
+
+        when:
+        def response = createRequest(userToken).body(body)
+                .with().post(baseUrl + "/entities/sec\$User/search")
+
+        then:
+        response.statusCode() == 200
+        response.contentType.startsWith('application/json')
+        response.header('X-Total-Count') == '2'
+        response.header('X-Next-Page-After') != null
+        response.jsonPath().getList('login') == ['login1']
+
+        when:
+        body.after = response.header('X-Next-Page-After')
+        def nextResponse = createRequest(userToken).body(body)
+                .with().post(baseUrl + "/entities/sec\$User/search")
+
+        then:
+        nextResponse.statusCode() == 200
+        nextResponse.header('X-Total-Count') == '2'
+        nextResponse.jsonPath().getList('login') == ['login2']
+    }
+
+    def "GET-request for a list of entities without count does not return count header"() {
+        when:
+        def response = createRequest(userToken).param('sort', 'login')
+                .with().get(baseUrl + "/entities/sec\$User")
+
+        then:
+        response.statusCode() == 200
+        response.header('X-Total-Count') == null
+        response.header('X-Next-Page-After') == null
+        response.jsonPath().getList('login').containsAll(['admin', 'login1', 'login2'])
+    }
+
     def "PUT-request to bulk update (handling case of body containing one object instead of array)"() {
         def body =
                 [
@@ -128,6 +128,7 @@ public class MetadataControllerFT extends AbstractRestControllerFT {
             assertEquals(HttpStatus.SC_OK, statusCode(response));
             ReadContext ctx = parseResponse(response);
             assertTrue(ctx.read("$.inlineFetchPlans", Boolean.class));
+            assertTrue(ctx.read("$.bulkOperations", Boolean.class));
         }
     }
 }
@@ -35,6 +35,8 @@ public class RestCapabilities {
 
     private volatile boolean inlineFetchPlans;
 
+    private volatile boolean bulkOperations;
+
     private final RestInvoker restInvoker;
 
     private final ObjectMapper objectMapper;
@@ -49,6 +51,15 @@ public class RestCapabilities {
         return inlineFetchPlans;
     }
 
+    /**
+     * Whether the remote side accepts arrays of entities in create, update and delete requests.
+     * Older REST API versions do not report this capability, so it is considered disabled for them.
+     */
+    public boolean isBulkOperationsEnabled() {
+        checkInitialized();
+        return bulkOperations;
+    }
+
     private void checkInitialized() {
         if (!initialized) {
             synchronized (this) {
@@ -65,6 +76,7 @@ public class RestCapabilities {
             String json = restInvoker.capabilities();
             JsonNode rootNode = objectMapper.readTree(json);
             inlineFetchPlans = rootNode.get("inlineFetchPlans").asBoolean();
+            bulkOperations = rootNode.path("bulkOperations").asBoolean(false);
         } catch (HttpClientErrorException.NotFound e) {
             log.info("Cannot determine REST capabilities: {}", e.getMessage());
         } catch (RestDataStoreAccessException e) {
@@ -33,10 +33,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -273,42 +271,121 @@ public class RestDataStore extends AbstractDataStore {
 
     @Override
     protected Set<Object> saveAll(SaveContext context) {
-        Set<Object> saved = new HashSet<>();
         Set<FileRef> fileRefs = saveContextProcessor.process(context);
-        for (Object entity : context.getEntitiesToSave()) {
-            String entityName = getEntityName(metadata.getClass(entity));
-            FetchPlan fetchPlan = null;
-            String savedEntityJson;
+        List<Object> entities = new ArrayList<>(context.getEntitiesToSave());
+        List<Boolean> newStates = new ArrayList<>(entities.size());
+        List<String> entityJsons = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
             boolean isNew = entityStates.isNew(entity);
-            if (isNew) {
-                entityEventManager.publishEntitySavingEvent(entity, true);
-                String entityJson = serializeToJson(entity, true, fileRefs);
-                savedEntityJson = restInvoker.create(entityName, entityJson);
-            } else {
-                Object id = EntityValues.getId(entity);
-                if (id == null) {
-                    throw new IllegalArgumentException("Entity id is null for " + entity);
-                }
-                entityEventManager.publishEntitySavingEvent(entity, false);
-
-                String entityJson = serializeToJson(entity, false, fileRefs);
-                savedEntityJson = restInvoker.update(entityName, id.toString(), entityJson);
-            }
-            Object savedEntity = restSerialization.fromJson(savedEntityJson, entity.getClass());
-            if (savedEntity == null) {
-                throw new IllegalStateException("Saved entity is null");
+            if (!isNew && EntityValues.getId(entity) == null) {
+                throw new IllegalArgumentException("Entity id is null for " + entity);
             }
+            entityEventManager.publishEntitySavingEvent(entity, isNew);
+            newStates.add(isNew);
+            entityJsons.add(serializeToJson(entity, isNew, fileRefs));
+        }
+
+        List<Object> savedEntities = restCapabilities.isBulkOperationsEnabled() && entities.size() > 1
+                ? saveInBulk(entities, newStates, entityJsons)
+                : saveEach(entities, newStates, entityJsons);
+
+        Set<Object> saved = new HashSet<>();
+        for (int i = 0; i < entities.size(); i++) {
+            Object entity = entities.get(i);
+            Object savedEntity = savedEntities.get(i);
+            boolean isNew = newStates.get(i);
             if (isNew && EntityValues.getId(entity) == null) {
                 // set new ID to the passed instance to let the framework match the saved instance with the original one
                 EntityValues.setId(entity, EntityValues.getId(savedEntity));
             }
-            updateEntityState(savedEntity, fetchPlan);
+            updateEntityState(savedEntity, null);
             entityEventManager.publishEntitySavedEvent(entity, savedEntity, isNew);
             saved.add(savedEntity);
         }
         return saved;
     }
 
+    /**
+     * Sends a request per entity, see {@link RestInvoker#invokeAll(List)}.
+     */
+    private List<Object> saveEach(List<Object> entities, List<Boolean> newStates, List<String> entityJsons) {
+        List<Callable<String>> calls = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            String entityName = getEntityName(metadata.getClass(entities.get(i)));
+            String entityJson = entityJsons.get(i);
+            if (newStates.get(i)) {
+                calls.add(() -> restInvoker.create(entityName, entityJson));
+            } else {
+                String id = Objects.requireNonNull(EntityValues.getId(entities.get(i))).toString();
+                calls.add(() -> restInvoker.update(entityName, id, entityJson));
+            }
+        }
+        List<String> savedEntityJsons = restInvoker.invokeAll(calls);
+
+        List<Object> savedEntities = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            Object savedEntity = restSerialization.fromJson(savedEntityJsons.get(i), entities.get(i).getClass());
+            if (savedEntity == null) {
+                throw new IllegalStateException("Saved entity is null");
+            }
+            savedEntities.add(savedEntity);
+        }
+        return savedEntities;
+    }
+
+    /**
+     * Sends consecutive entities of the same type and state in a single request. Entities are matched with
+     * the response by id, so new entities without an id are created by separate requests. Batches are sent
+     * sequentially to keep the order in which entities referencing each other are saved.
+     */
+    private List<Object> saveInBulk(List<Object> entities, List<Boolean> newStates, List<String> entityJsons) {
+        List<Object> savedEntities = new ArrayList<>(entities.size());
+        int batchStart = 0;
+        while (batchStart < entities.size()) {
+            int batchEnd = batchStart + 1;
+            if (EntityValues.getId(entities.get(batchStart)) != null) {
+                while (batchEnd < entities.size()
+                        && entities.get(batchEnd).getClass() == entities.get(batchStart).getClass()
+                        && newStates.get(batchEnd).equals(newStates.get(batchStart))
+                        && EntityValues.getId(entities.get(batchEnd)) != null) {
+                    batchEnd++;
+                }
+            }
+            List<Object> batch = entities.subList(batchStart, batchEnd);
+            List<Boolean> batchNewStates = newStates.subList(batchStart, batchEnd);
+            List<String> batchJsons = entityJsons.subList(batchStart, batchEnd);
+            if (batch.size() == 1) {
+                savedEntities.addAll(saveEach(batch, batchNewStates, batchJsons));
+            } else {
+                savedEntities.addAll(saveBatch(batch, batchNewStates.get(0), batchJsons));
+            }
+            batchStart = batchEnd;
+        }
+        return savedEntities;
+    }
+
+    private List<Object> saveBatch(List<Object> batch, boolean isNew, List<String> entityJsons) {
+        Class<?> entityClass = batch.get(0).getClass();
+        String entityName = getEntityName(metadata.getClass(entityClass));
+        String savedEntitiesJson = isNew
+                ? restInvoker.createAll(entityName, entityJsons)
+                : restInvoker.updateAll(entityName, entityJsons);
+
+        Map<Object, Object> savedEntitiesById = new HashMap<>();
+        for (Object savedEntity : restSerialization.fromJsonCollection(savedEntitiesJson, entityClass)) {
+            savedEntitiesById.put(EntityValues.getId(savedEntity), savedEntity);
+        }
+        List<Object> savedEntities = new ArrayList<>(batch.size());
+        for (Object entity : batch) {
+            Object savedEntity = savedEntitiesById.get(EntityValues.getId(entity));
+            if (savedEntity == null) {
+                throw new IllegalStateException("Saved entity is not returned for " + entity);
+            }
+            savedEntities.add(savedEntity);
+        }
+        return savedEntities;
+    }
+
     private String serializeToJson(Object entity, boolean isNew, Set<FileRef> fileRefs) {
         String json = restSerialization.toJson(entity, isNew);
         if (fileRefs.isEmpty()) {
@@ -334,14 +411,47 @@ public class RestDataStore extends AbstractDataStore {
 
     @Override
     protected Set<Object> deleteAll(SaveContext context) {
-        Set<Object> saved = new HashSet<>();
-        for (Object entity : context.getEntitiesToRemove()) {
-            String entityName = getEntityName(metadata.getClass(entity));
+        List<Object> entities = new ArrayList<>(context.getEntitiesToRemove());
+        List<String> entityNames = new ArrayList<>(entities.size());
+        List<String> entityIds = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
             Object id = EntityValues.getId(entity);
             if (id == null) {
                 throw new IllegalArgumentException("Entity id is null for " + entity);
             }
-            restInvoker.delete(entityName, id.toString());
+            entityNames.add(getEntityName(metadata.getClass(entity)));
+            entityIds.add(id.toString());
+        }
+
+        if (restCapabilities.isBulkOperationsEnabled() && entities.size() > 1) {
+            int batchStart = 0;
+            while (batchStart < entities.size()) {
+                int batchEnd = batchStart + 1;
+                while (batchEnd < entities.size() && entityNames.get(batchEnd).equals(entityNames.get(batchStart))) {
+                    batchEnd++;
+                }
+                if (batchEnd - batchStart == 1) {
+                    restInvoker.delete(entityNames.get(batchStart), entityIds.get(batchStart));
+                } else {
+                    restInvoker.deleteAll(entityNames.get(batchStart), entityIds.subList(batchStart, batchEnd));
+                }
+                batchStart = batchEnd;
+            }
+        } else {
+            List<Callable<Void>> calls = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                String entityName = entityNames.get(i);
+                String id = entityIds.get(i);
+                calls.add(() -> {
+                    restInvoker.delete(entityName, id);
+                    return null;
+                });
+            }
+            restInvoker.invokeAll(calls);
+        }
+
+        Set<Object> saved = new HashSet<>();
+        for (Object entity : entities) {
             entityEventManager.publishEntityRemovedEvent(entity);
             saved.add(entity);
         }
@@ -18,6 +18,7 @@ package io.jmix.restds.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jmix.restds.exception.RestDataStoreAccessException;
 import org.slf4j.Logger;
@@ -36,15 +37,22 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.jspecify.annotations.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.UriBuilder;
 
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
 
 @SuppressWarnings("UnnecessaryLocalVariable")
 @Component("restds_RestInvoker")
@@ -69,6 +77,10 @@ public class RestInvoker implements InitializingBean {
     private String permissionsPath;
     private String capabilitiesPath;
 
+    private int writeParallelism;
+
+    private volatile ExecutorService writeExecutor;
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -115,9 +127,12 @@ public class RestInvoker implements InitializingBean {
         userInfoPath = environment.getProperty(dataStoreName + ".userInfoPath", "/userInfo");
         permissionsPath = environment.getProperty(dataStoreName + ".permissionsPath", "/permissions");
         capabilitiesPath = environment.getProperty(dataStoreName + ".capabilitiesPath", "/capabilities");
+        writeParallelism = environment.getProperty(dataStoreName + ".writeParallelism", Integer.class, 1);
 
         RestClient.Builder builder = applicationContext.getBean(RestClient.Builder.class);
 
+        // The request factory configured for the builder (timeouts, SSL bundle, proxy) is kept. It is created once
+        // for the client, so the underlying HTTP client reuses connections for subsequent and concurrent requests.
         restClient = builder
                 .baseUrl(baseUrl)
                 .messageConverters(converters ->
@@ -277,6 +292,168 @@ public class RestInvoker implements InitializingBean {
         }
     }
 
+    /**
+     * Creates several entities of the same type in a single request.
+     *
+     * @param entityName  name of the entities
+     * @param entityJsons JSON of each entity
+     * @return JSON array of the created entities, their order may differ from the order of {@code entityJsons}
+     */
+    public String createAll(String entityName, List<String> entityJsons) {
+        try {
+            String resultJson = restClient.post()
+                    .uri(basePath + entitiesPath + "/{entityName}?responseFetchPlan=_base", entityName)
+                    .body(createArrayBody(entityJsons))
+                    .retrieve()
+                    .body(String.class);
+
+            return resultJson;
+        } catch (ResourceAccessException e) {
+            throw new RestDataStoreAccessException(dataStoreName, e);
+        }
+    }
+
+    /**
+     * Updates several entities of the same type in a single request. The JSON of each entity must contain its id.
+     *
+     * @param entityName  name of the entities
+     * @param entityJsons JSON of each entity
+     * @return JSON array of the updated entities, their order may differ from the order of {@code entityJsons}
+     */
+    public String updateAll(String entityName, List<String> entityJsons) {
+        try {
+            String resultJson = restClient.put()
+                    .uri(basePath + entitiesPath + "/{entityName}?responseFetchPlan=_base", entityName)
+                    .body(createArrayBody(entityJsons))
+                    .retrieve()
+                    .body(String.class);
+
+            return resultJson;
+        } catch (ResourceAccessException e) {
+            throw new RestDataStoreAccessException(dataStoreName, e);
+        }
+    }
+
+    /**
+     * Deletes several entities of the same type in a single request.
+     */
+    public void deleteAll(String entityName, List<String> entityIds) {
+        ArrayNode idsNode = objectMapper.createArrayNode();
+        entityIds.forEach(idsNode::add);
+        try {
+            restClient.method(HttpMethod.DELETE)
+                    .uri(basePath + entitiesPath + "/{entityName}", entityName)
+                    .body(objectMapper.writeValueAsString(idsNode))
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (ResourceAccessException e) {
+            throw new RestDataStoreAccessException(dataStoreName, e);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error creating request body", e);
+        }
+    }
+
+    private String createArrayBody(List<String> entityJsons) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < entityJsons.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(entityJsons.get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Executes the given calls and returns their results in the order of calls.
+     * <p>
+     * If the {@code <dataStoreName>.writeParallelism} property is greater than 1, up to that number of calls
+     * are executed concurrently. The security context and request attributes of the calling thread are available
+     * to the calls, so the authenticator can obtain the access token. The first failed call cancels the rest and
+     * its exception is rethrown.
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> calls) {
+        List<T> results = new ArrayList<>(calls.size());
+        if (writeParallelism <= 1 || calls.size() <= 1) {
+            for (Callable<T> call : calls) {
+                results.add(callUnchecked(call));
+            }
+            return results;
+        }
+
+        ExecutorService executor = getWriteExecutor();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        List<Future<T>> futures = new ArrayList<>(calls.size());
+        try {
+            for (Callable<T> call : calls) {
+                futures.add(executor.submit(new DelegatingSecurityContextCallable<>(
+                        withRequestAttributes(call, requestAttributes))));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling '" + dataStoreName + "' REST API", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private <T> T callUnchecked(Callable<T> call) {
+        try {
+            return call.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <T> Callable<T> withRequestAttributes(Callable<T> call, @Nullable RequestAttributes requestAttributes) {
+        if (requestAttributes == null) {
+            return call;
+        }
+        return () -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return call.call();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+
+    private ExecutorService getWriteExecutor() {
+        if (writeExecutor == null) {
+            synchronized (this) {
+                if (writeExecutor == null) {
+                    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("restds-" + dataStoreName + "-");
+                    threadFactory.setDaemon(true);
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(writeParallelism, writeParallelism,
+                            60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+                    // the invoker has no destruction callback as a prototype bean, so idle threads just expire
+                    executor.allowCoreThreadTimeOut(true);
+                    writeExecutor = executor;
+                }
+            }
+        }
+        return writeExecutor;
+    }
+
     public void delete(String entityName, String entityId) {
         try {
             restClient.delete()
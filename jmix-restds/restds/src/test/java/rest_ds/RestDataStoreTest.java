@@ -97,6 +97,36 @@ public class RestDataStoreTest extends BaseRestDsIntegrationTest {
         assertThat(deletedCustomer).isNull();
     }
 
+    @Test
+    void testCreateUpdateDeleteSeveral() {
+        Customer customer1 = dataManager.create(Customer.class);
+        customer1.setLastName("new-cust-1-" + now);
+        Customer customer2 = dataManager.create(Customer.class);
+        customer2.setLastName("new-cust-2-" + now);
+        Customer customer3 = dataManager.create(Customer.class);
+        customer3.setLastName("new-cust-3-" + now);
+
+        List<Customer> created = List.copyOf(dataManager.saveAll(List.of(customer1, customer2, customer3)));
+
+        assertThat(created).extracting(Customer::getId)
+                .containsExactlyInAnyOrder(customer1.getId(), customer2.getId(), customer3.getId());
+
+        created.forEach(customer -> customer.setLastName(customer.getLastName().replace("new", "updated")));
+
+        List<Customer> updated = List.copyOf(dataManager.saveAll(created));
+
+        assertThat(updated).extracting(Customer::getLastName)
+                .containsExactlyInAnyOrder("updated-cust-1-" + now, "updated-cust-2-" + now, "updated-cust-3-" + now);
+
+        dataManager.remove(updated.toArray());
+
+        List<Customer> deleted = dataManager.load(Customer.class)
+                .ids(customer1.getId(), customer2.getId(), customer3.getId())
+                .list();
+
+        assertThat(deleted).isEmpty();
+    }
+
     @Test
     void testCount() {
         Customer customer = createCustomer(null, "new-cust-1-" + now);
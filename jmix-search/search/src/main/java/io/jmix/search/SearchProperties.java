@@ -137,11 +137,39 @@ public class SearchProperties {
      */
     protected final boolean enabled;
 
+    /**
+     * Amount of worker threads processing Indexing Queue on each node. Value greater than 1 enables parallel
+     * processing: each worker claims its own batches of queue items.
+     */
+    protected final int processQueueWorkers;
+
+    /**
+     * Whether parallel Indexing Queue processing claims batches by {@code SELECT ... FOR UPDATE SKIP LOCKED}
+     * if it is supported by the database. Otherwise, queue items are partitioned between workers by entity name.
+     */
+    protected final boolean processQueueSkipLockedEnabled;
+
+    /**
+     * Amount of cluster nodes processing Indexing Queue. Used to partition queue items between workers of all nodes
+     * if {@code SKIP LOCKED} is not available.
+     */
+    protected final int processQueueNodeCount;
+
+    /**
+     * Zero-based index of the current node among the nodes processing Indexing Queue.
+     *
+     * @see #processQueueNodeCount
+     */
+    protected final int processQueueNodeIndex;
+
     public SearchProperties(
             @DefaultValue("100") int searchResultPageSize,
             @DefaultValue("100") int maxSearchPageCount,
             @DefaultValue("100") int searchReloadEntitiesBatchSize,
             @DefaultValue("100") int processQueueBatchSize,
+            @DefaultValue("1") int processQueueWorkers,
+            @DefaultValue("1") int processQueueNodeCount,
+            @DefaultValue("0") int processQueueNodeIndex,
             @DefaultValue("100") int reindexEntityEnqueueBatchSize,
             @DefaultValue("3") int minPrefixLength,
             @DefaultValue("8") int maxPrefixLength,
@@ -151,6 +179,7 @@ public class SearchProperties {
             @DefaultValue("true") boolean enqueueIndexAllOnStartupIndexRecreationEnabled,
             @DefaultValue("true") boolean wildcardPrefixQueryEnabled,
             @DefaultValue("true") boolean enabled,
+            @DefaultValue("true") boolean processQueueSkipLockedEnabled,
             @DefaultValue("") String enqueueIndexAllOnStartupIndexRecreationEntities,
             @DefaultValue("search_index_") String searchIndexNamePrefix,
             @DefaultValue("anyTermAnyField") String defaultSearchStrategy,
@@ -178,6 +207,10 @@ public class SearchProperties {
         this.maxPrefixLength = maxPrefixLength;
         this.wildcardPrefixQueryEnabled = wildcardPrefixQueryEnabled;
         this.enabled = enabled;
+        this.processQueueWorkers = processQueueWorkers;
+        this.processQueueSkipLockedEnabled = processQueueSkipLockedEnabled;
+        this.processQueueNodeCount = processQueueNodeCount;
+        this.processQueueNodeIndex = processQueueNodeIndex;
     }
 
     /**
@@ -213,6 +246,34 @@ public class SearchProperties {
         return processQueueBatchSize;
     }
 
+    /**
+     * @see #processQueueWorkers
+     */
+    public int getProcessQueueWorkers() {
+        return processQueueWorkers;
+    }
+
+    /**
+     * @see #processQueueSkipLockedEnabled
+     */
+    public boolean isProcessQueueSkipLockedEnabled() {
+        return processQueueSkipLockedEnabled;
+    }
+
+    /**
+     * @see #processQueueNodeCount
+     */
+    public int getProcessQueueNodeCount() {
+        return processQueueNodeCount;
+    }
+
+    /**
+     * @see #processQueueNodeIndex
+     */
+    public int getProcessQueueNodeIndex() {
+        return processQueueNodeIndex;
+    }
+
     /**
      * @see #reindexEntityEnqueueBatchSize
      */
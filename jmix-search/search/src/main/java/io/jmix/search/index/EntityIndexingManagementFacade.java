@@ -22,6 +22,8 @@ import io.jmix.core.security.Authenticated;
 import io.jmix.search.SearchProperties;
 import io.jmix.search.index.mapping.IndexConfigurationManager;
 import io.jmix.search.index.queue.IndexingQueueManager;
+import io.jmix.search.index.queue.impl.IndexingQueueWorkerStatistics;
+import io.jmix.search.index.queue.impl.JpaIndexingQueueManager;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jmx.export.annotation.*;
@@ -29,6 +31,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @ManagedResource(description = "Manages entity indexing for full text search", objectName = "jmix.search:type=EntityIndexing")
 @Component("search_EntityIndexingManagementFacade")
@@ -57,6 +60,20 @@ public class EntityIndexingManagementFacade {
         return indexingQueueManager.getEntityNamesOfEnqueueingSessions();
     }
 
+    @ManagedAttribute(description = "Throughput of workers processing Indexing Queue in parallel")
+    public String getIndexingQueueWorkerStatistics() {
+        if (!(indexingQueueManager instanceof JpaIndexingQueueManager jpaIndexingQueueManager)) {
+            return "Not available";
+        }
+        Map<String, IndexingQueueWorkerStatistics> statistics = jpaIndexingQueueManager.getWorkerStatistics();
+        if (statistics.isEmpty()) {
+            return "No parallel processing has been performed";
+        }
+        return statistics.values().stream()
+                .map(IndexingQueueWorkerStatistics::toString)
+                .collect(Collectors.joining("\n"));
+    }
+
     @ManagedAttribute(description = "Search status")
     public String searchStatus() {
         return searchProperties.isEnabled() ? "Enabled" : "Disabled";
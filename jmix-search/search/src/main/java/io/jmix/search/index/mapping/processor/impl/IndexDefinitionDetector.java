@@ -17,8 +17,10 @@
 package io.jmix.search.index.mapping.processor.impl;
 
 import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector;
+import io.jmix.core.impl.scanning.ClasspathScanIndexEntry;
 import io.jmix.search.index.annotation.JmixEntitySearchIndex;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 @Component("search_IndexDefinitionDetector")
@@ -28,4 +30,9 @@ public class IndexDefinitionDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(JmixEntitySearchIndex.class.getName());
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return indexEntry.hasAnnotation(JmixEntitySearchIndex.class.getName());
+    }
 }
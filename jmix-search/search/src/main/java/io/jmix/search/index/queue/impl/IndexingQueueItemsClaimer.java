@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.queue.impl;
+
+import io.jmix.core.Stores;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.persistence.DbmsType;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Claims batches of Indexing Queue items for exclusive processing by {@code SELECT ... FOR UPDATE SKIP LOCKED}
+ * (or its equivalent), so concurrent workers on any cluster node get disjoint batches. Claimed rows stay locked
+ * until the transaction that claimed them is completed. Items are claimed in the order of their creation.
+ */
+@Component("search_IndexingQueueItemsClaimer")
+public class IndexingQueueItemsClaimer {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexingQueueItemsClaimer.class);
+
+    // MySQL driver reports MariaDB server version like 5.5.5-10.6.12-MariaDB
+    private static final Pattern MARIADB_VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+)[.\\d]*-mariadb");
+
+    protected final DbmsType dbmsType;
+    protected final StoreAwareLocator storeAwareLocator;
+
+    protected volatile Boolean skipLockedSupported;
+
+    @Autowired
+    public IndexingQueueItemsClaimer(DbmsType dbmsType, StoreAwareLocator storeAwareLocator) {
+        this.dbmsType = dbmsType;
+        this.storeAwareLocator = storeAwareLocator;
+    }
+
+    /**
+     * @return whether the database of the main data store supports skipping locked rows
+     */
+    public boolean isSkipLockedSupported() {
+        Boolean supported = skipLockedSupported;
+        if (supported == null) {
+            supported = createClaimQueryString(0, 1) != null && isSkipLockedSupportedByServer();
+            skipLockedSupported = supported;
+        }
+        return supported;
+    }
+
+    /**
+     * Selects and locks the next batch of queue items skipping items locked by other transactions.
+     * Must be called inside a transaction of the main data store.
+     *
+     * @param entityManager       entity manager of the main data store
+     * @param excludedEntityNames names of entities which items must not be claimed
+     * @param batchSize           max amount of items to claim
+     * @return claimed queue items
+     */
+    @SuppressWarnings("unchecked")
+    public List<IndexingQueueItem> claimNextBatch(EntityManager entityManager,
+                                                  List<String> excludedEntityNames,
+                                                  int batchSize) {
+        String queryString = createClaimQueryString(excludedEntityNames.size(), batchSize);
+        if (queryString == null || !isSkipLockedSupported()) {
+            throw new IllegalStateException("SKIP LOCKED is not supported by " + dbmsType.getType(Stores.MAIN));
+        }
+
+        Query query = entityManager.createNativeQuery(queryString, IndexingQueueItem.class);
+        for (int i = 0; i < excludedEntityNames.size(); i++) {
+            query.setParameter(i + 1, excludedEntityNames.get(i));
+        }
+        if (isOracle()) {
+            return claimFromCursor(query, batchSize);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Oracle doesn't allow row limiting in ordered FOR UPDATE queries, but locks rows skipping locked ones only when
+     * they are fetched. So the batch is read from the cursor of the ordered query.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<IndexingQueueItem> claimFromCursor(Query query, int batchSize) {
+        query.setHint(QueryHints.CURSOR, true);
+        query.setHint(QueryHints.CURSOR_PAGE_SIZE, batchSize);
+        query.setHint(QueryHints.JDBC_FETCH_SIZE, batchSize);
+        CursoredStream cursor = (CursoredStream) query.getSingleResult();
+        try {
+            return cursor.next(batchSize);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    protected boolean isOracle() {
+        return "ORACLE".equals(dbmsType.getType(Stores.MAIN).toUpperCase());
+    }
+
+    protected boolean isSkipLockedSupportedByServer() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(storeAwareLocator.getDataSource(Stores.MAIN),
+                    this::isSkipLockedSupported);
+        } catch (MetaDataAccessException e) {
+            log.warn("Unable to determine database version, SKIP LOCKED is considered unsupported", e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks the server version: SKIP LOCKED is available since MySQL 8.0, MariaDB 10.6 and PostgreSQL 9.5.
+     */
+    protected boolean isSkipLockedSupported(DatabaseMetaData metaData) throws SQLException {
+        String productName = metaData.getDatabaseProductName().toLowerCase();
+        String productVersion = metaData.getDatabaseProductVersion().toLowerCase();
+        int majorVersion = metaData.getDatabaseMajorVersion();
+        int minorVersion = metaData.getDatabaseMinorVersion();
+
+        if (productName.contains("mariadb") || productVersion.contains("mariadb")) {
+            Matcher matcher = MARIADB_VERSION_PATTERN.matcher(productVersion);
+            if (matcher.find()) {
+                majorVersion = Integer.parseInt(matcher.group(1));
+                minorVersion = Integer.parseInt(matcher.group(2));
+            }
+            return isVersionAtLeast(majorVersion, minorVersion, 10, 6);
+        }
+        if (productName.contains("mysql")) {
+            return isVersionAtLeast(majorVersion, minorVersion, 8, 0);
+        }
+        if (productName.contains("postgres")) {
+            return isVersionAtLeast(majorVersion, minorVersion, 9, 5);
+        }
+        return true;
+    }
+
+    protected boolean isVersionAtLeast(int majorVersion, int minorVersion, int requiredMajor, int requiredMinor) {
+        return majorVersion > requiredMajor || (majorVersion == requiredMajor && minorVersion >= requiredMinor);
+    }
+
+    @Nullable
+    protected String createClaimQueryString(int excludedEntitiesCount, int batchSize) {
+        String condition = createExclusionCondition(excludedEntitiesCount);
+        String type = dbmsType.getType(Stores.MAIN).toUpperCase();
+        switch (type) {
+            case "POSTGRES":
+            case "POSTGRESQL":
+            case "MYSQL":
+                return "select q.* from SEARCH_INDEXING_QUEUE q"
+                        + (condition.isEmpty() ? "" : " where " + condition)
+                        + " order by q.CREATED_DATE limit " + batchSize
+                        + " for update skip locked";
+            case "ORACLE":
+                // the batch size is limited when reading the cursor, see claimFromCursor
+                return "select q.* from SEARCH_INDEXING_QUEUE q"
+                        + (condition.isEmpty() ? "" : " where " + condition)
+                        + " order by q.CREATED_DATE"
+                        + " for update skip locked";
+            case "MSSQL":
+            case "SQL_SERVER":
+                return "select top (" + batchSize + ") q.* from SEARCH_INDEXING_QUEUE q with (updlock, readpast, rowlock)"
+                        + (condition.isEmpty() ? "" : " where " + condition)
+                        + " order by q.CREATED_DATE";
+            default:
+                return null;
+        }
+    }
+
+    protected String createExclusionCondition(int excludedEntitiesCount) {
+        if (excludedEntitiesCount == 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder("q.ENTITY_NAME not in (");
+        for (int i = 1; i <= excludedEntitiesCount; i++) {
+            if (i > 1) {
+                sb.append(", ");
+            }
+            sb.append('?').append(i);
+        }
+        return sb.append(')').toString();
+    }
+}
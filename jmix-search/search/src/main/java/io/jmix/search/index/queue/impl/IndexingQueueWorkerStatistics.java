@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.queue.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput statistics of a single Indexing Queue processing worker.
+ */
+public class IndexingQueueWorkerStatistics {
+
+    protected final String workerName;
+    protected final LongAdder processedItems = new LongAdder();
+    protected final LongAdder processedBatches = new LongAdder();
+    protected final LongAdder processingTimeNanos = new LongAdder();
+
+    public IndexingQueueWorkerStatistics(String workerName) {
+        this.workerName = workerName;
+    }
+
+    public void recordBatch(int processedItemsCount, long elapsedNanos) {
+        processedItems.add(processedItemsCount);
+        processedBatches.increment();
+        processingTimeNanos.add(elapsedNanos);
+    }
+
+    public String getWorkerName() {
+        return workerName;
+    }
+
+    public long getProcessedItems() {
+        return processedItems.sum();
+    }
+
+    public long getProcessedBatches() {
+        return processedBatches.sum();
+    }
+
+    public long getProcessingTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(processingTimeNanos.sum());
+    }
+
+    /**
+     * @return average amount of queue items processed per second
+     */
+    public double getThroughput() {
+        long nanos = processingTimeNanos.sum();
+        return nanos == 0 ? 0 : processedItems.sum() * 1_000_000_000d / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: items=%d, batches=%d, time=%dms, throughput=%.1f items/s",
+                workerName, getProcessedItems(), getProcessedBatches(), getProcessingTimeMillis(), getThroughput());
+    }
+}
@@ -33,23 +33,28 @@ import io.jmix.search.index.queue.EntityIdsLoader.ResultHolder;
 import io.jmix.search.index.queue.IndexingQueueManager;
 import io.jmix.search.index.queue.entity.EnqueueingSession;
 import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.collections4.MapUtils;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 @NullMarked
-public class JpaIndexingQueueManager implements IndexingQueueManager {
+public class JpaIndexingQueueManager implements IndexingQueueManager, DisposableBean {
 
     private static final Logger log = LoggerFactory.getLogger(JpaIndexingQueueManager.class);
 
@@ -67,6 +72,11 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
     protected final EnqueueingSessionManager enqueueingSessionManager;
     protected final EntityIdsLoaderProvider entityIdsLoaderProvider;
 
+    protected IndexingQueueItemsClaimer queueItemsClaimer;
+
+    protected final Map<String, IndexingQueueWorkerStatistics> workerStatistics = new ConcurrentHashMap<>();
+    protected volatile ExecutorService workersExecutor;
+
     public JpaIndexingQueueManager(SearchProperties searchProperties,
                                    UnconstrainedDataManager dataManager,
                                    Metadata metadata,
@@ -95,6 +105,25 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         this.entityIdsLoaderProvider = entityIdsLoaderProvider;
     }
 
+    @Autowired
+    public void setQueueItemsClaimer(IndexingQueueItemsClaimer queueItemsClaimer) {
+        this.queueItemsClaimer = queueItemsClaimer;
+    }
+
+    @Override
+    public void destroy() {
+        if (workersExecutor != null) {
+            workersExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return throughput statistics of the workers processing the queue in parallel, by worker name
+     */
+    public Map<String, IndexingQueueWorkerStatistics> getWorkerStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(workerStatistics));
+    }
+
     @Override
     public int emptyQueue() {
         TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
@@ -447,6 +476,10 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
             throw new IllegalArgumentException("Size of queue processing batch must be positive");
         }
 
+        if (searchProperties.getProcessQueueWorkers() > 1) {
+            return processQueueInParallel(batchSize, processEntireQueue);
+        }
+
         int count = 0;
         boolean locked = locker.tryLockQueueProcessing();
         if (!locked) {
@@ -486,13 +519,196 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return count;
     }
 
+    /**
+     * Processes the queue by several workers. Each worker claims disjoint batches of queue items: by
+     * {@code SKIP LOCKED} if it's supported by the database, or by partitioning items by entity name otherwise.
+     */
+    protected int processQueueInParallel(int batchSize, boolean processEntireQueue) {
+        boolean locked = locker.tryLockQueueProcessing();
+        if (!locked) {
+            log.debug("Unable to process queue: queue is being processed at the moment");
+            return 0;
+        }
+
+        int count = 0;
+        try {
+            int workers = searchProperties.getProcessQueueWorkers();
+            boolean skipLocked = searchProperties.isProcessQueueSkipLockedEnabled()
+                    && queueItemsClaimer.isSkipLockedSupported();
+            log.debug("Start processing queue by {} workers, skip locked: {}", workers, skipLocked);
+
+            List<Callable<Integer>> tasks = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                int partition = searchProperties.getProcessQueueNodeIndex() * workers + i;
+                if (skipLocked) {
+                    tasks.add(() -> processQueueBySkipLocked(getWorkerName(partition), batchSize, processEntireQueue));
+                } else {
+                    int partitionCount = searchProperties.getProcessQueueNodeCount() * workers;
+                    tasks.add(() -> processQueuePartition(getWorkerName(partition), partition, partitionCount,
+                            batchSize, processEntireQueue));
+                }
+            }
+
+            for (Future<Integer> future : getWorkersExecutor().invokeAll(tasks)) {
+                try {
+                    count += future.get();
+                } catch (ExecutionException e) {
+                    log.error("Indexing queue worker failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Indexing queue processing has been interrupted");
+        } finally {
+            locker.unlockQueueProcessing();
+        }
+
+        log.debug("{} queue items have been successfully processed", count);
+        return count;
+    }
+
+    /**
+     * Processes batches claimed by {@code SKIP LOCKED}. Claimed items stay locked until they are indexed and removed
+     * in the same transaction, so other workers skip them.
+     */
+    protected int processQueueBySkipLocked(String workerName, int batchSize, boolean processEntireQueue) {
+        IndexingQueueWorkerStatistics statistics = getWorkerStatistics(workerName);
+        int count = 0;
+        try {
+            authenticator.begin();
+
+            TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            int claimed;
+            do {
+                long start = System.nanoTime();
+                int[] result = transactionTemplate.execute(status -> {
+                    EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+                    List<String> unavailableEntities = indexStateRegistry.getAllUnavailableIndexedEntities();
+                    List<IndexingQueueItem> queueItems =
+                            queueItemsClaimer.claimNextBatch(entityManager, unavailableEntities, batchSize);
+                    log.debug("Worker '{}' claimed {} items", workerName, queueItems.size());
+                    if (queueItems.isEmpty()) {
+                        return new int[]{0, 0};
+                    }
+
+                    List<IndexingQueueItem> successfullyProcessedQueueItems = processQueueItems(queueItems);
+                    removeQueueItems(entityManager, successfullyProcessedQueueItems);
+                    return new int[]{queueItems.size(), successfullyProcessedQueueItems.size()};
+                });
+                claimed = result == null ? 0 : result[0];
+                int processed = result == null ? 0 : result[1];
+                if (claimed > 0) {
+                    statistics.recordBatch(processed, System.nanoTime() - start);
+                }
+                count += processed;
+            } while (processEntireQueue && claimed == batchSize);
+        } finally {
+            authenticator.end();
+        }
+        return count;
+    }
+
+    /**
+     * Processes items of entities assigned to the given partition. Entities are distributed between partitions
+     * by hash of entity name, so workers of all nodes process disjoint sets of items without database locks.
+     */
+    protected int processQueuePartition(String workerName, int partition, int partitionCount,
+                                        int batchSize, boolean processEntireQueue) {
+        IndexingQueueWorkerStatistics statistics = getWorkerStatistics(workerName);
+        int count = 0;
+        try {
+            authenticator.begin();
+
+            List<IndexingQueueItem> queueItems;
+            do {
+                List<String> unavailableEntities = indexStateRegistry.getAllUnavailableIndexedEntities();
+                List<String> partitionEntities = indexConfigurationManager.getAllIndexConfigurations().stream()
+                        .map(IndexConfiguration::getEntityName)
+                        .filter(entityName -> Math.floorMod(entityName.hashCode(), partitionCount) == partition)
+                        .filter(entityName -> !unavailableEntities.contains(entityName))
+                        .collect(Collectors.toList());
+                if (partitionEntities.isEmpty()) {
+                    break;
+                }
+
+                long start = System.nanoTime();
+                LoadContext<IndexingQueueItem> loadContext =
+                        createDequeueLoadContext(unavailableEntities, partitionEntities, batchSize);
+                queueItems = dataManager.loadList(loadContext);
+                log.debug("Worker '{}' dequeued {} items", workerName, queueItems.size());
+                if (queueItems.isEmpty()) {
+                    break;
+                }
+
+                List<IndexingQueueItem> successfullyProcessedQueueItems = processQueueItems(queueItems);
+                SaveContext saveContext = new SaveContext();
+                saveContext.removing(successfullyProcessedQueueItems);
+                dataManager.save(saveContext);
+
+                statistics.recordBatch(successfullyProcessedQueueItems.size(), System.nanoTime() - start);
+                count += successfullyProcessedQueueItems.size();
+            } while (processEntireQueue && queueItems.size() == batchSize);
+        } finally {
+            authenticator.end();
+        }
+        return count;
+    }
+
+    protected void removeQueueItems(EntityManager entityManager, List<IndexingQueueItem> queueItems) {
+        if (queueItems.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = queueItems.stream().map(IndexingQueueItem::getId).collect(Collectors.toList());
+        Query query = entityManager.createQuery("delete from search_IndexingQueue q where q.id in :ids");
+        query.setParameter("ids", ids);
+        query.executeUpdate();
+    }
+
+    protected IndexingQueueWorkerStatistics getWorkerStatistics(String workerName) {
+        return workerStatistics.computeIfAbsent(workerName, IndexingQueueWorkerStatistics::new);
+    }
+
+    protected String getWorkerName(int partition) {
+        return "worker-" + partition;
+    }
+
+    protected ExecutorService getWorkersExecutor() {
+        if (workersExecutor == null) {
+            synchronized (this) {
+                if (workersExecutor == null) {
+                    workersExecutor = Executors.newFixedThreadPool(searchProperties.getProcessQueueWorkers(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("search-indexing-queue-worker-%d")
+                                    .setDaemon(true)
+                                    .build());
+                }
+            }
+        }
+        return workersExecutor;
+    }
+
     protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities, int batchSize) {
+        return createDequeueLoadContext(unavailableEntities, null, batchSize);
+    }
+
+    protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities,
+                                                                      @Nullable List<String> includedEntities,
+                                                                      int batchSize) {
         LoadContext.Query query = new LoadContext.Query("");
         StringBuilder sb = new StringBuilder("select q from search_IndexingQueue q");
+        List<String> conditions = new ArrayList<>(2);
         if (!unavailableEntities.isEmpty()) {
-            sb.append(" where q.entityName not in :unavailableEntities");
+            conditions.add("q.entityName not in :unavailableEntities");
             query.setParameter("unavailableEntities", unavailableEntities);
         }
+        if (includedEntities != null) {
+            conditions.add("q.entityName in :includedEntities");
+            query.setParameter("includedEntities", includedEntities);
+        }
+        if (!conditions.isEmpty()) {
+            sb.append(" where ").append(String.join(" and ", conditions));
+        }
         sb.append(" order by q.createdDate asc");
         query.setQueryString(sb.toString());
         query.setMaxResults(batchSize);
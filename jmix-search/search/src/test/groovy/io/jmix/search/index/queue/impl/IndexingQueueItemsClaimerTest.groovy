@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.search.index.queue.impl
+
+import io.jmix.data.StoreAwareLocator
+import io.jmix.data.persistence.DbmsType
+import spock.lang.Specification
+
+import java.sql.DatabaseMetaData
+
+class IndexingQueueItemsClaimerTest extends Specification {
+
+    def "claim query orders items by creation date"() {
+        def claimer = createClaimer(type)
+
+        when:
+        String query = claimer.createClaimQueryString(2, 10)
+
+        then:
+        query.contains("order by q.CREATED_DATE")
+        query.contains("q.ENTITY_NAME not in (?1, ?2)")
+
+        where:
+        type << ["POSTGRESQL", "MYSQL", "ORACLE", "SQL_SERVER"]
+    }
+
+    def "claim query is not created for unsupported database"() {
+        expect:
+        createClaimer("HSQL").createClaimQueryString(0, 10) == null
+        !createClaimer("HSQL").isSkipLockedSupported()
+    }
+
+    def "skip locked support depends on server version"() {
+        def claimer = createClaimer("MYSQL")
+        DatabaseMetaData metaData = Stub() {
+            getDatabaseProductName() >> productName
+            getDatabaseProductVersion() >> productVersion
+            getDatabaseMajorVersion() >> majorVersion
+            getDatabaseMinorVersion() >> minorVersion
+        }
+
+        expect:
+        claimer.isSkipLockedSupported(metaData) == supported
+
+        where:
+        productName  | productVersion          | majorVersion | minorVersion || supported
+        "MySQL"      | "5.7.44"                | 5            | 7            || false
+        "MySQL"      | "8.0.36"                | 8            | 0            || true
+        "MariaDB"    | "10.5.23-MariaDB"       | 10           | 5            || false
+        "MariaDB"    | "10.6.17-MariaDB"       | 10           | 6            || true
+        "MySQL"      | "5.5.5-10.4.32-MariaDB" | 5            | 5            || false
+        "MySQL"      | "5.5.5-11.2.3-MariaDB"  | 5            | 5            || true
+        "PostgreSQL" | "9.4.26"                | 9            | 4            || false
+        "PostgreSQL" | "16.2"                  | 16           | 2            || true
+        "Oracle"     | "Oracle Database 19c"   | 19           | 0            || true
+    }
+
+    private IndexingQueueItemsClaimer createClaimer(String type) {
+        DbmsType dbmsType = Stub() {
+            getType(_) >> type
+        }
+        return new IndexingQueueItemsClaimer(dbmsType, Stub(StoreAwareLocator))
+    }
+}
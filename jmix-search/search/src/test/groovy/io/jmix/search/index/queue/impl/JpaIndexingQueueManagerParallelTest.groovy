@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.search.index.queue.impl
+
+import io.jmix.core.LoadContext
+import io.jmix.core.SaveContext
+import io.jmix.core.UnconstrainedDataManager
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.data.StoreAwareLocator
+import io.jmix.search.SearchProperties
+import io.jmix.search.index.IndexConfiguration
+import io.jmix.search.index.impl.IndexStateRegistry
+import io.jmix.search.index.impl.IndexingLocker
+import io.jmix.search.index.mapping.IndexConfigurationManager
+import io.jmix.search.index.queue.entity.IndexingQueueItem
+import jakarta.persistence.EntityManager
+import jakarta.persistence.Query
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+
+class JpaIndexingQueueManagerParallelTest extends Specification {
+
+    SearchProperties searchProperties = Stub()
+    UnconstrainedDataManager dataManager = Mock()
+    StoreAwareLocator storeAwareLocator = Stub()
+    IndexConfigurationManager indexConfigurationManager = Stub()
+    IndexingLocker locker = Mock()
+    IndexStateRegistry indexStateRegistry = Stub()
+    IndexingQueueItemsClaimer claimer = Mock()
+
+    TestQueueManager queueManager
+
+    void setup() {
+        indexStateRegistry.getAllUnavailableIndexedEntities() >> []
+        queueManager = new TestQueueManager(searchProperties, dataManager, storeAwareLocator,
+                indexConfigurationManager, Stub(SystemAuthenticator), locker, indexStateRegistry)
+        queueManager.setQueueItemsClaimer(claimer)
+    }
+
+    void cleanup() {
+        queueManager.destroy()
+    }
+
+    def "workers process partitions of this node when skip locked is not supported"() {
+        searchProperties.getProcessQueueWorkers() >> 2
+        searchProperties.isProcessQueueSkipLockedEnabled() >> true
+        searchProperties.getProcessQueueNodeCount() >> 3
+        searchProperties.getProcessQueueNodeIndex() >> 1
+        claimer.isSkipLockedSupported() >> false
+        queueManager.stubWorkers = true
+
+        when:
+        int count = queueManager.processQueueInParallel(10, true)
+
+        then:
+        1 * locker.tryLockQueueProcessing() >> true
+        1 * locker.unlockQueueProcessing()
+        queueManager.partitions.keySet() == [2, 3] as Set
+        queueManager.partitions.values().toSet() == [6] as Set
+        count == 2 * TestQueueManager.STUB_WORKER_COUNT
+    }
+
+    def "workers claim by skip locked when it is supported"() {
+        searchProperties.getProcessQueueWorkers() >> 3
+        searchProperties.isProcessQueueSkipLockedEnabled() >> true
+        claimer.isSkipLockedSupported() >> true
+        queueManager.stubWorkers = true
+
+        when:
+        int count = queueManager.processQueueInParallel(10, false)
+
+        then:
+        1 * locker.tryLockQueueProcessing() >> true
+        queueManager.skipLockedWorkers.size() == 3
+        queueManager.partitions.isEmpty()
+        count == 3 * TestQueueManager.STUB_WORKER_COUNT
+    }
+
+    def "queue is not processed if it is locked"() {
+        searchProperties.getProcessQueueWorkers() >> 2
+        queueManager.stubWorkers = true
+
+        when:
+        int count = queueManager.processQueueInParallel(10, true)
+
+        then:
+        1 * locker.tryLockQueueProcessing() >> false
+        0 * locker.unlockQueueProcessing()
+        count == 0
+        queueManager.partitions.isEmpty()
+        queueManager.skipLockedWorkers.isEmpty()
+    }
+
+    def "skip locked worker claims batches until the queue is drained"() {
+        EntityManager entityManager = Stub(EntityManager) {
+            createQuery(_ as String) >> Stub(Query)
+        }
+        storeAwareLocator.getTransactionTemplate(_) >> new TransactionTemplate(Stub(PlatformTransactionManager))
+        storeAwareLocator.getEntityManager(_) >> entityManager
+
+        when:
+        int count = queueManager.processQueueBySkipLocked("worker-0", 2, true)
+
+        then:
+        3 * claimer.claimNextBatch(entityManager, [], 2) >>> [items("a", "b"), items("c", "d"), items("e")]
+        count == 5
+        queueManager.getWorkerStatistics()["worker-0"] != null
+    }
+
+    def "partition worker loads only items of entities assigned to its partition"() {
+        def entityNames = ["test_A", "test_B", "test_C", "test_D"]
+        indexConfigurationManager.getAllIndexConfigurations() >> entityNames.collect { name ->
+            Stub(IndexConfiguration) { getEntityName() >> name }
+        }
+        def partitionEntities = entityNames.findAll { Math.floorMod(it.hashCode(), 2) == 1 }
+        List<LoadContext> loadContexts = []
+
+        when:
+        int count = queueManager.processQueuePartition("worker-1", 1, 2, 2, true)
+
+        then:
+        2 * dataManager.loadList(_) >> { LoadContext context ->
+            loadContexts << context
+            return loadContexts.size() == 1 ? items("a", "b") : items("c")
+        }
+        2 * dataManager.save(_ as SaveContext)
+        count == 3
+        loadContexts.every { it.query.parameters["includedEntities"] == partitionEntities }
+    }
+
+    private static List<IndexingQueueItem> items(String... ids) {
+        return ids.collect { id ->
+            def item = new IndexingQueueItem()
+            item.setId(UUID.randomUUID())
+            item.setEntityName("test_A")
+            item.setEntityId(id)
+            item
+        }
+    }
+
+    static class TestQueueManager extends JpaIndexingQueueManager {
+
+        static final int STUB_WORKER_COUNT = 5
+
+        boolean stubWorkers
+        Map<Integer, Integer> partitions = new ConcurrentHashMap<>()
+        Set<String> skipLockedWorkers = ConcurrentHashMap.newKeySet()
+
+        TestQueueManager(SearchProperties searchProperties, UnconstrainedDataManager dataManager,
+                         StoreAwareLocator storeAwareLocator, IndexConfigurationManager indexConfigurationManager,
+                         SystemAuthenticator authenticator, IndexingLocker locker, IndexStateRegistry indexStateRegistry) {
+            super(searchProperties, dataManager, null, null, null, storeAwareLocator, indexConfigurationManager,
+                    null, authenticator, locker, indexStateRegistry, null, null)
+        }
+
+        @Override
+        protected int processQueueBySkipLocked(String workerName, int batchSize, boolean processEntireQueue) {
+            if (!stubWorkers) {
+                return super.processQueueBySkipLocked(workerName, batchSize, processEntireQueue)
+            }
+            skipLockedWorkers << workerName
+            return STUB_WORKER_COUNT
+        }
+
+        @Override
+        protected int processQueuePartition(String workerName, int partition, int partitionCount,
+                                            int batchSize, boolean processEntireQueue) {
+            if (!stubWorkers) {
+                return super.processQueuePartition(workerName, partition, partitionCount, batchSize, processEntireQueue)
+            }
+            partitions.put(partition, partitionCount)
+            return STUB_WORKER_COUNT
+        }
+
+        @Override
+        protected List<IndexingQueueItem> processQueueItems(List<IndexingQueueItem> queueItems) {
+            return queueItems
+        }
+    }
+}
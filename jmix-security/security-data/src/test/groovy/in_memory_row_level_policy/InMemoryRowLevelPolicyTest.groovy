@@ -18,6 +18,7 @@ package in_memory_row_level_policy
 
 import io.jmix.core.DataManager
 import io.jmix.core.Metadata
+import io.jmix.core.Sort
 import io.jmix.core.security.InMemoryUserRepository
 import io.jmix.core.security.SecurityContextHelper
 import io.jmix.core.security.SystemAuthenticator
@@ -175,4 +176,36 @@ class InMemoryRowLevelPolicyTest extends SecurityDataSpecification {
         testOrders[0].number == 'A-1-B'
     }
 
+    def "page is filled from the rows remaining after in-memory row-level policies"() {
+
+        given: "orders conforming and not conforming to the predicate go one after another"
+
+        (2..9).each { i ->
+            ['B', 'C'].each { suffix ->
+                TestOrder order = metadata.create(TestOrder)
+                order.number = "A-$i-$suffix"
+                dataManager.unconstrained().save(order)
+            }
+        }
+
+        when: "the user with the role loads pages"
+
+        systemAuthenticator.begin('user2')
+        def page = dataManager.load(TestOrder).all()
+                .sort(Sort.by('number'))
+                .firstResult(2)
+                .maxResults(3)
+                .list()
+        def lastPage = dataManager.load(TestOrder).all()
+                .sort(Sort.by('number'))
+                .firstResult(7)
+                .maxResults(5)
+                .list()
+        systemAuthenticator.end()
+
+        then: "positions of the pages are counted among the conforming orders"
+
+        page*.number == ['A-3-B', 'A-4-B', 'A-5-B']
+        lastPage*.number == ['A-8-B', 'A-9-B']
+    }
 }
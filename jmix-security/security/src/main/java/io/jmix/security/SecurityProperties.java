@@ -19,6 +19,8 @@ package io.jmix.security;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.security")
 public class SecurityProperties {
 
@@ -32,11 +34,27 @@ public class SecurityProperties {
      */
     String defaultRowLevelRolePrefix;
 
+    /**
+     * Maximum number of distinct role sets whose compiled policies are cached.
+     */
+    int policyCacheMaxSize;
+
+    /**
+     * Time after which compiled policies of a role set are discarded even if no role modification has been
+     * reported. Protects against changes that are not broadcast to the application instance.
+     * Non-positive value means no expiration.
+     */
+    Duration policyCacheTimeToLive;
+
     public SecurityProperties(
             @DefaultValue("true") boolean annotatedRolesHotDeployEnabled,
-            @DefaultValue("ROW_LEVEL_ROLE_") String defaultRowLevelRolePrefix) {
+            @DefaultValue("ROW_LEVEL_ROLE_") String defaultRowLevelRolePrefix,
+            @DefaultValue("1000") int policyCacheMaxSize,
+            @DefaultValue("5m") Duration policyCacheTimeToLive) {
         this.annotatedRolesHotDeployEnabled = annotatedRolesHotDeployEnabled;
         this.defaultRowLevelRolePrefix = defaultRowLevelRolePrefix;
+        this.policyCacheMaxSize = policyCacheMaxSize;
+        this.policyCacheTimeToLive = policyCacheTimeToLive;
     }
 
     /**
@@ -52,4 +70,18 @@ public class SecurityProperties {
     public String getDefaultRowLevelRolePrefix() {
         return defaultRowLevelRolePrefix;
     }
+
+    /**
+     * @see #policyCacheMaxSize
+     */
+    public int getPolicyCacheMaxSize() {
+        return policyCacheMaxSize;
+    }
+
+    /**
+     * @see #policyCacheTimeToLive
+     */
+    public Duration getPolicyCacheTimeToLive() {
+        return policyCacheTimeToLive;
+    }
 }
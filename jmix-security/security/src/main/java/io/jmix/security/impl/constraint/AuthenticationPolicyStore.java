@@ -16,26 +16,40 @@
 
 package io.jmix.security.impl.constraint;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.ExtendedEntities;
+import io.jmix.core.annotation.TenantId;
+import io.jmix.core.cluster.ClusterApplicationEvent;
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.ClientDetails;
 import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.core.security.impl.SubstitutedUserAuthenticationToken;
+import io.jmix.security.SecurityProperties;
 import io.jmix.security.constraint.PolicyStoreContributor;
 import io.jmix.security.constraint.PolicyStore;
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
 import io.jmix.security.model.*;
 import io.jmix.security.role.ResourceRoleRepository;
 import io.jmix.security.role.RoleGrantedAuthorityUtils;
 import io.jmix.security.role.RowLevelRoleRepository;
+import jakarta.annotation.PostConstruct;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.jspecify.annotations.Nullable;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -62,153 +76,192 @@ public class AuthenticationPolicyStore implements PolicyStore {
     @Autowired
     protected RoleGrantedAuthorityUtils roleGrantedAuthorityUtils;
 
+    @Autowired
+    protected SecurityProperties securityProperties;
+
+    @Autowired
+    protected ClusterApplicationEventPublisher clusterEventPublisher;
+
     @Autowired(required = false)
     protected List<PolicyStoreContributor> contributors = List.of();
 
-    @Override
-    public Stream<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        Set<String> suitableMetaClassNames = new HashSet<>();
-        suitableMetaClassNames.add(metaClass.getName());
-        if (originalMetaClass != null) {
-            suitableMetaClassNames.add(originalMetaClass.getName());
-            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
-                suitableMetaClassNames.add(ancestor.getName());
-            }
-        }
-        for (MetaClass ancestor : metaClass.getAncestors()) {
-            suitableMetaClassNames.add(ancestor.getName());
+    protected Cache<PolicyMatrixKey, PolicyMatrix> policyMatrices;
+
+    // fields annotated with @TenantId by classes of principals
+    protected Map<Class<?>, Optional<Field>> tenantIdFields = new ConcurrentHashMap<>();
+
+    // incremented on each invalidation to avoid caching matrices compiled from roles loaded before it
+    protected long generation;
+
+    @PostConstruct
+    protected void init() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .maximumSize(securityProperties.getPolicyCacheMaxSize());
+        Duration timeToLive = securityProperties.getPolicyCacheTimeToLive();
+        if (timeToLive.isPositive()) {
+            builder.expireAfterWrite(timeToLive);
         }
+        policyMatrices = builder.build();
+    }
 
-        return Stream.concat(
-                extractRowLevelPoliciesFromAuthentication(rowLevelRole ->
-                        suitableMetaClassNames.stream()
-                                .flatMap(metaClassName ->
-                                        rowLevelRole.getAllRowLevelPoliciesIndex().getRowLevelPoliciesByEntityName(metaClassName).stream())
-                ),
-                getContributorPolicies(contributor -> contributor.getRowLevelPolicies(metaClass))
+    @Override
+    public Stream<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
+        return withContributorPolicies(
+                getPolicyMatrix().getRowLevelPolicies(metaClass),
+                contributor -> contributor.getRowLevelPolicies(metaClass)
         );
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePolicies(MetaClass metaClass) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        Stream<ResourcePolicy> basePolicies = extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName());
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName());
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY, resources);
-        });
-        return Stream.concat(basePolicies, getContributorPolicies(contributor -> contributor.getEntityResourcePolicies(metaClass)));
+        return withContributorPolicies(
+                getPolicyMatrix().getEntityPolicies(metaClass),
+                contributor -> contributor.getEntityResourcePolicies(metaClass)
+        );
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePoliciesByWildcard(String wildcard) {
-        return Stream.concat(
-                extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                        getPoliciesStreamByTypeAndResources(resourceRole,
-                                ResourcePolicyType.ENTITY,
-                                Set.of(wildcard))
-                ),
-                getContributorPolicies(contributor -> contributor.getEntityResourcePoliciesByWildcard(wildcard))
+        return withContributorPolicies(
+                getPolicyMatrix().getPolicies(ResourcePolicyType.ENTITY, wildcard),
+                contributor -> contributor.getEntityResourcePoliciesByWildcard(wildcard)
         );
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePolicies(MetaClass metaClass, String attribute) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        Stream<ResourcePolicy> basePolicies = extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName() + "." + attribute);
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName() + "." + attribute);
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY_ATTRIBUTE, resources);
-        });
-        return Stream.concat(
-                basePolicies,
-                getContributorPolicies(contributor -> contributor.getEntityAttributesResourcePolicies(metaClass, attribute))
+        return withContributorPolicies(
+                getPolicyMatrix().getEntityAttributePolicies(metaClass, attribute),
+                contributor -> contributor.getEntityAttributesResourcePolicies(metaClass, attribute)
         );
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePoliciesByWildcard(String entityWildcard, String attributeWildcard) {
-        return Stream.concat(
-                extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                        getPoliciesStreamByTypeAndResources(resourceRole,
-                                ResourcePolicyType.ENTITY_ATTRIBUTE,
-                                Set.of(entityWildcard + "." + attributeWildcard))),
-                getContributorPolicies(contributor ->
-                        contributor.getEntityAttributesResourcePoliciesByWildcard(entityWildcard, attributeWildcard))
+        return withContributorPolicies(
+                getPolicyMatrix().getPolicies(ResourcePolicyType.ENTITY_ATTRIBUTE, entityWildcard + "." + attributeWildcard),
+                contributor -> contributor.getEntityAttributesResourcePoliciesByWildcard(entityWildcard, attributeWildcard)
         );
     }
 
     @Override
     public Stream<ResourcePolicy> getSpecificResourcePolicies(String resourceName) {
-        return Stream.concat(
-                extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                        getPoliciesStreamByTypeAndResources(resourceRole,
-                                ResourcePolicyType.SPECIFIC,
-                                Set.of(resourceName))),
-                getContributorPolicies(contributor -> contributor.getSpecificResourcePolicies(resourceName))
+        return withContributorPolicies(
+                getPolicyMatrix().getPolicies(ResourcePolicyType.SPECIFIC, resourceName),
+                contributor -> contributor.getSpecificResourcePolicies(resourceName)
         );
     }
 
-    protected Stream<ResourcePolicy> extractResourcePoliciesFromAuthenticationByScope(Function<ResourceRole, Stream<ResourcePolicy>> extractor) {
-        List<Stream<ResourcePolicy>> streams = new ArrayList<>();
+    /**
+     * Discards compiled policy matrices in this application instance and in other instances of the cluster.
+     */
+    public void invalidatePolicyMatrices() {
+        invalidatePolicyMatricesLocally();
+        clusterEventPublisher.publish(new PolicyMatricesInvalidatedEvent(this));
+    }
+
+    /**
+     * Discards compiled policy matrices in this application instance.
+     */
+    public synchronized void invalidatePolicyMatricesLocally() {
+        generation++;
+        policyMatrices.invalidateAll();
+    }
+
+    @EventListener
+    public void onResourceRoleModified(ResourceRoleModifiedEvent event) {
+        invalidatePolicyMatrices();
+    }
+
+    @EventListener
+    public void onRowLevelRoleModified(RowLevelRoleModifiedEvent event) {
+        invalidatePolicyMatrices();
+    }
+
+    @EventListener
+    public void onPolicyMatricesInvalidated(PolicyMatricesInvalidatedEvent event) {
+        log.debug("Roles are modified in the cluster, invalidating policy matrices");
+        invalidatePolicyMatricesLocally();
+    }
 
+    /**
+     * Returns the policy matrix of the roles assigned to the current authentication. The matrix is compiled once
+     * for each distinct set of role codes, scope and tenant and is discarded when roles are modified.
+     */
+    protected PolicyMatrix getPolicyMatrix() {
         Authentication authentication = currentAuthentication.getAuthentication();
-        String scope = getScope(authentication);
+        String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
+        String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
+
+        Set<String> resourceRoleCodes = new HashSet<>();
+        Set<String> rowLevelRoleCodes = new HashSet<>();
         for (GrantedAuthority authority : authentication.getAuthorities()) {
-            if (authority.getAuthority() != null) {
-                String roleCode = authority.getAuthority();
-                String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
-                if (roleCode.startsWith(defaultRolePrefix)) {
-                    roleCode = roleCode.substring(defaultRolePrefix.length());
-                    ResourceRole resourceRole = resourceRoleRepository.findRoleByCode(roleCode);
-                    if (resourceRole == null) {
-                        log.trace("ResourceRole '{}' not found", roleCode);
-                        continue;
-                    }
-                    if (isAppliedForScope(resourceRole, scope)) {
-                        Stream<ResourcePolicy> extractedStream = extractor.apply(resourceRole);
-                        if (extractedStream != null) {
-                            streams.add(extractedStream);
-                        }
-                    }
-                }
+            String authorityName = authority.getAuthority();
+            if (authorityName == null) {
+                continue;
+            }
+            if (authorityName.startsWith(defaultRolePrefix)) {
+                resourceRoleCodes.add(authorityName.substring(defaultRolePrefix.length()));
+            }
+            if (authorityName.startsWith(defaultRowLevelRolePrefix)) {
+                rowLevelRoleCodes.add(authorityName.substring(defaultRowLevelRolePrefix.length()));
             }
         }
 
-        return streams.stream().flatMap(Function.identity());
+        PolicyMatrixKey key = new PolicyMatrixKey(Set.copyOf(resourceRoleCodes), Set.copyOf(rowLevelRoleCodes),
+                getScope(authentication), getTenantId(authentication));
+        PolicyMatrix policyMatrix = policyMatrices.getIfPresent(key);
+        if (policyMatrix == null) {
+            long matrixGeneration = getGeneration();
+            policyMatrix = createPolicyMatrix(key);
+            putPolicyMatrix(key, policyMatrix, matrixGeneration);
+        }
+        return policyMatrix;
     }
 
-    protected Stream<RowLevelPolicy> extractRowLevelPoliciesFromAuthentication(Function<RowLevelRole, Stream<RowLevelPolicy>> extractor) {
-        List<Stream<RowLevelPolicy>> streams = new ArrayList<>();
+    protected synchronized long getGeneration() {
+        return generation;
+    }
 
-        Authentication authentication = currentAuthentication.getAuthentication();
-        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
-            if (grantedAuthority.getAuthority() != null) {
-                String roleName = grantedAuthority.getAuthority();
-                String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
-                if (roleName.startsWith(defaultRowLevelRolePrefix)) {
-                    roleName = roleName.substring(defaultRowLevelRolePrefix.length());
-                    RowLevelRole rowLevelRole = rowLevelRoleRepository.findRoleByCode(roleName);
-                    if (rowLevelRole == null) {
-                        log.trace("RowLevelRole '{}' not found", roleName);
-                        continue;
-                    }
-                    Stream<RowLevelPolicy> extractedStream = extractor.apply(rowLevelRole);
-                    if (extractedStream != null) {
-                        streams.add(extractedStream);
-                    }
-                }
+    /**
+     * Caches the matrix if the cache has not been invalidated since the given generation was obtained.
+     */
+    protected synchronized void putPolicyMatrix(PolicyMatrixKey key, PolicyMatrix policyMatrix, long matrixGeneration) {
+        if (generation == matrixGeneration) {
+            policyMatrices.put(key, policyMatrix);
+        }
+    }
+
+    protected PolicyMatrix createPolicyMatrix(PolicyMatrixKey key) {
+        List<ResourceRole> resourceRoles = new ArrayList<>(key.resourceRoleCodes().size());
+        for (String roleCode : key.resourceRoleCodes()) {
+            ResourceRole resourceRole = resourceRoleRepository.findRoleByCode(roleCode);
+            if (resourceRole == null) {
+                log.trace("ResourceRole '{}' not found", roleCode);
+            } else if (isAppliedForScope(resourceRole, key.scope())) {
+                resourceRoles.add(resourceRole);
+            }
+        }
+
+        List<RowLevelRole> rowLevelRoles = new ArrayList<>(key.rowLevelRoleCodes().size());
+        for (String roleCode : key.rowLevelRoleCodes()) {
+            RowLevelRole rowLevelRole = rowLevelRoleRepository.findRoleByCode(roleCode);
+            if (rowLevelRole == null) {
+                log.trace("RowLevelRole '{}' not found", roleCode);
+            } else {
+                rowLevelRoles.add(rowLevelRole);
             }
         }
 
-        return streams.stream().flatMap(Function.identity());
+        return new PolicyMatrix(resourceRoles, rowLevelRoles, extendedEntities);
+    }
+
+    protected <T> Stream<T> withContributorPolicies(List<T> policies,
+                                                    Function<PolicyStoreContributor, Stream<T>> extractor) {
+        if (contributors.isEmpty()) {
+            return policies.stream();
+        }
+        return Stream.concat(policies.stream(), getContributorPolicies(extractor));
     }
 
     @Nullable
@@ -220,15 +273,46 @@ public class AuthenticationPolicyStore implements PolicyStore {
         return null;
     }
 
-    protected boolean isAppliedForScope(ResourceRole resourceRole, @Nullable String scope) {
-        return scope == null || resourceRole.getScopes().contains(scope);
+    /**
+     * Returns the tenant of the effective user, because database roles with equal codes may belong to different
+     * tenants.
+     */
+    @Nullable
+    protected String getTenantId(Authentication authentication) {
+        Object principal = authentication instanceof SubstitutedUserAuthenticationToken substitutedToken
+                ? substitutedToken.getSubstitutedPrincipal()
+                : authentication.getPrincipal();
+        if (principal == null) {
+            return null;
+        }
+
+        Field tenantIdField = tenantIdFields.computeIfAbsent(principal.getClass(), this::findTenantIdField)
+                .orElse(null);
+        if (tenantIdField == null) {
+            return null;
+        }
+        try {
+            Object tenantId = tenantIdField.get(principal);
+            return tenantId != null ? tenantId.toString() : null;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Unable to get tenant of " + principal, e);
+        }
     }
 
-    protected Stream<ResourcePolicy> getPoliciesStreamByTypeAndResources(ResourceRole resourceRole,
-                                                                         String policyType,
-                                                                         Collection<String> resources) {
-        return resources.stream()
-                .flatMap(r -> resourceRole.getAllResourcePoliciesIndex().getPoliciesByTypeAndResource(policyType, r).stream());
+    protected Optional<Field> findTenantIdField(Class<?> principalClass) {
+        for (Class<?> cls = principalClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (field.isAnnotationPresent(TenantId.class)) {
+                    field.setAccessible(true);
+                    return Optional.of(field);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    protected boolean isAppliedForScope(ResourceRole resourceRole, @Nullable String scope) {
+        return scope == null || resourceRole.getScopes().contains(scope);
     }
 
     protected <T> Stream<T> getContributorPolicies(Function<PolicyStoreContributor, Stream<T>> extractor) {
@@ -238,4 +322,23 @@ public class AuthenticationPolicyStore implements PolicyStore {
                     return policies != null ? policies : Stream.empty();
                 });
     }
+
+    /**
+     * Codes of the roles assigned to an authentication, its scope and the tenant of the user.
+     */
+    protected record PolicyMatrixKey(Set<String> resourceRoleCodes,
+                                     Set<String> rowLevelRoleCodes,
+                                     @Nullable String scope,
+                                     @Nullable String tenantId) {
+    }
+
+    /**
+     * Event that is sent to all application instances of a cluster when resource or row-level roles are modified.
+     */
+    public static class PolicyMatricesInvalidatedEvent extends ClusterApplicationEvent {
+
+        public PolicyMatricesInvalidatedEvent(Object source) {
+            super(source);
+        }
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.constraint;
+
+import io.jmix.core.ExtendedEntities;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.security.model.ResourcePolicy;
+import io.jmix.security.model.ResourcePolicyType;
+import io.jmix.security.model.ResourceRole;
+import io.jmix.security.model.RowLevelPolicy;
+import io.jmix.security.model.RowLevelRole;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable policies of a particular set of resource and row-level roles, indexed by metaclass and attribute.
+ * <p>
+ * Policies for a metaclass or an attribute are collected from all roles on the first request and then returned
+ * as the same list. Instances are created and cached by {@link AuthenticationPolicyStore} for each distinct set
+ * of roles of the current authentication.
+ */
+@NullMarked
+public class PolicyMatrix {
+
+    protected final List<ResourceRole> resourceRoles;
+    protected final List<RowLevelRole> rowLevelRoles;
+    protected final ExtendedEntities extendedEntities;
+
+    protected final Map<MetaClass, List<ResourcePolicy>> entityPolicies = new ConcurrentHashMap<>();
+    protected final Map<MetaClass, Map<String, List<ResourcePolicy>>> entityAttributePolicies = new ConcurrentHashMap<>();
+    protected final Map<MetaClass, List<RowLevelPolicy>> rowLevelPolicies = new ConcurrentHashMap<>();
+    protected final Map<String, Map<String, List<ResourcePolicy>>> policiesByTypeAndResource = new ConcurrentHashMap<>();
+
+    public PolicyMatrix(List<ResourceRole> resourceRoles,
+                        List<RowLevelRole> rowLevelRoles,
+                        ExtendedEntities extendedEntities) {
+        this.resourceRoles = List.copyOf(resourceRoles);
+        this.rowLevelRoles = List.copyOf(rowLevelRoles);
+        this.extendedEntities = extendedEntities;
+    }
+
+    /**
+     * @return entity policies of the metaclass and its original metaclass
+     */
+    public List<ResourcePolicy> getEntityPolicies(MetaClass metaClass) {
+        return entityPolicies.computeIfAbsent(metaClass, mc ->
+                collectResourcePolicies(ResourcePolicyType.ENTITY, getEntityResources(mc, null)));
+    }
+
+    /**
+     * @return entity attribute policies of the attribute of the metaclass and its original metaclass
+     */
+    public List<ResourcePolicy> getEntityAttributePolicies(MetaClass metaClass, String attribute) {
+        return entityAttributePolicies.computeIfAbsent(metaClass, mc -> new ConcurrentHashMap<>())
+                .computeIfAbsent(attribute, attr ->
+                        collectResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE, getEntityResources(metaClass, attr)));
+    }
+
+    /**
+     * @return policies of the given type for the given resource name, e.g. a wildcard or a specific resource
+     */
+    public List<ResourcePolicy> getPolicies(String policyType, String resource) {
+        return policiesByTypeAndResource.computeIfAbsent(policyType, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(resource, r -> collectResourcePolicies(policyType, List.of(r)));
+    }
+
+    /**
+     * @return row-level policies of the metaclass, its original metaclass and their ancestors
+     */
+    public List<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
+        return rowLevelPolicies.computeIfAbsent(metaClass, this::collectRowLevelPolicies);
+    }
+
+    protected List<String> getEntityResources(MetaClass metaClass, @Nullable String attribute) {
+        String suffix = attribute == null ? "" : "." + attribute;
+        List<String> resources = new ArrayList<>(2);
+        resources.add(metaClass.getName() + suffix);
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        if (originalMetaClass != null && !originalMetaClass.getName().equals(metaClass.getName())) {
+            resources.add(originalMetaClass.getName() + suffix);
+        }
+        return resources;
+    }
+
+    protected List<ResourcePolicy> collectResourcePolicies(String policyType, Collection<String> resources) {
+        List<ResourcePolicy> result = new ArrayList<>();
+        for (ResourceRole role : resourceRoles) {
+            for (String resource : resources) {
+                result.addAll(role.getAllResourcePoliciesIndex().getPoliciesByTypeAndResource(policyType, resource));
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    protected List<RowLevelPolicy> collectRowLevelPolicies(MetaClass metaClass) {
+        Set<String> suitableMetaClassNames = new LinkedHashSet<>();
+        suitableMetaClassNames.add(metaClass.getName());
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        if (originalMetaClass != null) {
+            suitableMetaClassNames.add(originalMetaClass.getName());
+            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
+                suitableMetaClassNames.add(ancestor.getName());
+            }
+        }
+        for (MetaClass ancestor : metaClass.getAncestors()) {
+            suitableMetaClassNames.add(ancestor.getName());
+        }
+
+        List<RowLevelPolicy> result = new ArrayList<>();
+        for (RowLevelRole role : rowLevelRoles) {
+            for (String metaClassName : suitableMetaClassNames) {
+                result.addAll(role.getAllRowLevelPoliciesIndex().getRowLevelPoliciesByEntityName(metaClassName));
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+}
@@ -17,8 +17,10 @@
 package io.jmix.security.impl.role.provider;
 
 import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector;
+import io.jmix.core.impl.scanning.ClasspathScanIndexEntry;
 import io.jmix.security.role.annotation.ResourceRole;
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 @Component("sec_ResourceRoleDetector")
@@ -28,4 +30,9 @@ public class ResourceRoleDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return (metadataReader.getAnnotationMetadata().hasAnnotation(ResourceRole.class.getName()));
     }
+
+    @Override
+    public boolean isCandidate(ClasspathScanIndexEntry indexEntry, MetadataReaderFactory metadataReaderFactory) {
+        return indexEntry.hasAnnotation(ResourceRole.class.getName());
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package policy_store
+
+import io.jmix.core.ExtendedEntities
+import io.jmix.core.annotation.TenantId
+import io.jmix.core.cluster.ClusterApplicationEventPublisher
+import io.jmix.core.metamodel.model.MetaClass
+import io.jmix.core.security.CurrentAuthentication
+import io.jmix.security.SecurityProperties
+import io.jmix.security.impl.constraint.AuthenticationPolicyStore
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent
+import io.jmix.security.model.EntityPolicyAction
+import io.jmix.security.model.ResourcePolicy
+import io.jmix.security.model.ResourcePolicyType
+import io.jmix.security.model.ResourceRole
+import io.jmix.security.role.ResourceRoleRepository
+import io.jmix.security.role.RoleGrantedAuthorityUtils
+import io.jmix.security.role.RowLevelRoleRepository
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.Authentication
+import spock.lang.Specification
+
+import java.time.Duration
+
+class AuthenticationPolicyStoreTest extends Specification {
+
+    AuthenticationPolicyStore policyStore
+    RoleGrantedAuthorityUtils roleGrantedAuthorityUtils
+    ClusterApplicationEventPublisher clusterEventPublisher = Mock()
+    Map<String, ResourceRole> roles = [:]
+    Map<String, Map<String, ResourceRole>> tenantRoles = [:]
+    String currentTenant
+    Authentication authentication
+    int roleLookupCount
+
+    MetaClass orderMetaClass = Stub() {
+        getName() >> 'test_Order'
+        getAncestors() >> []
+    }
+
+    def setup() {
+        def securityProperties = new SecurityProperties(true, 'ROW_LEVEL_ROLE_', 100, Duration.ofMinutes(5))
+        roleGrantedAuthorityUtils = new RoleGrantedAuthorityUtils(securityProperties)
+
+        policyStore = new AuthenticationPolicyStore()
+        policyStore.securityProperties = securityProperties
+        policyStore.roleGrantedAuthorityUtils = roleGrantedAuthorityUtils
+        policyStore.clusterEventPublisher = clusterEventPublisher
+        policyStore.extendedEntities = Stub(ExtendedEntities)
+        policyStore.currentAuthentication = Stub(CurrentAuthentication) {
+            getAuthentication() >> { authentication }
+        }
+        policyStore.resourceRoleRepository = Stub(ResourceRoleRepository) {
+            findRoleByCode(_) >> { String code ->
+                roleLookupCount++
+                currentTenant != null ? tenantRoles[currentTenant][code] : roles[code]
+            }
+        }
+        policyStore.rowLevelRoleRepository = Stub(RowLevelRoleRepository)
+        policyStore.init()
+
+        roles['reader'] = createRole('reader', EntityPolicyAction.READ)
+        roles['editor'] = createRole('editor', EntityPolicyAction.UPDATE)
+    }
+
+    def "policies are compiled once for the same set of roles"() {
+        given:
+        authenticate('reader')
+
+        when:
+        def first = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+        authenticate('reader')
+        def second = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        then:
+        first*.action == ['read']
+        second*.action == ['read']
+        roleLookupCount == 1
+    }
+
+    def "policies are compiled again after roles are modified"() {
+        given:
+        authenticate('reader')
+        policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        when:
+        roles['reader'] = createRole('reader', EntityPolicyAction.DELETE)
+        policyStore.onResourceRoleModified(new ResourceRoleModifiedEvent(this))
+        def policies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        then:
+        policies*.action == ['delete']
+        roleLookupCount == 2
+        1 * clusterEventPublisher.publish(_ as AuthenticationPolicyStore.PolicyMatricesInvalidatedEvent)
+    }
+
+    def "policies are compiled again when roles are modified in another application instance"() {
+        given:
+        authenticate('reader')
+        policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        when:
+        roles['reader'] = createRole('reader', EntityPolicyAction.DELETE)
+        policyStore.onPolicyMatricesInvalidated(new AuthenticationPolicyStore.PolicyMatricesInvalidatedEvent(this))
+        def policies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        then:
+        policies*.action == ['delete']
+        0 * clusterEventPublisher.publish(_)
+    }
+
+    def "authentications with different roles get their own policies"() {
+        when:
+        authenticate('reader')
+        def readerPolicies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+        authenticate('editor')
+        def editorPolicies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+        authenticate('reader', 'editor')
+        def bothPolicies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+        authenticate('reader')
+        def readerPoliciesAgain = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        then:
+        readerPolicies*.action == ['read']
+        editorPolicies*.action == ['update']
+        bothPolicies*.action as Set == ['read', 'update'] as Set
+        readerPoliciesAgain*.action == ['read']
+    }
+
+    def "policies are compiled once for the same roles in a different order"() {
+        when:
+        authenticate('reader', 'editor')
+        policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+        authenticate('editor', 'reader')
+        def policies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        then:
+        policies*.action as Set == ['read', 'update'] as Set
+        roleLookupCount == 2
+    }
+
+    def "users of different tenants with equal role codes get policies of their tenants"() {
+        given:
+        tenantRoles['t1'] = [manager: createRole('manager', EntityPolicyAction.READ)]
+        tenantRoles['t2'] = [manager: createRole('manager', EntityPolicyAction.DELETE)]
+
+        when:
+        authenticateTenantUser('t1', 'manager')
+        def firstTenantPolicies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+        authenticateTenantUser('t2', 'manager')
+        def secondTenantPolicies = policyStore.getEntityResourcePolicies(orderMetaClass).toList()
+
+        then:
+        firstTenantPolicies*.action == ['read']
+        secondTenantPolicies*.action == ['delete']
+    }
+
+    private void authenticateTenantUser(String tenant, String... roleCodes) {
+        currentTenant = tenant
+        authentication = new UsernamePasswordAuthenticationToken(new TenantUser(tenant: tenant), null,
+                roleCodes.collect { roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority(it) })
+    }
+
+    private void authenticate(String... roleCodes) {
+        authentication = new UsernamePasswordAuthenticationToken('user', null,
+                roleCodes.collect { roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority(it) })
+    }
+
+    private static ResourceRole createRole(String code, EntityPolicyAction action) {
+        def role = new ResourceRole()
+        role.code = code
+        role.name = code
+        role.scopes = [] as Set
+        role.resourcePolicies = [ResourcePolicy.builder(ResourcePolicyType.ENTITY, 'test_Order')
+                                         .withAction(action.id)
+                                         .build()]
+        return role
+    }
+
+    static class TenantUser {
+        @TenantId
+        String tenant
+    }
+}